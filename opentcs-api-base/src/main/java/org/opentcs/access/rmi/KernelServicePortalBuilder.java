@@ -35,6 +35,10 @@ public class KernelServicePortalBuilder {
    * The event filter to be applied for the built portal.
    */
   private Predicate<Object> eventFilter = new ClassMatcher(Object.class);
+  /**
+   * Whether the built portal requests delta-encoded events.
+   */
+  private boolean deltaEncodedEvents;
 
   /**
    * Creates a new instance.
@@ -111,6 +115,32 @@ public class KernelServicePortalBuilder {
     return this;
   }
 
+  /**
+   * Indicates whether the built portal requests delta-encoded events.
+   *
+   * @return Whether the built portal requests delta-encoded events.
+   */
+  public boolean isDeltaEncodedEvents() {
+    return deltaEncodedEvents;
+  }
+
+  /**
+   * Sets whether the built portal requests delta-encoded events.
+   * <p>
+   * With delta-encoded events, the remote portal sends only the changed attributes of modified
+   * objects, which the built portal uses to reconstruct complete events. This reduces the amount of
+   * data transferred at the cost of keeping the current state of all objects events were received
+   * for.
+   * </p>
+   *
+   * @param deltaEncodedEvents Whether the built portal requests delta-encoded events.
+   * @return This instance.
+   */
+  public KernelServicePortalBuilder setDeltaEncodedEvents(boolean deltaEncodedEvents) {
+    this.deltaEncodedEvents = deltaEncodedEvents;
+    return this;
+  }
+
   /**
    * Builds and returns a {@link KernelServicePortal} with the configured parameters.
    *
@@ -126,7 +156,8 @@ public class KernelServicePortalBuilder {
         userName,
         password,
         socketFactoryProvider,
-        eventFilter
+        eventFilter,
+        deltaEncodedEvents
     );
   }
 }
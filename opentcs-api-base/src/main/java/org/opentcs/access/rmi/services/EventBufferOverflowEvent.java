@@ -0,0 +1,48 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.access.rmi.services;
+
+import java.io.Serializable;
+
+/**
+ * Emitted to a remote client in place of the events buffered for it, when the kernel had to
+ * discard these events because the client did not fetch them in time.
+ * <p>
+ * Since the client missed events, its view on the kernel's objects may be outdated. Clients
+ * receiving this event should fetch the current state of all objects they are interested in.
+ * </p>
+ */
+public class EventBufferOverflowEvent
+    implements
+      Serializable {
+
+  /**
+   * The number of events that were discarded.
+   */
+  private final long discardedEventCount;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param discardedEventCount The number of events that were discarded.
+   */
+  public EventBufferOverflowEvent(long discardedEventCount) {
+    this.discardedEventCount = discardedEventCount;
+  }
+
+  /**
+   * Returns the number of events that were discarded.
+   *
+   * @return The number of events that were discarded.
+   */
+  public long getDiscardedEventCount() {
+    return discardedEventCount;
+  }
+
+  @Override
+  public String toString() {
+    return "EventBufferOverflowEvent{"
+        + "discardedEventCount=" + discardedEventCount
+        + '}';
+  }
+}
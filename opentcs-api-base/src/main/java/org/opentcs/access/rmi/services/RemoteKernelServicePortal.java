@@ -32,6 +32,37 @@ public interface RemoteKernelServicePortal
       throws CredentialsException,
         RemoteException;
 
+  /**
+   * Introduce the calling client to the server and authenticate for operations.
+   * <p>
+   * If delta-encoded events are requested, events announcing the modification of an object are
+   * sent to the client as {@link org.opentcs.data.TCSObjectDelta}s once the client has received a
+   * complete event for the object.
+   * </p>
+   * <p>
+   * This default implementation ignores the request for delta-encoded events and delegates to
+   * {@link #login(String, String, Predicate)}.
+   * </p>
+   *
+   * @param userName The user's name.
+   * @param password The user's password.
+   * @param eventFilter The event filter to be applied to events on the server side.
+   * @param deltaEncodedEvents Whether the client wants to receive delta-encoded events.
+   * @return An identification object that is required for subsequent method calls.
+   * @throws CredentialsException If authentication with the given username and password failed.
+   * @throws RemoteException If there was an RMI-related problem.
+   */
+  default ClientID login(
+      String userName,
+      String password,
+      Predicate<Object> eventFilter,
+      boolean deltaEncodedEvents
+  )
+      throws CredentialsException,
+        RemoteException {
+    return login(userName, password, eventFilter);
+  }
+
   void logout(ClientID clientId)
       throws RemoteException;
 
@@ -71,6 +71,14 @@ public class RemoteKernelServicePortalProxy
    * The event filter to be applied to events on the server side (before polling).
    */
   private final Predicate<Object> eventFilter;
+  /**
+   * Whether to request delta-encoded events from the remote portal.
+   */
+  private final boolean deltaEncodedEvents;
+  /**
+   * Reconstructs events from delta-encoded ones.
+   */
+  private final TCSObjectEventReconstructor eventReconstructor = new TCSObjectEventReconstructor();
   /**
    * The plant model service.
    */
@@ -135,11 +143,36 @@ public class RemoteKernelServicePortalProxy
       SocketFactoryProvider socketFactoryProvider,
       @Nonnull
       Predicate<Object> eventFilter
+  ) {
+    this(userName, password, socketFactoryProvider, eventFilter, false);
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param userName The user name used with the remote portal.
+   * @param password The password used with the remote portal.
+   * @param socketFactoryProvider Provides socket factories used for RMI.
+   * @param eventFilter The event filter to be applied to events on the server side.
+   * @param deltaEncodedEvents Whether to request delta-encoded events from the remote portal, which
+   * are reconstructed to complete events before being returned by {@link #fetchEvents(long)}.
+   */
+  public RemoteKernelServicePortalProxy(
+      @Nonnull
+      String userName,
+      @Nonnull
+      String password,
+      @Nonnull
+      SocketFactoryProvider socketFactoryProvider,
+      @Nonnull
+      Predicate<Object> eventFilter,
+      boolean deltaEncodedEvents
   ) {
     this.userName = requireNonNull(userName, "userName");
     this.password = requireNonNull(password, "password");
     this.socketFactoryProvider = requireNonNull(socketFactoryProvider, "socketFactoryProvider");
     this.eventFilter = requireNonNull(eventFilter, "eventFilter");
+    this.deltaEncodedEvents = deltaEncodedEvents;
   }
 
   @Override
@@ -178,7 +211,12 @@ public class RemoteKernelServicePortalProxy
 
       setRemoteService((RemoteKernelServicePortal) registry.lookup(REMOTE_KERNEL_CLIENT_PORTAL));
       // Login and save the client ID.
-      setClientId(getRemoteService().login(userName, password, eventFilter));
+      eventReconstructor.reset();
+      setClientId(
+          deltaEncodedEvents
+              ? getRemoteService().login(userName, password, eventFilter, true)
+              : getRemoteService().login(userName, password, eventFilter)
+      );
       // Get notified when a service call on us fails.
       setServiceListener(this);
 
@@ -230,7 +268,8 @@ public class RemoteKernelServicePortalProxy
     checkServiceAvailability();
 
     try {
-      return getRemoteService().fetchEvents(getClientId(), timeout);
+      List<Object> events = getRemoteService().fetchEvents(getClientId(), timeout);
+      return deltaEncodedEvents ? eventReconstructor.reconstruct(events) : events;
     }
     catch (RemoteException ex) {
       throw findSuitableExceptionFor(ex);
@@ -0,0 +1,118 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.access.rmi.services;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectDelta;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.TCSObjectReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reconstructs {@link TCSObjectEvent}s from the {@link TCSObjectDelta}s a remote kernel sends in
+ * their place.
+ * <p>
+ * For this, the current states of all objects the kernel sent events for are kept. The kernel
+ * sends a delta for an object only after it has sent a complete event for it.
+ * </p>
+ */
+class TCSObjectEventReconstructor {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(TCSObjectEventReconstructor.class);
+  /**
+   * The current states of the objects the kernel sent events for.
+   */
+  private final Map<TCSObjectReference<?>, TCSObject<?>> objectStates = new HashMap<>();
+
+  /**
+   * Creates a new instance.
+   */
+  TCSObjectEventReconstructor() {
+  }
+
+  /**
+   * Replaces the deltas in the given list of events with the events they represent.
+   *
+   * @param events The events as sent by the kernel.
+   * @return The events with deltas replaced.
+   */
+  @Nonnull
+  synchronized List<Object> reconstruct(
+      @Nonnull
+      List<Object> events
+  ) {
+    requireNonNull(events, "events");
+
+    List<Object> result = new ArrayList<>(events.size());
+    for (Object event : events) {
+      if (event instanceof TCSObjectDelta delta) {
+        TCSObjectEvent reconstructedEvent = reconstruct(delta);
+        if (reconstructedEvent != null) {
+          result.add(reconstructedEvent);
+        }
+      }
+      else {
+        if (event instanceof TCSObjectEvent objectEvent) {
+          track(objectEvent);
+        }
+        else if (event instanceof EventBufferOverflowEvent) {
+          // The kernel starts over with complete events after an overflow.
+          objectStates.clear();
+        }
+        result.add(event);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Forgets the states of all objects.
+   */
+  synchronized void reset() {
+    objectStates.clear();
+  }
+
+  private TCSObjectEvent reconstruct(TCSObjectDelta delta) {
+    TCSObject<?> previousState = objectStates.get(delta.getObjectReference());
+    if (previousState == null) {
+      LOG.warn("Unknown previous state of {}, ignoring delta.", delta.getObjectReference());
+      return null;
+    }
+
+    TCSObject<?> currentState;
+    try {
+      currentState = delta.applyTo(previousState);
+    }
+    catch (IllegalArgumentException exc) {
+      LOG.warn("Could not apply delta for {}, ignoring it.", delta.getObjectReference(), exc);
+      // Further deltas for the object cannot be applied either.
+      objectStates.remove(delta.getObjectReference());
+      return null;
+    }
+    objectStates.put(delta.getObjectReference(), currentState);
+    return new TCSObjectEvent(currentState, previousState, TCSObjectEvent.Type.OBJECT_MODIFIED);
+  }
+
+  private void track(TCSObjectEvent event) {
+    if (event.getType() == TCSObjectEvent.Type.OBJECT_REMOVED) {
+      objectStates.remove(event.getPreviousObjectState().getReference());
+    }
+    else {
+      objectStates.put(
+          event.getCurrentObjectState().getReference(),
+          event.getCurrentObjectState()
+      );
+    }
+  }
+}
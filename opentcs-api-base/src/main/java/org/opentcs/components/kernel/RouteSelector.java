@@ -31,4 +31,20 @@ public interface RouteSelector {
    * @return The selected route sequence, or an empty optional, if no route sequence was selected.
    */
   Optional<List<Route>> selectSequence(Set<List<Route>> routes);
+
+  /**
+   * Indicates whether this route selector always selects the route with the lowest costs from a
+   * given set of routes.
+   * <p>
+   * If it does, callers interested only in the costs of the selected routes may have the router
+   * compute the costs of the cheapest routes directly (e.g. via {@link Router#getRouteCosts}),
+   * instead of computing alternative routes to select from.
+   * </p>
+   *
+   * @return {@code true} if, and only if, this route selector always selects the route with the
+   * lowest costs.
+   */
+  default boolean selectsLowestCostRoute() {
+    return false;
+  }
 }
@@ -4,6 +4,7 @@ package org.opentcs.components.kernel;
 
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -243,6 +244,50 @@ public interface Router
         .orElse(Set.of());
   }
 
+  /**
+   * Returns the costs for travelling the cheapest routes from one point to each of a set of other
+   * points, passable by a given vehicle.
+   * <p>
+   * Implementations are expected to compute the costs for all destination points with a single
+   * search, so callers can cheaply compare the costs for a number of destination points.
+   * </p>
+   * <p>
+   * This method is supposed to be called only from the kernel executor thread.
+   * </p>
+   *
+   * @param vehicle The vehicle for which the routes must be passable.
+   * @param sourcePoint The starting point of the routes.
+   * @param destinationPoints The end points of the routes.
+   * @param resourcesToAvoid Resources to avoid when calculating the routes.
+   * @return The costs of the cheapest routes, mapped by their respective destination points.
+   * The returned map contains an entry for each of the given destination points. If no route to a
+   * destination point exists, its costs will be <code>Long.MAX_VALUE</code>.
+   */
+  @ScheduledApiChange(when = "7.0", details = "Default implementation will be removed.")
+  @Nonnull
+  default Map<Point, Long> getRouteCosts(
+      @Nonnull
+      Vehicle vehicle,
+      @Nonnull
+      Point sourcePoint,
+      @Nonnull
+      Set<Point> destinationPoints,
+      @Nonnull
+      Set<TCSResourceReference<?>> resourcesToAvoid
+  ) {
+    Map<Point, Long> result = new HashMap<>();
+    for (Point destinationPoint : destinationPoints) {
+      result.put(
+          destinationPoint,
+          getRoutes(vehicle, sourcePoint, destinationPoint, resourcesToAvoid, 1).stream()
+              .mapToLong(route -> route.getCosts())
+              .min()
+              .orElse(Long.MAX_VALUE)
+      );
+    }
+    return result;
+  }
+
   /**
    * Returns the costs for travelling a route from one point to another with a
    * given vehicle.
@@ -3,7 +3,9 @@
 package org.opentcs.components.kernel.services;
 
 import java.util.Set;
+import org.opentcs.access.KernelRuntimeException;
 import org.opentcs.data.ObjectUnknownException;
+import org.opentcs.data.model.Block;
 import org.opentcs.data.model.TCSResource;
 import org.opentcs.data.model.TCSResourceReference;
 
@@ -28,6 +30,23 @@ public interface InternalPlantModelService
   Set<TCSResource<?>> expandResources(Set<TCSResourceReference<?>> resources)
       throws ObjectUnknownException;
 
+  /**
+   * Returns all blocks containing the referenced resource.
+   * <p>
+   * Implementations are expected to answer this query via an index, i.e. without scanning all
+   * existing blocks.
+   * </p>
+   *
+   * @param resourceRef A reference to the resource.
+   * @return The blocks containing the referenced resource. If no such blocks exist, the returned set
+   * is empty.
+   * @throws KernelRuntimeException In case there is an exception executing this method.
+   */
+  default Set<Block> fetchBlocksContaining(TCSResourceReference<?> resourceRef)
+      throws KernelRuntimeException {
+    return fetch(Block.class, block -> block.getMembers().contains(resourceRef));
+  }
+
   /**
    * Loads the saved model into the kernel.
    * If there is no saved model, a new empty model will be loaded.
@@ -2,9 +2,14 @@
 // SPDX-License-Identifier: MIT
 package org.opentcs.components.kernel.services;
 
+import java.util.Set;
 import java.util.stream.Stream;
 import org.opentcs.access.KernelRuntimeException;
 import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.OrderSequence;
+import org.opentcs.data.order.TransportOrder;
 
 /**
  * Declares {@link org.opentcs.components.kernel.services.TCSObjectService} methods only accessible
@@ -34,4 +39,99 @@ public interface InternalTCSObjectService
    */
   <T extends TCSObject<T>> Stream<T> stream(Class<T> clazz)
       throws KernelRuntimeException;
+
+  /**
+   * Returns all transport orders in the given state.
+   * <p>
+   * Implementations are expected to answer this query via an index, i.e. without scanning all
+   * existing transport orders.
+   * </p>
+   *
+   * @param state The state.
+   * @return The transport orders in the given state. If no such transport orders exist, the
+   * returned set is empty.
+   * @throws KernelRuntimeException In case there is an exception executing this method.
+   */
+  default Set<TransportOrder> fetchTransportOrders(TransportOrder.State state)
+      throws KernelRuntimeException {
+    return fetch(TransportOrder.class, order -> order.hasState(state));
+  }
+
+  /**
+   * Returns all transport orders intended for the referenced vehicle.
+   * <p>
+   * Implementations are expected to answer this query via an index, i.e. without scanning all
+   * existing transport orders.
+   * </p>
+   *
+   * @param vehicleRef A reference to the vehicle.
+   * @return The transport orders intended for the referenced vehicle. If no such transport orders
+   * exist, the returned set is empty.
+   * @throws KernelRuntimeException In case there is an exception executing this method.
+   */
+  default Set<TransportOrder> fetchTransportOrdersByIntendedVehicle(
+      TCSObjectReference<Vehicle> vehicleRef
+  )
+      throws KernelRuntimeException {
+    return fetch(
+        TransportOrder.class,
+        order -> order.getIntendedVehicle() != null
+            && order.getIntendedVehicle().getName().equals(vehicleRef.getName())
+    );
+  }
+
+  /**
+   * Returns all transport orders wrapped by the referenced order sequence.
+   * <p>
+   * Implementations are expected to answer this query via an index, i.e. without scanning all
+   * existing transport orders.
+   * </p>
+   *
+   * @param sequenceRef A reference to the order sequence.
+   * @return The transport orders wrapped by the referenced order sequence. If no such transport
+   * orders exist, the returned set is empty.
+   * @throws KernelRuntimeException In case there is an exception executing this method.
+   */
+  default Set<TransportOrder> fetchTransportOrdersByWrappingSequence(
+      TCSObjectReference<OrderSequence> sequenceRef
+  )
+      throws KernelRuntimeException {
+    return fetch(
+        TransportOrder.class,
+        order -> order.getWrappingSequence() != null
+            && order.getWrappingSequence().getName().equals(sequenceRef.getName())
+    );
+  }
+
+  /**
+   * Returns all vehicles in the given processing state.
+   * <p>
+   * Implementations are expected to answer this query via an index, i.e. without scanning all
+   * existing vehicles.
+   * </p>
+   *
+   * @param procState The processing state.
+   * @return The vehicles in the given processing state. If no such vehicles exist, the returned set
+   * is empty.
+   * @throws KernelRuntimeException In case there is an exception executing this method.
+   */
+  default Set<Vehicle> fetchVehicles(Vehicle.ProcState procState)
+      throws KernelRuntimeException {
+    return fetch(Vehicle.class, vehicle -> vehicle.hasProcState(procState));
+  }
+
+  /**
+   * Publishes a snapshot of the current state of the kernel's working set.
+   * <p>
+   * Until the working set is modified next, read-only queries from threads other than the kernel
+   * executor's are answered from this snapshot, i.e. without acquiring the kernel's global
+   * synchronization object. This should be called by kernel executor tasks before they hand
+   * read-only work to other threads and wait for its results.
+   * </p>
+   *
+   * @throws KernelRuntimeException In case there is an exception executing this method.
+   */
+  default void publishSnapshot()
+      throws KernelRuntimeException {
+  }
 }
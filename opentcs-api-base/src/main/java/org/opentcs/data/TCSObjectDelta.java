@@ -0,0 +1,416 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.data;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import org.opentcs.data.model.AcceptableOrderType;
+import org.opentcs.data.model.BoundingBox;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Pose;
+import org.opentcs.data.model.TCSResourceReference;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.OrderSequence;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.drivers.vehicle.LoadHandlingDevice;
+
+/**
+ * Describes the modification of a business object as the set of its changed attributes and their
+ * new values.
+ * <p>
+ * A delta is usually much smaller than the complete state of the modified object, and it can be
+ * applied to the object's previous state to reconstruct its current state.
+ * The attributes are defined explicitly for each supported type of object (currently only
+ * {@link Vehicle}), each with the getter for reading it and the {@code with*} method for applying
+ * it. Modifications of objects of other types, and modifications of attributes that cannot be
+ * applied this way (e.g. a vehicle's state, which is set along with a timestamp), cannot be
+ * described by deltas.
+ * </p>
+ */
+public class TCSObjectDelta
+    implements
+      Serializable {
+
+  /**
+   * The attributes of the supported types of objects, mapped by their names, mapped by the types.
+   */
+  private static final Map<Class<?>, Map<String, Attribute>> ATTRIBUTES
+      = Map.of(Vehicle.class, toMap(vehicleAttributes()));
+  /**
+   * A reference to the modified object.
+   */
+  private final TCSObjectReference<?> objectRef;
+  /**
+   * The new values of the changed attributes, mapped by the attributes' names.
+   */
+  private final Map<String, Object> changedAttributes;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param objectRef A reference to the modified object.
+   * @param changedAttributes The new values of the changed attributes, mapped by their names.
+   */
+  TCSObjectDelta(
+      @Nonnull
+      TCSObjectReference<?> objectRef,
+      @Nonnull
+      Map<String, Object> changedAttributes
+  ) {
+    this.objectRef = requireNonNull(objectRef, "objectRef");
+    this.changedAttributes = requireNonNull(changedAttributes, "changedAttributes");
+  }
+
+  /**
+   * Computes the delta between two states of the same object.
+   *
+   * @param previousState The object's previous state.
+   * @param currentState The object's current state.
+   * @return The delta between the two states, or an empty optional, if the modification cannot be
+   * described by a delta.
+   * @throws IllegalArgumentException If the given states do not belong to the same object.
+   */
+  @Nonnull
+  public static Optional<TCSObjectDelta> between(
+      @Nonnull
+      TCSObject<?> previousState,
+      @Nonnull
+      TCSObject<?> currentState
+  )
+      throws IllegalArgumentException {
+    requireNonNull(previousState, "previousState");
+    requireNonNull(currentState, "currentState");
+    checkArgument(
+        previousState.getReference().equals(currentState.getReference()),
+        "States of different objects: %s, %s",
+        previousState,
+        currentState
+    );
+
+    Map<String, Attribute> attributes = ATTRIBUTES.get(currentState.getClass());
+    if (attributes == null) {
+      return Optional.empty();
+    }
+
+    Map<String, Object> changedAttributes = new LinkedHashMap<>();
+    for (Attribute attribute : attributes.values()) {
+      Object previousValue = attribute.getter().apply(previousState);
+      Object currentValue = attribute.getter().apply(currentState);
+      if (previousValue == currentValue || Objects.equals(previousValue, currentValue)) {
+        continue;
+      }
+      if (attribute.setter() == null) {
+        return Optional.empty();
+      }
+      changedAttributes.put(attribute.name(), currentValue);
+    }
+    return Optional.of(new TCSObjectDelta(currentState.getReference(), changedAttributes));
+  }
+
+  /**
+   * Returns a reference to the modified object.
+   *
+   * @return A reference to the modified object.
+   */
+  @Nonnull
+  public TCSObjectReference<?> getObjectReference() {
+    return objectRef;
+  }
+
+  /**
+   * Returns the names of the changed attributes.
+   *
+   * @return The names of the changed attributes.
+   */
+  @Nonnull
+  public Set<String> getChangedAttributes() {
+    return Collections.unmodifiableSet(changedAttributes.keySet());
+  }
+
+  /**
+   * Merges this delta with one describing a subsequent modification of the same object.
+   *
+   * @param subsequentDelta The delta describing the subsequent modification.
+   * @return A delta describing both modifications.
+   * @throws IllegalArgumentException If the given delta describes the modification of a different
+   * object.
+   */
+  @Nonnull
+  public TCSObjectDelta mergeWith(
+      @Nonnull
+      TCSObjectDelta subsequentDelta
+  )
+      throws IllegalArgumentException {
+    requireNonNull(subsequentDelta, "subsequentDelta");
+    checkArgument(
+        objectRef.equals(subsequentDelta.objectRef),
+        "Deltas of different objects: %s, %s",
+        objectRef,
+        subsequentDelta.objectRef
+    );
+
+    Map<String, Object> mergedAttributes = new LinkedHashMap<>(changedAttributes);
+    mergedAttributes.putAll(subsequentDelta.changedAttributes);
+    return new TCSObjectDelta(objectRef, mergedAttributes);
+  }
+
+  /**
+   * Applies this delta to the given previous state of the modified object.
+   * <p>
+   * Attributes unknown for the object's type (e.g. because the delta was created by a newer
+   * version of this class) are skipped.
+   * </p>
+   *
+   * @param previousState The previous state of the modified object.
+   * @return The modified object's current state.
+   * @throws IllegalArgumentException If the given object is not the one this delta belongs to or
+   * if deltas are not supported for its type.
+   */
+  @Nonnull
+  public TCSObject<?> applyTo(
+      @Nonnull
+      TCSObject<?> previousState
+  )
+      throws IllegalArgumentException {
+    requireNonNull(previousState, "previousState");
+    checkArgument(
+        objectRef.equals(previousState.getReference()),
+        "Delta for %s not applicable to %s",
+        objectRef,
+        previousState
+    );
+
+    Map<String, Attribute> attributes = ATTRIBUTES.get(previousState.getClass());
+    checkArgument(attributes != null, "Deltas not supported for %s", previousState);
+
+    TCSObject<?> currentState = previousState;
+    for (Map.Entry<String, Object> entry : changedAttributes.entrySet()) {
+      Attribute attribute = attributes.get(entry.getKey());
+      if (attribute == null || attribute.setter() == null) {
+        continue;
+      }
+      currentState = attribute.setter().apply(currentState, entry.getValue());
+    }
+    return currentState;
+  }
+
+  /**
+   * Returns the names of the attributes of the given type of objects.
+   *
+   * @param type The type of objects.
+   * @return The names of the attributes, or an empty set, if deltas are not supported for the type.
+   */
+  static Set<String> getAttributeNames(Class<?> type) {
+    return ATTRIBUTES.getOrDefault(type, Map.of()).keySet();
+  }
+
+  @Override
+  public String toString() {
+    return "TCSObjectDelta{"
+        + "objectRef=" + objectRef
+        + ", changedAttributes=" + changedAttributes.keySet()
+        + '}';
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<Attribute> vehicleAttributes() {
+    return List.of(
+        attribute(
+            Vehicle.class,
+            "properties",
+            Vehicle::getProperties,
+            (vehicle, value) -> vehicle.withProperties((Map<String, String>) value)
+        ),
+        attribute(
+            Vehicle.class,
+            "history",
+            Vehicle::getHistory,
+            (vehicle, value) -> vehicle.withHistory((ObjectHistory) value)
+        ),
+        attribute(
+            Vehicle.class,
+            "boundingBox",
+            Vehicle::getBoundingBox,
+            (vehicle, value) -> vehicle.withBoundingBox((BoundingBox) value)
+        ),
+        attribute(
+            Vehicle.class,
+            "energyLevelThresholdSet",
+            Vehicle::getEnergyLevelThresholdSet,
+            (vehicle, value) -> vehicle.withEnergyLevelThresholdSet(
+                (Vehicle.EnergyLevelThresholdSet) value
+            )
+        ),
+        attribute(
+            Vehicle.class,
+            "energyLevel",
+            Vehicle::getEnergyLevel,
+            (vehicle, value) -> vehicle.withEnergyLevel((Integer) value)
+        ),
+        attribute(
+            Vehicle.class,
+            "maxVelocity",
+            Vehicle::getMaxVelocity,
+            (vehicle, value) -> vehicle.withMaxVelocity((Integer) value)
+        ),
+        attribute(
+            Vehicle.class,
+            "maxReverseVelocity",
+            Vehicle::getMaxReverseVelocity,
+            (vehicle, value) -> vehicle.withMaxReverseVelocity((Integer) value)
+        ),
+        attribute(
+            Vehicle.class,
+            "rechargeOperation",
+            Vehicle::getRechargeOperation,
+            (vehicle, value) -> vehicle.withRechargeOperation((String) value)
+        ),
+        attribute(
+            Vehicle.class,
+            "loadHandlingDevices",
+            Vehicle::getLoadHandlingDevices,
+            (vehicle, value) -> vehicle.withLoadHandlingDevices((List<LoadHandlingDevice>) value)
+        ),
+        // The state and processing state are set along with a timestamp, which cannot be applied.
+        attribute(
+            Vehicle.class,
+            "state",
+            vehicle -> List.of(vehicle.getState(), vehicle.getStateTimestamp()),
+            null
+        ),
+        attribute(
+            Vehicle.class,
+            "procState",
+            vehicle -> List.of(vehicle.getProcState(), vehicle.getProcStateTimestamp()),
+            null
+        ),
+        attribute(
+            Vehicle.class,
+            "integrationLevel",
+            Vehicle::getIntegrationLevel,
+            (vehicle, value) -> vehicle.withIntegrationLevel((Vehicle.IntegrationLevel) value)
+        ),
+        attribute(
+            Vehicle.class,
+            "paused",
+            Vehicle::isPaused,
+            (vehicle, value) -> vehicle.withPaused((Boolean) value)
+        ),
+        attribute(
+            Vehicle.class,
+            "transportOrder",
+            Vehicle::getTransportOrder,
+            (vehicle, value) -> vehicle.withTransportOrder(
+                (TCSObjectReference<TransportOrder>) value
+            )
+        ),
+        attribute(
+            Vehicle.class,
+            "orderSequence",
+            Vehicle::getOrderSequence,
+            (vehicle, value) -> vehicle.withOrderSequence(
+                (TCSObjectReference<OrderSequence>) value
+            )
+        ),
+        attribute(
+            Vehicle.class,
+            "acceptableOrderTypes",
+            Vehicle::getAcceptableOrderTypes,
+            (vehicle, value) -> vehicle.withAcceptableOrderTypes(
+                (Set<AcceptableOrderType>) value
+            )
+        ),
+        attribute(
+            Vehicle.class,
+            "claimedResources",
+            Vehicle::getClaimedResources,
+            (vehicle, value) -> vehicle.withClaimedResources(
+                (List<Set<TCSResourceReference<?>>>) value
+            )
+        ),
+        attribute(
+            Vehicle.class,
+            "allocatedResources",
+            Vehicle::getAllocatedResources,
+            (vehicle, value) -> vehicle.withAllocatedResources(
+                (List<Set<TCSResourceReference<?>>>) value
+            )
+        ),
+        attribute(
+            Vehicle.class,
+            "currentPosition",
+            Vehicle::getCurrentPosition,
+            (vehicle, value) -> vehicle.withCurrentPosition((TCSObjectReference<Point>) value)
+        ),
+        attribute(
+            Vehicle.class,
+            "pose",
+            Vehicle::getPose,
+            (vehicle, value) -> vehicle.withPose((Pose) value)
+        ),
+        attribute(
+            Vehicle.class,
+            "envelopeKey",
+            Vehicle::getEnvelopeKey,
+            (vehicle, value) -> vehicle.withEnvelopeKey((String) value)
+        ),
+        attribute(
+            Vehicle.class,
+            "layout",
+            Vehicle::getLayout,
+            (vehicle, value) -> vehicle.withLayout((Vehicle.Layout) value)
+        )
+    );
+  }
+
+  private static <T extends TCSObject<T>> Attribute attribute(
+      Class<T> type,
+      String name,
+      Function<T, Object> getter,
+      @Nullable
+      BiFunction<T, Object, T> setter
+  ) {
+    return new Attribute(
+        name,
+        object -> getter.apply(type.cast(object)),
+        setter == null ? null : (object, value) -> setter.apply(type.cast(object), value)
+    );
+  }
+
+  private static Map<String, Attribute> toMap(List<Attribute> attributes) {
+    Map<String, Attribute> result = new LinkedHashMap<>();
+    for (Attribute attribute : attributes) {
+      result.put(attribute.name(), attribute);
+    }
+    return Collections.unmodifiableMap(result);
+  }
+
+  /**
+   * An attribute of a type of objects.
+   *
+   * @param name The attribute's name.
+   * @param getter Reads the attribute's value from an object.
+   * @param setter Creates a copy of an object with the given value of the attribute, or
+   * {@code null}, if the attribute cannot be applied.
+   */
+  private record Attribute(
+      String name,
+      Function<TCSObject<?>, Object> getter,
+      @Nullable
+      BiFunction<TCSObject<?>, Object, TCSObject<?>> setter
+  ) {
+  }
+}
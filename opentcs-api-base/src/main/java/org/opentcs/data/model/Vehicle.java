@@ -790,12 +790,29 @@ public class Vehicle
   }
 
   /**
-   * Creates a copy of this object, with the given state.
+   * Creates a copy of this object, with the given state, entered at the current time.
    *
    * @param state The value to be set in the copy.
    * @return A copy of this object, differing in the given value.
    */
   public Vehicle withState(State state) {
+    return withState(state, Instant.now());
+  }
+
+  /**
+   * Creates a copy of this object, with the given state, entered at the given time.
+   *
+   * @param state The value to be set in the copy.
+   * @param timestamp The time at which the vehicle has entered the given state.
+   * @return A copy of this object, differing in the given value.
+   */
+  public Vehicle withState(
+      @Nonnull
+      State state,
+      @Nonnull
+      Instant timestamp
+  ) {
+    requireNonNull(timestamp, "timestamp");
     return new Vehicle(
         getName(),
         getProperties(),
@@ -811,7 +828,7 @@ public class Vehicle
         acceptableOrderTypes,
         claimedResources,
         allocatedResources,
-        new TimestampedAttribute<>(state, Instant.now()),
+        new TimestampedAttribute<>(state, timestamp),
         integrationLevel,
         paused,
         currentPosition,
@@ -940,12 +957,29 @@ public class Vehicle
   }
 
   /**
-   * Creates a copy of this object, with the given processing state.
+   * Creates a copy of this object, with the given processing state, entered at the current time.
    *
    * @param procState The value to be set in the copy.
    * @return A copy of this object, differing in the given value.
    */
   public Vehicle withProcState(ProcState procState) {
+    return withProcState(procState, Instant.now());
+  }
+
+  /**
+   * Creates a copy of this object, with the given processing state, entered at the given time.
+   *
+   * @param procState The value to be set in the copy.
+   * @param timestamp The time at which the vehicle has entered the given processing state.
+   * @return A copy of this object, differing in the given value.
+   */
+  public Vehicle withProcState(
+      @Nonnull
+      ProcState procState,
+      @Nonnull
+      Instant timestamp
+  ) {
+    requireNonNull(timestamp, "timestamp");
     return new Vehicle(
         getName(),
         getProperties(),
@@ -955,7 +989,7 @@ public class Vehicle
         maxVelocity,
         maxReverseVelocity,
         rechargeOperation,
-        new TimestampedAttribute<>(procState, Instant.now()),
+        new TimestampedAttribute<>(procState, timestamp),
         transportOrder,
         orderSequence,
         acceptableOrderTypes,
@@ -0,0 +1,56 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.util.event;
+
+import jakarta.annotation.Nonnull;
+import java.util.Set;
+
+/**
+ * An {@link EventHandler} that does not need to process events synchronously, i.e. on the thread
+ * emitting them.
+ * <p>
+ * Event buses supporting it (e.g. {@link PartitionedEventBus}) deliver events to handlers of this
+ * type from a queue and thread of their own, so that slow handlers do not delay the emitting
+ * thread. Other event buses deliver events to them like to any other handler.
+ * </p>
+ * <p>
+ * If an event bus has to drop events for a handler, it delivers an {@link EventQueueOverflowEvent}
+ * to it instead, which the handler should react to by resynchronizing.
+ * </p>
+ */
+public interface AsynchronousEventHandler
+    extends
+      EventHandler {
+
+  /**
+   * Returns the types of events this handler is interested in.
+   * <p>
+   * This is evaluated once when the handler is subscribed. Event buses may then skip delivering
+   * events that are not instances of any of the returned types. {@link EventQueueOverflowEvent}s
+   * are delivered regardless of the returned types.
+   * </p>
+   *
+   * @return The types of events this handler is interested in.
+   */
+  @Nonnull
+  default Set<Class<?>> getEventTypes() {
+    return Set.of(Object.class);
+  }
+
+  /**
+   * Returns a name identifying this handler, e.g. in statistics on the queue an event bus keeps for
+   * it.
+   * <p>
+   * The name should be the same across restarts of the application. By default, it is the simple
+   * name of the handler's class.
+   * </p>
+   *
+   * @return A name identifying this handler.
+   */
+  @Nonnull
+  default String getHandlerName() {
+    return getClass().getSimpleName().isEmpty()
+        ? getClass().getName()
+        : getClass().getSimpleName();
+  }
+}
@@ -0,0 +1,50 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.util.event;
+
+import static org.opentcs.util.Assertions.checkArgument;
+
+/**
+ * Delivered to an {@link AsynchronousEventHandler} by an event bus in place of events that had to
+ * be dropped because the handler's queue was full.
+ * <p>
+ * Since the handler missed events, any state it derived from events may be outdated. Handlers
+ * receiving this event should therefore resynchronize with the current state of the objects they
+ * are interested in, or make their own clients do so.
+ * This event is delivered regardless of the handler's
+ * {@link AsynchronousEventHandler#getEventTypes() event types}.
+ * </p>
+ */
+public class EventQueueOverflowEvent {
+
+  /**
+   * The number of events that were dropped.
+   */
+  private final long droppedEventCount;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param droppedEventCount The number of events that were dropped. Must be greater than 0.
+   */
+  public EventQueueOverflowEvent(long droppedEventCount) {
+    checkArgument(droppedEventCount > 0, "droppedEventCount must be greater than 0");
+    this.droppedEventCount = droppedEventCount;
+  }
+
+  /**
+   * Returns the number of events that were dropped.
+   *
+   * @return The number of events that were dropped.
+   */
+  public long getDroppedEventCount() {
+    return droppedEventCount;
+  }
+
+  @Override
+  public String toString() {
+    return "EventQueueOverflowEvent{"
+        + "droppedEventCount=" + droppedEventCount
+        + '}';
+  }
+}
@@ -0,0 +1,363 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.util.event;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
+
+import jakarta.annotation.Nonnull;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link EventBus} that delivers events to {@link AsynchronousEventHandler}s asynchronously.
+ * <p>
+ * Events are delivered to all other handlers synchronously, on the thread emitting them, just like
+ * with {@link SimpleEventBus}. Each subscribed {@link AsynchronousEventHandler}, however, gets a
+ * bounded queue and a thread of its own, from which events are delivered to it in the order in
+ * which they were emitted. If a handler's queue is full, events for this handler are dropped (and
+ * counted) instead of blocking the emitting thread. As soon as there is space in the queue again,
+ * an {@link EventQueueOverflowEvent} is queued for the handler, informing it about the dropped
+ * events so that it can resynchronize.
+ * </p>
+ */
+public class PartitionedEventBus
+    implements
+      EventBus {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(PartitionedEventBus.class);
+  /**
+   * The listeners events are delivered to synchronously.
+   */
+  private final Set<EventHandler> listeners = new CopyOnWriteArraySet<>();
+  /**
+   * The subscriptions of listeners events are delivered to asynchronously.
+   */
+  private final Map<EventHandler, Subscription> subscriptions = new ConcurrentHashMap<>();
+  /**
+   * The capacity of each asynchronous listener's queue.
+   */
+  private final int queueCapacity;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param queueCapacity The capacity of each asynchronous listener's queue.
+   */
+  public PartitionedEventBus(int queueCapacity) {
+    checkArgument(queueCapacity > 0, "queueCapacity must be greater than 0");
+    this.queueCapacity = queueCapacity;
+  }
+
+  @Override
+  public void onEvent(Object event) {
+    for (EventHandler listener : listeners) {
+      try {
+        listener.onEvent(event);
+      }
+      catch (Exception exc) {
+        LOG.warn("Exception thrown by event handler", exc);
+      }
+    }
+    for (Subscription subscription : subscriptions.values()) {
+      subscription.enqueue(event);
+    }
+  }
+
+  @Override
+  public void subscribe(EventHandler listener) {
+    requireNonNull(listener, "listener");
+
+    if (listener instanceof AsynchronousEventHandler asyncListener) {
+      subscriptions.computeIfAbsent(
+          listener,
+          key -> new Subscription(asyncListener, queueCapacity)
+      );
+    }
+    else {
+      listeners.add(listener);
+    }
+  }
+
+  @Override
+  public void unsubscribe(EventHandler listener) {
+    requireNonNull(listener, "listener");
+
+    listeners.remove(listener);
+    Subscription subscription = subscriptions.remove(listener);
+    if (subscription != null) {
+      subscription.cancel();
+    }
+  }
+
+  /**
+   * Returns statistics on the queues of all asynchronous listeners.
+   *
+   * @return Statistics on the queues of all asynchronous listeners.
+   */
+  @Nonnull
+  public List<QueueStatistics> getQueueStatistics() {
+    return subscriptions.values().stream()
+        .map(Subscription::getStatistics)
+        .toList();
+  }
+
+  /**
+   * Statistics on the queue of an asynchronous listener.
+   */
+  public static class QueueStatistics {
+
+    private final String listener;
+    private final int size;
+    private final int capacity;
+    private final long deliveredEvents;
+    private final long droppedEvents;
+    private final long lag;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param listener The name of the listener.
+     * @param size The number of events in the queue.
+     * @param capacity The capacity of the queue.
+     * @param deliveredEvents The number of events delivered to the listener.
+     * @param droppedEvents The number of events dropped because the queue was full.
+     * @param lag The time (in ms) the oldest event in the queue has been waiting for delivery.
+     */
+    public QueueStatistics(
+        @Nonnull
+        String listener,
+        int size,
+        int capacity,
+        long deliveredEvents,
+        long droppedEvents,
+        long lag
+    ) {
+      this.listener = requireNonNull(listener, "listener");
+      this.size = size;
+      this.capacity = capacity;
+      this.deliveredEvents = deliveredEvents;
+      this.droppedEvents = droppedEvents;
+      this.lag = lag;
+    }
+
+    /**
+     * Returns the name of the listener.
+     *
+     * @return The name of the listener.
+     * @see AsynchronousEventHandler#getHandlerName()
+     */
+    @Nonnull
+    public String getListener() {
+      return listener;
+    }
+
+    /**
+     * Returns the number of events in the queue.
+     *
+     * @return The number of events in the queue.
+     */
+    public int getSize() {
+      return size;
+    }
+
+    /**
+     * Returns the capacity of the queue.
+     *
+     * @return The capacity of the queue.
+     */
+    public int getCapacity() {
+      return capacity;
+    }
+
+    /**
+     * Returns the number of events delivered to the listener.
+     *
+     * @return The number of events delivered to the listener.
+     */
+    public long getDeliveredEvents() {
+      return deliveredEvents;
+    }
+
+    /**
+     * Returns the number of events dropped because the queue was full.
+     *
+     * @return The number of events dropped.
+     */
+    public long getDroppedEvents() {
+      return droppedEvents;
+    }
+
+    /**
+     * Returns the time (in ms) the oldest event in the queue has been waiting for delivery.
+     *
+     * @return The time the oldest event in the queue has been waiting for delivery, or 0, if the
+     * queue is empty.
+     */
+    public long getLag() {
+      return lag;
+    }
+
+    @Override
+    public String toString() {
+      return "QueueStatistics{"
+          + "listener=" + listener
+          + ", size=" + size
+          + ", capacity=" + capacity
+          + ", deliveredEvents=" + deliveredEvents
+          + ", droppedEvents=" + droppedEvents
+          + ", lag=" + lag
+          + '}';
+    }
+  }
+
+  /**
+   * The subscription of an asynchronous listener, with the listener's queue and thread.
+   */
+  private static class Subscription
+      implements
+        Runnable {
+
+    private final AsynchronousEventHandler listener;
+    private final Set<Class<?>> eventTypes;
+    private final BlockingQueue<QueuedEvent> queue;
+    private final int capacity;
+    private final Thread thread;
+    private final AtomicLong deliveredEvents = new AtomicLong();
+    private final AtomicLong droppedEvents = new AtomicLong();
+    /**
+     * The number of events dropped since the last overflow event was queued.
+     */
+    private long pendingDroppedEvents;
+    private volatile boolean cancelled;
+
+    Subscription(AsynchronousEventHandler listener, int capacity) {
+      this.listener = listener;
+      this.eventTypes = Set.copyOf(listener.getEventTypes());
+      this.queue = new ArrayBlockingQueue<>(capacity);
+      this.capacity = capacity;
+      this.thread = new Thread(this, "eventBus-" + listener.getHandlerName());
+      this.thread.setDaemon(true);
+      this.thread.start();
+    }
+
+    synchronized void enqueue(Object event) {
+      if (!isOfInterest(event)) {
+        return;
+      }
+      // Keep the overflow event in front of events that are queued after the dropped ones.
+      if (!queueOverflowEvent() || !queue.offer(new QueuedEvent(event, System.nanoTime()))) {
+        pendingDroppedEvents++;
+        if (droppedEvents.getAndIncrement() == 0) {
+          LOG.warn("Queue of {} is full, dropping events (only counting further drops).", listener);
+        }
+      }
+    }
+
+    void cancel() {
+      cancelled = true;
+      thread.interrupt();
+    }
+
+    QueueStatistics getStatistics() {
+      QueuedEvent oldest = queue.peek();
+      return new QueueStatistics(
+          listener.getHandlerName(),
+          queue.size(),
+          capacity,
+          deliveredEvents.get(),
+          droppedEvents.get(),
+          oldest == null
+              ? 0
+              : TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - oldest.getEnqueuedAt())
+      );
+    }
+
+    @Override
+    public void run() {
+      while (!cancelled) {
+        QueuedEvent queuedEvent;
+        try {
+          queuedEvent = queue.take();
+        }
+        catch (InterruptedException exc) {
+          continue;
+        }
+        if (cancelled) {
+          return;
+        }
+        try {
+          listener.onEvent(queuedEvent.getEvent());
+        }
+        catch (Exception exc) {
+          LOG.warn("Exception thrown by event handler", exc);
+        }
+        deliveredEvents.incrementAndGet();
+        // Make sure the listener learns about dropped events even if no further events arrive.
+        queueOverflowEvent();
+      }
+    }
+
+    /**
+     * Queues an overflow event if events were dropped since the last one was queued.
+     *
+     * @return {@code true} if no events were dropped or an overflow event was queued for them,
+     * {@code false} if the queue is still full.
+     */
+    private synchronized boolean queueOverflowEvent() {
+      if (pendingDroppedEvents == 0) {
+        return true;
+      }
+      if (!queue.offer(
+          new QueuedEvent(new EventQueueOverflowEvent(pendingDroppedEvents), System.nanoTime())
+      )) {
+        return false;
+      }
+      pendingDroppedEvents = 0;
+      return true;
+    }
+
+    private boolean isOfInterest(Object event) {
+      for (Class<?> eventType : eventTypes) {
+        if (eventType.isInstance(event)) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+
+  /**
+   * An event in a listener's queue.
+   */
+  private static class QueuedEvent {
+
+    private final Object event;
+    private final long enqueuedAt;
+
+    QueuedEvent(Object event, long enqueuedAt) {
+      this.event = event;
+      this.enqueuedAt = enqueuedAt;
+    }
+
+    Object getEvent() {
+      return event;
+    }
+
+    long getEnqueuedAt() {
+      return enqueuedAt;
+    }
+  }
+}
@@ -0,0 +1,163 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.data;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+
+/**
+ * Unit tests for {@link TCSObjectDelta}.
+ */
+class TCSObjectDeltaTest {
+
+  @Test
+  void containOnlyChangedAttributes() {
+    Vehicle previousState = new Vehicle("some-vehicle");
+    Vehicle currentState = previousState
+        .withEnergyLevel(42)
+        .withIntegrationLevel(Vehicle.IntegrationLevel.TO_BE_UTILIZED);
+
+    TCSObjectDelta delta = TCSObjectDelta.between(previousState, currentState).orElseThrow();
+
+    assertThat(delta.getObjectReference()).isEqualTo(currentState.getReference());
+    assertThat(delta.getChangedAttributes())
+        .containsExactlyInAnyOrder("energyLevel", "integrationLevel");
+  }
+
+  @Test
+  void reconstructCurrentStateFromPreviousState() {
+    Vehicle previousState = new Vehicle("some-vehicle").withEnergyLevel(10);
+    Vehicle currentState = previousState
+        .withEnergyLevel(42)
+        .withProperty("some-key", "some-value");
+
+    TCSObject<?> result = TCSObjectDelta.between(previousState, currentState).orElseThrow()
+        .applyTo(previousState);
+
+    assertThat(result).isInstanceOf(Vehicle.class).isNotSameAs(previousState);
+    assertThat(((Vehicle) result).getEnergyLevel()).isEqualTo(42);
+    assertThat(result.getProperties()).containsEntry("some-key", "some-value");
+    assertThat(result.getReference()).isEqualTo(currentState.getReference());
+    // The previous state is left untouched.
+    assertThat(previousState.getEnergyLevel()).isEqualTo(10);
+    assertThat(previousState.getProperties()).isEmpty();
+  }
+
+  @Test
+  void mergeSubsequentDeltas() {
+    Vehicle state1 = new Vehicle("some-vehicle");
+    Vehicle state2 = state1.withEnergyLevel(42);
+    Vehicle state3 = state2.withEnergyLevel(43).withPaused(true);
+
+    TCSObjectDelta delta = TCSObjectDelta.between(state1, state2).orElseThrow()
+        .mergeWith(TCSObjectDelta.between(state2, state3).orElseThrow());
+
+    assertThat(delta.getChangedAttributes()).containsExactlyInAnyOrder("energyLevel", "paused");
+    Vehicle result = (Vehicle) delta.applyTo(state1);
+    assertThat(result.getEnergyLevel()).isEqualTo(43);
+    assertThat(result.isPaused()).isTrue();
+  }
+
+  @Test
+  void applyDeserializedDelta()
+      throws IOException,
+        ClassNotFoundException {
+    Vehicle previousState = new Vehicle("some-vehicle");
+    Vehicle currentState = previousState.withEnergyLevel(42);
+
+    TCSObjectDelta delta = serializeAndDeserialize(
+        TCSObjectDelta.between(previousState, currentState).orElseThrow()
+    );
+
+    assertThat(((Vehicle) delta.applyTo(previousState)).getEnergyLevel()).isEqualTo(42);
+  }
+
+  @Test
+  void rejectStatesOfDifferentObjects() {
+    assertThatThrownBy(
+        () -> TCSObjectDelta.between(new Vehicle("vehicle-1"), new Vehicle("vehicle-2"))
+    ).isInstanceOf(IllegalArgumentException.class);
+
+    TCSObjectDelta delta = TCSObjectDelta.between(
+        new Vehicle("vehicle-1"),
+        new Vehicle("vehicle-1").withEnergyLevel(42)
+    ).orElseThrow();
+    assertThatThrownBy(() -> delta.applyTo(new Vehicle("vehicle-2")))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void describeNoModificationsOfAttributesThatCannotBeApplied() {
+    Vehicle previousState = new Vehicle("some-vehicle");
+
+    assertThat(
+        TCSObjectDelta.between(previousState, previousState.withState(Vehicle.State.IDLE))
+    ).isEmpty();
+    assertThat(
+        TCSObjectDelta.between(
+            previousState,
+            previousState.withProcState(Vehicle.ProcState.AWAITING_ORDER)
+        )
+    ).isEmpty();
+  }
+
+  @Test
+  void describeNoModificationsOfUnsupportedTypes() {
+    Point previousState = new Point("some-point");
+
+    assertThat(
+        TCSObjectDelta.between(previousState, previousState.withProperty("some-key", "some-value"))
+    ).isEmpty();
+  }
+
+  @Test
+  void skipUnknownAttributes() {
+    Vehicle previousState = new Vehicle("some-vehicle");
+    TCSObjectDelta delta = new TCSObjectDelta(
+        previousState.getReference(),
+        Map.of("energyLevel", 42, "someFutureAttribute", "some-value")
+    );
+
+    assertThat(((Vehicle) delta.applyTo(previousState)).getEnergyLevel()).isEqualTo(42);
+  }
+
+  @Test
+  void defineAttributesForAllVehicleFields() {
+    Set<String> fieldNames = new HashSet<>(Set.of("properties", "history"));
+    for (Field field : Vehicle.class.getDeclaredFields()) {
+      if (!Modifier.isStatic(field.getModifiers())) {
+        fieldNames.add(field.getName());
+      }
+    }
+
+    assertThat(TCSObjectDelta.getAttributeNames(Vehicle.class))
+        .containsExactlyInAnyOrderElementsOf(fieldNames);
+  }
+
+  private TCSObjectDelta serializeAndDeserialize(TCSObjectDelta delta)
+      throws IOException,
+        ClassNotFoundException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(delta);
+    }
+    try (ObjectInputStream in
+        = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      return (TCSObjectDelta) in.readObject();
+    }
+  }
+}
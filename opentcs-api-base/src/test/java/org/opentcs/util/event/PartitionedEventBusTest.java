@@ -0,0 +1,164 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.util.event;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link PartitionedEventBus}.
+ */
+class PartitionedEventBusTest {
+
+  private PartitionedEventBus eventBus;
+  private List<EventHandler> subscribedHandlers;
+
+  @BeforeEach
+  void setUp() {
+    eventBus = new PartitionedEventBus(1);
+    subscribedHandlers = new ArrayList<>();
+  }
+
+  @AfterEach
+  void tearDown() {
+    subscribedHandlers.forEach(eventBus::unsubscribe);
+  }
+
+  @Test
+  void forwardEventToSynchronousSubscribersImmediately() {
+    List<Object> receivedObjects = new ArrayList<>();
+    EventHandler eventHandler = (object) -> receivedObjects.add(object);
+
+    subscribe(eventHandler);
+    eventBus.onEvent(new Object());
+
+    assertThat(receivedObjects, hasSize(1));
+
+    eventBus.unsubscribe(eventHandler);
+    receivedObjects.clear();
+    eventBus.onEvent(new Object());
+
+    assertThat(receivedObjects, is(empty()));
+  }
+
+  @Test
+  void forwardEventsOfInterestToAsynchronousSubscribersInOrder()
+      throws InterruptedException {
+    QueueingHandler eventHandler = new QueueingHandler(Set.of(String.class));
+
+    subscribe(eventHandler);
+    eventBus.onEvent("first");
+    assertThat(eventHandler.receivedEvents.poll(5, TimeUnit.SECONDS), is("first"));
+    eventBus.onEvent(42);
+    eventBus.onEvent("second");
+    assertThat(eventHandler.receivedEvents.poll(5, TimeUnit.SECONDS), is("second"));
+    assertThat(eventHandler.receivedEvents.poll(100, TimeUnit.MILLISECONDS), is(nullValue()));
+  }
+
+  @Test
+  void dropEventsForAsynchronousSubscriberWithFullQueue()
+      throws InterruptedException {
+    CountDownLatch handlerEntered = new CountDownLatch(1);
+    CountDownLatch handlerReleased = new CountDownLatch(1);
+    AsynchronousEventHandler eventHandler = event -> {
+      handlerEntered.countDown();
+      try {
+        handlerReleased.await();
+      }
+      catch (InterruptedException exc) {
+        Thread.currentThread().interrupt();
+      }
+    };
+
+    subscribe(eventHandler);
+    eventBus.onEvent("first");
+    assertThat(handlerEntered.await(5, TimeUnit.SECONDS), is(true));
+    // The handler is busy with the first event, so the second fills the queue and the third is
+    // dropped.
+    eventBus.onEvent("second");
+    eventBus.onEvent("third");
+
+    PartitionedEventBus.QueueStatistics statistics = eventBus.getQueueStatistics().get(0);
+    assertThat(statistics.getSize(), is(1));
+    assertThat(statistics.getCapacity(), is(1));
+    assertThat(statistics.getDroppedEvents(), is(1L));
+
+    handlerReleased.countDown();
+  }
+
+  @Test
+  void deliverOverflowEventAfterDroppingEvents()
+      throws InterruptedException {
+    CountDownLatch handlerReleased = new CountDownLatch(1);
+    QueueingHandler eventHandler = new QueueingHandler(Set.of(String.class)) {
+      @Override
+      public void onEvent(Object event) {
+        super.onEvent(event);
+        try {
+          handlerReleased.await();
+        }
+        catch (InterruptedException exc) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    };
+
+    subscribe(eventHandler);
+    eventBus.onEvent("first");
+    assertThat(eventHandler.receivedEvents.poll(5, TimeUnit.SECONDS), is("first"));
+    eventBus.onEvent("second");
+    eventBus.onEvent("third");
+    eventBus.onEvent("fourth");
+    handlerReleased.countDown();
+
+    assertThat(eventHandler.receivedEvents.poll(5, TimeUnit.SECONDS), is("second"));
+    Object overflowEvent = eventHandler.receivedEvents.poll(5, TimeUnit.SECONDS);
+    assertThat(overflowEvent, is(instanceOf(EventQueueOverflowEvent.class)));
+    assertThat(((EventQueueOverflowEvent) overflowEvent).getDroppedEventCount(), is(2L));
+
+    eventBus.onEvent("fifth");
+    assertThat(eventHandler.receivedEvents.poll(5, TimeUnit.SECONDS), is("fifth"));
+  }
+
+  private void subscribe(EventHandler eventHandler) {
+    eventBus.subscribe(eventHandler);
+    subscribedHandlers.add(eventHandler);
+  }
+
+  private static class QueueingHandler
+      implements
+        AsynchronousEventHandler {
+
+    private final BlockingQueue<Object> receivedEvents = new LinkedBlockingQueue<>();
+    private final Set<Class<?>> eventTypes;
+
+    QueueingHandler(Set<Class<?>> eventTypes) {
+      this.eventTypes = eventTypes;
+    }
+
+    @Override
+    public void onEvent(Object event) {
+      receivedEvents.add(event);
+    }
+
+    @Override
+    public Set<Class<?>> getEventTypes() {
+      return eventTypes;
+    }
+  }
+}
@@ -0,0 +1,229 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.benchmarks;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.util.Modules;
+import jakarta.annotation.Nonnull;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Stream;
+import org.opentcs.configuration.ConfigurationBindingProvider;
+import org.opentcs.configuration.gestalt.GestaltConfigurationBindingProvider;
+import org.opentcs.customizations.kernel.GlobalSyncObject;
+import org.opentcs.customizations.kernel.KernelExecutor;
+import org.opentcs.customizations.kernel.KernelInjectionModule;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.drivers.vehicle.VehicleControllerPool;
+import org.opentcs.kernel.DefaultKernelInjectionModule;
+import org.opentcs.kernel.vehicles.NullVehicleController;
+import org.opentcs.kernel.workingset.PlantModelManager;
+import org.opentcs.strategies.basic.dispatching.DefaultDispatcherModule;
+import org.opentcs.strategies.basic.routing.DefaultRouterModule;
+import org.opentcs.strategies.basic.scheduling.DefaultSchedulerModule;
+import org.opentcs.util.ExplainedBoolean;
+
+/**
+ * Provides the kernel's components (wired the same way as in the kernel application) working on a
+ * generated plant model, without actually starting the kernel.
+ * <p>
+ * Vehicles are positioned at their initial points and are available for processing transport
+ * orders. Since no communication adapters are attached, a vehicle controller pool providing
+ * controllers that accept every transport order (and ignore it) is used.
+ * </p>
+ */
+public class BenchmarkKernel
+    implements
+      AutoCloseable {
+
+  /**
+   * The classpath location of the kernel's baseline configuration defaults.
+   */
+  private static final String BASELINE_DEFAULTS
+      = "/org/opentcs/kernel/distribution/config/opentcs-kernel-defaults-baseline.properties";
+  /**
+   * The directory containing the configuration files.
+   */
+  private final Path configDirectory;
+  /**
+   * The injector providing the kernel's components.
+   */
+  private final Injector injector;
+  /**
+   * The kernel's global synchronization object.
+   */
+  private final Object globalSyncObject;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param generator The generator for the plant model to be used.
+   * @param configurationOverrides Configuration entries overriding the baseline defaults, e.g.
+   * {@code defaultrouter.shortestpath.algorithm -> FLOYD_WARSHALL}.
+   */
+  public BenchmarkKernel(
+      @Nonnull
+      PlantModelGenerator generator,
+      @Nonnull
+      Map<String, String> configurationOverrides
+  ) {
+    requireNonNull(generator, "generator");
+    requireNonNull(configurationOverrides, "configurationOverrides");
+
+    try {
+      configDirectory = Files.createTempDirectory("opentcs-benchmarks");
+      injector = Guice.createInjector(
+          kernelModule(configurationBindingProvider(configurationOverrides))
+      );
+    }
+    catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    globalSyncObject = injector.getInstance(Key.get(Object.class, GlobalSyncObject.class));
+
+    loadPlantModel(generator);
+  }
+
+  @Override
+  public void close() {
+    injector.getInstance(Key.get(ExecutorService.class, KernelExecutor.class)).shutdownNow();
+    try (Stream<Path> files = Files.list(configDirectory)) {
+      for (Path file : files.toList()) {
+        Files.delete(file);
+      }
+      Files.delete(configDirectory);
+    }
+    catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Returns the kernel component of the given type.
+   *
+   * @param <T> The component's type.
+   * @param type The component's type.
+   * @return The kernel component.
+   */
+  @Nonnull
+  public <T> T getInstance(
+      @Nonnull
+      Class<T> type
+  ) {
+    return injector.getInstance(type);
+  }
+
+  /**
+   * Returns the kernel's global synchronization object.
+   *
+   * @return The kernel's global synchronization object.
+   */
+  @Nonnull
+  public Object getGlobalSyncObject() {
+    return globalSyncObject;
+  }
+
+  private void loadPlantModel(PlantModelGenerator generator) {
+    PlantModelManager plantModelManager = injector.getInstance(PlantModelManager.class);
+
+    synchronized (globalSyncObject) {
+      plantModelManager.createPlantModelObjects(generator.generate());
+
+      for (int i = 0; i < generator.getVehicleCount(); i++) {
+        Vehicle vehicle = plantModelManager.getObjectRepo()
+            .getObject(Vehicle.class, generator.getVehicleName(i));
+        Point position = plantModelManager.getObjectRepo()
+            .getObject(Point.class, generator.getVehicleInitialPointName(i));
+
+        plantModelManager.setVehiclePosition(vehicle.getReference(), position.getReference());
+        plantModelManager.setVehicleIntegrationLevel(
+            vehicle.getReference(),
+            Vehicle.IntegrationLevel.TO_BE_UTILIZED
+        );
+        plantModelManager.setVehicleState(vehicle.getReference(), Vehicle.State.IDLE);
+        plantModelManager.setVehicleProcState(vehicle.getReference(), Vehicle.ProcState.IDLE);
+      }
+    }
+  }
+
+  private ConfigurationBindingProvider configurationBindingProvider(
+      Map<String, String> configurationOverrides
+  )
+      throws IOException {
+    Path defaultsPath = configDirectory.resolve("opentcs-kernel-defaults-baseline.properties");
+    try (InputStream in = BenchmarkKernel.class.getResourceAsStream(BASELINE_DEFAULTS)) {
+      requireNonNull(in, "Baseline defaults not found on the classpath");
+      Files.copy(in, defaultsPath, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    Path overridesPath = configDirectory.resolve("opentcs-kernel.properties");
+    Properties overrides = new Properties();
+    overrides.putAll(configurationOverrides);
+    try (Writer writer = Files.newBufferedWriter(overridesPath, StandardCharsets.UTF_8)) {
+      overrides.store(writer, null);
+    }
+
+    return new GestaltConfigurationBindingProvider(defaultsPath, overridesPath);
+  }
+
+  private static com.google.inject.Module kernelModule(
+      ConfigurationBindingProvider bindingProvider
+  ) {
+    List<KernelInjectionModule> defaultModules = List.of(
+        new DefaultKernelInjectionModule(),
+        new DefaultDispatcherModule(),
+        new DefaultRouterModule(),
+        new DefaultSchedulerModule()
+    );
+    for (KernelInjectionModule defaultModule : defaultModules) {
+      defaultModule.setConfigBindingProvider(bindingProvider);
+    }
+
+    return Modules.override(defaultModules)
+        .with(new AbstractModule() {
+          @Override
+          protected void configure() {
+            bind(VehicleControllerPool.class)
+                .toInstance(vehicleName -> new AcceptingVehicleController(vehicleName));
+          }
+        });
+  }
+
+  /**
+   * A vehicle controller accepting every transport order, without actually processing it.
+   */
+  private static class AcceptingVehicleController
+      extends
+        NullVehicleController {
+
+    AcceptingVehicleController(String vehicleName) {
+      super(vehicleName);
+    }
+
+    @Override
+    public void setTransportOrder(TransportOrder newOrder) {
+    }
+
+    @Override
+    public ExplainedBoolean canProcess(TransportOrder order) {
+      return new ExplainedBoolean(true, "");
+    }
+  }
+}
@@ -0,0 +1,102 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.benchmarks;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opentcs.strategies.basic.dispatching.phase.assignment.MinimumCostAssignment;
+
+/**
+ * Benchmarks computing assignments of vehicles to transport orders with minimum total costs,
+ * compared to greedily assigning each vehicle the cheapest transport order still available.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MinimumCostAssignmentBenchmark {
+
+  /**
+   * The number of vehicles (rows of the cost matrix).
+   */
+  @Param({"10", "50", "200"})
+  public int vehicleCount;
+  /**
+   * The number of transport orders (columns of the cost matrix).
+   */
+  @Param({"10", "200"})
+  public int orderCount;
+
+  private long[][] costs;
+
+  /**
+   * Creates a new instance.
+   */
+  public MinimumCostAssignmentBenchmark() {
+  }
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    Random random = new Random(42);
+    costs = new long[vehicleCount][orderCount];
+    for (long[] row : costs) {
+      for (int column = 0; column < orderCount; column++) {
+        // Make about one in ten vehicle/transport order combinations infeasible.
+        row[column] = random.nextInt(10) == 0
+            ? MinimumCostAssignment.INFEASIBLE
+            : random.nextInt(100000);
+      }
+    }
+  }
+
+  /**
+   * Computes an assignment with minimum total costs.
+   *
+   * @return The assignment.
+   */
+  @Benchmark
+  public int[] minimumTotalCosts() {
+    return MinimumCostAssignment.solve(costs);
+  }
+
+  /**
+   * Computes an assignment greedily.
+   *
+   * @return The assignment.
+   */
+  @Benchmark
+  public int[] greedy() {
+    int[] result = new int[costs.length];
+    Arrays.fill(result, MinimumCostAssignment.UNASSIGNED);
+    boolean[] assignedColumns = new boolean[orderCount];
+    for (int row = 0; row < costs.length; row++) {
+      for (int column = 0; column < orderCount; column++) {
+        if (costs[row][column] != MinimumCostAssignment.INFEASIBLE
+            && !assignedColumns[column]
+            && (result[row] == MinimumCostAssignment.UNASSIGNED
+                || costs[row][column] < costs[row][result[row]])) {
+          result[row] = column;
+        }
+      }
+      if (result[row] != MinimumCostAssignment.UNASSIGNED) {
+        assignedColumns[result[row]] = true;
+      }
+    }
+    return result;
+  }
+}
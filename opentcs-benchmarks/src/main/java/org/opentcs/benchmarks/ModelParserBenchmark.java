@@ -0,0 +1,91 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.benchmarks;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opentcs.access.to.model.PlantModelCreationTO;
+import org.opentcs.util.persistence.v7.V7ModelParser;
+import org.opentcs.util.persistence.v7.V7PlantModelTO;
+import org.opentcs.util.persistence.v7.V7TOMapper;
+
+/**
+ * Benchmarks reading and writing plant models in the XML file format (version 7).
+ * <p>
+ * The plant models are read from and written to memory, so the results do not depend on the
+ * performance of the file system.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ModelParserBenchmark {
+
+  /**
+   * The number of rows and columns of the grid plant model.
+   */
+  @Param({"30", "100"})
+  public int gridSize;
+
+  private PlantModelCreationTO plantModel;
+  private String plantModelXml;
+
+  /**
+   * Creates a new instance.
+   */
+  public ModelParserBenchmark() {
+  }
+
+  @Setup(Level.Trial)
+  public void setUp()
+      throws IOException {
+    plantModel = new PlantModelGenerator(gridSize, gridSize, gridSize).generate();
+    plantModelXml = write();
+  }
+
+  /**
+   * Reads a plant model from its XML representation.
+   *
+   * @return The plant model.
+   * @throws IOException If the plant model could not be read.
+   */
+  @Benchmark
+  public PlantModelCreationTO read()
+      throws IOException {
+    return new V7ModelParser().read(
+        new StringReader(plantModelXml),
+        V7PlantModelTO.VERSION_STRING
+    );
+  }
+
+  /**
+   * Writes a plant model to its XML representation.
+   *
+   * @return The XML representation of the plant model.
+   * @throws IOException If the plant model could not be written.
+   */
+  @Benchmark
+  public String write()
+      throws IOException {
+    StringWriter writer = new StringWriter();
+    new V7TOMapper().map(plantModel).toXml(writer);
+    return writer.toString();
+  }
+}
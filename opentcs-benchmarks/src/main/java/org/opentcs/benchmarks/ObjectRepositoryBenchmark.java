@@ -0,0 +1,135 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.benchmarks;
+
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.kernel.workingset.PlantModelManager;
+import org.opentcs.kernel.workingset.TCSObjectRepository;
+import org.opentcs.util.TimeProvider;
+
+/**
+ * Benchmarks lookups of objects in the kernel's object repository.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ObjectRepositoryBenchmark {
+
+  /**
+   * The number of objects to look up.
+   */
+  private static final int LOOKUP_COUNT = 1024;
+  /**
+   * The number of rows and columns of the grid plant model.
+   */
+  @Param({"10", "100"})
+  public int gridSize;
+  /**
+   * The number of vehicles.
+   */
+  @Param({"10"})
+  public int vehicleCount;
+
+  private TCSObjectRepository objectRepo;
+  private String[] pointNames;
+  private TCSObjectReference<?>[] pointRefs;
+  private int lookupIndex;
+
+  /**
+   * Creates a new instance.
+   */
+  public ObjectRepositoryBenchmark() {
+  }
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    PlantModelGenerator generator = new PlantModelGenerator(gridSize, gridSize, vehicleCount);
+    objectRepo = new TCSObjectRepository();
+    new PlantModelManager(objectRepo, event -> {
+    }, new TimeProvider()).createPlantModelObjects(generator.generate());
+
+    Random random = new Random(42);
+    pointNames = new String[LOOKUP_COUNT];
+    pointRefs = new TCSObjectReference<?>[LOOKUP_COUNT];
+    for (int i = 0; i < LOOKUP_COUNT; i++) {
+      pointNames[i] = generator.getPointName(random.nextInt(generator.getPointCount()));
+      pointRefs[i] = objectRepo.getObject(Point.class, pointNames[i]).getReference();
+    }
+  }
+
+  /**
+   * Looks up an object by its name, without knowing its type.
+   *
+   * @return The object.
+   */
+  @Benchmark
+  public Object getObjectByName() {
+    return objectRepo.getObject(pointNames[nextLookupIndex()]);
+  }
+
+  /**
+   * Looks up an object of a known type by its name.
+   *
+   * @return The object.
+   */
+  @Benchmark
+  public Point getTypedObjectByName() {
+    return objectRepo.getObject(Point.class, pointNames[nextLookupIndex()]);
+  }
+
+  /**
+   * Looks up an object by its reference.
+   *
+   * @return The object.
+   */
+  @Benchmark
+  public Object getObjectByReference() {
+    return objectRepo.getObject(pointRefs[nextLookupIndex()]);
+  }
+
+  /**
+   * Retrieves all vehicles.
+   *
+   * @return The vehicles.
+   */
+  @Benchmark
+  public Set<Vehicle> getAllVehicles() {
+    return objectRepo.getObjects(Vehicle.class);
+  }
+
+  /**
+   * Retrieves all paths matching a predicate.
+   *
+   * @return The paths.
+   */
+  @Benchmark
+  public Set<Path> getLockedPaths() {
+    return objectRepo.getObjects(Path.class, Path::isLocked);
+  }
+
+  private int nextLookupIndex() {
+    lookupIndex = (lookupIndex + 1) % LOOKUP_COUNT;
+    return lookupIndex;
+  }
+}
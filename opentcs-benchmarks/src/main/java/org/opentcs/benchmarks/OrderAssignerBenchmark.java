@@ -0,0 +1,174 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opentcs.access.to.order.DestinationCreationTO;
+import org.opentcs.access.to.order.TransportOrderCreationTO;
+import org.opentcs.components.kernel.Router;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.DriveOrder;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.kernel.workingset.PlantModelManager;
+import org.opentcs.kernel.workingset.TCSObjectRepository;
+import org.opentcs.kernel.workingset.TransportOrderPoolManager;
+import org.opentcs.strategies.basic.dispatching.phase.assignment.AssignmentCandidateEvaluator;
+import org.opentcs.strategies.basic.dispatching.phase.assignment.OrderAssigner;
+
+/**
+ * Benchmarks the assignment of transport orders to vehicles.
+ * <p>
+ * Before each invocation, new transport orders are created and all vehicles are made available
+ * again, so each invocation assigns the same number of transport orders.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderAssignerBenchmark {
+
+  /**
+   * The number of rows and columns of the grid plant model.
+   */
+  @Param({"30"})
+  public int gridSize;
+  /**
+   * The number of vehicles.
+   */
+  @Param({"10", "50"})
+  public int vehicleCount;
+  /**
+   * The number of transport orders available for assignment.
+   */
+  @Param({"10", "100"})
+  public int orderCount;
+  /**
+   * The strategy for assigning transport orders.
+   */
+  @Param({"GREEDY", "MIN_TOTAL_COSTS"})
+  public String orderAssignmentStrategy;
+  /**
+   * The number of threads used for computing assignment candidates.
+   */
+  @Param({"1", "4"})
+  public int assignmentCandidateParallelism;
+
+  private PlantModelGenerator generator;
+  private BenchmarkKernel kernel;
+  private TCSObjectRepository objectRepo;
+  private PlantModelManager plantModelManager;
+  private TransportOrderPoolManager orderPoolManager;
+  private Router router;
+  private AssignmentCandidateEvaluator assignmentCandidateEvaluator;
+  private OrderAssigner orderAssigner;
+  private final Random random = new Random(42);
+  private int orderNumber;
+  private Set<Vehicle> vehicles;
+  private List<TransportOrder> orders;
+
+  /**
+   * Creates a new instance.
+   */
+  public OrderAssignerBenchmark() {
+  }
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    generator = new PlantModelGenerator(gridSize, gridSize, vehicleCount);
+    kernel = new BenchmarkKernel(
+        generator,
+        Map.of(
+            "defaultdispatcher.orderAssignmentStrategy", orderAssignmentStrategy,
+            "defaultdispatcher.assignmentCandidateParallelism",
+            String.valueOf(assignmentCandidateParallelism)
+        )
+    );
+    objectRepo = kernel.getInstance(TCSObjectRepository.class);
+    plantModelManager = kernel.getInstance(PlantModelManager.class);
+    orderPoolManager = kernel.getInstance(TransportOrderPoolManager.class);
+    router = kernel.getInstance(Router.class);
+    router.initialize();
+    assignmentCandidateEvaluator = kernel.getInstance(AssignmentCandidateEvaluator.class);
+    assignmentCandidateEvaluator.initialize();
+    orderAssigner = kernel.getInstance(OrderAssigner.class);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    assignmentCandidateEvaluator.terminate();
+    router.terminate();
+    kernel.close();
+  }
+
+  @Setup(Level.Invocation)
+  public void createTransportOrders() {
+    synchronized (kernel.getGlobalSyncObject()) {
+      orders = new ArrayList<>(orderCount);
+      for (int i = 0; i < orderCount; i++) {
+        TransportOrder order = orderPoolManager.createTransportOrder(
+            new TransportOrderCreationTO(
+                String.format("Order-%08d", orderNumber++),
+                List.of(
+                    new DestinationCreationTO(
+                        generator.getPointName(random.nextInt(generator.getPointCount())),
+                        DriveOrder.Destination.OP_MOVE
+                    )
+                )
+            )
+        );
+        orders.add(
+            orderPoolManager.setTransportOrderState(
+                order.getReference(),
+                TransportOrder.State.DISPATCHABLE
+            )
+        );
+      }
+      vehicles = objectRepo.getObjects(Vehicle.class);
+    }
+  }
+
+  @TearDown(Level.Invocation)
+  public void resetVehiclesAndRemoveTransportOrders() {
+    synchronized (kernel.getGlobalSyncObject()) {
+      for (Vehicle vehicle : objectRepo.getObjects(Vehicle.class)) {
+        plantModelManager.setVehicleTransportOrder(vehicle.getReference(), null);
+        plantModelManager.setVehicleProcState(vehicle.getReference(), Vehicle.ProcState.IDLE);
+      }
+      for (TransportOrder order : orders) {
+        orderPoolManager.setTransportOrderState(order.getReference(), TransportOrder.State.FAILED);
+        orderPoolManager.removeTransportOrder(order.getReference());
+      }
+    }
+  }
+
+  /**
+   * Assigns the available transport orders to the available vehicles.
+   */
+  @Benchmark
+  public void tryAssignments() {
+    synchronized (kernel.getGlobalSyncObject()) {
+      orderAssigner.tryAssignments(vehicles, orders);
+    }
+  }
+}
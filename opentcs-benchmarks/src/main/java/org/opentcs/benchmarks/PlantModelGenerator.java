@@ -0,0 +1,173 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.benchmarks;
+
+import static org.opentcs.util.Assertions.checkArgument;
+import static org.opentcs.util.Assertions.checkInRange;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.opentcs.access.to.model.PathCreationTO;
+import org.opentcs.access.to.model.PlantModelCreationTO;
+import org.opentcs.access.to.model.PointCreationTO;
+import org.opentcs.access.to.model.VehicleCreationTO;
+import org.opentcs.data.model.Pose;
+import org.opentcs.data.model.Triple;
+
+/**
+ * Generates synthetic plant models for benchmarks.
+ * <p>
+ * The generated plant models consist of points arranged in a rectangular grid, with each point
+ * being connected to its horizontal and vertical neighbours by two paths (one for each direction).
+ * Vehicles are distributed evenly across the grid's points. For the same parameters, the generated
+ * plant models are always the same, so benchmark results are reproducible.
+ * </p>
+ */
+public class PlantModelGenerator {
+
+  /**
+   * The distance between two neighbouring points (in mm).
+   */
+  private static final long POINT_DISTANCE = 2000;
+  /**
+   * The maximum velocity for paths (in mm/s).
+   */
+  private static final int PATH_MAX_VELOCITY = 1000;
+  /**
+   * The number of rows of the grid.
+   */
+  private final int rowCount;
+  /**
+   * The number of columns of the grid.
+   */
+  private final int columnCount;
+  /**
+   * The number of vehicles.
+   */
+  private final int vehicleCount;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param rowCount The number of rows of the grid.
+   * @param columnCount The number of columns of the grid.
+   * @param vehicleCount The number of vehicles.
+   */
+  public PlantModelGenerator(int rowCount, int columnCount, int vehicleCount) {
+    this.rowCount = checkInRange(rowCount, 1, Integer.MAX_VALUE, "rowCount");
+    this.columnCount = checkInRange(columnCount, 1, Integer.MAX_VALUE, "columnCount");
+    this.vehicleCount = checkInRange(vehicleCount, 0, Integer.MAX_VALUE, "vehicleCount");
+    checkArgument(
+        vehicleCount <= getPointCount(),
+        "More vehicles (%s) than points (%s)",
+        vehicleCount,
+        getPointCount()
+    );
+  }
+
+  /**
+   * Returns the number of points in the generated plant models.
+   *
+   * @return The number of points.
+   */
+  public int getPointCount() {
+    return rowCount * columnCount;
+  }
+
+  /**
+   * Returns the number of vehicles in the generated plant models.
+   *
+   * @return The number of vehicles.
+   */
+  public int getVehicleCount() {
+    return vehicleCount;
+  }
+
+  /**
+   * Returns the name of the point with the given index.
+   * Points are indexed row by row.
+   *
+   * @param index The index of the point.
+   * @return The name of the point.
+   */
+  public String getPointName(int index) {
+    checkInRange(index, 0, getPointCount() - 1, "index");
+    return pointName(index / columnCount, index % columnCount);
+  }
+
+  /**
+   * Returns the name of the vehicle with the given index.
+   *
+   * @param index The index of the vehicle.
+   * @return The name of the vehicle.
+   */
+  public String getVehicleName(int index) {
+    checkInRange(index, 0, vehicleCount - 1, "index");
+    return String.format("Vehicle-%04d", index);
+  }
+
+  /**
+   * Returns the name of the point the vehicle with the given index is initially positioned at.
+   *
+   * @param index The index of the vehicle.
+   * @return The name of the vehicle's initial position.
+   */
+  public String getVehicleInitialPointName(int index) {
+    checkInRange(index, 0, vehicleCount - 1, "index");
+    return getPointName((int) ((long) index * getPointCount() / vehicleCount));
+  }
+
+  /**
+   * Generates a plant model.
+   *
+   * @return The generated plant model.
+   */
+  public PlantModelCreationTO generate() {
+    List<PointCreationTO> points = new ArrayList<>(getPointCount());
+    List<PathCreationTO> paths = new ArrayList<>(4 * getPointCount());
+    for (int row = 0; row < rowCount; row++) {
+      for (int column = 0; column < columnCount; column++) {
+        points.add(
+            new PointCreationTO(pointName(row, column))
+                .withPose(
+                    new Pose(
+                        new Triple(column * POINT_DISTANCE, row * POINT_DISTANCE, 0),
+                        Double.NaN
+                    )
+                )
+        );
+
+        if (column + 1 < columnCount) {
+          paths.add(path(pointName(row, column), pointName(row, column + 1)));
+          paths.add(path(pointName(row, column + 1), pointName(row, column)));
+        }
+        if (row + 1 < rowCount) {
+          paths.add(path(pointName(row, column), pointName(row + 1, column)));
+          paths.add(path(pointName(row + 1, column), pointName(row, column)));
+        }
+      }
+    }
+
+    List<VehicleCreationTO> vehicles = new ArrayList<>(vehicleCount);
+    for (int i = 0; i < vehicleCount; i++) {
+      vehicles.add(new VehicleCreationTO(getVehicleName(i)));
+    }
+
+    return new PlantModelCreationTO(
+        String.format("Grid-%dx%d-%d", rowCount, columnCount, vehicleCount)
+    )
+        .withPoints(points)
+        .withPaths(paths)
+        .withVehicles(vehicles);
+  }
+
+  private static String pointName(int row, int column) {
+    return String.format("Point-%04d-%04d", row, column);
+  }
+
+  private static PathCreationTO path(String srcPointName, String destPointName) {
+    return new PathCreationTO(srcPointName + " --- " + destPointName, srcPointName, destPointName)
+        .withLength(POINT_DISTANCE)
+        .withMaxVelocity(PATH_MAX_VELOCITY);
+  }
+}
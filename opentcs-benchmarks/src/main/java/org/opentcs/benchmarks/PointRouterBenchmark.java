@@ -0,0 +1,137 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.order.Route;
+import org.opentcs.kernel.workingset.TCSObjectRepository;
+import org.opentcs.strategies.basic.routing.PointRouter;
+import org.opentcs.strategies.basic.routing.PointRouterFactory;
+
+/**
+ * Benchmarks the creation and use of point routers, for each of the available shortest path
+ * algorithms.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PointRouterBenchmark {
+
+  /**
+   * The number of point pairs to compute routes for.
+   */
+  private static final int POINT_PAIR_COUNT = 1024;
+  /**
+   * The number of rows and columns of the grid plant model.
+   */
+  @Param({"10", "30"})
+  public int gridSize;
+  /**
+   * The shortest path algorithm.
+   */
+  @Param({"DIJKSTRA", "BELLMAN_FORD", "FLOYD_WARSHALL", "COST_TABLE"})
+  public String algorithm;
+
+  private BenchmarkKernel kernel;
+  private PointRouterFactory pointRouterFactory;
+  private PointRouter pointRouter;
+  private Point[] sourcePoints;
+  private Point[] destinationPoints;
+  private int pairIndex;
+
+  /**
+   * Creates a new instance.
+   */
+  public PointRouterBenchmark() {
+  }
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    PlantModelGenerator generator = new PlantModelGenerator(gridSize, gridSize, 0);
+    kernel = new BenchmarkKernel(
+        generator,
+        Map.of("defaultrouter.shortestpath.algorithm", algorithm)
+    );
+    pointRouterFactory = kernel.getInstance(PointRouterFactory.class);
+    pointRouter = pointRouterFactory.createGeneralPointRouter(Set.of(), Set.of());
+
+    TCSObjectRepository objectRepo = kernel.getInstance(TCSObjectRepository.class);
+    Random random = new Random(42);
+    sourcePoints = new Point[POINT_PAIR_COUNT];
+    destinationPoints = new Point[POINT_PAIR_COUNT];
+    for (int i = 0; i < POINT_PAIR_COUNT; i++) {
+      sourcePoints[i] = objectRepo.getObject(
+          Point.class,
+          generator.getPointName(random.nextInt(generator.getPointCount()))
+      );
+      destinationPoints[i] = objectRepo.getObject(
+          Point.class,
+          generator.getPointName(random.nextInt(generator.getPointCount()))
+      );
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    kernel.close();
+  }
+
+  /**
+   * Creates a point router (including the computations done by the shortest path algorithm in
+   * advance) for a graph that has already been computed.
+   *
+   * @return The point router.
+   */
+  @Benchmark
+  public PointRouter createPointRouter() {
+    return pointRouterFactory.createGeneralPointRouter(Set.of(), Set.of());
+  }
+
+  /**
+   * Computes the route steps between two points.
+   *
+   * @return The route steps.
+   */
+  @Benchmark
+  public List<Route.Step> getRouteSteps() {
+    int index = nextPairIndex();
+    return pointRouter.getRouteSteps(sourcePoints[index], destinationPoints[index]);
+  }
+
+  /**
+   * Computes the costs of the route between two points.
+   *
+   * @return The costs.
+   */
+  @Benchmark
+  public long getCosts() {
+    int index = nextPairIndex();
+    return pointRouter.getCosts(sourcePoints[index], destinationPoints[index]);
+  }
+
+  private int nextPairIndex() {
+    pairIndex = (pairIndex + 1) % POINT_PAIR_COUNT;
+    return pairIndex;
+  }
+}
@@ -0,0 +1,148 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opentcs.access.to.order.DestinationCreationTO;
+import org.opentcs.access.to.order.TransportOrderCreationTO;
+import org.opentcs.components.kernel.Router;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.DriveOrder;
+import org.opentcs.data.order.Route;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.kernel.workingset.TCSObjectRepository;
+import org.opentcs.kernel.workingset.TransportOrderPoolManager;
+
+/**
+ * Benchmarks the computation of routes by the router for transport orders.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RouterBenchmark {
+
+  /**
+   * The number of transport orders to compute routes for.
+   */
+  private static final int ORDER_COUNT = 64;
+  /**
+   * The number of vehicles.
+   */
+  private static final int VEHICLE_COUNT = 8;
+  /**
+   * The number of rows and columns of the grid plant model.
+   */
+  @Param({"10", "30", "50"})
+  public int gridSize;
+  /**
+   * The number of destinations of each transport order.
+   */
+  @Param({"1", "3"})
+  public int destinationCount;
+  /**
+   * The maximum number of routes to compute for each transport order.
+   */
+  @Param({"1", "5"})
+  public int maxRouteCount;
+
+  private BenchmarkKernel kernel;
+  private Router router;
+  private Vehicle[] vehicles;
+  private Point[] vehiclePositions;
+  private TransportOrder[] orders;
+  private int orderIndex;
+
+  /**
+   * Creates a new instance.
+   */
+  public RouterBenchmark() {
+  }
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    PlantModelGenerator generator = new PlantModelGenerator(gridSize, gridSize, VEHICLE_COUNT);
+    kernel = new BenchmarkKernel(
+        generator,
+        Map.of("defaultrouter.routeComputationLimit", String.valueOf(maxRouteCount))
+    );
+    router = kernel.getInstance(Router.class);
+    router.initialize();
+
+    TCSObjectRepository objectRepo = kernel.getInstance(TCSObjectRepository.class);
+    vehicles = new Vehicle[VEHICLE_COUNT];
+    vehiclePositions = new Point[VEHICLE_COUNT];
+    for (int i = 0; i < VEHICLE_COUNT; i++) {
+      vehicles[i] = objectRepo.getObject(Vehicle.class, generator.getVehicleName(i));
+      vehiclePositions[i] = objectRepo.getObject(
+          Point.class,
+          vehicles[i].getCurrentPosition()
+      );
+    }
+
+    TransportOrderPoolManager orderPoolManager
+        = kernel.getInstance(TransportOrderPoolManager.class);
+    Random random = new Random(42);
+    orders = new TransportOrder[ORDER_COUNT];
+    synchronized (kernel.getGlobalSyncObject()) {
+      for (int i = 0; i < ORDER_COUNT; i++) {
+        orders[i] = orderPoolManager.createTransportOrder(
+            new TransportOrderCreationTO(
+                String.format("Order-%04d", i),
+                random.ints(destinationCount, 0, generator.getPointCount())
+                    .mapToObj(
+                        pointIndex -> new DestinationCreationTO(
+                            generator.getPointName(pointIndex),
+                            DriveOrder.Destination.OP_MOVE
+                        )
+                    )
+                    .toList()
+            )
+        );
+      }
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    router.terminate();
+    kernel.close();
+  }
+
+  /**
+   * Computes routes for a transport order.
+   *
+   * @return The routes.
+   */
+  @Benchmark
+  public Set<List<Route>> getRoutesForTransportOrder() {
+    orderIndex = (orderIndex + 1) % ORDER_COUNT;
+    int vehicleIndex = orderIndex % VEHICLE_COUNT;
+    return router.getRoutes(
+        vehicles[vehicleIndex],
+        vehiclePositions[vehicleIndex],
+        orders[orderIndex],
+        maxRouteCount
+    );
+  }
+}
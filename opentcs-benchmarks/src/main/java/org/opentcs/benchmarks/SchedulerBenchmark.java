@@ -0,0 +1,182 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.benchmarks;
+
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opentcs.components.kernel.Scheduler;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.TCSResource;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.kernel.workingset.TCSObjectRepository;
+
+/**
+ * Benchmarks resource allocation by the scheduler.
+ * <p>
+ * A single client repeatedly claims the resources along a route through the plant model and
+ * allocates and frees them step by step, the same way a vehicle controller does while a vehicle
+ * moves along a route.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SchedulerBenchmark {
+
+  /**
+   * The number of rows and columns of the grid plant model.
+   */
+  @Param({"10", "50"})
+  public int gridSize;
+
+  private BenchmarkKernel kernel;
+  private Scheduler scheduler;
+  private BenchmarkClient client;
+  private List<Set<TCSResource<?>>> route;
+
+  /**
+   * Creates a new instance.
+   */
+  public SchedulerBenchmark() {
+  }
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    PlantModelGenerator generator = new PlantModelGenerator(gridSize, gridSize, 1);
+    kernel = new BenchmarkKernel(generator, Map.of());
+    scheduler = kernel.getInstance(Scheduler.class);
+    scheduler.initialize();
+
+    TCSObjectRepository objectRepo = kernel.getInstance(TCSObjectRepository.class);
+    client = new BenchmarkClient(
+        objectRepo.getObject(Vehicle.class, generator.getVehicleName(0)).getReference()
+    );
+
+    // The route leads along the first row of the grid.
+    route = new ArrayList<>();
+    for (int column = 1; column < gridSize; column++) {
+      Point srcPoint = objectRepo.getObject(Point.class, generator.getPointName(column - 1));
+      Point destPoint = objectRepo.getObject(Point.class, generator.getPointName(column));
+      Path path = objectRepo.getObject(
+          Path.class,
+          srcPoint.getName() + " --- " + destPoint.getName()
+      );
+      route.add(Set.of(path, destPoint));
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    scheduler.terminate();
+    kernel.close();
+  }
+
+  /**
+   * Claims the resources along the route and allocates and frees them step by step.
+   *
+   * @throws Exception If an allocation failed or did not complete in time.
+   */
+  @Benchmark
+  public void allocateAndFreeAlongRoute()
+      throws Exception {
+    scheduler.claim(client, route);
+    Set<TCSResource<?>> previousStep = null;
+    for (Set<TCSResource<?>> step : route) {
+      client.awaitAllocation(() -> scheduler.allocate(client, step));
+      if (previousStep != null) {
+        scheduler.free(client, previousStep);
+      }
+      previousStep = step;
+    }
+    scheduler.freeAll(client);
+  }
+
+  /**
+   * Allocates and frees the resources along the route step by step, without claiming them and
+   * without waiting for the kernel executor.
+   *
+   * @throws Exception If an allocation failed.
+   */
+  @Benchmark
+  public void allocateNowAndFreeAlongRoute()
+      throws Exception {
+    for (Set<TCSResource<?>> step : route) {
+      scheduler.allocateNow(client, step);
+      scheduler.free(client, step);
+    }
+  }
+
+  /**
+   * A scheduler client allowing to wait for allocations.
+   */
+  private static class BenchmarkClient
+      implements
+        Scheduler.Client {
+
+    private final TCSObjectReference<Vehicle> vehicleRef;
+    private volatile CompletableFuture<Set<TCSResource<?>>> pendingAllocation;
+
+    BenchmarkClient(TCSObjectReference<Vehicle> vehicleRef) {
+      this.vehicleRef = vehicleRef;
+    }
+
+    @Override
+    public String getId() {
+      return vehicleRef.getName();
+    }
+
+    @Override
+    public TCSObjectReference<Vehicle> getRelatedVehicle() {
+      return vehicleRef;
+    }
+
+    @Override
+    @Deprecated
+    public boolean allocationSuccessful(Set<TCSResource<?>> resources) {
+      return onAllocation(resources);
+    }
+
+    @Override
+    public boolean onAllocation(
+        @Nonnull
+        Set<TCSResource<?>> resources
+    ) {
+      pendingAllocation.complete(resources);
+      return true;
+    }
+
+    void awaitAllocation(Runnable allocation)
+        throws InterruptedException,
+          ExecutionException,
+          TimeoutException {
+      pendingAllocation = new CompletableFuture<>();
+      allocation.run();
+      pendingAllocation.get(10, TimeUnit.SECONDS);
+    }
+  }
+}
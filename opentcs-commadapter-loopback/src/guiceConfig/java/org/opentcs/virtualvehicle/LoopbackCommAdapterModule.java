@@ -3,7 +3,11 @@
 package org.opentcs.virtualvehicle;
 
 import com.google.inject.assistedinject.FactoryModuleBuilder;
+import jakarta.inject.Singleton;
 import org.opentcs.customizations.kernel.KernelInjectionModule;
+import org.opentcs.util.DiscreteEventScheduler;
+import org.opentcs.util.TimeProvider;
+import org.opentcs.util.VirtualTimeProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -43,6 +47,27 @@ public class LoopbackCommAdapterModule
 
     install(new FactoryModuleBuilder().build(LoopbackAdapterComponentsFactory.class));
 
+    if (configuration.simulationMode() == VirtualVehicleConfiguration.SimulationMode.VIRTUAL_TIME) {
+      LOG.info("Simulating vehicles in virtual time.");
+      // Let the whole kernel use the virtual time.
+      bind(DiscreteEventScheduler.class)
+          .toInstance(new DiscreteEventScheduler(System.currentTimeMillis()));
+      bind(TimeProvider.class)
+          .to(VirtualTimeProvider.class)
+          .in(Singleton.class);
+      bind(SimulationScheduler.class)
+          .to(VirtualTimeSimulationScheduler.class)
+          .in(Singleton.class);
+      extensionsBinderOperating().addBinding()
+          .to(SimulationKpiReporter.class)
+          .in(Singleton.class);
+    }
+    else {
+      bind(SimulationScheduler.class)
+          .to(RealTimeSimulationScheduler.class)
+          .in(Singleton.class);
+    }
+
     // tag::documentation_createCommAdapterModule[]
     vehicleCommAdaptersBinder().addBinding().to(LoopbackCommunicationAdapterFactory.class);
     // end::documentation_createCommAdapterModule[]
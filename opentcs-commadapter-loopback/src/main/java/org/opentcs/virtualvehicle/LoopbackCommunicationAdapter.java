@@ -100,7 +100,7 @@ public class LoopbackCommunicationAdapter
   /**
    * The time (in ms) of a single simulation step.
    */
-  private static final int SIMULATION_PERIOD = 100;
+  static final int SIMULATION_PERIOD = 100;
   /**
    * This instance's configuration.
    */
@@ -109,6 +109,10 @@ public class LoopbackCommunicationAdapter
    * Extracts values from maps.
    */
   private final MapValueExtractor mapValueExtractor;
+  /**
+   * Schedules the steps of the vehicle simulation.
+   */
+  private final SimulationScheduler simulationScheduler;
   /**
    * Indicates whether the vehicle simulation is running or not.
    */
@@ -133,6 +137,7 @@ public class LoopbackCommunicationAdapter
    * @param mapValueExtractor Extracts values from maps.
    * @param vehicle The vehicle this adapter is associated with.
    * @param kernelExecutor The kernel's executor.
+   * @param simulationScheduler Schedules the steps of the vehicle simulation.
    */
   @Inject
   public LoopbackCommunicationAdapter(
@@ -141,7 +146,8 @@ public class LoopbackCommunicationAdapter
       @Assisted
       Vehicle vehicle,
       @KernelExecutor
-      ScheduledExecutorService kernelExecutor
+      ScheduledExecutorService kernelExecutor,
+      SimulationScheduler simulationScheduler
   ) {
     super(
         new LoopbackVehicleModel(vehicle),
@@ -153,6 +159,7 @@ public class LoopbackCommunicationAdapter
     this.configuration = requireNonNull(configuration, "configuration");
     this.mapValueExtractor
         = requireNonNull(mapValueExtractor, "mapValueExtractor");
+    this.simulationScheduler = requireNonNull(simulationScheduler, "simulationScheduler");
   }
 
   @Override
@@ -408,8 +415,9 @@ public class LoopbackCommunicationAdapter
 
     if (step.getPath() == null) {
       LOG.debug("Starting operation simulation...");
-      getExecutor().schedule(
-          () -> operationSimulation(command, 0),
+      int operatingTime = getProcessModel().getOperatingTime();
+      simulationScheduler.scheduleStep(
+          () -> operationSimulation(command, 0, operatingTime),
           SIMULATION_PERIOD,
           TimeUnit.MILLISECONDS
       );
@@ -425,7 +433,7 @@ public class LoopbackCommunicationAdapter
       );
 
       LOG.debug("Starting movement simulation...");
-      getExecutor().schedule(
+      simulationScheduler.scheduleStep(
           () -> movementSimulation(command),
           SIMULATION_PERIOD,
           TimeUnit.MILLISECONDS
@@ -441,12 +449,16 @@ public class LoopbackCommunicationAdapter
 
   /**
    * Simulate the movement part of a MovementCommand.
+   * <p>
+   * Executed as the computation of a simulation step, i.e. possibly not by the kernel executor.
+   * </p>
    *
    * @param command The command to simulate.
+   * @return The update to be executed by the kernel executor, or {@code null}.
    */
-  private void movementSimulation(MovementCommand command) {
+  private Runnable movementSimulation(MovementCommand command) {
     if (!getProcessModel().getVelocityController().hasWayEntries()) {
-      return;
+      return null;
     }
 
     WayEntry prevWayEntry = getProcessModel().getVelocityController().getCurrentWayEntry();
@@ -454,83 +466,96 @@ public class LoopbackCommunicationAdapter
     WayEntry currentWayEntry = getProcessModel().getVelocityController().getCurrentWayEntry();
     //if we are still on the same way entry then reschedule to do it again
     if (prevWayEntry == currentWayEntry) {
-      getExecutor().schedule(
+      simulationScheduler.scheduleStep(
           () -> movementSimulation(command),
           SIMULATION_PERIOD,
           TimeUnit.MILLISECONDS
       );
+      return null;
+    }
+    //if the way enties are different then we have finished this step
+    //and we can move on.
+    return () -> finishMovementSimulation(command, prevWayEntry);
+  }
+
+  private void finishMovementSimulation(MovementCommand command, WayEntry wayEntry) {
+    getProcessModel().setPosition(wayEntry.getDestPointName());
+    LOG.debug("Movement simulation finished.");
+    if (!command.hasEmptyOperation()) {
+      LOG.debug("Starting operation simulation...");
+      int operatingTime = getProcessModel().getOperatingTime();
+      simulationScheduler.scheduleStep(
+          () -> operationSimulation(command, 0, operatingTime),
+          SIMULATION_PERIOD,
+          TimeUnit.MILLISECONDS
+      );
     }
     else {
-      //if the way enties are different then we have finished this step
-      //and we can move on.
-      getProcessModel().setPosition(prevWayEntry.getDestPointName());
-      LOG.debug("Movement simulation finished.");
-      if (!command.hasEmptyOperation()) {
-        LOG.debug("Starting operation simulation...");
-        getExecutor().schedule(
-            () -> operationSimulation(command, 0),
-            SIMULATION_PERIOD,
-            TimeUnit.MILLISECONDS
-        );
-      }
-      else {
-        finishMovementCommand(command);
-        simulateNextCommand();
-      }
+      finishMovementCommand(command);
+      simulateNextCommand();
     }
   }
 
   /**
    * Simulate the operation part of a movement command.
+   * <p>
+   * Executed as the computation of a simulation step, i.e. possibly not by the kernel executor.
+   * </p>
    *
    * @param command The command to simulate.
    * @param timePassed The amount of time passed since starting the simulation.
+   * @param operatingTime The time it takes to perform the operation.
+   * @return The update to be executed by the kernel executor, or {@code null}.
    */
-  private void operationSimulation(
+  private Runnable operationSimulation(
       MovementCommand command,
-      int timePassed
+      int timePassed,
+      int operatingTime
   ) {
-    if (timePassed < getProcessModel().getOperatingTime()) {
+    if (timePassed < operatingTime) {
       getProcessModel().getVelocityController().advanceTime(getSimulationTimeStep());
-      getExecutor().schedule(
-          () -> operationSimulation(command, timePassed + getSimulationTimeStep()),
+      simulationScheduler.scheduleStep(
+          () -> operationSimulation(command, timePassed + getSimulationTimeStep(), operatingTime),
           SIMULATION_PERIOD,
           TimeUnit.MILLISECONDS
       );
+      return null;
     }
-    else {
-      LOG.debug("Operation simulation finished.");
+    return () -> finishOperationSimulation(command);
+  }
+
+  private void finishOperationSimulation(MovementCommand command) {
+    LOG.debug("Operation simulation finished.");
+    finishMovementCommand(command);
+    String operation = command.getOperation();
+    if (operation.equals(getProcessModel().getLoadOperation())) {
+      // Update load handling devices as defined by this operation
+      getProcessModel().setLoadHandlingDevices(
+          Arrays.asList(new LoadHandlingDevice(LHD_NAME, true))
+      );
+      simulateNextCommand();
+    }
+    else if (operation.equals(getProcessModel().getUnloadOperation())) {
+      getProcessModel().setLoadHandlingDevices(
+          Arrays.asList(new LoadHandlingDevice(LHD_NAME, false))
+      );
+      simulateNextCommand();
+    }
+    else if (operation.equals(this.getRechargeOperation())) {
+      LOG.debug("Starting recharge simulation...");
       finishMovementCommand(command);
-      String operation = command.getOperation();
-      if (operation.equals(getProcessModel().getLoadOperation())) {
-        // Update load handling devices as defined by this operation
-        getProcessModel().setLoadHandlingDevices(
-            Arrays.asList(new LoadHandlingDevice(LHD_NAME, true))
-        );
-        simulateNextCommand();
-      }
-      else if (operation.equals(getProcessModel().getUnloadOperation())) {
-        getProcessModel().setLoadHandlingDevices(
-            Arrays.asList(new LoadHandlingDevice(LHD_NAME, false))
-        );
-        simulateNextCommand();
-      }
-      else if (operation.equals(this.getRechargeOperation())) {
-        LOG.debug("Starting recharge simulation...");
-        finishMovementCommand(command);
-        getProcessModel().setState(Vehicle.State.CHARGING);
-        getExecutor().schedule(
-            () -> chargingSimulation(
-                getProcessModel().getPosition(),
-                getProcessModel().getEnergyLevel()
-            ),
-            SIMULATION_PERIOD,
-            TimeUnit.MILLISECONDS
-        );
-      }
-      else {
-        simulateNextCommand();
-      }
+      getProcessModel().setState(Vehicle.State.CHARGING);
+      simulationScheduler.schedule(
+          () -> chargingSimulation(
+              getProcessModel().getPosition(),
+              getProcessModel().getEnergyLevel()
+          ),
+          SIMULATION_PERIOD,
+          TimeUnit.MILLISECONDS
+      );
+    }
+    else {
+      simulateNextCommand();
     }
   }
 
@@ -563,7 +588,7 @@ public class LoopbackCommunicationAdapter
     }
     if (nextChargePercentage(rechargePercentage) < 100.0) {
       getProcessModel().setEnergyLevel((int) rechargePercentage);
-      getExecutor().schedule(
+      simulationScheduler.schedule(
           () -> chargingSimulation(rechargePosition, nextChargePercentage(rechargePercentage)),
           SIMULATION_PERIOD,
           TimeUnit.MILLISECONDS
@@ -20,6 +20,10 @@ public class LoopbackCommunicationAdapterFactory
    * The adapter components factory.
    */
   private final LoopbackAdapterComponentsFactory adapterFactory;
+  /**
+   * Schedules the steps of the vehicle simulations.
+   */
+  private final SimulationScheduler simulationScheduler;
   /**
    * Indicates whether this component is initialized or not.
    */
@@ -29,10 +33,15 @@ public class LoopbackCommunicationAdapterFactory
    * Creates a new factory.
    *
    * @param componentsFactory The adapter components factory.
+   * @param simulationScheduler Schedules the steps of the vehicle simulations.
    */
   @Inject
-  public LoopbackCommunicationAdapterFactory(LoopbackAdapterComponentsFactory componentsFactory) {
+  public LoopbackCommunicationAdapterFactory(
+      LoopbackAdapterComponentsFactory componentsFactory,
+      SimulationScheduler simulationScheduler
+  ) {
     this.adapterFactory = requireNonNull(componentsFactory, "componentsFactory");
+    this.simulationScheduler = requireNonNull(simulationScheduler, "simulationScheduler");
   }
 
   @Override
@@ -40,6 +49,7 @@ public class LoopbackCommunicationAdapterFactory
     if (isInitialized()) {
       return;
     }
+    simulationScheduler.initialize();
     initialized = true;
   }
 
@@ -53,6 +63,7 @@ public class LoopbackCommunicationAdapterFactory
     if (!isInitialized()) {
       return;
     }
+    simulationScheduler.terminate();
     initialized = false;
   }
 
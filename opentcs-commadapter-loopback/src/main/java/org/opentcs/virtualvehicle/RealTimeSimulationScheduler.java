@@ -0,0 +1,340 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.virtualvehicle;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
+import static org.opentcs.util.Assertions.checkInRange;
+
+import jakarta.annotation.Nonnull;
+import jakarta.inject.Inject;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.opentcs.common.LoggingScheduledThreadPoolExecutor;
+import org.opentcs.customizations.kernel.KernelExecutor;
+import org.opentcs.util.logging.UncaughtExceptionLogger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Schedules the steps of vehicle simulations in real (wall-clock) time.
+ * <p>
+ * Simulation steps are not scheduled individually. Instead, time advances in ticks of a fixed
+ * period, and with each tick, the computations of all steps due are executed in one batch by a
+ * dedicated pool of simulation threads. The resulting updates are then handed over to the kernel
+ * executor in a single task, too.
+ * Delays are thus rounded up to multiples of the tick period.
+ * Ticks are only triggered while there are steps pending.
+ * </p>
+ */
+public class RealTimeSimulationScheduler
+    implements
+      SimulationScheduler {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(RealTimeSimulationScheduler.class);
+  /**
+   * The kernel's executor.
+   */
+  private final ScheduledExecutorService kernelExecutor;
+  /**
+   * The period of a tick (in ms).
+   */
+  private final long tickPeriod;
+  /**
+   * The type of threads to compute simulation steps with.
+   */
+  private final VirtualVehicleConfiguration.SimulationThreadType threadType;
+  /**
+   * The number of partitions the steps due with a tick are split into for computing them.
+   */
+  private final int parallelism;
+  /**
+   * The steps not due, yet, ordered by their due ticks.
+   */
+  private final PriorityQueue<PendingStep> pendingSteps = new PriorityQueue<>();
+  /**
+   * The number of ticks passed.
+   */
+  private long currentTick;
+  /**
+   * The sequence number to be assigned to the next scheduled step.
+   */
+  private long nextSequenceNumber;
+  /**
+   * The executor triggering ticks, while this instance is initialized.
+   */
+  private ScheduledExecutorService tickExecutor;
+  /**
+   * The executor computing simulation steps, while this instance is initialized.
+   */
+  private ExecutorService simulationExecutor;
+  /**
+   * The periodic task triggering ticks, or {@code null}, if ticks are not being triggered.
+   */
+  private ScheduledFuture<?> tickTask;
+  /**
+   * Whether this instance is initialized.
+   */
+  private boolean initialized;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param kernelExecutor The kernel's executor.
+   * @param configuration The virtual vehicle configuration.
+   */
+  @Inject
+  public RealTimeSimulationScheduler(
+      @KernelExecutor
+      ScheduledExecutorService kernelExecutor,
+      VirtualVehicleConfiguration configuration
+  ) {
+    this(
+        kernelExecutor,
+        LoopbackCommunicationAdapter.SIMULATION_PERIOD,
+        configuration.simulationThreadType(),
+        configuration.simulationThreadCount()
+    );
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param kernelExecutor The kernel's executor.
+   * @param tickPeriod The period of a tick (in ms).
+   * @param threadType The type of threads to compute simulation steps with.
+   * @param threadCount The number of platform threads to compute simulation steps with.
+   */
+  RealTimeSimulationScheduler(
+      ScheduledExecutorService kernelExecutor,
+      long tickPeriod,
+      VirtualVehicleConfiguration.SimulationThreadType threadType,
+      int threadCount
+  ) {
+    this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
+    checkArgument(tickPeriod > 0, "tickPeriod <= 0: %s", tickPeriod);
+    this.tickPeriod = tickPeriod;
+    this.threadType = requireNonNull(threadType, "threadType");
+    checkInRange(threadCount, 1, Integer.MAX_VALUE, "threadCount");
+    this.parallelism = threadType == VirtualVehicleConfiguration.SimulationThreadType.VIRTUAL
+        ? Runtime.getRuntime().availableProcessors()
+        : threadCount;
+  }
+
+  @Override
+  public synchronized void initialize() {
+    if (isInitialized()) {
+      return;
+    }
+
+    tickExecutor = new LoggingScheduledThreadPoolExecutor(
+        1,
+        newThreadFactory("loopbackSimulationTicks")
+    );
+    if (threadType == VirtualVehicleConfiguration.SimulationThreadType.VIRTUAL) {
+      simulationExecutor = Executors.newThreadPerTaskExecutor(
+          Thread.ofVirtual().name("loopbackSimulation-", 0).factory()
+      );
+    }
+    else {
+      simulationExecutor = Executors.newFixedThreadPool(
+          parallelism,
+          newThreadFactory("loopbackSimulation")
+      );
+    }
+
+    initialized = true;
+  }
+
+  @Override
+  public synchronized boolean isInitialized() {
+    return initialized;
+  }
+
+  @Override
+  public synchronized void terminate() {
+    if (!isInitialized()) {
+      return;
+    }
+
+    stopTicking();
+    pendingSteps.clear();
+    tickExecutor.shutdownNow();
+    simulationExecutor.shutdownNow();
+    tickExecutor = null;
+    simulationExecutor = null;
+
+    initialized = false;
+  }
+
+  @Override
+  public void scheduleStep(
+      @Nonnull
+      Supplier<Runnable> step,
+      long delay,
+      @Nonnull
+      TimeUnit unit
+  ) {
+    requireNonNull(step, "step");
+    requireNonNull(unit, "unit");
+
+    synchronized (this) {
+      if (!isInitialized()) {
+        LOG.debug("Not initialized, ignoring simulation step.");
+        return;
+      }
+
+      long ticks = Math.max(1, Math.ceilDiv(unit.toMillis(delay), tickPeriod));
+      pendingSteps.add(new PendingStep(currentTick + ticks, nextSequenceNumber++, step));
+
+      if (tickTask == null) {
+        tickTask = tickExecutor.scheduleAtFixedRate(
+            this::tick,
+            tickPeriod,
+            tickPeriod,
+            TimeUnit.MILLISECONDS
+        );
+      }
+    }
+  }
+
+  private void tick() {
+    List<Supplier<Runnable>> dueSteps = new ArrayList<>();
+    ExecutorService executor;
+    synchronized (this) {
+      if (!isInitialized()) {
+        return;
+      }
+
+      currentTick++;
+      while (!pendingSteps.isEmpty() && pendingSteps.peek().dueTick <= currentTick) {
+        dueSteps.add(pendingSteps.poll().step);
+      }
+      if (pendingSteps.isEmpty()) {
+        // Steps scheduled by the updates below will start ticking again.
+        stopTicking();
+      }
+      executor = simulationExecutor;
+    }
+    if (dueSteps.isEmpty()) {
+      return;
+    }
+
+    List<Runnable> updates;
+    try {
+      updates = computeSteps(dueSteps, executor);
+    }
+    catch (RejectedExecutionException exc) {
+      LOG.debug("Terminated while computing simulation steps, discarding them.");
+      return;
+    }
+    if (!updates.isEmpty()) {
+      kernelExecutor.execute(() -> applyUpdates(updates));
+    }
+  }
+
+  private void stopTicking() {
+    if (tickTask != null) {
+      tickTask.cancel(false);
+      tickTask = null;
+    }
+  }
+
+  private List<Runnable> computeSteps(
+      List<Supplier<Runnable>> steps,
+      ExecutorService executor
+  ) {
+    int partitionCount = Math.min(parallelism, steps.size());
+    int partitionSize = Math.ceilDiv(steps.size(), partitionCount);
+
+    List<CompletableFuture<List<Runnable>>> partitionResults = new ArrayList<>(partitionCount);
+    for (int i = 0; i < steps.size(); i += partitionSize) {
+      List<Supplier<Runnable>> partition
+          = steps.subList(i, Math.min(i + partitionSize, steps.size()));
+      partitionResults.add(
+          CompletableFuture.supplyAsync(() -> computePartition(partition), executor)
+      );
+    }
+
+    List<Runnable> updates = new ArrayList<>();
+    for (CompletableFuture<List<Runnable>> partitionResult : partitionResults) {
+      updates.addAll(partitionResult.join());
+    }
+    return updates;
+  }
+
+  private List<Runnable> computePartition(List<Supplier<Runnable>> steps) {
+    List<Runnable> updates = new ArrayList<>();
+    for (Supplier<Runnable> step : steps) {
+      try {
+        Runnable update = step.get();
+        if (update != null) {
+          updates.add(update);
+        }
+      }
+      catch (RuntimeException exc) {
+        LOG.warn("Exception computing simulation step", exc);
+      }
+    }
+    return updates;
+  }
+
+  private void applyUpdates(List<Runnable> updates) {
+    for (Runnable update : updates) {
+      try {
+        update.run();
+      }
+      catch (RuntimeException exc) {
+        LOG.warn("Exception applying simulation update", exc);
+      }
+    }
+  }
+
+  private static ThreadFactory newThreadFactory(String namePrefix) {
+    AtomicInteger threadNumber = new AtomicInteger();
+    return runnable -> {
+      Thread thread = new Thread(runnable, namePrefix + "-" + threadNumber.getAndIncrement());
+      thread.setDaemon(true);
+      thread.setUncaughtExceptionHandler(new UncaughtExceptionLogger(false));
+      return thread;
+    };
+  }
+
+  /**
+   * A simulation step not due, yet.
+   */
+  private static class PendingStep
+      implements
+        Comparable<PendingStep> {
+
+    private final long dueTick;
+    private final long sequenceNumber;
+    private final Supplier<Runnable> step;
+
+    PendingStep(long dueTick, long sequenceNumber, Supplier<Runnable> step) {
+      this.dueTick = dueTick;
+      this.sequenceNumber = sequenceNumber;
+      this.step = step;
+    }
+
+    @Override
+    public int compareTo(PendingStep other) {
+      int result = Long.compare(dueTick, other.dueTick);
+      return result != 0 ? result : Long.compare(sequenceNumber, other.sequenceNumber);
+    }
+  }
+}
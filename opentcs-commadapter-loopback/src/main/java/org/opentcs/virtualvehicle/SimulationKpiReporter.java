@@ -0,0 +1,236 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.virtualvehicle;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.inject.Inject;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.opentcs.components.kernel.KernelExtension;
+import org.opentcs.customizations.ApplicationEventBus;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.util.DiscreteEventScheduler;
+import org.opentcs.util.TimeProvider;
+import org.opentcs.util.event.EventHandler;
+import org.opentcs.util.event.EventSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reports key performance indicators of a simulation in virtual time, i.e. the throughput of
+ * transport orders and the latencies from their creation to their completion.
+ * <p>
+ * The indicators are logged whenever the configured interval of virtual time has passed and when
+ * this extension is terminated.
+ * </p>
+ */
+public class SimulationKpiReporter
+    implements
+      KernelExtension,
+      EventHandler {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(SimulationKpiReporter.class);
+  /**
+   * Where we register for application events.
+   */
+  private final EventSource eventSource;
+  /**
+   * Provides the (virtual) time.
+   */
+  private final TimeProvider timeProvider;
+  /**
+   * The scheduler driving the simulation.
+   */
+  private final DiscreteEventScheduler eventScheduler;
+  /**
+   * The interval (in ms of virtual time) in which the indicators are reported.
+   */
+  private final long reportInterval;
+  /**
+   * The (virtual) creation times of transport orders not finished, yet, mapped by the orders'
+   * names.
+   */
+  private final Map<String, Long> creationTimes = new HashMap<>();
+  /**
+   * The latencies of finished transport orders.
+   */
+  private long[] latencies = new long[1024];
+  /**
+   * The number of latencies recorded.
+   */
+  private int latencyCount;
+  /**
+   * The number of finished transport orders.
+   */
+  private int finishedOrders;
+  /**
+   * The number of failed transport orders.
+   */
+  private int failedOrders;
+  /**
+   * The virtual time at which this extension was initialized.
+   */
+  private long virtualStartTime;
+  /**
+   * The real time at which this extension was initialized.
+   */
+  private long realStartTime;
+  /**
+   * The virtual time at which the indicators are to be reported next.
+   */
+  private long nextReportTime;
+  /**
+   * Whether this extension is initialized.
+   */
+  private boolean initialized;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param eventSource Where we register for application events.
+   * @param timeProvider Provides the (virtual) time.
+   * @param eventScheduler The scheduler driving the simulation.
+   * @param configuration The virtual vehicle configuration.
+   */
+  @Inject
+  public SimulationKpiReporter(
+      @ApplicationEventBus
+      EventSource eventSource,
+      TimeProvider timeProvider,
+      DiscreteEventScheduler eventScheduler,
+      VirtualVehicleConfiguration configuration
+  ) {
+    this.eventSource = requireNonNull(eventSource, "eventSource");
+    this.timeProvider = requireNonNull(timeProvider, "timeProvider");
+    this.eventScheduler = requireNonNull(eventScheduler, "eventScheduler");
+    this.reportInterval = configuration.kpiReportInterval();
+  }
+
+  @Override
+  public void initialize() {
+    if (isInitialized()) {
+      return;
+    }
+
+    synchronized (this) {
+      creationTimes.clear();
+      latencyCount = 0;
+      finishedOrders = 0;
+      failedOrders = 0;
+      virtualStartTime = timeProvider.getCurrentTimeEpochMillis();
+      realStartTime = System.currentTimeMillis();
+      nextReportTime = virtualStartTime + reportInterval;
+    }
+    eventSource.subscribe(this);
+
+    initialized = true;
+  }
+
+  @Override
+  public boolean isInitialized() {
+    return initialized;
+  }
+
+  @Override
+  public void terminate() {
+    if (!isInitialized()) {
+      return;
+    }
+
+    eventSource.unsubscribe(this);
+    synchronized (this) {
+      report(timeProvider.getCurrentTimeEpochMillis());
+    }
+
+    initialized = false;
+  }
+
+  @Override
+  public synchronized void onEvent(Object event) {
+    if (!(event instanceof TCSObjectEvent objectEvent)
+        || !(objectEvent.getCurrentOrPreviousObjectState() instanceof TransportOrder)) {
+      return;
+    }
+
+    long currentTime = timeProvider.getCurrentTimeEpochMillis();
+    if (objectEvent.getType() == TCSObjectEvent.Type.OBJECT_CREATED) {
+      creationTimes.put(objectEvent.getCurrentObjectState().getName(), currentTime);
+    }
+    else if (objectEvent.getType() == TCSObjectEvent.Type.OBJECT_MODIFIED) {
+      TransportOrder order = (TransportOrder) objectEvent.getCurrentObjectState();
+      if (order.getState().isFinalState()
+          && !((TransportOrder) objectEvent.getPreviousObjectState()).getState().isFinalState()) {
+        orderCompleted(order, currentTime);
+      }
+    }
+    else {
+      creationTimes.remove(objectEvent.getPreviousObjectState().getName());
+    }
+
+    if (currentTime >= nextReportTime) {
+      report(currentTime);
+      nextReportTime = currentTime + reportInterval;
+    }
+  }
+
+  private void orderCompleted(TransportOrder order, long currentTime) {
+    Long creationTime = creationTimes.remove(order.getName());
+
+    if (order.hasState(TransportOrder.State.FAILED)) {
+      failedOrders++;
+      return;
+    }
+
+    finishedOrders++;
+    if (creationTime == null) {
+      // We didn't see the order being created, so we cannot tell its latency.
+      return;
+    }
+    if (latencyCount == latencies.length) {
+      latencies = Arrays.copyOf(latencies, latencies.length * 2);
+    }
+    latencies[latencyCount] = currentTime - creationTime;
+    latencyCount++;
+  }
+
+  private void report(long currentTime) {
+    long virtualDuration = currentTime - virtualStartTime;
+    long realDuration = Math.max(System.currentTimeMillis() - realStartTime, 1);
+    double virtualHours = (double) virtualDuration / TimeUnit.HOURS.toMillis(1);
+    long[] sortedLatencies = Arrays.copyOf(latencies, latencyCount);
+    Arrays.sort(sortedLatencies);
+
+    LOG.info(
+        "Simulated {} s in {} s (factor {}), {} events processed. "
+            + "Transport orders: {} finished ({} per hour), {} failed, {} pending. "
+            + "Latencies (ms): mean {}, median {}, 95th percentile {}, max {}",
+        TimeUnit.MILLISECONDS.toSeconds(virtualDuration),
+        TimeUnit.MILLISECONDS.toSeconds(realDuration),
+        String.format("%.1f", (double) virtualDuration / realDuration),
+        eventScheduler.getProcessedEventCount(),
+        finishedOrders,
+        virtualHours > 0 ? String.format("%.1f", finishedOrders / virtualHours) : "-",
+        failedOrders,
+        creationTimes.size(),
+        latencyCount > 0 ? Arrays.stream(sortedLatencies).sum() / latencyCount : 0,
+        percentile(sortedLatencies, 0.5),
+        percentile(sortedLatencies, 0.95),
+        percentile(sortedLatencies, 1.0)
+    );
+  }
+
+  private long percentile(long[] sortedValues, double percentile) {
+    if (sortedValues.length == 0) {
+      return 0;
+    }
+    int index = (int) Math.ceil(percentile * sortedValues.length) - 1;
+    return sortedValues[Math.max(index, 0)];
+  }
+}
@@ -0,0 +1,57 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.virtualvehicle;
+
+import jakarta.annotation.Nonnull;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.opentcs.components.Lifecycle;
+
+/**
+ * Schedules the steps of vehicle simulations.
+ * <p>
+ * A simulation step consists of a computation, which implementations may execute with a thread of
+ * their own, and an optional update resulting from it, which is always executed using the kernel
+ * executor. Computations must therefore not access the kernel's state or a vehicle's process model,
+ * while updates may do so.
+ * Implementations may differ in how the passing of time is simulated.
+ * Steps scheduled while the scheduler is not initialized are ignored.
+ * </p>
+ */
+public interface SimulationScheduler
+    extends
+      Lifecycle {
+
+  /**
+   * Schedules a simulation step.
+   *
+   * @param step The step's computation, returning the update to be executed using the kernel
+   * executor, or {@code null}, if there is nothing to be updated.
+   * @param delay The (simulated) delay after which the step is to be executed.
+   * @param unit The delay's time unit.
+   */
+  void scheduleStep(
+      @Nonnull
+      Supplier<Runnable> step,
+      long delay,
+      @Nonnull
+      TimeUnit unit
+  );
+
+  /**
+   * Schedules a task to be executed using the kernel executor.
+   *
+   * @param task The task to be executed.
+   * @param delay The (simulated) delay after which the task is to be executed.
+   * @param unit The delay's time unit.
+   */
+  default void schedule(
+      @Nonnull
+      Runnable task,
+      long delay,
+      @Nonnull
+      TimeUnit unit
+  ) {
+    scheduleStep(() -> task, delay, unit);
+  }
+}
@@ -15,6 +15,10 @@ import org.slf4j.LoggerFactory;
 /**
  * Simulates the velocity of a vehicle depending on the length of the way and
  * the time it has moved already.
+ * <p>
+ * Instances of this class are thread-safe, as the simulation may be advanced by a thread other
+ * than the one adding way entries or changing the vehicle's parameters.
+ * </p>
  */
 public class VelocityController {
 
@@ -93,7 +97,7 @@ public class VelocityController {
    *
    * @return The maximum deceleration
    */
-  public int getMaxDeceleration() {
+  public synchronized int getMaxDeceleration() {
     return maxDeceleration;
   }
 
@@ -102,7 +106,7 @@ public class VelocityController {
    *
    * @param maxDeceleration The new maximum deceleration
    */
-  public void setMaxDeceleration(int maxDeceleration) {
+  public synchronized void setMaxDeceleration(int maxDeceleration) {
     this.maxDeceleration = maxDeceleration;
   }
 
@@ -111,7 +115,7 @@ public class VelocityController {
    *
    * @return The maximum acceleration
    */
-  public int getMaxAcceleration() {
+  public synchronized int getMaxAcceleration() {
     return maxAcceleration;
   }
 
@@ -120,7 +124,7 @@ public class VelocityController {
    *
    * @param maxAcceleration The new maximum acceleration
    */
-  public void setMaxAcceleration(int maxAcceleration) {
+  public synchronized void setMaxAcceleration(int maxAcceleration) {
     this.maxAcceleration = maxAcceleration;
   }
 
@@ -129,7 +133,7 @@ public class VelocityController {
    *
    * @return The maximum reverse velocity
    */
-  public int getMaxRevVelocity() {
+  public synchronized int getMaxRevVelocity() {
     return maxRevVelocity;
   }
 
@@ -138,7 +142,7 @@ public class VelocityController {
    *
    * @param maxRevVelocity The new maximum reverse velocity
    */
-  public void setMaxRevVelocity(int maxRevVelocity) {
+  public synchronized void setMaxRevVelocity(int maxRevVelocity) {
     this.maxRevVelocity = maxRevVelocity;
   }
 
@@ -147,7 +151,7 @@ public class VelocityController {
    *
    * @return The maximum forward velocity
    */
-  public int getMaxFwdVelocity() {
+  public synchronized int getMaxFwdVelocity() {
     return maxFwdVelocity;
   }
 
@@ -156,7 +160,7 @@ public class VelocityController {
    *
    * @param maxFwdVelocity The new maximum forward velocity
    */
-  public void setMaxFwdVelocity(int maxFwdVelocity) {
+  public synchronized void setMaxFwdVelocity(int maxFwdVelocity) {
     this.maxFwdVelocity = maxFwdVelocity;
   }
 
@@ -165,7 +169,7 @@ public class VelocityController {
    *
    * @return paused
    */
-  public boolean isVehiclePaused() {
+  public synchronized boolean isVehiclePaused() {
     return paused;
   }
 
@@ -174,7 +178,7 @@ public class VelocityController {
    *
    * @param pause True, if vehicle shall be paused. False, otherwise.
    */
-  public void setVehiclePaused(boolean pause) {
+  public synchronized void setVehiclePaused(boolean pause) {
     paused = pause;
   }
 
@@ -183,7 +187,7 @@ public class VelocityController {
    *
    * @return This controller's current velocity.
    */
-  public int getCurrentVelocity() {
+  public synchronized int getCurrentVelocity() {
     return currentVelocity;
   }
 
@@ -194,7 +198,7 @@ public class VelocityController {
    * @return The vehicle's current position (in mm from the beginning of the
    * current way entry.
    */
-  public long getCurrentPosition() {
+  public synchronized long getCurrentPosition() {
     return currentPosition;
   }
 
@@ -205,7 +209,7 @@ public class VelocityController {
    * @return The current time, relative to to the point of time at which this
    * controller was started.
    */
-  public long getCurrentTime() {
+  public synchronized long getCurrentTime() {
     return currentTime;
   }
 
@@ -214,7 +218,7 @@ public class VelocityController {
    *
    * @param newEntry The way entry to add.
    */
-  public void addWayEntry(WayEntry newEntry) {
+  public synchronized void addWayEntry(WayEntry newEntry) {
     requireNonNull(newEntry, "newEntry");
 
     wayEntries.add(newEntry);
@@ -226,7 +230,7 @@ public class VelocityController {
    * @return The way entry this velocity controller is currently processing. If
    * the processing queue is currently empty, <code>null</code> is returned.
    */
-  public WayEntry getCurrentWayEntry() {
+  public synchronized WayEntry getCurrentWayEntry() {
     return wayEntries.peek();
   }
 
@@ -237,7 +241,7 @@ public class VelocityController {
    * @return <code>true</code> if, and only if, there are way entries to be
    * processed in this velocity controller's queue.
    */
-  public boolean hasWayEntries() {
+  public synchronized boolean hasWayEntries() {
     return !wayEntries.isEmpty();
   }
 
@@ -248,7 +252,7 @@ public class VelocityController {
    * @param dt The time by which to advance this controller (in milliseconds).
    * Must be at least 1.
    */
-  public void advanceTime(int dt) {
+  public synchronized void advanceTime(int dt) {
     checkArgument(dt >= 1, "dt is less than 1: %d", dt);
 
     final long oldPosition = currentPosition;
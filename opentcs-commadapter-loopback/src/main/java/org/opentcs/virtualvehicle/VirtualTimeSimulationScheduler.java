@@ -0,0 +1,135 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.virtualvehicle;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.inject.Inject;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.opentcs.customizations.kernel.KernelExecutor;
+import org.opentcs.util.DiscreteEventScheduler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Schedules the steps of vehicle simulations in virtual time.
+ * <p>
+ * While there are simulation steps pending, the virtual time is advanced to the next step's due
+ * time and the due steps are executed, one point in time after the other, as fast as possible.
+ * Each point in time is handled by a separate task submitted to the kernel executor, so the kernel
+ * can react to the effects of the simulation steps (e.g. finished movement commands) before virtual
+ * time advances any further.
+ * </p>
+ */
+public class VirtualTimeSimulationScheduler
+    implements
+      SimulationScheduler {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(VirtualTimeSimulationScheduler.class);
+  /**
+   * The scheduler providing the virtual time.
+   */
+  private final DiscreteEventScheduler eventScheduler;
+  /**
+   * The kernel's executor.
+   */
+  private final ScheduledExecutorService kernelExecutor;
+  /**
+   * Whether a task advancing the virtual time is currently submitted to the kernel executor.
+   */
+  private boolean advancing;
+  /**
+   * Whether this instance is initialized.
+   */
+  private boolean initialized;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param eventScheduler The scheduler providing the virtual time.
+   * @param kernelExecutor The kernel's executor.
+   */
+  @Inject
+  public VirtualTimeSimulationScheduler(
+      DiscreteEventScheduler eventScheduler,
+      @KernelExecutor
+      ScheduledExecutorService kernelExecutor
+  ) {
+    this.eventScheduler = requireNonNull(eventScheduler, "eventScheduler");
+    this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
+  }
+
+  @Override
+  public synchronized void initialize() {
+    initialized = true;
+  }
+
+  @Override
+  public synchronized boolean isInitialized() {
+    return initialized;
+  }
+
+  @Override
+  public synchronized void terminate() {
+    // Any task advancing the virtual time stops with its next run.
+    initialized = false;
+  }
+
+  @Override
+  public void scheduleStep(
+      @Nonnull
+      Supplier<Runnable> step,
+      long delay,
+      @Nonnull
+      TimeUnit unit
+  ) {
+    requireNonNull(step, "step");
+
+    if (!isInitialized()) {
+      LOG.debug("Not initialized, ignoring simulation step.");
+      return;
+    }
+
+    // Computation and update are both executed using the kernel executor here, keeping the
+    // simulation deterministic.
+    eventScheduler.schedule(
+        () -> {
+          Runnable update = step.get();
+          if (update != null) {
+            update.run();
+          }
+        },
+        delay,
+        unit
+    );
+
+    synchronized (this) {
+      if (advancing) {
+        return;
+      }
+      advancing = true;
+    }
+    kernelExecutor.execute(this::advance);
+  }
+
+  private void advance() {
+    if (isInitialized()) {
+      eventScheduler.processNextEvents();
+    }
+
+    synchronized (this) {
+      if (!initialized || !eventScheduler.hasPendingEvents()) {
+        advancing = false;
+        return;
+      }
+    }
+    // Let the kernel process the tasks submitted in the meantime before advancing any further.
+    kernelExecutor.execute(this::advance);
+  }
+}
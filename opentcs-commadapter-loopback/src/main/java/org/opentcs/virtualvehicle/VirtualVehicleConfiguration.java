@@ -74,4 +74,82 @@ public interface VirtualVehicleConfiguration {
       orderKey = "2_behaviour_3"
   )
   int vehicleLengthUnloaded();
+
+  @ConfigurationEntry(
+      type = "String",
+      description = {
+          "How the passing of time is simulated.",
+          "REAL_TIME: Simulation steps are executed in (wall-clock) real time.",
+          "VIRTUAL_TIME: Simulation steps are executed in virtual time, as fast as possible. The "
+              + "kernel's clock then provides the virtual time, too. Intended for headless load "
+              + "tests only."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "3_simulation_1"
+  )
+  SimulationMode simulationMode();
+
+  @ConfigurationEntry(
+      type = "Long",
+      description = {
+          "The interval (in ms of virtual time) in which key performance indicators of the "
+              + "simulation are reported.",
+          "Applies only when simulating in virtual time."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "3_simulation_2"
+  )
+  long kpiReportInterval();
+
+  @ConfigurationEntry(
+      type = "String",
+      description = {
+          "The type of threads computing the vehicle simulation steps when simulating in real time.",
+          "PLATFORM: A fixed number of platform threads.",
+          "VIRTUAL: Virtual threads."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "3_simulation_3"
+  )
+  SimulationThreadType simulationThreadType();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+          "The number of platform threads computing the vehicle simulation steps when simulating "
+              + "in real time.",
+          "Applies only to threads of type PLATFORM."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "3_simulation_4"
+  )
+  int simulationThreadCount();
+
+  /**
+   * Defines how the passing of time is simulated.
+   */
+  enum SimulationMode {
+    /**
+     * Simulation steps are executed in (wall-clock) real time.
+     */
+    REAL_TIME,
+    /**
+     * Simulation steps are executed in virtual time, as fast as possible.
+     */
+    VIRTUAL_TIME;
+  }
+
+  /**
+   * Defines the types of threads computing the vehicle simulation steps.
+   */
+  enum SimulationThreadType {
+    /**
+     * A fixed number of platform threads.
+     */
+    PLATFORM,
+    /**
+     * Virtual threads.
+     */
+    VIRTUAL;
+  }
 }
@@ -0,0 +1,140 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.virtualvehicle;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link RealTimeSimulationScheduler}.
+ */
+class RealTimeSimulationSchedulerTest {
+
+  private static final String KERNEL_THREAD_NAME = "kernelExecutor";
+
+  private ScheduledExecutorService kernelExecutor;
+  private RealTimeSimulationScheduler scheduler;
+
+  @BeforeEach
+  void setUp() {
+    kernelExecutor = Executors.newSingleThreadScheduledExecutor(
+        runnable -> new Thread(runnable, KERNEL_THREAD_NAME)
+    );
+    scheduler = new RealTimeSimulationScheduler(
+        kernelExecutor,
+        10,
+        VirtualVehicleConfiguration.SimulationThreadType.PLATFORM,
+        2
+    );
+    scheduler.initialize();
+  }
+
+  @AfterEach
+  void tearDown() {
+    scheduler.terminate();
+    kernelExecutor.shutdownNow();
+  }
+
+  @Test
+  void computeStepsWithSimulationThreadsAndApplyUpdatesWithKernelExecutor()
+      throws InterruptedException {
+    List<String> computingThreads = Collections.synchronizedList(new ArrayList<>());
+    List<String> updatingThreads = Collections.synchronizedList(new ArrayList<>());
+    CountDownLatch latch = new CountDownLatch(1);
+
+    scheduler.scheduleStep(
+        () -> {
+          computingThreads.add(Thread.currentThread().getName());
+          return () -> {
+            updatingThreads.add(Thread.currentThread().getName());
+            latch.countDown();
+          };
+        },
+        10,
+        TimeUnit.MILLISECONDS
+    );
+
+    assertThat(latch.await(1, TimeUnit.SECONDS), is(true));
+    assertThat(computingThreads.getFirst().startsWith("loopbackSimulation-"), is(true));
+    assertThat(updatingThreads, contains(KERNEL_THREAD_NAME));
+  }
+
+  @Test
+  void applyUpdatesOfStepsDueWithSameTickInOrderOfScheduling()
+      throws InterruptedException {
+    List<Integer> updates = Collections.synchronizedList(new ArrayList<>());
+    CountDownLatch latch = new CountDownLatch(5);
+
+    for (int i = 0; i < 5; i++) {
+      int stepNumber = i;
+      scheduler.scheduleStep(
+          () -> () -> {
+            updates.add(stepNumber);
+            latch.countDown();
+          },
+          10,
+          TimeUnit.MILLISECONDS
+      );
+    }
+
+    assertThat(latch.await(1, TimeUnit.SECONDS), is(true));
+    assertThat(updates, contains(0, 1, 2, 3, 4));
+  }
+
+  @Test
+  void skipStepsWithoutUpdates()
+      throws InterruptedException {
+    CountDownLatch latch = new CountDownLatch(1);
+
+    scheduler.scheduleStep(() -> null, 10, TimeUnit.MILLISECONDS);
+    scheduler.schedule(latch::countDown, 20, TimeUnit.MILLISECONDS);
+
+    assertThat(latch.await(1, TimeUnit.SECONDS), is(true));
+  }
+
+  @Test
+  void discardPendingStepsOnTermination()
+      throws InterruptedException {
+    CountDownLatch latch = new CountDownLatch(1);
+    scheduler.schedule(latch::countDown, 100, TimeUnit.MILLISECONDS);
+
+    scheduler.terminate();
+
+    assertThat(latch.await(300, TimeUnit.MILLISECONDS), is(false));
+  }
+
+  @Test
+  void ignoreStepsScheduledAfterTermination()
+      throws InterruptedException {
+    scheduler.terminate();
+
+    CountDownLatch latch = new CountDownLatch(1);
+    scheduler.schedule(latch::countDown, 10, TimeUnit.MILLISECONDS);
+
+    assertThat(latch.await(100, TimeUnit.MILLISECONDS), is(false));
+  }
+
+  @Test
+  void resumeSchedulingAfterReinitialization()
+      throws InterruptedException {
+    scheduler.terminate();
+    scheduler.initialize();
+
+    CountDownLatch latch = new CountDownLatch(1);
+    scheduler.schedule(latch::countDown, 10, TimeUnit.MILLISECONDS);
+
+    assertThat(latch.await(1, TimeUnit.SECONDS), is(true));
+  }
+}
@@ -0,0 +1,67 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.common.metrics;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A monotonically increasing count.
+ * <p>
+ * Instances of this class are thread-safe. While the registry they belong to is disabled,
+ * increments are ignored.
+ * </p>
+ */
+public class Counter {
+
+  /**
+   * The registry this counter belongs to.
+   */
+  private final MetricsRegistry registry;
+  /**
+   * The count.
+   */
+  private final LongAdder count = new LongAdder();
+
+  /**
+   * Creates a new instance.
+   *
+   * @param registry The registry this counter belongs to.
+   */
+  Counter(MetricsRegistry registry) {
+    this.registry = requireNonNull(registry, "registry");
+  }
+
+  /**
+   * Increments the count by one.
+   */
+  public void increment() {
+    if (registry.isEnabled()) {
+      count.increment();
+    }
+  }
+
+  /**
+   * Increments the count by the given amount.
+   *
+   * @param amount The amount. Must not be negative.
+   */
+  public void increment(long amount) {
+    checkArgument(amount >= 0, "amount < 0: %s", amount);
+
+    if (registry.isEnabled()) {
+      count.add(amount);
+    }
+  }
+
+  /**
+   * Returns the count.
+   *
+   * @return The count.
+   */
+  public long getCount() {
+    return count.sum();
+  }
+}
@@ -0,0 +1,129 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.common.metrics;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts observed values in buckets with fixed upper bounds, and keeps track of their sum.
+ * <p>
+ * Instances of this class are thread-safe. While the registry they belong to is disabled,
+ * observations are ignored.
+ * </p>
+ */
+public class Histogram {
+
+  /**
+   * The registry this histogram belongs to.
+   */
+  private final MetricsRegistry registry;
+  /**
+   * The (inclusive) upper bounds of the buckets, in ascending order.
+   */
+  private final double[] upperBounds;
+  /**
+   * The number of observations per bucket, with an additional last bucket for observations
+   * exceeding the greatest upper bound.
+   */
+  private final LongAdder[] bucketCounts;
+  /**
+   * The sum of all observed values.
+   */
+  private final DoubleAdder sum = new DoubleAdder();
+
+  /**
+   * Creates a new instance.
+   *
+   * @param registry The registry this histogram belongs to.
+   * @param upperBounds The (inclusive) upper bounds of the buckets, in strictly ascending order.
+   */
+  Histogram(MetricsRegistry registry, double[] upperBounds) {
+    this.registry = requireNonNull(registry, "registry");
+    requireNonNull(upperBounds, "upperBounds");
+    checkArgument(upperBounds.length > 0, "No bucket upper bounds given");
+    for (int i = 1; i < upperBounds.length; i++) {
+      checkArgument(
+          upperBounds[i - 1] < upperBounds[i],
+          "Bucket upper bounds not in strictly ascending order: %s",
+          Arrays.toString(upperBounds)
+      );
+    }
+
+    this.upperBounds = upperBounds.clone();
+    this.bucketCounts = new LongAdder[upperBounds.length + 1];
+    for (int i = 0; i < bucketCounts.length; i++) {
+      bucketCounts[i] = new LongAdder();
+    }
+  }
+
+  /**
+   * Records the given value.
+   *
+   * @param value The value.
+   */
+  public void observe(double value) {
+    if (!registry.isEnabled()) {
+      return;
+    }
+
+    int bucket = 0;
+    while (bucket < upperBounds.length && value > upperBounds[bucket]) {
+      bucket++;
+    }
+    bucketCounts[bucket].increment();
+    sum.add(value);
+  }
+
+  /**
+   * Returns the (inclusive) upper bounds of the buckets, in ascending order.
+   *
+   * @return The upper bounds of the buckets.
+   */
+  public double[] getUpperBounds() {
+    return upperBounds.clone();
+  }
+
+  /**
+   * Returns the cumulative number of observations per bucket, i.e. for every bucket the number of
+   * observed values less than or equal to its upper bound.
+   * The last element is the total number of observations.
+   *
+   * @return The cumulative number of observations per bucket.
+   */
+  public long[] getCumulativeCounts() {
+    long[] result = new long[bucketCounts.length];
+    long total = 0;
+    for (int i = 0; i < bucketCounts.length; i++) {
+      total += bucketCounts[i].sum();
+      result[i] = total;
+    }
+    return result;
+  }
+
+  /**
+   * Returns the total number of observations.
+   *
+   * @return The total number of observations.
+   */
+  public long getCount() {
+    long total = 0;
+    for (LongAdder bucketCount : bucketCounts) {
+      total += bucketCount.sum();
+    }
+    return total;
+  }
+
+  /**
+   * Returns the sum of all observed values.
+   *
+   * @return The sum of all observed values.
+   */
+  public double getSum() {
+    return sum.sum();
+  }
+}
@@ -0,0 +1,407 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.common.metrics;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
+
+import jakarta.annotation.Nonnull;
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Creates and keeps metrics (counters, histograms, timers and gauges) and provides their current
+ * values.
+ * <p>
+ * Metrics are identified by a name and an optional set of labels. Requesting a metric with the
+ * same name and labels again returns the same instance, so it is fine to request metrics with
+ * labels that are only known at runtime. Metrics with static labels should still be requested
+ * once and kept in a field, though.
+ * </p>
+ * <p>
+ * A registry can be enabled or disabled at runtime. While it is disabled, its metrics ignore all
+ * updates, keeping the overhead of instrumented code to a (volatile) read of a flag.
+ * </p>
+ * <p>
+ * Instances of this class are thread-safe.
+ * </p>
+ */
+public class MetricsRegistry {
+
+  /**
+   * The default upper bounds (in seconds) of buckets for timers.
+   */
+  public static final double[] DEFAULT_TIMER_BUCKETS = {
+      0.0005, 0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10
+  };
+  /**
+   * The pattern valid metric and label names must match.
+   */
+  private static final Pattern NAME_PATTERN = Pattern.compile("[a-zA-Z_][a-zA-Z0-9_]*");
+  /**
+   * The metric families, mapped by metric name.
+   */
+  private final ConcurrentMap<String, Family> families = new ConcurrentHashMap<>();
+  /**
+   * Whether this registry is enabled.
+   */
+  private volatile boolean enabled;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param enabled Whether the registry is initially enabled.
+   */
+  public MetricsRegistry(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  /**
+   * Indicates whether this registry is enabled, i.e. whether its metrics record updates.
+   *
+   * @return {@code true} if, and only if, this registry is enabled.
+   */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Enables or disables this registry.
+   * Values recorded so far are kept when the registry is disabled.
+   *
+   * @param enabled Whether to enable this registry.
+   */
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  /**
+   * Returns the counter with the given name and labels, creating it if necessary.
+   *
+   * @param name The counter's name. By convention, it should end with {@code _total}.
+   * @param help A description of the counter.
+   * @param labels The counter's labels, given as alternating label names and values.
+   * @return The counter.
+   * @throws IllegalArgumentException If the name or labels are invalid or if there already is a
+   * metric of a different type with the given name.
+   */
+  @Nonnull
+  public Counter counter(
+      @Nonnull
+      String name,
+      @Nonnull
+      String help,
+      @Nonnull
+      String... labels
+  )
+      throws IllegalArgumentException {
+    return (Counter) family(name, help, Type.COUNTER)
+        .metric(labels, labelString -> new Counter(this));
+  }
+
+  /**
+   * Returns the histogram with the given name and labels, creating it if necessary.
+   *
+   * @param name The histogram's name.
+   * @param help A description of the histogram.
+   * @param upperBounds The (inclusive) upper bounds of the histogram's buckets, in strictly
+   * ascending order. Only used if the histogram is created.
+   * @param labels The histogram's labels, given as alternating label names and values.
+   * @return The histogram.
+   * @throws IllegalArgumentException If the name, upper bounds or labels are invalid or if there
+   * already is a metric of a different type with the given name.
+   */
+  @Nonnull
+  public Histogram histogram(
+      @Nonnull
+      String name,
+      @Nonnull
+      String help,
+      @Nonnull
+      double[] upperBounds,
+      @Nonnull
+      String... labels
+  )
+      throws IllegalArgumentException {
+    requireNonNull(upperBounds, "upperBounds");
+
+    return (Histogram) family(name, help, Type.HISTOGRAM)
+        .metric(labels, labelString -> new Histogram(this, upperBounds));
+  }
+
+  /**
+   * Returns the timer with the given name and labels, creating it if necessary.
+   * Timers record durations in seconds, using {@link #DEFAULT_TIMER_BUCKETS}.
+   *
+   * @param name The timer's name. By convention, it should end with {@code _seconds}.
+   * @param help A description of the timer.
+   * @param labels The timer's labels, given as alternating label names and values.
+   * @return The timer.
+   * @throws IllegalArgumentException If the name or labels are invalid or if there already is a
+   * metric of a different type with the given name.
+   */
+  @Nonnull
+  public Timer timer(
+      @Nonnull
+      String name,
+      @Nonnull
+      String help,
+      @Nonnull
+      String... labels
+  )
+      throws IllegalArgumentException {
+    return (Timer) family(name, help, Type.TIMER)
+        .metric(
+            labels,
+            labelString -> new Timer(this, new Histogram(this, DEFAULT_TIMER_BUCKETS))
+        );
+  }
+
+  /**
+   * Registers gauges with the given name, whose current values are requested from the given
+   * supplier whenever samples are collected.
+   * <p>
+   * Each entry of the map provided by the supplier yields one gauge, labeled with the given label
+   * name and the entry's key. This allows gauges to be provided for a set of objects that changes
+   * at runtime. Registering gauges with the same name again replaces the supplier.
+   * </p>
+   *
+   * @param name The gauges' name.
+   * @param help A description of the gauges.
+   * @param labelName The name of the label distinguishing the gauges.
+   * @param values Provides the gauges' current values, mapped by label values.
+   * @throws IllegalArgumentException If the name or label name are invalid or if there already is
+   * a metric of a different type with the given name.
+   */
+  public void gauges(
+      @Nonnull
+      String name,
+      @Nonnull
+      String help,
+      @Nonnull
+      String labelName,
+      @Nonnull
+      Supplier<Map<String, Double>> values
+  )
+      throws IllegalArgumentException {
+    requireNonNull(values, "values");
+    labelString(new String[]{labelName, ""});
+
+    Family family = family(name, help, Type.GAUGE);
+    family.gaugeLabelName = labelName;
+    family.gaugeValues = values;
+  }
+
+  /**
+   * Returns the current values of all metrics.
+   * <p>
+   * The values are mapped by sample names as they appear in the Prometheus text format, e.g.
+   * {@code dispatcher_assignments_total{type="assigned"}} for a counter or
+   * {@code dispatcher_phase_duration_seconds_count{phase="AssignFreeOrdersPhase"}} for the number
+   * of observations of a timer.
+   * </p>
+   *
+   * @return The current values of all metrics, sorted by sample name.
+   */
+  @Nonnull
+  public SortedMap<String, Double> getSamples() {
+    SortedMap<String, Double> result = new TreeMap<>();
+    for (Family family : families.values()) {
+      family.collectSamples(result);
+    }
+    return result;
+  }
+
+  /**
+   * Returns the current values of all metrics in the Prometheus text-based exposition format
+   * (version 0.0.4).
+   *
+   * @return The current values of all metrics in the Prometheus text format.
+   */
+  @Nonnull
+  public String toPrometheusText() {
+    StringBuilder result = new StringBuilder();
+    for (Family family : new TreeMap<>(families).values()) {
+      result.append("# HELP ").append(family.name).append(' ')
+          .append(escapeHelp(family.help)).append('\n');
+      result.append("# TYPE ").append(family.name).append(' ')
+          .append(typeName(family.type)).append('\n');
+
+      // Keep the samples of each metric (e.g. the buckets of a histogram) in their natural order.
+      Map<String, Double> samples = new LinkedHashMap<>();
+      family.collectSamples(samples);
+      for (Map.Entry<String, Double> sample : samples.entrySet()) {
+        result.append(sample.getKey()).append(' ')
+            .append(formatValue(sample.getValue())).append('\n');
+      }
+    }
+    return result.toString();
+  }
+
+  private Family family(String name, String help, Type type) {
+    requireNonNull(name, "name");
+    requireNonNull(help, "help");
+    checkArgument(NAME_PATTERN.matcher(name).matches(), "Invalid metric name: %s", name);
+
+    Family family = families.computeIfAbsent(name, key -> new Family(name, help, type));
+    checkArgument(
+        family.type == type,
+        "Metric '%s' already registered as %s, not %s",
+        name,
+        family.type,
+        type
+    );
+    return family;
+  }
+
+  private static String typeName(Type type) {
+    return switch (type) {
+      case COUNTER -> "counter";
+      case GAUGE -> "gauge";
+      case HISTOGRAM, TIMER -> "histogram";
+    };
+  }
+
+  private static String labelString(String[] labels) {
+    requireNonNull(labels, "labels");
+    checkArgument(labels.length % 2 == 0, "Labels not given as name-value pairs");
+
+    StringBuilder result = new StringBuilder();
+    for (int i = 0; i < labels.length; i += 2) {
+      requireNonNull(labels[i], "label name");
+      requireNonNull(labels[i + 1], "label value");
+      checkArgument(
+          NAME_PATTERN.matcher(labels[i]).matches() && !labels[i].equals("le"),
+          "Invalid label name: %s",
+          labels[i]
+      );
+
+      if (i > 0) {
+        result.append(',');
+      }
+      result.append(labels[i]).append("=\"").append(escapeLabelValue(labels[i + 1])).append('"');
+    }
+    return result.toString();
+  }
+
+  private static String sampleName(String name, String labelString, String extraLabel) {
+    if (labelString.isEmpty() && extraLabel == null) {
+      return name;
+    }
+
+    StringBuilder result = new StringBuilder(name).append('{').append(labelString);
+    if (extraLabel != null) {
+      if (!labelString.isEmpty()) {
+        result.append(',');
+      }
+      result.append(extraLabel);
+    }
+    return result.append('}').toString();
+  }
+
+  private static String escapeLabelValue(String value) {
+    return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+  }
+
+  private static String escapeHelp(String help) {
+    return help.replace("\\", "\\\\").replace("\n", "\\n");
+  }
+
+  private static String formatValue(double value) {
+    if (Double.isNaN(value)) {
+      return "NaN";
+    }
+    if (Double.isInfinite(value)) {
+      return value > 0 ? "+Inf" : "-Inf";
+    }
+    if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+      return Long.toString((long) value);
+    }
+    return BigDecimal.valueOf(value).stripTrailingZeros().toPlainString();
+  }
+
+  /**
+   * The types of metrics.
+   */
+  private enum Type {
+    COUNTER,
+    HISTOGRAM,
+    TIMER,
+    GAUGE
+  }
+
+  /**
+   * All metrics with the same name, mapped by their label strings.
+   */
+  private static class Family {
+
+    private final String name;
+    private final String help;
+    private final Type type;
+    private final ConcurrentMap<String, Object> metrics = new ConcurrentHashMap<>();
+    private volatile String gaugeLabelName;
+    private volatile Supplier<Map<String, Double>> gaugeValues;
+
+    Family(String name, String help, Type type) {
+      this.name = name;
+      this.help = help;
+      this.type = type;
+    }
+
+    Object metric(String[] labels, Function<String, Object> factory) {
+      return metrics.computeIfAbsent(labelString(labels), factory);
+    }
+
+    void collectSamples(Map<String, Double> samples) {
+      Supplier<Map<String, Double>> values = gaugeValues;
+      if (values != null) {
+        for (Map.Entry<String, Double> entry : new TreeMap<>(values.get()).entrySet()) {
+          samples.put(
+              sampleName(name, labelString(new String[]{gaugeLabelName, entry.getKey()}), null),
+              entry.getValue()
+          );
+        }
+      }
+      for (Map.Entry<String, Object> entry : new TreeMap<>(metrics).entrySet()) {
+        if (entry.getValue() instanceof Counter counter) {
+          samples.put(sampleName(name, entry.getKey(), null), (double) counter.getCount());
+        }
+        else if (entry.getValue() instanceof Histogram histogram) {
+          collectHistogramSamples(entry.getKey(), histogram, samples);
+        }
+        else if (entry.getValue() instanceof Timer timer) {
+          collectHistogramSamples(entry.getKey(), timer.getHistogram(), samples);
+        }
+      }
+    }
+
+    private void collectHistogramSamples(
+        String labelString,
+        Histogram histogram,
+        Map<String, Double> samples
+    ) {
+      double[] upperBounds = histogram.getUpperBounds();
+      long[] cumulativeCounts = histogram.getCumulativeCounts();
+      for (int i = 0; i < cumulativeCounts.length; i++) {
+        String upperBound = i < upperBounds.length ? formatValue(upperBounds[i]) : "+Inf";
+        samples.put(
+            sampleName(name + "_bucket", labelString, "le=\"" + upperBound + "\""),
+            (double) cumulativeCounts[i]
+        );
+      }
+      samples.put(sampleName(name + "_sum", labelString, null), histogram.getSum());
+      samples.put(
+          sampleName(name + "_count", labelString, null),
+          (double) cumulativeCounts[cumulativeCounts.length - 1]
+      );
+    }
+  }
+}
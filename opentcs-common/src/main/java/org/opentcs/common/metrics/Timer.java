@@ -0,0 +1,89 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.common.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Measures durations and records them (in seconds) with a {@link Histogram}.
+ * <p>
+ * Usage:
+ * </p>
+ * <pre>
+ * long start = timer.start();
+ * try {
+ *   ...
+ * }
+ * finally {
+ *   timer.stop(start);
+ * }
+ * </pre>
+ * <p>
+ * While the registry this timer belongs to is disabled, {@link #start()} does not read the system
+ * clock, and the corresponding call to {@link #stop(long)} is ignored.
+ * </p>
+ */
+public class Timer {
+
+  /**
+   * The value returned by {@link #start()} while the registry is disabled.
+   */
+  private static final long NOT_STARTED = Long.MIN_VALUE;
+  /**
+   * The registry this timer belongs to.
+   */
+  private final MetricsRegistry registry;
+  /**
+   * Records the measured durations.
+   */
+  private final Histogram histogram;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param registry The registry this timer belongs to.
+   * @param histogram Records the measured durations.
+   */
+  Timer(MetricsRegistry registry, Histogram histogram) {
+    this.registry = requireNonNull(registry, "registry");
+    this.histogram = requireNonNull(histogram, "histogram");
+  }
+
+  /**
+   * Starts a measurement.
+   *
+   * @return The value to be passed to {@link #stop(long)} to finish the measurement.
+   */
+  public long start() {
+    return registry.isEnabled() ? System.nanoTime() : NOT_STARTED;
+  }
+
+  /**
+   * Finishes a measurement and records its duration.
+   *
+   * @param start The value returned by the corresponding call to {@link #start()}.
+   */
+  public void stop(long start) {
+    if (start != NOT_STARTED) {
+      recordNanos(System.nanoTime() - start);
+    }
+  }
+
+  /**
+   * Records the given duration.
+   *
+   * @param nanos The duration (in ns).
+   */
+  public void recordNanos(long nanos) {
+    histogram.observe(nanos / 1_000_000_000.0);
+  }
+
+  /**
+   * Returns the histogram recording the measured durations (in seconds).
+   *
+   * @return The histogram.
+   */
+  public Histogram getHistogram() {
+    return histogram;
+  }
+}
@@ -0,0 +1,213 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.util;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
+
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Schedules events (tasks) in virtual time.
+ * <p>
+ * Virtual time does not pass on its own. Instead, it jumps to the time of the next scheduled event
+ * whenever {@link #processNextEvents()} is called, so simulated processes take only as long (in
+ * real time) as processing their events does.
+ * Events scheduled for the same point in time are processed in the order they were scheduled in.
+ * </p>
+ * <p>
+ * Note that this class does not execute events on its own - it is up to the user to call
+ * {@link #processNextEvents()}, and to do so in the thread the events are supposed to be processed
+ * in.
+ * </p>
+ */
+public class DiscreteEventScheduler {
+
+  /**
+   * The scheduled events, ordered by their due times.
+   */
+  private final PriorityQueue<ScheduledEvent> events = new PriorityQueue<>();
+  /**
+   * The current virtual time (in ms since the epoch).
+   */
+  private long currentTime;
+  /**
+   * The sequence number to be assigned to the next scheduled event.
+   */
+  private long nextSequenceNumber;
+  /**
+   * The number of events processed.
+   */
+  private long processedEvents;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param startTime The virtual time (in ms since the epoch) to start with.
+   */
+  public DiscreteEventScheduler(long startTime) {
+    this.currentTime = startTime;
+  }
+
+  /**
+   * Returns the current virtual time.
+   *
+   * @return The current virtual time (in ms since the epoch).
+   */
+  public synchronized long getCurrentTime() {
+    return currentTime;
+  }
+
+  /**
+   * Schedules an event.
+   *
+   * @param task The task to be executed when the event is processed.
+   * @param delay The delay (in virtual time) after which the event is due.
+   * @param unit The delay's time unit.
+   * @return The scheduled event.
+   */
+  @Nonnull
+  public synchronized ScheduledEvent schedule(
+      @Nonnull
+      Runnable task,
+      long delay,
+      @Nonnull
+      TimeUnit unit
+  ) {
+    requireNonNull(task, "task");
+    requireNonNull(unit, "unit");
+    checkArgument(delay >= 0, "delay < 0: %s", delay);
+
+    ScheduledEvent event = new ScheduledEvent(
+        currentTime + unit.toMillis(delay),
+        nextSequenceNumber++,
+        task
+    );
+    events.add(event);
+    return event;
+  }
+
+  /**
+   * Indicates whether there are events pending.
+   *
+   * @return Whether there are events pending.
+   */
+  public synchronized boolean hasPendingEvents() {
+    return !events.isEmpty();
+  }
+
+  /**
+   * Returns the number of events pending.
+   *
+   * @return The number of events pending.
+   */
+  public synchronized int getPendingEventCount() {
+    return events.size();
+  }
+
+  /**
+   * Returns the number of events processed so far.
+   *
+   * @return The number of events processed.
+   */
+  public synchronized long getProcessedEventCount() {
+    return processedEvents;
+  }
+
+  /**
+   * Advances the virtual time to that of the next pending event and processes all events due at
+   * that time.
+   * Events scheduled by the processed events' tasks with a delay of zero are processed, too.
+   *
+   * @return The number of events processed.
+   */
+  public int processNextEvents() {
+    List<ScheduledEvent> dueEvents = new ArrayList<>();
+    int processed = 0;
+    do {
+      dueEvents.clear();
+      synchronized (this) {
+        if (events.isEmpty()) {
+          return processed;
+        }
+        currentTime = Math.max(currentTime, events.peek().dueTime);
+        while (!events.isEmpty() && events.peek().dueTime <= currentTime) {
+          dueEvents.add(events.poll());
+        }
+      }
+
+      // Execute the tasks without holding the lock, as they may schedule further events.
+      int processedBatch = 0;
+      for (ScheduledEvent event : dueEvents) {
+        if (!event.isCancelled()) {
+          event.task.run();
+          processedBatch++;
+        }
+      }
+      processed += processedBatch;
+      synchronized (this) {
+        processedEvents += processedBatch;
+      }
+    }
+    while (hasEventsDueNow());
+    return processed;
+  }
+
+  private synchronized boolean hasEventsDueNow() {
+    return !events.isEmpty() && events.peek().dueTime <= currentTime;
+  }
+
+  /**
+   * An event scheduled with a {@link DiscreteEventScheduler}.
+   */
+  public static final class ScheduledEvent
+      implements
+        Comparable<ScheduledEvent> {
+
+    private final long dueTime;
+    private final long sequenceNumber;
+    private final Runnable task;
+    private volatile boolean cancelled;
+
+    private ScheduledEvent(long dueTime, long sequenceNumber, Runnable task) {
+      this.dueTime = dueTime;
+      this.sequenceNumber = sequenceNumber;
+      this.task = task;
+    }
+
+    /**
+     * Returns the (virtual) time at which this event is due.
+     *
+     * @return The time at which this event is due (in ms since the epoch).
+     */
+    public long getDueTime() {
+      return dueTime;
+    }
+
+    /**
+     * Cancels this event, i.e. prevents its task from being executed.
+     */
+    public void cancel() {
+      cancelled = true;
+    }
+
+    /**
+     * Indicates whether this event has been cancelled.
+     *
+     * @return Whether this event has been cancelled.
+     */
+    public boolean isCancelled() {
+      return cancelled;
+    }
+
+    @Override
+    public int compareTo(ScheduledEvent other) {
+      int result = Long.compare(dueTime, other.dueTime);
+      return result != 0 ? result : Long.compare(sequenceNumber, other.sequenceNumber);
+    }
+  }
+}
@@ -0,0 +1,41 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.util;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.inject.Inject;
+import java.time.Instant;
+
+/**
+ * Provides the current virtual time of a {@link DiscreteEventScheduler}.
+ */
+public class VirtualTimeProvider
+    extends
+      TimeProvider {
+
+  /**
+   * The scheduler providing the virtual time.
+   */
+  private final DiscreteEventScheduler scheduler;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param scheduler The scheduler providing the virtual time.
+   */
+  @Inject
+  public VirtualTimeProvider(DiscreteEventScheduler scheduler) {
+    this.scheduler = requireNonNull(scheduler, "scheduler");
+  }
+
+  @Override
+  public long getCurrentTimeEpochMillis() {
+    return scheduler.getCurrentTime();
+  }
+
+  @Override
+  public Instant getCurrentTimeInstant() {
+    return Instant.ofEpochMilli(scheduler.getCurrentTime());
+  }
+}
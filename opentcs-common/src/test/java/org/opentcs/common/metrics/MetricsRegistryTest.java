@@ -0,0 +1,143 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.common.metrics;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link MetricsRegistry}.
+ */
+class MetricsRegistryTest {
+
+  private MetricsRegistry registry;
+
+  @BeforeEach
+  void setUp() {
+    registry = new MetricsRegistry(true);
+  }
+
+  @Test
+  void returnSameMetricForSameNameAndLabels() {
+    Counter counter = registry.counter("some_total", "Some counter.", "type", "a");
+
+    assertThat(
+        registry.counter("some_total", "Some counter.", "type", "a"),
+        is(sameInstance(counter))
+    );
+    assertThat(
+        registry.counter("some_total", "Some counter.", "type", "b"),
+        is(not(sameInstance(counter)))
+    );
+  }
+
+  @Test
+  void ignoreUpdatesWhileDisabled() {
+    Counter counter = registry.counter("some_total", "Some counter.");
+    Timer timer = registry.timer("some_seconds", "Some timer.");
+
+    registry.setEnabled(false);
+    counter.increment();
+    timer.stop(timer.start());
+    registry.setEnabled(true);
+    counter.increment();
+
+    assertThat(counter.getCount(), is(1L));
+    assertThat(timer.getHistogram().getCount(), is(0L));
+  }
+
+  @Test
+  void countObservationsInBuckets() {
+    Histogram histogram = registry.histogram("some_size", "Some histogram.", new double[]{1, 10});
+
+    histogram.observe(0.5);
+    histogram.observe(1);
+    histogram.observe(5);
+    histogram.observe(50);
+
+    assertThat(histogram.getCumulativeCounts(), is(new long[]{2, 3, 4}));
+    assertThat(histogram.getCount(), is(4L));
+    assertThat(histogram.getSum(), is(56.5));
+  }
+
+  @Test
+  void provideSamplesByName() {
+    registry.counter("some_total", "Some counter.", "type", "a").increment(3);
+    registry.histogram("some_size", "Some histogram.", new double[]{1}).observe(2);
+
+    assertThat(registry.getSamples(), hasEntry("some_total{type=\"a\"}", 3.0));
+    assertThat(registry.getSamples(), hasEntry("some_size_bucket{le=\"1\"}", 0.0));
+    assertThat(registry.getSamples(), hasEntry("some_size_bucket{le=\"+Inf\"}", 1.0));
+    assertThat(registry.getSamples(), hasEntry("some_size_sum", 2.0));
+    assertThat(registry.getSamples(), hasEntry("some_size_count", 1.0));
+  }
+
+  @Test
+  void writePrometheusText() {
+    registry.counter("some_total", "Some counter.", "filter", "Some\"Filter").increment();
+    registry.timer("some_seconds", "Some timer.", "phase", "SomePhase").recordNanos(2_000_000);
+
+    String text = registry.toPrometheusText();
+
+    assertThat(text, containsString("# HELP some_total Some counter.\n"));
+    assertThat(text, containsString("# TYPE some_total counter\n"));
+    assertThat(text, containsString("some_total{filter=\"Some\\\"Filter\"} 1\n"));
+    assertThat(text, containsString("# TYPE some_seconds histogram\n"));
+    assertThat(text, containsString("some_seconds_bucket{phase=\"SomePhase\",le=\"0.001\"} 0\n"));
+    assertThat(text, containsString("some_seconds_bucket{phase=\"SomePhase\",le=\"0.0025\"} 1\n"));
+    assertThat(text, containsString("some_seconds_sum{phase=\"SomePhase\"} 0.002\n"));
+    assertThat(text, containsString("some_seconds_count{phase=\"SomePhase\"} 1\n"));
+    assertThat(
+        text.indexOf("le=\"0.0005\""),
+        is(lessThan(text.indexOf("le=\"+Inf\"")))
+    );
+  }
+
+  @Test
+  void provideGaugeValuesFromSupplier() {
+    Map<String, Double> values = new HashMap<>(Map.of("a", 1.0));
+    registry.gauges("some_size", "Some gauges.", "listener", () -> values);
+
+    assertThat(registry.getSamples(), hasEntry("some_size{listener=\"a\"}", 1.0));
+    assertThat(registry.toPrometheusText(), containsString("# TYPE some_size gauge\n"));
+
+    values.put("b", 2.0);
+
+    assertThat(registry.getSamples(), hasEntry("some_size{listener=\"a\"}", 1.0));
+    assertThat(registry.getSamples(), hasEntry("some_size{listener=\"b\"}", 2.0));
+  }
+
+  @Test
+  void rejectInvalidNamesAndLabels() {
+    assertThrows(IllegalArgumentException.class, () -> registry.counter("some-total", "Help."));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> registry.counter("some_total", "Help.", "type")
+    );
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> registry.histogram("some_size", "Help.", new double[]{1}, "le", "1")
+    );
+  }
+
+  @Test
+  void rejectSameNameForDifferentTypes() {
+    registry.counter("some_metric", "Some counter.");
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> registry.timer("some_metric", "Some timer.")
+    );
+  }
+}
@@ -0,0 +1,106 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link DiscreteEventScheduler}.
+ */
+class DiscreteEventSchedulerTest {
+
+  private static final long START_TIME = 1000;
+
+  private DiscreteEventScheduler scheduler;
+  private List<String> processedEvents;
+
+  @BeforeEach
+  void setUp() {
+    scheduler = new DiscreteEventScheduler(START_TIME);
+    processedEvents = new ArrayList<>();
+  }
+
+  @Test
+  void processEventsInOrderOfDueTime() {
+    scheduler.schedule(() -> processedEvents.add("b"), 200, TimeUnit.MILLISECONDS);
+    scheduler.schedule(() -> processedEvents.add("a"), 100, TimeUnit.MILLISECONDS);
+    scheduler.schedule(() -> processedEvents.add("c"), 1, TimeUnit.SECONDS);
+
+    assertThat(scheduler.processNextEvents()).isEqualTo(1);
+    assertThat(processedEvents).containsExactly("a");
+    assertThat(scheduler.getCurrentTime()).isEqualTo(START_TIME + 100);
+
+    assertThat(scheduler.processNextEvents()).isEqualTo(1);
+    assertThat(scheduler.processNextEvents()).isEqualTo(1);
+    assertThat(processedEvents).containsExactly("a", "b", "c");
+    assertThat(scheduler.getCurrentTime()).isEqualTo(START_TIME + 1000);
+    assertThat(scheduler.hasPendingEvents()).isFalse();
+    assertThat(scheduler.getProcessedEventCount()).isEqualTo(3);
+  }
+
+  @Test
+  void processEventsDueAtSameTimeInOrderOfScheduling() {
+    scheduler.schedule(() -> processedEvents.add("a"), 100, TimeUnit.MILLISECONDS);
+    scheduler.schedule(() -> processedEvents.add("b"), 100, TimeUnit.MILLISECONDS);
+    scheduler.schedule(() -> processedEvents.add("c"), 100, TimeUnit.MILLISECONDS);
+
+    assertThat(scheduler.processNextEvents()).isEqualTo(3);
+    assertThat(processedEvents).containsExactly("a", "b", "c");
+  }
+
+  @Test
+  void scheduleEventsRelativeToCurrentVirtualTime() {
+    scheduler.schedule(
+        () -> scheduler.schedule(() -> processedEvents.add("b"), 100, TimeUnit.MILLISECONDS),
+        100,
+        TimeUnit.MILLISECONDS
+    );
+
+    scheduler.processNextEvents();
+    assertThat(processedEvents).isEmpty();
+    scheduler.processNextEvents();
+    assertThat(processedEvents).containsExactly("b");
+    assertThat(scheduler.getCurrentTime()).isEqualTo(START_TIME + 200);
+  }
+
+  @Test
+  void processEventsScheduledWithoutDelayImmediately() {
+    scheduler.schedule(
+        () -> scheduler.schedule(() -> processedEvents.add("b"), 0, TimeUnit.MILLISECONDS),
+        100,
+        TimeUnit.MILLISECONDS
+    );
+
+    assertThat(scheduler.processNextEvents()).isEqualTo(2);
+    assertThat(processedEvents).containsExactly("b");
+  }
+
+  @Test
+  void skipCancelledEvents() {
+    scheduler.schedule(() -> processedEvents.add("a"), 100, TimeUnit.MILLISECONDS).cancel();
+    scheduler.schedule(() -> processedEvents.add("b"), 200, TimeUnit.MILLISECONDS);
+
+    scheduler.processNextEvents();
+    scheduler.processNextEvents();
+
+    assertThat(processedEvents).containsExactly("b");
+    assertThat(scheduler.getProcessedEventCount()).isEqualTo(1);
+  }
+
+  @Test
+  void provideVirtualTime() {
+    TimeProvider timeProvider = new VirtualTimeProvider(scheduler);
+    scheduler.schedule(() -> { }, 5, TimeUnit.SECONDS);
+
+    assertThat(timeProvider.getCurrentTimeEpochMillis()).isEqualTo(START_TIME);
+    scheduler.processNextEvents();
+    assertThat(timeProvider.getCurrentTimeEpochMillis()).isEqualTo(START_TIME + 5000);
+    assertThat(timeProvider.getCurrentTimeInstant().toEpochMilli()).isEqualTo(START_TIME + 5000);
+  }
+}
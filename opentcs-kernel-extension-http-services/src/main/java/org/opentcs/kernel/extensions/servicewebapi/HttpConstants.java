@@ -19,6 +19,11 @@ public class HttpConstants {
    * Content type for JSON structures.
    */
   public static final String CONTENT_TYPE_APPLICATION_JSON_UTF8 = "application/json; charset=utf-8";
+  /**
+   * Content type for metrics in the Prometheus text format.
+   */
+  public static final String CONTENT_TYPE_PROMETHEUS_TEXT_UTF8
+      = "text/plain; version=0.0.4; charset=utf-8";
 
   /**
    * Prevents instantiation.
@@ -3,6 +3,7 @@
 package org.opentcs.kernel.extensions.servicewebapi;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
@@ -68,6 +69,23 @@ public class JsonBinder {
     }
   }
 
+  /**
+   * Maps the given object to a JSON tree.
+   *
+   * @param object The object to be mapped.
+   * @return The JSON tree representation of the object.
+   * @throws IllegalStateException In case there was a problem mapping the given object to JSON.
+   */
+  public JsonNode toJsonTree(Object object)
+      throws IllegalStateException {
+    try {
+      return objectMapper.valueToTree(object);
+    }
+    catch (IllegalArgumentException exc) {
+      throw new IllegalStateException("Could not produce JSON output", exc);
+    }
+  }
+
   /**
    * Maps the given throwable to a JSON string.
    *
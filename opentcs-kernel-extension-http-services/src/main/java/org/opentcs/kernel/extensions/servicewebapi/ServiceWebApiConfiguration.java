@@ -50,7 +50,7 @@ public interface ServiceWebApiConfiguration {
 
   @ConfigurationEntry(
       type = "Integer",
-      description = "Maximum number of status events to be kept.",
+      description = "Maximum number of status events to be kept (at least 1).",
       changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY,
       orderKey = "4"
   )
@@ -71,4 +71,43 @@ public interface ServiceWebApiConfiguration {
       orderKey = "6"
   )
   int maxRequestBodySize();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = "The maximum number of events queued for sending to a single SSE client.",
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "7_sse_0"
+  )
+  int sseClientQueueCapacity();
+
+  @ConfigurationEntry(
+      type = "String",
+      description = {
+          "How to handle events for the modification of objects for SSE clients whose queues "
+              + "are full. (Events for the creation or removal of objects are never dropped.)",
+          "Possible values:",
+          "DROP: New events are dropped.",
+          "COALESCE: A new event for the modification of an object replaces the one for the same "
+              + "object that is already queued, if there is one. Other events are dropped."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "7_sse_1"
+  )
+  SseOverflowPolicy sseOverflowPolicy();
+
+  /**
+   * Defines how events for the modification of objects for SSE clients whose queues are full are
+   * handled.
+   */
+  enum SseOverflowPolicy {
+    /**
+     * New events are dropped.
+     */
+    DROP,
+    /**
+     * A new event for the modification of an object replaces the one for the same object that is
+     * already queued, if there is one. Other events are dropped.
+     */
+    COALESCE;
+  }
 }
@@ -4,7 +4,9 @@ package org.opentcs.kernel.extensions.servicewebapi.v1;
 
 import jakarta.annotation.Nullable;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Predicate;
+import org.opentcs.data.TCSObject;
 import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.OrderSequence;
@@ -109,4 +111,65 @@ public class Filters {
         ? vehicle -> true
         : vehicle -> Objects.equals(procState, vehicle.getProcState());
   }
+
+  /**
+   * Returns a predicate that is true only for objects related to any of the vehicles with the
+   * given names, i.e. for the vehicles themselves, for transport orders and order sequences with
+   * one of them as their intended or processing vehicle, and for peripheral jobs with one of them
+   * as their related vehicle.
+   * In case the given set of vehicle names is null, all objects are accepted.
+   *
+   * @param vehicleNames The vehicle names.
+   * @return A predicate that is true only for objects related to any of the given vehicles.
+   */
+  public static Predicate<TCSObject<?>> objectRelatedToVehicles(
+      @Nullable
+      Set<String> vehicleNames
+  ) {
+    if (vehicleNames == null) {
+      return object -> true;
+    }
+
+    return object -> {
+      if (object instanceof Vehicle vehicle) {
+        return vehicleNames.contains(vehicle.getName());
+      }
+      else if (object instanceof TransportOrder order) {
+        return isNamedIn(order.getIntendedVehicle(), vehicleNames)
+            || isNamedIn(order.getProcessingVehicle(), vehicleNames);
+      }
+      else if (object instanceof OrderSequence sequence) {
+        return isNamedIn(sequence.getIntendedVehicle(), vehicleNames)
+            || isNamedIn(sequence.getProcessingVehicle(), vehicleNames);
+      }
+      else if (object instanceof PeripheralJob job) {
+        return isNamedIn(job.getRelatedVehicle(), vehicleNames);
+      }
+      return false;
+    };
+  }
+
+  /**
+   * Returns a predicate that is true only for objects with any of the given names.
+   * In case the given set of names is null, all objects are accepted.
+   *
+   * @param names The names.
+   * @return A predicate that is true only for objects with any of the given names.
+   */
+  public static Predicate<TCSObject<?>> objectNamed(
+      @Nullable
+      Set<String> names
+  ) {
+    return names == null
+        ? object -> true
+        : object -> names.contains(object.getName());
+  }
+
+  private static boolean isNamedIn(
+      @Nullable
+      TCSObjectReference<?> ref,
+      Set<String> names
+  ) {
+    return ref != null && names.contains(ref.getName());
+  }
 }
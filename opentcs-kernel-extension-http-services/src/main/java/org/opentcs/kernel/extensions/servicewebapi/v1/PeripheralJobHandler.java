@@ -132,38 +132,36 @@ public class PeripheralJobHandler {
       @Nullable
       String relatedTransportOrder
   ) {
-    return executorWrapper.callAndWait(() -> {
-      // If a related vehicle is set, make sure it exists.
-      TCSObjectReference<Vehicle> relatedVehicleRef
-          = Optional.ofNullable(relatedVehicle)
-              .map(name -> jobService.fetch(Vehicle.class, name).orElse(null))
-              .map(Vehicle::getReference)
-              .orElse(null);
-
-      if (relatedVehicle != null && relatedVehicleRef == null) {
-        throw new ObjectUnknownException("Unknown vehicle: " + relatedVehicle);
-      }
-
-      // If a related transport order is set, make sure it exists.
-      TCSObjectReference<TransportOrder> relatedOrderRef
-          = Optional.ofNullable(relatedTransportOrder)
-              .map(name -> jobService.fetch(TransportOrder.class, name).orElse(null))
-              .map(TransportOrder::getReference)
-              .orElse(null);
-
-      if (relatedTransportOrder != null && relatedOrderRef == null) {
-        throw new ObjectUnknownException("Unknown oransport order: " + relatedVehicle);
-      }
-
-      return jobService.stream(PeripheralJob.class)
-          .filter(
-              Filters.peripheralJobWithRelatedVehicle(relatedVehicleRef)
-                  .and(Filters.peripheralJobWithRelatedTransportOrder(relatedOrderRef))
-          )
-          .map(peripheralJob -> peripheralJobConverter.toGetPeripheralJobResponseTO(peripheralJob))
-          .sorted(Comparator.comparing(GetPeripheralJobResponseTO::getName))
-          .collect(Collectors.toList());
-    });
+    // If a related vehicle is set, make sure it exists.
+    TCSObjectReference<Vehicle> relatedVehicleRef
+        = Optional.ofNullable(relatedVehicle)
+            .map(name -> jobService.fetch(Vehicle.class, name).orElse(null))
+            .map(Vehicle::getReference)
+            .orElse(null);
+
+    if (relatedVehicle != null && relatedVehicleRef == null) {
+      throw new ObjectUnknownException("Unknown vehicle: " + relatedVehicle);
+    }
+
+    // If a related transport order is set, make sure it exists.
+    TCSObjectReference<TransportOrder> relatedOrderRef
+        = Optional.ofNullable(relatedTransportOrder)
+            .map(name -> jobService.fetch(TransportOrder.class, name).orElse(null))
+            .map(TransportOrder::getReference)
+            .orElse(null);
+
+    if (relatedTransportOrder != null && relatedOrderRef == null) {
+      throw new ObjectUnknownException("Unknown oransport order: " + relatedVehicle);
+    }
+
+    return jobService.stream(PeripheralJob.class)
+        .filter(
+            Filters.peripheralJobWithRelatedVehicle(relatedVehicleRef)
+                .and(Filters.peripheralJobWithRelatedTransportOrder(relatedOrderRef))
+        )
+        .map(peripheralJob -> peripheralJobConverter.toGetPeripheralJobResponseTO(peripheralJob))
+        .sorted(Comparator.comparing(GetPeripheralJobResponseTO::getName))
+        .collect(Collectors.toList());
   }
 
   /**
@@ -178,11 +176,9 @@ public class PeripheralJobHandler {
   ) {
     requireNonNull(name, "name");
 
-    return executorWrapper.callAndWait(() -> {
-      PeripheralJob job = jobService.fetch(PeripheralJob.class, name)
-          .orElseThrow(() -> new ObjectUnknownException("Unknown peripheral job: " + name));
+    PeripheralJob job = jobService.fetch(PeripheralJob.class, name)
+        .orElseThrow(() -> new ObjectUnknownException("Unknown peripheral job: " + name));
 
-      return peripheralJobConverter.toGetPeripheralJobResponseTO(job);
-    });
+    return peripheralJobConverter.toGetPeripheralJobResponseTO(job);
   }
 }
@@ -0,0 +1,402 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi.v1;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkInRange;
+
+import io.javalin.http.sse.SseClient;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import org.opentcs.common.metrics.Counter;
+import org.opentcs.common.metrics.MetricsRegistry;
+import org.opentcs.data.TCSObject;
+import org.opentcs.kernel.extensions.servicewebapi.ServiceWebApiConfiguration.SseOverflowPolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A connection to an SSE client.
+ * <p>
+ * Events to be sent to the client are put into a bounded queue, from which they are sent to the
+ * client by a (virtual) thread of the connection's own, so a slow client does not delay sending
+ * events to other clients. The events' JSON representations are created by this thread, too.
+ * </p>
+ * <p>
+ * If the queue is full, events for modifications of objects are dropped or coalesced with the one
+ * queued for the same object according to the configured policy. Events for the creation or
+ * removal of objects are never dropped, even if the queue is full. After a modification of an
+ * object has been dropped, the next modification of it is sent completely, even to clients that
+ * want deltas.
+ * </p>
+ */
+class SseConnection
+    implements
+      Runnable {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(SseConnection.class);
+  /**
+   * The client this connection is associated with.
+   */
+  private final SseClient client;
+  /**
+   * The name identifying this connection, e.g. in metrics.
+   */
+  private final String name;
+  /**
+   * The event types the client is interested in.
+   */
+  private final Set<String> eventTypes;
+  /**
+   * Whether the client wants modifications to be sent as deltas.
+   */
+  private final boolean deltas;
+  /**
+   * Selects the objects the client is interested in.
+   */
+  private final Predicate<TCSObject<?>> objectFilter;
+  /**
+   * The maximum number of events in the queue (which only events for the creation or removal of
+   * objects may exceed).
+   */
+  private final int queueCapacity;
+  /**
+   * How to handle events when the queue is full.
+   */
+  private final SseOverflowPolicy overflowPolicy;
+  /**
+   * The events to be sent to the client.
+   */
+  private final Deque<OutboundEvent> queue = new ArrayDeque<>();
+  /**
+   * The queued events for modifications of objects, mapped by the objects' keys.
+   */
+  private final Map<String, OutboundEvent> queuedModifications = new HashMap<>();
+  /**
+   * The keys of objects for which modifications were dropped since they were last sent
+   * completely.
+   */
+  private final Set<String> staleObjects = new HashSet<>();
+  /**
+   * Counts the events sent to clients.
+   */
+  private final Counter sentCounter;
+  /**
+   * Counts the events dropped because clients' queues were full.
+   */
+  private final Counter droppedCounter;
+  /**
+   * Counts the events replaced by newer ones because clients' queues were full.
+   */
+  private final Counter coalescedCounter;
+  /**
+   * Guards the queue and the counters.
+   * (Not using intrinsic locks here, as waiting for them would pin the virtual thread.)
+   */
+  private final ReentrantLock lock = new ReentrantLock();
+  /**
+   * Signalled when events are added to the queue or the connection is closed.
+   */
+  private final Condition queueChanged = lock.newCondition();
+  /**
+   * Whether this connection is closed.
+   */
+  private boolean closed;
+  /**
+   * The number of events sent to the client.
+   */
+  private long sentEvents;
+  /**
+   * The number of events dropped because the queue was full.
+   */
+  private long droppedEvents;
+  /**
+   * The number of events replaced by newer ones because the queue was full.
+   */
+  private long coalescedEvents;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param client The client this connection is associated with.
+   * @param name The name identifying this connection, e.g. in metrics.
+   * @param eventTypes The event types the client is interested in.
+   * @param deltas Whether the client wants modifications to be sent as deltas.
+   * @param objectFilter Selects the objects the client is interested in.
+   * @param queueCapacity The maximum number of events in the queue.
+   * @param overflowPolicy How to handle events when the queue is full.
+   * @param metricsRegistry The registry to count sent, dropped and coalesced events with.
+   */
+  SseConnection(
+      @Nonnull
+      SseClient client,
+      @Nonnull
+      String name,
+      @Nonnull
+      Set<String> eventTypes,
+      boolean deltas,
+      @Nonnull
+      Predicate<TCSObject<?>> objectFilter,
+      int queueCapacity,
+      @Nonnull
+      SseOverflowPolicy overflowPolicy,
+      @Nonnull
+      MetricsRegistry metricsRegistry
+  ) {
+    this.client = requireNonNull(client, "client");
+    this.name = requireNonNull(name, "name");
+    this.eventTypes = requireNonNull(eventTypes, "eventTypes");
+    this.deltas = deltas;
+    this.objectFilter = requireNonNull(objectFilter, "objectFilter");
+    this.queueCapacity = checkInRange(queueCapacity, 1, Integer.MAX_VALUE, "queueCapacity");
+    this.overflowPolicy = requireNonNull(overflowPolicy, "overflowPolicy");
+    requireNonNull(metricsRegistry, "metricsRegistry");
+    this.sentCounter = eventCounter(metricsRegistry, "sent");
+    this.droppedCounter = eventCounter(metricsRegistry, "dropped");
+    this.coalescedCounter = eventCounter(metricsRegistry, "coalesced");
+  }
+
+  /**
+   * Starts the thread sending events to the client.
+   */
+  void start() {
+    Thread.ofVirtual().name("sseClient").start(this);
+  }
+
+  /**
+   * Closes this connection, discarding all events not sent, yet.
+   */
+  void close() {
+    lock.lock();
+    try {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      queue.clear();
+      queuedModifications.clear();
+      staleObjects.clear();
+      queueChanged.signalAll();
+    }
+    finally {
+      lock.unlock();
+    }
+    LOG.info("Closed connection {} to {}: {}", name, client, getStatistics());
+  }
+
+  /**
+   * Returns the client this connection is associated with.
+   *
+   * @return The client.
+   */
+  SseClient getClient() {
+    return client;
+  }
+
+  /**
+   * Returns the name identifying this connection.
+   *
+   * @return The name identifying this connection.
+   */
+  @Nonnull
+  String getName() {
+    return name;
+  }
+
+  /**
+   * Checks whether the client is interested in events of the given type for the given object.
+   *
+   * @param eventType The event type.
+   * @param currentObjectState The object's current state, or {@code null}, if it was removed.
+   * @param previousObjectState The object's previous state, or {@code null}, if it was created.
+   * @return Whether the client is interested in the event.
+   */
+  boolean isInterestedIn(
+      @Nonnull
+      String eventType,
+      @Nullable
+      TCSObject<?> currentObjectState,
+      @Nullable
+      TCSObject<?> previousObjectState
+  ) {
+    return eventTypes.contains(eventType)
+        && ((currentObjectState != null && objectFilter.test(currentObjectState))
+            || (previousObjectState != null && objectFilter.test(previousObjectState)));
+  }
+
+  /**
+   * Queues an event for sending it to the client.
+   *
+   * @param event The event.
+   */
+  void enqueue(
+      @Nonnull
+      SseEvent event
+  ) {
+    requireNonNull(event, "event");
+
+    lock.lock();
+    try {
+      if (closed) {
+        return;
+      }
+
+      String objectKey = event.getEventType() + ":" + event.getObjectName();
+      if (!event.isModification()) {
+        // Later modifications must not be merged with modifications that happened before the
+        // object was created or removed.
+        queuedModifications.remove(objectKey);
+        staleObjects.remove(objectKey);
+        add(new OutboundEvent(event, true, objectKey));
+        return;
+      }
+
+      if (queue.size() >= queueCapacity) {
+        OutboundEvent queuedEvent = queuedModifications.get(objectKey);
+        if (overflowPolicy == SseOverflowPolicy.COALESCE && queuedEvent != null) {
+          // The complete representation of the new event supersedes any queued one.
+          queuedEvent.event = event;
+          queuedEvent.complete = true;
+          coalescedEvents++;
+          coalescedCounter.increment();
+        }
+        else {
+          if (droppedEvents == 0) {
+            LOG.warn("Queue for {} is full, dropping events.", client);
+          }
+          droppedEvents++;
+          droppedCounter.increment();
+          staleObjects.add(objectKey);
+        }
+        return;
+      }
+
+      OutboundEvent outboundEvent
+          = new OutboundEvent(event, !deltas || staleObjects.remove(objectKey), objectKey);
+      add(outboundEvent);
+      queuedModifications.put(objectKey, outboundEvent);
+    }
+    finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Returns statistics on the events handled by this connection.
+   *
+   * @return Statistics on the events handled by this connection.
+   */
+  @Nonnull
+  Statistics getStatistics() {
+    lock.lock();
+    try {
+      return new Statistics(queue.size(), sentEvents, droppedEvents, coalescedEvents);
+    }
+    finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public void run() {
+    while (true) {
+      SseEvent event;
+      boolean complete;
+      lock.lock();
+      try {
+        while (queue.isEmpty() && !closed) {
+          queueChanged.await();
+        }
+        if (closed) {
+          return;
+        }
+        OutboundEvent outboundEvent = queue.poll();
+        queuedModifications.remove(outboundEvent.objectKey, outboundEvent);
+        event = outboundEvent.event;
+        complete = outboundEvent.complete;
+      }
+      catch (InterruptedException exc) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+      finally {
+        lock.unlock();
+      }
+
+      try {
+        client.sendEvent(
+            event.getEventType(),
+            complete ? event.getData() : event.getDeltaData()
+        );
+      }
+      catch (Exception exc) {
+        LOG.warn("Failed to send event to client {}: {}", client, exc.getMessage());
+        continue;
+      }
+      lock.lock();
+      try {
+        sentEvents++;
+      }
+      finally {
+        lock.unlock();
+      }
+      sentCounter.increment();
+    }
+  }
+
+  private void add(OutboundEvent event) {
+    queue.add(event);
+    queueChanged.signalAll();
+  }
+
+  private static Counter eventCounter(MetricsRegistry metricsRegistry, String outcome) {
+    return metricsRegistry.counter(
+        "sse_events_total",
+        "The number of events for SSE clients, by outcome.",
+        "outcome",
+        outcome
+    );
+  }
+
+  /**
+   * Statistics on the events handled by a connection.
+   *
+   * @param queuedEvents The number of events queued.
+   * @param sentEvents The number of events sent to the client.
+   * @param droppedEvents The number of events dropped because the queue was full.
+   * @param coalescedEvents The number of events replaced by newer ones because the queue was full.
+   */
+  record Statistics(long queuedEvents, long sentEvents, long droppedEvents, long coalescedEvents) {
+  }
+
+  /**
+   * An event to be sent to the client.
+   */
+  private static class OutboundEvent {
+
+    private final String objectKey;
+    private SseEvent event;
+    /**
+     * Whether the event's complete representation is to be sent (instead of the delta).
+     */
+    private boolean complete;
+
+    OutboundEvent(SseEvent event, boolean complete, String objectKey) {
+      this.event = event;
+      this.complete = complete;
+      this.objectKey = objectKey;
+    }
+  }
+}
@@ -35,6 +35,22 @@ public abstract class SseConstants {
       EVENT_TYPE_PERIPHERAL_JOBS
   );
 
+  /**
+   * The name of the query parameter with which clients request modifications of objects to be sent
+   * as deltas, i.e. with only the changed properties.
+   */
+  public static final String QUERY_PARAM_DELTAS = "deltas";
+  /**
+   * The name of the query parameter with which clients restrict the events sent to those for
+   * objects related to the given (comma-separated) vehicles.
+   */
+  public static final String QUERY_PARAM_VEHICLES = "vehicles";
+  /**
+   * The name of the query parameter with which clients restrict the events sent to those for
+   * objects with the given (comma-separated) names.
+   */
+  public static final String QUERY_PARAM_OBJECTS = "objects";
+
   /**
    * Prevents instantiation.
    */
@@ -0,0 +1,149 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi.v1;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import org.opentcs.data.TCSObjectEvent;
+
+/**
+ * An event to be sent to SSE clients, shared by all clients interested in it.
+ * <p>
+ * The event's JSON representations are created lazily, at most once, by the first client's thread
+ * requiring them, so that creating them neither delays the thread emitting the event nor is
+ * repeated for every client.
+ * </p>
+ */
+class SseEvent {
+
+  /**
+   * The event type.
+   */
+  private final String eventType;
+  /**
+   * The name of the object the event is for.
+   */
+  private final String objectName;
+  /**
+   * The type of the object event.
+   */
+  private final TCSObjectEvent.Type type;
+  /**
+   * Provides the event's complete representation.
+   */
+  private final Supplier<String> data;
+  /**
+   * Provides the event's delta representation.
+   */
+  private final Supplier<String> deltaData;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param eventType The event type.
+   * @param objectName The name of the object the event is for.
+   * @param type The type of the object event.
+   * @param data Provides the event's complete representation.
+   * @param deltaData Provides the event's delta representation. Only used for modifications.
+   */
+  SseEvent(
+      @Nonnull
+      String eventType,
+      @Nonnull
+      String objectName,
+      @Nonnull
+      TCSObjectEvent.Type type,
+      @Nonnull
+      Supplier<String> data,
+      @Nonnull
+      Supplier<String> deltaData
+  ) {
+    this.eventType = requireNonNull(eventType, "eventType");
+    this.objectName = requireNonNull(objectName, "objectName");
+    this.type = requireNonNull(type, "type");
+    this.data = memoized(requireNonNull(data, "data"));
+    this.deltaData = memoized(requireNonNull(deltaData, "deltaData"));
+  }
+
+  /**
+   * Returns the event type.
+   *
+   * @return The event type.
+   */
+  @Nonnull
+  String getEventType() {
+    return eventType;
+  }
+
+  /**
+   * Returns the name of the object the event is for.
+   *
+   * @return The name of the object the event is for.
+   */
+  @Nonnull
+  String getObjectName() {
+    return objectName;
+  }
+
+  /**
+   * Indicates whether the event is for the modification of an object, as opposed to its creation
+   * or removal.
+   *
+   * @return Whether the event is for the modification of an object.
+   */
+  boolean isModification() {
+    return type == TCSObjectEvent.Type.OBJECT_MODIFIED;
+  }
+
+  /**
+   * Returns the event's complete representation.
+   *
+   * @return The event's complete representation.
+   */
+  @Nonnull
+  String getData() {
+    return data.get();
+  }
+
+  /**
+   * Returns the event's delta representation.
+   *
+   * @return The event's delta representation.
+   */
+  @Nonnull
+  String getDeltaData() {
+    return deltaData.get();
+  }
+
+  /**
+   * Returns a supplier that requests the value from the given one only once.
+   *
+   * @param <T> The value's type.
+   * @param supplier The supplier.
+   * @return The memoizing supplier.
+   */
+  static <T> Supplier<T> memoized(Supplier<T> supplier) {
+    // Not using intrinsic locks here, as waiting for them would pin the clients' virtual threads.
+    ReentrantLock lock = new ReentrantLock();
+    return new Supplier<>() {
+      private T value;
+
+      @Override
+      public T get() {
+        lock.lock();
+        try {
+          if (value == null) {
+            value = supplier.get();
+          }
+          return value;
+        }
+        finally {
+          lock.unlock();
+        }
+      }
+    };
+  }
+}
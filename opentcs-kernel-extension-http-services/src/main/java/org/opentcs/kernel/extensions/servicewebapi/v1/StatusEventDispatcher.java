@@ -7,11 +7,16 @@ import static org.opentcs.util.Assertions.checkInRange;
 
 import jakarta.inject.Inject;
 import java.time.Instant;
-import java.util.Collection;
-import java.util.SortedMap;
-import java.util.TreeMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import org.opentcs.access.Kernel;
 import org.opentcs.access.KernelStateTransitionEvent;
+import org.opentcs.common.LoggingScheduledThreadPoolExecutor;
 import org.opentcs.components.Lifecycle;
 import org.opentcs.customizations.ApplicationEventBus;
 import org.opentcs.data.TCSObject;
@@ -25,18 +30,26 @@ import org.opentcs.kernel.extensions.servicewebapi.v1.binding.getevents.StatusMe
 import org.opentcs.kernel.extensions.servicewebapi.v1.converter.PeripheralJobConverter;
 import org.opentcs.kernel.extensions.servicewebapi.v1.converter.TransportOrderConverter;
 import org.opentcs.kernel.extensions.servicewebapi.v1.converter.VehicleConverter;
-import org.opentcs.util.event.EventHandler;
+import org.opentcs.util.event.AsynchronousEventHandler;
+import org.opentcs.util.event.EventQueueOverflowEvent;
 import org.opentcs.util.event.EventSource;
+import org.opentcs.util.logging.UncaughtExceptionLogger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Provides descriptions of recent events.
+ * <p>
+ * The objects of recent events are kept in a ring buffer, indexed by the events' sequence numbers.
+ * They are converted to status messages only when they are fetched (at most once per event), so
+ * that the conversion does not delay the thread emitting the events. Requests for events that have
+ * not arrived yet are completed asynchronously, without blocking any thread while waiting.
+ * </p>
  */
 public class StatusEventDispatcher
     implements
       Lifecycle,
-      EventHandler {
+      AsynchronousEventHandler {
 
   /**
    * This class's logger.
@@ -63,13 +76,29 @@ public class StatusEventDispatcher
    */
   private final PeripheralJobConverter peripheralJobConverter;
   /**
-   * The events collected.
+   * The lock guarding the collected events and the pending requests.
    */
-  private final SortedMap<Long, StatusMessage> events = new TreeMap<>();
+  private final Object lock = new Object();
   /**
-   * The number of events collected so far.
+   * Completes pending requests for events, while this instance is initialized.
+   */
+  private ScheduledExecutorService executor;
+  /**
+   * The events collected, with each event stored at its sequence number modulo the array's length.
+   */
+  private RecordedEvent[] events = new RecordedEvent[0];
+  /**
+   * The number of events currently stored.
+   */
+  private int storedEventCount;
+  /**
+   * The number of events collected so far, i.e. the sequence number of the next event.
    */
   private long eventCount;
+  /**
+   * The requests waiting for events to arrive.
+   */
+  private final List<PendingRequest> pendingRequests = new ArrayList<>();
   /**
    * Whether this instance is initialized.
    */
@@ -103,6 +132,17 @@ public class StatusEventDispatcher
       return;
     }
 
+    synchronized (lock) {
+      executor = new LoggingScheduledThreadPoolExecutor(
+          1,
+          runnable -> {
+            Thread thread = new Thread(runnable, "statusEventsExecutor");
+            thread.setDaemon(true);
+            thread.setUncaughtExceptionHandler(new UncaughtExceptionLogger(false));
+            return thread;
+          }
+      );
+    }
     eventSource.subscribe(this);
 
     initialized = true;
@@ -121,6 +161,22 @@ public class StatusEventDispatcher
 
     eventSource.unsubscribe(this);
 
+    // Answer all pending requests with what we have.
+    List<PendingRequest> requests;
+    ScheduledExecutorService terminatedExecutor;
+    synchronized (lock) {
+      requests = new ArrayList<>(pendingRequests);
+      pendingRequests.clear();
+      terminatedExecutor = executor;
+      executor = null;
+    }
+    for (PendingRequest request : requests) {
+      request.timeoutTask.cancel(false);
+      request.complete();
+    }
+    // Requests already handed over to the executor are still completed before it terminates.
+    terminatedExecutor.shutdown();
+
     initialized = false;
   }
 
@@ -137,11 +193,27 @@ public class StatusEventDispatcher
     if (event instanceof TCSObjectEvent) {
       handleObjectEvent((TCSObjectEvent) event);
     }
+    else if (event instanceof EventQueueOverflowEvent overflowEvent) {
+      // Status messages are only a log of recent events, so there is nothing to resynchronize.
+      LOG.warn(
+          "Missed {} events, status messages are incomplete.",
+          overflowEvent.getDroppedEventCount()
+      );
+    }
+  }
+
+  @Override
+  public Set<Class<?>> getEventTypes() {
+    return Set.of(KernelStateTransitionEvent.class, TCSObjectEvent.class);
   }
 
   /**
    * Provides a list of events within the given range, waiting at most <code>timeout</code>
    * milliseconds for new events if there currently aren't any.
+   * <p>
+   * This method blocks the calling thread while waiting. See
+   * {@link #fetchEventsAsync(long, long, long)} for a non-blocking variant.
+   * </p>
    *
    * @param minSequenceNo The minimum sequence number for accepted events.
    * @param maxSequenceNo The maximum sequence number for accepted events.
@@ -150,25 +222,48 @@ public class StatusEventDispatcher
    */
   public GetEventsResponseTO fetchEvents(long minSequenceNo, long maxSequenceNo, long timeout)
       throws IllegalArgumentException {
+    return fetchEventsAsync(minSequenceNo, maxSequenceNo, timeout).join();
+  }
+
+  /**
+   * Provides a list of events within the given range, waiting at most <code>timeout</code>
+   * milliseconds for new events if there currently aren't any.
+   *
+   * @param minSequenceNo The minimum sequence number for accepted events.
+   * @param maxSequenceNo The maximum sequence number for accepted events.
+   * @param timeout The maximum time to wait for events (in ms) if there currently aren't any.
+   * @return A future completed with the list of events within the given range as soon as there are
+   * any, or after the timeout.
+   */
+  public CompletableFuture<GetEventsResponseTO> fetchEventsAsync(
+      long minSequenceNo,
+      long maxSequenceNo,
+      long timeout
+  )
+      throws IllegalArgumentException {
     checkInRange(minSequenceNo, 0, Long.MAX_VALUE, "minSequenceNo");
     checkInRange(maxSequenceNo, minSequenceNo, Long.MAX_VALUE, "maxSequenceNo");
     checkInRange(timeout, 0, Long.MAX_VALUE, "timeout");
 
-    GetEventsResponseTO result = new GetEventsResponseTO();
-    synchronized (events) {
-      Collection<StatusMessage> messages = events.subMap(minSequenceNo, maxSequenceNo).values();
-      if (messages.isEmpty()) {
-        try {
-          events.wait(timeout);
-        }
-        catch (InterruptedException exc) {
-          LOG.warn("Unexpectedly interrupted", exc);
-        }
+    PendingRequest request = new PendingRequest(minSequenceNo, maxSequenceNo);
+    synchronized (lock) {
+      if (timeout > 0 && executor != null && !hasEventsWithin(minSequenceNo, maxSequenceNo)) {
+        pendingRequests.add(request);
+        request.timeoutTask = executor.schedule(
+            () -> {
+              if (removePendingRequest(request)) {
+                request.complete();
+              }
+            },
+            timeout,
+            TimeUnit.MILLISECONDS
+        );
+        return request.result;
       }
-      messages = events.subMap(minSequenceNo, maxSequenceNo).values();
-      result.getStatusMessages().addAll(messages);
     }
-    return result;
+    // There are events to be returned already, so convert them right away.
+    request.complete();
+    return request.result;
   }
 
   private void handleStateTransition(KernelStateTransitionEvent event) {
@@ -178,70 +273,169 @@ public class StatusEventDispatcher
 
     // When switching collecting of events on, ensure we start clean.
     if (!wasOn && eventCollectingOn) {
-      synchronized (events) {
+      synchronized (lock) {
         eventCount = 0;
-        events.clear();
+        storedEventCount = 0;
+        events = new RecordedEvent[0];
       }
     }
   }
 
   private void handleObjectEvent(TCSObjectEvent event) {
     TCSObject<?> object = event.getCurrentOrPreviousObjectState();
-    if (object instanceof TransportOrder) {
-      synchronized (events) {
-        addOrderStatusMessage((TransportOrder) object, eventCount);
+    if (object instanceof TransportOrder
+        || object instanceof Vehicle
+        || object instanceof PeripheralJob) {
+      Instant timestamp = Instant.now();
+      synchronized (lock) {
+        addEvent(new RecordedEvent(object, eventCount, timestamp));
         eventCount++;
-        cleanUpEvents();
-        events.notifyAll();
+        notifyPendingRequests(eventCount - 1);
       }
     }
-    else if (object instanceof Vehicle) {
-      synchronized (events) {
-        addVehicleStatusMessage((Vehicle) object, eventCount);
-        eventCount++;
-        cleanUpEvents();
-        events.notifyAll();
+  }
+
+  private void addEvent(RecordedEvent event) {
+    int configuredCapacity = configuration.statusEventsCapacity();
+    int maxEventCount = Math.max(configuredCapacity, 1);
+    if (events.length != maxEventCount) {
+      if (configuredCapacity < 1) {
+        LOG.warn(
+            "Invalid status events capacity {}, keeping only the most recent event.",
+            configuredCapacity
+        );
       }
+      resizeEvents(maxEventCount);
     }
-    else if (object instanceof PeripheralJob) {
-      synchronized (events) {
-        addPeripheralStatusMessage((PeripheralJob) object, eventCount);
-        eventCount++;
-        cleanUpEvents();
-        events.notifyAll();
+    events[(int) (event.sequenceNumber % events.length)] = event;
+    storedEventCount = Math.min(storedEventCount + 1, events.length);
+  }
+
+  private void resizeEvents(int maxEventCount) {
+    RecordedEvent[] newEvents = new RecordedEvent[maxEventCount];
+    // Keep the most recent events that fit into the new array.
+    int keptEventCount = Math.min(storedEventCount, maxEventCount - 1);
+    for (long seqNo = eventCount - keptEventCount; seqNo < eventCount; seqNo++) {
+      newEvents[(int) (seqNo % maxEventCount)] = events[(int) (seqNo % events.length)];
+    }
+    events = newEvents;
+    storedEventCount = keptEventCount;
+  }
+
+  private boolean hasEventsWithin(long minSequenceNo, long maxSequenceNo) {
+    return Math.max(minSequenceNo, eventCount - storedEventCount)
+        < Math.min(maxSequenceNo, eventCount);
+  }
+
+  private List<RecordedEvent> getEventsWithin(long minSequenceNo, long maxSequenceNo) {
+    synchronized (lock) {
+      List<RecordedEvent> result = new ArrayList<>();
+      long upperBound = Math.min(maxSequenceNo, eventCount);
+      for (long seqNo = Math.max(minSequenceNo, eventCount - storedEventCount);
+          seqNo < upperBound;
+          seqNo++) {
+        result.add(events[(int) (seqNo % events.length)]);
+      }
+      return result;
+    }
+  }
+
+  private void notifyPendingRequests(long sequenceNumber) {
+    List<PendingRequest> satisfiedRequests = new ArrayList<>();
+    pendingRequests.removeIf(request -> {
+      if (request.minSequenceNo <= sequenceNumber && sequenceNumber < request.maxSequenceNo) {
+        satisfiedRequests.add(request);
+        return true;
       }
+      return false;
+    });
+    for (PendingRequest request : satisfiedRequests) {
+      request.timeoutTask.cancel(false);
+      // Convert and complete on our own thread, not on the one emitting events.
+      executor.execute(request::complete);
     }
   }
 
-  private void addOrderStatusMessage(TransportOrder order, long sequenceNumber) {
-    events.put(
-        sequenceNumber,
-        transportOrderConverter.toOrderStatusMessage(order, sequenceNumber, Instant.now())
-    );
+  private boolean removePendingRequest(PendingRequest request) {
+    synchronized (lock) {
+      return pendingRequests.remove(request);
+    }
   }
 
-  private void addVehicleStatusMessage(Vehicle vehicle, long sequenceNumber) {
-    events.put(
-        sequenceNumber, vehicleConverter.toVehicleStatusMessage(
-            vehicle,
-            sequenceNumber,
-            Instant.now()
-        )
-    );
+  private StatusMessage toStatusMessage(RecordedEvent event) {
+    if (event.object instanceof TransportOrder order) {
+      return transportOrderConverter.toOrderStatusMessage(
+          order,
+          event.sequenceNumber,
+          event.timestamp
+      );
+    }
+    else if (event.object instanceof Vehicle vehicle) {
+      return vehicleConverter.toVehicleStatusMessage(
+          vehicle,
+          event.sequenceNumber,
+          event.timestamp
+      );
+    }
+    else {
+      return peripheralJobConverter.toPeripheralJobStatusMessage(
+          (PeripheralJob) event.object,
+          event.sequenceNumber,
+          event.timestamp
+      );
+    }
   }
 
-  private void addPeripheralStatusMessage(PeripheralJob job, long sequenceNumber) {
-    events.put(
-        sequenceNumber,
-        peripheralJobConverter.toPeripheralJobStatusMessage(job, sequenceNumber, Instant.now())
-    );
+  /**
+   * An event collected, with the status message for it created on demand.
+   */
+  private class RecordedEvent {
+
+    private final TCSObject<?> object;
+    private final long sequenceNumber;
+    private final Instant timestamp;
+    private StatusMessage statusMessage;
+
+    RecordedEvent(TCSObject<?> object, long sequenceNumber, Instant timestamp) {
+      this.object = object;
+      this.sequenceNumber = sequenceNumber;
+      this.timestamp = timestamp;
+    }
+
+    synchronized StatusMessage getStatusMessage() {
+      if (statusMessage == null) {
+        statusMessage = toStatusMessage(this);
+      }
+      return statusMessage;
+    }
   }
 
-  private void cleanUpEvents() {
-    // XXX Sanitize maxEventCount
-    int maxEventCount = configuration.statusEventsCapacity();
-    while (events.size() > maxEventCount) {
-      events.remove(events.firstKey());
+  /**
+   * A request for events within a range of sequence numbers.
+   */
+  private class PendingRequest {
+
+    private final long minSequenceNo;
+    private final long maxSequenceNo;
+    private final CompletableFuture<GetEventsResponseTO> result = new CompletableFuture<>();
+    private ScheduledFuture<?> timeoutTask;
+
+    PendingRequest(long minSequenceNo, long maxSequenceNo) {
+      this.minSequenceNo = minSequenceNo;
+      this.maxSequenceNo = maxSequenceNo;
+    }
+
+    void complete() {
+      try {
+        GetEventsResponseTO response = new GetEventsResponseTO();
+        for (RecordedEvent event : getEventsWithin(minSequenceNo, maxSequenceNo)) {
+          response.getStatusMessages().add(event.getStatusMessage());
+        }
+        result.complete(response);
+      }
+      catch (RuntimeException exc) {
+        result.completeExceptionally(exc);
+      }
     }
   }
 }
@@ -130,23 +130,21 @@ public class TransportOrderHandler {
       @Nullable
       String intendedVehicle
   ) {
-    return executorWrapper.callAndWait(() -> {
-      TCSObjectReference<Vehicle> intendedVehicleRef
-          = Optional.ofNullable(intendedVehicle)
-              .map(name -> orderService.fetch(Vehicle.class, name).orElse(null))
-              .map(Vehicle::getReference)
-              .orElse(null);
-
-      if (intendedVehicle != null && intendedVehicleRef == null) {
-        throw new ObjectUnknownException("Unknown vehicle: " + intendedVehicle);
-      }
+    TCSObjectReference<Vehicle> intendedVehicleRef
+        = Optional.ofNullable(intendedVehicle)
+            .map(name -> orderService.fetch(Vehicle.class, name).orElse(null))
+            .map(Vehicle::getReference)
+            .orElse(null);
+
+    if (intendedVehicle != null && intendedVehicleRef == null) {
+      throw new ObjectUnknownException("Unknown vehicle: " + intendedVehicle);
+    }
 
-      return orderService.stream(TransportOrder.class)
-          .filter(Filters.transportOrderWithIntendedVehicle(intendedVehicleRef))
-          .map(order -> transportOrderConverter.toGetTransportOrderResponse(order))
-          .sorted(Comparator.comparing(GetTransportOrderResponseTO::getName))
-          .collect(Collectors.toList());
-    });
+    return orderService.stream(TransportOrder.class)
+        .filter(Filters.transportOrderWithIntendedVehicle(intendedVehicleRef))
+        .map(order -> transportOrderConverter.toGetTransportOrderResponse(order))
+        .sorted(Comparator.comparing(GetTransportOrderResponseTO::getName))
+        .collect(Collectors.toList());
   }
 
   /**
@@ -160,11 +158,9 @@ public class TransportOrderHandler {
       throws ObjectUnknownException {
     requireNonNull(name, "name");
 
-    return executorWrapper.callAndWait(() -> {
-      return orderService.fetch(TransportOrder.class, name)
-          .map(order -> transportOrderConverter.toGetTransportOrderResponse(order))
-          .orElseThrow(() -> new ObjectUnknownException("Unknown transport order: " + name));
-    });
+    return orderService.fetch(TransportOrder.class, name)
+        .map(order -> transportOrderConverter.toGetTransportOrderResponse(order))
+        .orElseThrow(() -> new ObjectUnknownException("Unknown transport order: " + name));
   }
 
   public OrderSequence createOrderSequence(String name, PostOrderSequenceRequestTO sequence)
@@ -203,34 +199,30 @@ public class TransportOrderHandler {
       @Nullable
       String intendedVehicle
   ) {
-    return executorWrapper.callAndWait(() -> {
-      TCSObjectReference<Vehicle> intendedVehicleRef
-          = Optional.ofNullable(intendedVehicle)
-              .map(name -> orderService.fetch(Vehicle.class, name).orElse(null))
-              .map(Vehicle::getReference)
-              .orElse(null);
-
-      if (intendedVehicle != null && intendedVehicleRef == null) {
-        throw new ObjectUnknownException("Unknown vehicle: " + intendedVehicle);
-      }
+    TCSObjectReference<Vehicle> intendedVehicleRef
+        = Optional.ofNullable(intendedVehicle)
+            .map(name -> orderService.fetch(Vehicle.class, name).orElse(null))
+            .map(Vehicle::getReference)
+            .orElse(null);
+
+    if (intendedVehicle != null && intendedVehicleRef == null) {
+      throw new ObjectUnknownException("Unknown vehicle: " + intendedVehicle);
+    }
 
-      return orderService.stream(OrderSequence.class)
-          .filter(Filters.orderSequenceWithIntendedVehicle(intendedVehicleRef))
-          .map(sequence -> orderSequenceConverter.toGetOrderSequenceResponseTO(sequence))
-          .sorted(Comparator.comparing(GetOrderSequenceResponseTO::getName))
-          .collect(Collectors.toList());
-    });
+    return orderService.stream(OrderSequence.class)
+        .filter(Filters.orderSequenceWithIntendedVehicle(intendedVehicleRef))
+        .map(sequence -> orderSequenceConverter.toGetOrderSequenceResponseTO(sequence))
+        .sorted(Comparator.comparing(GetOrderSequenceResponseTO::getName))
+        .collect(Collectors.toList());
   }
 
   public GetOrderSequenceResponseTO getOrderSequenceByName(String name)
       throws ObjectUnknownException {
     requireNonNull(name, "name");
 
-    return executorWrapper.callAndWait(() -> {
-      return orderService.fetch(OrderSequence.class, name)
-          .map(sequence -> orderSequenceConverter.toGetOrderSequenceResponseTO(sequence))
-          .orElseThrow(() -> new ObjectUnknownException("Unknown transport order: " + name));
-    });
+    return orderService.fetch(OrderSequence.class, name)
+        .map(sequence -> orderSequenceConverter.toGetOrderSequenceResponseTO(sequence))
+        .orElseThrow(() -> new ObjectUnknownException("Unknown transport order: " + name));
   }
 
   private List<DestinationCreationTO> destinations(PostTransportOrderRequestTO order) {
@@ -13,18 +13,21 @@ import io.javalin.apibuilder.EndpointGroup;
 import io.javalin.http.Context;
 import jakarta.inject.Inject;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import org.opentcs.access.Kernel;
 import org.opentcs.access.KernelRuntimeException;
 import org.opentcs.access.LocalKernel;
+import org.opentcs.common.metrics.MetricsRegistry;
 import org.opentcs.customizations.kernel.KernelExecutor;
 import org.opentcs.data.ObjectExistsException;
 import org.opentcs.data.ObjectUnknownException;
 import org.opentcs.kernel.extensions.servicewebapi.HttpConstants;
 import org.opentcs.kernel.extensions.servicewebapi.JsonBinder;
 import org.opentcs.kernel.extensions.servicewebapi.RequestHandler;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.GetEventsResponseTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PlantModelTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostOrderSequenceRequestTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostPeripheralJobRequestTO;
@@ -73,6 +76,7 @@ public class V1RequestHandler
   private final VehicleAttachmentInformationConverter vehicleAttachmentInformationConverter;
   private final LocalKernel kernel;
   private final ScheduledExecutorService kernelExecutor;
+  private final MetricsRegistry metricsRegistry;
 
   private boolean initialized;
 
@@ -96,7 +100,8 @@ public class V1RequestHandler
       VehicleAttachmentInformationConverter vehicleAttachmentInformationConverter,
       LocalKernel kernel,
       @KernelExecutor
-      ScheduledExecutorService kernelExecutor
+      ScheduledExecutorService kernelExecutor,
+      MetricsRegistry metricsRegistry
   ) {
     this.jsonBinder = requireNonNull(jsonBinder, "jsonBinder");
     this.statusEventDispatcher = requireNonNull(statusEventDispatcher, "statusEventDispatcher");
@@ -122,6 +127,7 @@ public class V1RequestHandler
     );
     this.kernel = requireNonNull(kernel, "kernel");
     this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
+    this.metricsRegistry = requireNonNull(metricsRegistry, "metricsRegistry");
   }
 
   @Override
@@ -158,6 +164,7 @@ public class V1RequestHandler
           get("/kernel/version", this::handleGetVersion);
           delete("/kernel", this::handleDeleteKernel);
           get("/events", this::handleGetEvents);
+          get("/metrics", this::handleGetMetrics);
           post("/vehicles/dispatcher/trigger", this::handlePostDispatcherTrigger);
           post("/vehicles/{NAME}/routeComputationQuery", this::handleGetVehicleRoutes);
           put(
@@ -257,11 +264,18 @@ public class V1RequestHandler
       throws IllegalArgumentException,
         IllegalStateException {
     ctx.contentType(HttpConstants.CONTENT_TYPE_APPLICATION_JSON_UTF8);
-    ctx.result(
-        jsonBinder.toJson(
-            statusEventDispatcher.fetchEvents(minSequenceNo(ctx), maxSequenceNo(ctx), timeout(ctx))
-        )
+    // Do not block the request thread while waiting for events.
+    CompletableFuture<GetEventsResponseTO> response = statusEventDispatcher.fetchEventsAsync(
+        minSequenceNo(ctx),
+        maxSequenceNo(ctx),
+        timeout(ctx)
     );
+    ctx.future(() -> response.thenAccept(events -> ctx.result(jsonBinder.toJson(events))));
+  }
+
+  private void handleGetMetrics(Context ctx) {
+    ctx.contentType(HttpConstants.CONTENT_TYPE_PROMETHEUS_TEXT_UTF8);
+    ctx.result(metricsRegistry.toPrometheusText());
   }
 
   private void handlePutVehicleCommAdapterEnabled(Context ctx)
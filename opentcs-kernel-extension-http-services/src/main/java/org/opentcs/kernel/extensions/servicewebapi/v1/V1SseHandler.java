@@ -4,16 +4,24 @@ package org.opentcs.kernel.extensions.servicewebapi.v1;
 
 import static java.util.Objects.requireNonNull;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import io.javalin.http.sse.SseClient;
+import jakarta.annotation.Nullable;
 import jakarta.inject.Inject;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
-import org.opentcs.common.LoggingScheduledThreadPoolExecutor;
+import org.opentcs.common.metrics.MetricsRegistry;
 import org.opentcs.components.Lifecycle;
 import org.opentcs.customizations.ApplicationEventBus;
 import org.opentcs.data.TCSObject;
@@ -23,10 +31,15 @@ import org.opentcs.data.order.OrderSequence;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.data.peripherals.PeripheralJob;
 import org.opentcs.kernel.extensions.servicewebapi.JsonBinder;
+import org.opentcs.kernel.extensions.servicewebapi.ServiceWebApiConfiguration;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.sse.ObjectDeltaEventTO;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.sse.OrderSequenceEventTO;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.sse.PeripheralJobEventTO;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.sse.TransportOrderEventTO;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.sse.VehicleEventTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.converter.sse.EventConverter;
 import org.opentcs.util.event.EventHandler;
 import org.opentcs.util.event.EventSource;
-import org.opentcs.util.logging.UncaughtExceptionLogger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,6 +48,11 @@ import org.slf4j.LoggerFactory;
  * <p>
  * This class listens for application events and broadcasts them to connected clients based on their
  * "subscription" preferences.
+ * Each event is queued for every interested client directly, with each client's queue being
+ * processed by a thread of its own. An event's representations are created lazily by the first
+ * client thread requiring them and at most once, so neither the thread emitting the event nor
+ * other clients are delayed by it.
+ * </p>
  */
 public class V1SseHandler
     implements
@@ -46,20 +64,15 @@ public class V1SseHandler
    * The queue of connected clients.
    */
   private final Queue<SseConnection> connections = new ConcurrentLinkedQueue<>();
+  /**
+   * The number of connections established so far, used for naming them.
+   */
+  private final AtomicLong connectionCount = new AtomicLong();
   private final EventSource eventSource;
   private final EventConverter eventConverter;
   private final JsonBinder jsonBinder;
-  /**
-   * The executor service used for precessing kernel events.
-   */
-  private final ExecutorService executor = new LoggingScheduledThreadPoolExecutor(
-      1,
-      runnable -> {
-        Thread thread = new Thread(runnable, "sseExecutor");
-        thread.setUncaughtExceptionHandler(new UncaughtExceptionLogger(false));
-        return thread;
-      }
-  );
+  private final ServiceWebApiConfiguration configuration;
+  private final MetricsRegistry metricsRegistry;
   /**
    * Indicates whether this handler is initialized.
    */
@@ -71,17 +84,37 @@ public class V1SseHandler
    * @param eventSource Where we register for application events.
    * @param eventConverter Converts application events to events to be sent via SSE.
    * @param jsonBinder Converts objects to JSON.
+   * @param configuration The web API's configuration.
+   * @param metricsRegistry The registry to provide metrics on events for clients with.
    */
   @Inject
   public V1SseHandler(
       @ApplicationEventBus
       EventSource eventSource,
       EventConverter eventConverter,
-      JsonBinder jsonBinder
+      JsonBinder jsonBinder,
+      ServiceWebApiConfiguration configuration,
+      MetricsRegistry metricsRegistry
   ) {
     this.eventSource = requireNonNull(eventSource, "eventSource");
     this.eventConverter = requireNonNull(eventConverter, "eventConverter");
     this.jsonBinder = requireNonNull(jsonBinder, "jsonBinder");
+    this.configuration = requireNonNull(configuration, "configuration");
+    this.metricsRegistry = requireNonNull(metricsRegistry, "metricsRegistry");
+
+    metricsRegistry.gauges(
+        "sse_client_dropped_events",
+        "The number of events dropped because the SSE client's queue was full, by connection.",
+        "client",
+        () -> eventCounts(SseConnection.Statistics::droppedEvents)
+    );
+    metricsRegistry.gauges(
+        "sse_client_coalesced_events",
+        "The number of events replaced by newer ones because the SSE client's queue was full, "
+            + "by connection.",
+        "client",
+        () -> eventCounts(SseConnection.Statistics::coalescedEvents)
+    );
   }
 
   @Override
@@ -109,7 +142,8 @@ public class V1SseHandler
     eventSource.unsubscribe(this);
 
     for (SseConnection connection : connections) {
-      connection.client().close();
+      connection.close();
+      connection.getClient().close();
     }
     connections.clear();
 
@@ -118,11 +152,29 @@ public class V1SseHandler
 
   @Override
   public void onEvent(Object event) {
-    executor.submit(() -> {
-      if (event instanceof TCSObjectEvent tcsObjectEvent) {
-        handleObjectEvent(tcsObjectEvent);
+    if (!(event instanceof TCSObjectEvent objectEvent)) {
+      return;
+    }
+
+    String eventType = toEventType(objectEvent.getCurrentOrPreviousObjectState());
+    if (eventType == null) {
+      return;
+    }
+
+    SseEvent sseEvent = null;
+    for (SseConnection connection : connections) {
+      if (!connection.isInterestedIn(
+          eventType,
+          objectEvent.getCurrentObjectState(),
+          objectEvent.getPreviousObjectState()
+      )) {
+        continue;
       }
-    });
+      if (sseEvent == null) {
+        sseEvent = toSseEvent(eventType, objectEvent);
+      }
+      connection.enqueue(sseEvent);
+    }
   }
 
   /**
@@ -136,57 +188,145 @@ public class V1SseHandler
     // Add the client to the queue of connections.
     SseConnection sseConnection = new SseConnection(
         client,
-        queryParamsToEventTypes(client.ctx().queryParamMap())
+        client.ctx().ip() + "#" + connectionCount.incrementAndGet(),
+        queryParamsToEventTypes(client.ctx().queryParamMap()),
+        Boolean.parseBoolean(client.ctx().queryParam(SseConstants.QUERY_PARAM_DELTAS)),
+        queryParamsToObjectFilter(
+            client.ctx().queryParam(SseConstants.QUERY_PARAM_VEHICLES),
+            client.ctx().queryParam(SseConstants.QUERY_PARAM_OBJECTS)
+        ),
+        configuration.sseClientQueueCapacity(),
+        configuration.sseOverflowPolicy(),
+        metricsRegistry
     );
     connections.add(sseConnection);
+    sseConnection.start();
     // Keep the connection alive to be able to continuously broadcast events to connected clients.
     client.keepAlive();
     // Forget the client when the connection is closed.
     client.onClose(() -> {
       LOG.info("Connection to client closed: {}", client);
       connections.remove(sseConnection);
+      sseConnection.close();
     });
   }
 
-  private void handleObjectEvent(TCSObjectEvent event) {
+  /**
+   * Returns the given event count for each open connection.
+   * <p>
+   * As closed connections are removed from the queue of connections, metrics are provided only for
+   * the open ones.
+   * </p>
+   *
+   * @param count Selects the event count from a connection's statistics.
+   * @return The event counts, mapped by connection names.
+   */
+  private Map<String, Double> eventCounts(ToLongFunction<SseConnection.Statistics> count) {
+    Map<String, Double> result = new HashMap<>();
+    for (SseConnection connection : connections) {
+      result.put(connection.getName(), (double) count.applyAsLong(connection.getStatistics()));
+    }
+    return result;
+  }
+
+  @Nullable
+  private static String toEventType(TCSObject<?> object) {
+    if (object instanceof Vehicle) {
+      return SseConstants.EVENT_TYPE_VEHICLES;
+    }
+    else if (object instanceof TransportOrder) {
+      return SseConstants.EVENT_TYPE_TRANSPORT_ORDERS;
+    }
+    else if (object instanceof OrderSequence) {
+      return SseConstants.EVENT_TYPE_ORDER_SEQUENCES;
+    }
+    else if (object instanceof PeripheralJob) {
+      return SseConstants.EVENT_TYPE_PERIPHERAL_JOBS;
+    }
+    return null;
+  }
+
+  /**
+   * Creates the event to be queued for all clients interested in the given one.
+   * <p>
+   * The event's JSON representations (complete and, for modifications, delta) are created at most
+   * once and shared by all clients.
+   * </p>
+   *
+   * @param eventType The event type.
+   * @param event The event.
+   * @return The event to be queued.
+   */
+  private SseEvent toSseEvent(String eventType, TCSObjectEvent event) {
+    String objectName = event.getCurrentOrPreviousObjectState().getName();
+    Supplier<ConvertedEvent> convertedEvent = SseEvent.memoized(() -> convert(event));
+    return new SseEvent(
+        eventType,
+        objectName,
+        event.getType(),
+        () -> jsonBinder.toJson(convertedEvent.get().eventTO()),
+        () -> jsonBinder.toJson(
+            toDeltaEventTO(
+                objectName,
+                convertedEvent.get().previousStateTO(),
+                convertedEvent.get().currentStateTO()
+            )
+        )
+    );
+  }
+
+  private ConvertedEvent convert(TCSObjectEvent event) {
     TCSObject<?> object = event.getCurrentOrPreviousObjectState();
     if (object instanceof Vehicle) {
-      sendEventToClients(
-          SseConstants.EVENT_TYPE_VEHICLES,
-          jsonBinder.toJson(eventConverter.convertVehicleEvent(event))
+      VehicleEventTO eventTO = eventConverter.convertVehicleEvent(event);
+      return new ConvertedEvent(
+          eventTO,
+          eventTO.getPreviousObjectState(),
+          eventTO.getCurrentObjectState()
       );
     }
     else if (object instanceof TransportOrder) {
-      sendEventToClients(
-          SseConstants.EVENT_TYPE_TRANSPORT_ORDERS,
-          jsonBinder.toJson(eventConverter.convertTransportOrderEvent(event))
+      TransportOrderEventTO eventTO = eventConverter.convertTransportOrderEvent(event);
+      return new ConvertedEvent(
+          eventTO,
+          eventTO.getPreviousObjectState(),
+          eventTO.getCurrentObjectState()
       );
     }
     else if (object instanceof OrderSequence) {
-      sendEventToClients(
-          SseConstants.EVENT_TYPE_ORDER_SEQUENCES,
-          jsonBinder.toJson(eventConverter.convertOrderSequenceEvent(event))
+      OrderSequenceEventTO eventTO = eventConverter.convertOrderSequenceEvent(event);
+      return new ConvertedEvent(
+          eventTO,
+          eventTO.getPreviousObjectState(),
+          eventTO.getCurrentObjectState()
       );
     }
     else if (object instanceof PeripheralJob) {
-      sendEventToClients(
-          SseConstants.EVENT_TYPE_PERIPHERAL_JOBS,
-          jsonBinder.toJson(eventConverter.convertPeripheralJobEvent(event))
+      PeripheralJobEventTO eventTO = eventConverter.convertPeripheralJobEvent(event);
+      return new ConvertedEvent(
+          eventTO,
+          eventTO.getPreviousObjectState(),
+          eventTO.getCurrentObjectState()
       );
     }
+    throw new IllegalArgumentException("Unsupported object: " + object);
   }
 
-  private void sendEventToClients(String eventType, String data) {
-    for (SseConnection connection : connections) {
-      try {
-        if (connection.eventTypes().contains(eventType)) {
-          connection.client().sendEvent(eventType, data);
-        }
-      }
-      catch (Exception e) {
-        LOG.warn("Failed to send event to client {}: {}", connection.client(), e.getMessage());
+  private ObjectDeltaEventTO toDeltaEventTO(
+      String objectName,
+      Object previousStateTO,
+      Object currentStateTO
+  ) {
+    JsonNode previousState = jsonBinder.toJsonTree(previousStateTO);
+    JsonNode currentState = jsonBinder.toJsonTree(currentStateTO);
+
+    Map<String, JsonNode> changedProperties = new LinkedHashMap<>();
+    for (Map.Entry<String, JsonNode> property : currentState.properties()) {
+      if (!property.getValue().equals(previousState.get(property.getKey()))) {
+        changedProperties.put(property.getKey(), property.getValue());
       }
     }
+    return new ObjectDeltaEventTO(objectName, changedProperties);
   }
 
   private Set<String> queryParamsToEventTypes(Map<String, List<String>> queryParamMap) {
@@ -208,23 +348,38 @@ public class V1SseHandler
         .collect(Collectors.toSet());
   }
 
+  private Predicate<TCSObject<?>> queryParamsToObjectFilter(
+      @Nullable
+      String vehicles,
+      @Nullable
+      String objects
+  ) {
+    return Filters.objectRelatedToVehicles(toNames(vehicles))
+        .and(Filters.objectNamed(toNames(objects)));
+  }
+
+  @Nullable
+  private Set<String> toNames(
+      @Nullable
+      String names
+  ) {
+    if (names == null || names.isBlank()) {
+      return null;
+    }
+
+    return Arrays.stream(names.split(","))
+        .map(String::trim)
+        .filter(name -> !name.isEmpty())
+        .collect(Collectors.toSet());
+  }
+
   /**
-   * Represents a connection to a client.
+   * An event converted to its transfer object representation.
    *
-   * @param client The client this connection is associated with.
-   * @param eventTypes The event types the associated client is interested in.
+   * @param eventTO The event's representation.
+   * @param previousStateTO The representation of the object's previous state.
+   * @param currentStateTO The representation of the object's current state.
    */
-  private record SseConnection(SseClient client, Set<String> eventTypes) {
-
-    /**
-     * Creates a new instance.
-     *
-     * @param client The client this connection is associated with.
-     * @param eventTypes The event types the associated client is interested in.
-     */
-    private SseConnection(SseClient client, Set<String> eventTypes) {
-      this.client = requireNonNull(client, "client");
-      this.eventTypes = requireNonNull(eventTypes, "eventTypes");
-    }
+  private record ConvertedEvent(Object eventTO, Object previousStateTO, Object currentStateTO) {
   }
 }
@@ -83,17 +83,15 @@ public class VehicleHandler {
       String procStateName
   )
       throws IllegalArgumentException {
-    return executorWrapper.callAndWait(() -> {
-      Vehicle.ProcState pState = procStateName == null
-          ? null
-          : Vehicle.ProcState.valueOf(procStateName);
-
-      return vehicleService.stream(Vehicle.class)
-          .filter(Filters.vehicleWithProcState(pState))
-          .map(vehicleConverter::toGetVehicleResponseTO)
-          .sorted(Comparator.comparing(GetVehicleResponseTO::getName))
-          .collect(Collectors.toList());
-    });
+    Vehicle.ProcState pState = procStateName == null
+        ? null
+        : Vehicle.ProcState.valueOf(procStateName);
+
+    return vehicleService.stream(Vehicle.class)
+        .filter(Filters.vehicleWithProcState(pState))
+        .map(vehicleConverter::toGetVehicleResponseTO)
+        .sorted(Comparator.comparing(GetVehicleResponseTO::getName))
+        .collect(Collectors.toList());
   }
 
   /**
@@ -107,11 +105,9 @@ public class VehicleHandler {
       throws ObjectUnknownException {
     requireNonNull(name, "name");
 
-    return executorWrapper.callAndWait(() -> {
-      return vehicleService.fetch(Vehicle.class, name)
-          .map(vehicleConverter::toGetVehicleResponseTO)
-          .orElseThrow(() -> new ObjectUnknownException("Unknown vehicle: " + name));
-    });
+    return vehicleService.fetch(Vehicle.class, name)
+        .map(vehicleConverter::toGetVehicleResponseTO)
+        .orElseThrow(() -> new ObjectUnknownException("Unknown vehicle: " + name));
   }
 
   public void putVehicleIntegrationLevel(String name, String value)
@@ -0,0 +1,38 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi.v1.binding.sse;
+
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.annotation.Nonnull;
+import java.util.Map;
+import org.opentcs.data.TCSObjectEvent;
+
+/**
+ * A transfer object (to be used with the SSE API) representing a {@link TCSObjectEvent} for the
+ * modification of an object, containing only the object's changed properties and their new values.
+ */
+public class ObjectDeltaEventTO {
+
+  private final String objectName;
+  private final Map<String, JsonNode> changedProperties;
+
+  public ObjectDeltaEventTO(
+      @Nonnull
+      String objectName,
+      @Nonnull
+      Map<String, JsonNode> changedProperties
+  ) {
+    this.objectName = requireNonNull(objectName, "objectName");
+    this.changedProperties = requireNonNull(changedProperties, "changedProperties");
+  }
+
+  public String getObjectName() {
+    return objectName;
+  }
+
+  public Map<String, JsonNode> getChangedProperties() {
+    return changedProperties;
+  }
+}
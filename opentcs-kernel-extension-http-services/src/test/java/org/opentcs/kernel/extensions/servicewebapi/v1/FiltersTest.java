@@ -6,9 +6,12 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 
 import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
+import org.opentcs.data.TCSObject;
 import org.opentcs.data.model.Location;
 import org.opentcs.data.model.LocationType;
 import org.opentcs.data.model.Vehicle;
@@ -283,4 +286,56 @@ class FiltersTest {
         is(false)
     );
   }
+
+  @Test
+  void acceptObjectsRelatedToGivenVehiclesOnly() {
+    Vehicle vehicle = new Vehicle("some-vehicle");
+    Vehicle otherVehicle = new Vehicle("other-vehicle");
+    Predicate<TCSObject<?>> filter = Filters.objectRelatedToVehicles(Set.of("some-vehicle"));
+
+    assertThat(filter.test(vehicle), is(true));
+    assertThat(filter.test(otherVehicle), is(false));
+    assertThat(
+        filter.test(
+            new TransportOrder("some-order", List.of())
+                .withProcessingVehicle(vehicle.getReference())
+        ),
+        is(true)
+    );
+    assertThat(
+        filter.test(
+            new OrderSequence("some-sequence")
+                .withIntendedVehicle(otherVehicle.getReference())
+        ),
+        is(false)
+    );
+    assertThat(
+        filter.test(
+            new PeripheralJob(
+                "some-job",
+                "some-token",
+                new PeripheralOperation(
+                    new Location("some-location", new LocationType("some-type").getReference())
+                        .getReference(),
+                    "some-operation",
+                    PeripheralOperation.ExecutionTrigger.AFTER_ALLOCATION,
+                    true
+                )
+            )
+                .withRelatedVehicle(vehicle.getReference())
+        ),
+        is(true)
+    );
+    assertThat(Filters.objectRelatedToVehicles(null).test(otherVehicle), is(true));
+  }
+
+  @Test
+  void acceptObjectsWithGivenNamesOnly() {
+    Predicate<TCSObject<?>> filter = Filters.objectNamed(Set.of("some-vehicle", "some-order"));
+
+    assertThat(filter.test(new Vehicle("some-vehicle")), is(true));
+    assertThat(filter.test(new TransportOrder("some-order", List.of())), is(true));
+    assertThat(filter.test(new Vehicle("other-vehicle")), is(false));
+    assertThat(Filters.objectNamed(null).test(new Vehicle("other-vehicle")), is(true));
+  }
 }
@@ -0,0 +1,196 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi.v1;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import io.javalin.http.sse.SseClient;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.common.metrics.MetricsRegistry;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.kernel.extensions.servicewebapi.ServiceWebApiConfiguration.SseOverflowPolicy;
+
+/**
+ * Unit tests for {@link SseConnection}.
+ */
+class SseConnectionTest {
+
+  private static final String EVENT_TYPE = SseConstants.EVENT_TYPE_VEHICLES;
+
+  private SseClient client;
+  private MetricsRegistry metricsRegistry;
+  private SseConnection connection;
+
+  @BeforeEach
+  void setUp() {
+    client = mock();
+    metricsRegistry = new MetricsRegistry(true);
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (connection != null) {
+      connection.close();
+    }
+  }
+
+  @Test
+  void sendQueuedEventsInOrder() {
+    connection = createConnection(10, SseOverflowPolicy.DROP, false);
+
+    connection.enqueue(modification("vehicle-1", "event-1"));
+    connection.enqueue(modification("vehicle-1", "event-2"));
+    connection.start();
+
+    verify(client, timeout(1000)).sendEvent(EVENT_TYPE, "event-1");
+    verify(client, timeout(1000)).sendEvent(EVENT_TYPE, "event-2");
+  }
+
+  @Test
+  void dropModificationsWhenQueueIsFull() {
+    connection = createConnection(2, SseOverflowPolicy.DROP, false);
+
+    connection.enqueue(modification("vehicle-1", "vehicle-1-a"));
+    connection.enqueue(modification("vehicle-2", "vehicle-2-a"));
+    connection.enqueue(modification("vehicle-1", "vehicle-1-b"));
+
+    assertThat(connection.getStatistics())
+        .isEqualTo(new SseConnection.Statistics(2, 0, 1, 0));
+    assertThat(metricsRegistry.getSamples())
+        .containsEntry("sse_events_total{outcome=\"dropped\"}", 1.0);
+
+    connection.start();
+
+    verify(client, timeout(1000)).sendEvent(EVENT_TYPE, "vehicle-1-a");
+    verify(client, timeout(1000)).sendEvent(EVENT_TYPE, "vehicle-2-a");
+    verify(client, never()).sendEvent(EVENT_TYPE, "vehicle-1-b");
+  }
+
+  @Test
+  void coalesceModificationsOfSameObjectWhenQueueIsFull() {
+    connection = createConnection(2, SseOverflowPolicy.COALESCE, false);
+
+    connection.enqueue(modification("vehicle-1", "vehicle-1-a"));
+    connection.enqueue(modification("vehicle-2", "vehicle-2-a"));
+    connection.enqueue(modification("vehicle-1", "vehicle-1-b"));
+    // Modifications of objects without queued events cannot replace queued ones and are dropped.
+    connection.enqueue(modification("vehicle-3", "vehicle-3-a"));
+
+    assertThat(connection.getStatistics())
+        .isEqualTo(new SseConnection.Statistics(2, 0, 1, 1));
+    assertThat(metricsRegistry.getSamples())
+        .containsEntry("sse_events_total{outcome=\"coalesced\"}", 1.0);
+
+    connection.start();
+
+    verify(client, timeout(1000)).sendEvent(EVENT_TYPE, "vehicle-1-b");
+    verify(client, timeout(1000)).sendEvent(EVENT_TYPE, "vehicle-2-a");
+    verify(client, never()).sendEvent(EVENT_TYPE, "vehicle-1-a");
+    verify(client, never()).sendEvent(EVENT_TYPE, "vehicle-3-a");
+  }
+
+  @Test
+  void neverDropCreationsAndRemovals() {
+    connection = createConnection(1, SseOverflowPolicy.COALESCE, false);
+
+    connection.enqueue(modification("vehicle-1", "vehicle-1-a"));
+    connection.enqueue(lifecycleEvent("vehicle-2", TCSObjectEvent.Type.OBJECT_CREATED));
+    connection.enqueue(lifecycleEvent("vehicle-1", TCSObjectEvent.Type.OBJECT_REMOVED));
+    // Modifications must not be coalesced with ones that happened before a removal.
+    connection.enqueue(modification("vehicle-1", "vehicle-1-b"));
+
+    assertThat(connection.getStatistics())
+        .isEqualTo(new SseConnection.Statistics(3, 0, 1, 0));
+
+    connection.start();
+
+    verify(client, timeout(1000)).sendEvent(EVENT_TYPE, "vehicle-1-a");
+    verify(client, timeout(1000)).sendEvent(EVENT_TYPE, "vehicle-2-OBJECT_CREATED");
+    verify(client, timeout(1000)).sendEvent(EVENT_TYPE, "vehicle-1-OBJECT_REMOVED");
+    verify(client, never()).sendEvent(EVENT_TYPE, "vehicle-1-b");
+  }
+
+  @Test
+  void sendCompleteModificationAfterDroppingDelta() {
+    connection = createConnection(1, SseOverflowPolicy.DROP, true);
+
+    connection.enqueue(modification("vehicle-1", "vehicle-1-a"));
+    connection.enqueue(modification("vehicle-1", "vehicle-1-b"));
+    connection.start();
+
+    verify(client, timeout(1000)).sendEvent(EVENT_TYPE, "vehicle-1-a-delta");
+
+    connection.enqueue(modification("vehicle-1", "vehicle-1-c"));
+
+    verify(client, timeout(1000)).sendEvent(EVENT_TYPE, "vehicle-1-c");
+    verify(client, never()).sendEvent(EVENT_TYPE, "vehicle-1-c-delta");
+    verify(client, never()).sendEvent(EVENT_TYPE, "vehicle-1-b-delta");
+  }
+
+  @Test
+  void considerEventTypesAndObjectFilter() {
+    connection = new SseConnection(
+        client,
+        "some-connection",
+        Set.of(EVENT_TYPE),
+        false,
+        Filters.objectRelatedToVehicles(Set.of("vehicle-1")),
+        10,
+        SseOverflowPolicy.DROP,
+        metricsRegistry
+    );
+    Vehicle vehicle1 = new Vehicle("vehicle-1");
+    Vehicle vehicle2 = new Vehicle("vehicle-2");
+
+    assertThat(connection.isInterestedIn(EVENT_TYPE, vehicle1, null)).isTrue();
+    assertThat(connection.isInterestedIn(EVENT_TYPE, null, vehicle1)).isTrue();
+    assertThat(connection.isInterestedIn(EVENT_TYPE, vehicle2, vehicle2)).isFalse();
+    assertThat(connection.isInterestedIn(SseConstants.EVENT_TYPE_TRANSPORT_ORDERS, vehicle1, null))
+        .isFalse();
+  }
+
+  private SseConnection createConnection(
+      int queueCapacity,
+      SseOverflowPolicy overflowPolicy,
+      boolean deltas
+  ) {
+    return new SseConnection(
+        client,
+        "some-connection",
+        Set.of(EVENT_TYPE),
+        deltas,
+        object -> true,
+        queueCapacity,
+        overflowPolicy,
+        metricsRegistry
+    );
+  }
+
+  private SseEvent modification(String objectName, String data) {
+    return new SseEvent(
+        EVENT_TYPE,
+        objectName,
+        TCSObjectEvent.Type.OBJECT_MODIFIED,
+        () -> data,
+        () -> data + "-delta"
+    );
+  }
+
+  private SseEvent lifecycleEvent(String objectName, TCSObjectEvent.Type type) {
+    return new SseEvent(
+        EVENT_TYPE,
+        objectName,
+        type,
+        () -> objectName + "-" + type,
+        () -> objectName + "-" + type + "-delta"
+    );
+  }
+}
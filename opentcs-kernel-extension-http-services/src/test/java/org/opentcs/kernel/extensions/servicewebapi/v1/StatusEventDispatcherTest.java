@@ -7,6 +7,8 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -125,6 +127,110 @@ class StatusEventDispatcherTest {
     assertThat(result.getStatusMessages().get(9).getSequenceNumber()).isEqualTo(19);
   }
 
+  @Test
+  void respectChangedCapacity() {
+    // Arrange
+    statusEventDispatcher.onEvent(
+        new KernelStateTransitionEvent(Kernel.State.MODELLING, Kernel.State.OPERATING, true)
+    );
+
+    TransportOrder order = new TransportOrder("some-order", List.of());
+    for (int i = 0; i < 20; i++) {
+      statusEventDispatcher.onEvent(
+          new TCSObjectEvent(order, order, TCSObjectEvent.Type.OBJECT_MODIFIED)
+      );
+    }
+    given(configuration.statusEventsCapacity())
+        .willReturn(5);
+    statusEventDispatcher.onEvent(
+        new TCSObjectEvent(order, order, TCSObjectEvent.Type.OBJECT_MODIFIED)
+    );
+
+    // Act
+    GetEventsResponseTO result = statusEventDispatcher.fetchEvents(0, Long.MAX_VALUE, 1);
+
+    // Assert
+    assertThat(result.getStatusMessages()).hasSize(5);
+    assertThat(result.getStatusMessages().get(0).getSequenceNumber()).isEqualTo(16);
+    assertThat(result.getStatusMessages().get(4).getSequenceNumber()).isEqualTo(20);
+  }
+
+  @Test
+  void completePendingRequestWhenEventArrives()
+      throws Exception {
+    // Arrange
+    statusEventDispatcher.onEvent(
+        new KernelStateTransitionEvent(Kernel.State.MODELLING, Kernel.State.OPERATING, true)
+    );
+    TransportOrder order = new TransportOrder("some-order", List.of());
+    CompletableFuture<GetEventsResponseTO> laterEvents
+        = statusEventDispatcher.fetchEventsAsync(1, Long.MAX_VALUE, 60000);
+    CompletableFuture<GetEventsResponseTO> anyEvents
+        = statusEventDispatcher.fetchEventsAsync(0, Long.MAX_VALUE, 60000);
+
+    // Act
+    statusEventDispatcher.onEvent(
+        new TCSObjectEvent(order, order, TCSObjectEvent.Type.OBJECT_MODIFIED)
+    );
+
+    // Assert
+    assertThat(anyEvents.get(5, TimeUnit.SECONDS).getStatusMessages())
+        .hasSize(1)
+        .allMatch(msg -> msg.getSequenceNumber() == 0);
+    assertThat(laterEvents).isNotDone();
+
+    statusEventDispatcher.onEvent(
+        new TCSObjectEvent(order, order, TCSObjectEvent.Type.OBJECT_MODIFIED)
+    );
+
+    assertThat(laterEvents.get(5, TimeUnit.SECONDS).getStatusMessages())
+        .hasSize(1)
+        .allMatch(msg -> msg.getSequenceNumber() == 1);
+  }
+
+  @Test
+  void completePendingRequestOnTermination()
+      throws Exception {
+    // Arrange
+    statusEventDispatcher.onEvent(
+        new KernelStateTransitionEvent(Kernel.State.MODELLING, Kernel.State.OPERATING, true)
+    );
+    CompletableFuture<GetEventsResponseTO> events
+        = statusEventDispatcher.fetchEventsAsync(0, Long.MAX_VALUE, 60000);
+
+    // Act
+    statusEventDispatcher.terminate();
+
+    // Assert
+    assertThat(events.get(5, TimeUnit.SECONDS).getStatusMessages()).isEmpty();
+    // Without the executor, requests are answered immediately.
+    assertThat(statusEventDispatcher.fetchEventsAsync(0, Long.MAX_VALUE, 60000)).isDone();
+  }
+
+  @Test
+  void keepAtLeastOneEventForInvalidCapacity() {
+    // Arrange
+    given(configuration.statusEventsCapacity())
+        .willReturn(0);
+    statusEventDispatcher.onEvent(
+        new KernelStateTransitionEvent(Kernel.State.MODELLING, Kernel.State.OPERATING, true)
+    );
+
+    TransportOrder order = new TransportOrder("some-order", List.of());
+    for (int i = 0; i < 3; i++) {
+      statusEventDispatcher.onEvent(
+          new TCSObjectEvent(order, order, TCSObjectEvent.Type.OBJECT_MODIFIED)
+      );
+    }
+
+    // Act
+    GetEventsResponseTO result = statusEventDispatcher.fetchEvents(0, Long.MAX_VALUE, 1);
+
+    // Assert
+    assertThat(result.getStatusMessages()).hasSize(1);
+    assertThat(result.getStatusMessages().get(0).getSequenceNumber()).isEqualTo(2);
+  }
+
   @Test
   void processEventsForRelatedObjects() {
     // Arrange
@@ -0,0 +1,73 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi.v1;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import io.javalin.http.Context;
+import io.javalin.http.sse.SseClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.opentcs.common.metrics.MetricsRegistry;
+import org.opentcs.kernel.extensions.servicewebapi.JsonBinder;
+import org.opentcs.kernel.extensions.servicewebapi.ServiceWebApiConfiguration;
+import org.opentcs.kernel.extensions.servicewebapi.ServiceWebApiConfiguration.SseOverflowPolicy;
+import org.opentcs.kernel.extensions.servicewebapi.v1.converter.sse.EventConverter;
+import org.opentcs.util.event.SimpleEventBus;
+
+/**
+ * Unit tests for {@link V1SseHandler}.
+ */
+class V1SseHandlerTest {
+
+  private MetricsRegistry metricsRegistry;
+  private V1SseHandler sseHandler;
+
+  @BeforeEach
+  void setUp() {
+    ServiceWebApiConfiguration configuration = mock(ServiceWebApiConfiguration.class);
+    given(configuration.sseClientQueueCapacity()).willReturn(10);
+    given(configuration.sseOverflowPolicy()).willReturn(SseOverflowPolicy.DROP);
+    metricsRegistry = new MetricsRegistry(true);
+    sseHandler = new V1SseHandler(
+        new SimpleEventBus(),
+        mock(EventConverter.class),
+        mock(JsonBinder.class),
+        configuration,
+        metricsRegistry
+    );
+    sseHandler.initialize();
+  }
+
+  @AfterEach
+  void tearDown() {
+    sseHandler.terminate();
+  }
+
+  @Test
+  void provideEventCountsForOpenConnectionsOnly() {
+    SseClient client = mock(SseClient.class);
+    Context context = mock(Context.class);
+    given(client.ctx()).willReturn(context);
+    given(context.ip()).willReturn("127.0.0.1");
+
+    sseHandler.handleSseConnection(client);
+
+    assertThat(metricsRegistry.getSamples())
+        .containsEntry("sse_client_dropped_events{client=\"127.0.0.1#1\"}", 0.0)
+        .containsEntry("sse_client_coalesced_events{client=\"127.0.0.1#1\"}", 0.0);
+
+    ArgumentCaptor<Runnable> closeCallback = ArgumentCaptor.forClass(Runnable.class);
+    verify(client).onClose(closeCallback.capture());
+    closeCallback.getValue().run();
+
+    assertThat(metricsRegistry.getSamples())
+        .doesNotContainKey("sse_client_dropped_events{client=\"127.0.0.1#1\"}")
+        .doesNotContainKey("sse_client_coalesced_events{client=\"127.0.0.1#1\"}");
+  }
+}
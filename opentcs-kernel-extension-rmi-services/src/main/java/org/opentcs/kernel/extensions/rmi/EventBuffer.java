@@ -4,28 +4,68 @@ package org.opentcs.kernel.extensions.rmi;
 
 import static java.util.Objects.requireNonNull;
 import static org.opentcs.util.Assertions.checkArgument;
+import static org.opentcs.util.Assertions.checkInRange;
 
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
 import java.util.ArrayList;
-import java.util.Deque;
-import java.util.LinkedList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
+import org.opentcs.access.rmi.services.EventBufferOverflowEvent;
+import org.opentcs.data.TCSObjectDelta;
 import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.TCSObjectReference;
 import org.opentcs.util.event.EventHandler;
 
 /**
  * Stores events and keeps them until a client fetches them.
+ * <p>
+ * Modifications of the same object are merged into a single event until the client fetches them,
+ * so (apart from events announcing the creation or removal of objects) at most one event per
+ * object is kept. If the number of buffered events nevertheless exceeds this buffer's capacity,
+ * all buffered events are discarded and the client receives an {@link EventBufferOverflowEvent}
+ * instead of them.
+ * </p>
+ * <p>
+ * With delta encoding enabled, modifications of objects for which the client already received a
+ * complete event are handed out as {@link TCSObjectDelta}s.
+ * </p>
  */
 public class EventBuffer
     implements
       EventHandler {
 
   /**
-   * The buffered events.
+   * The buffered events, mapped by keys unique to each of them, in the order in which they
+   * arrived.
    */
-  private final Deque<Object> events = new LinkedList<>();
+  private final Map<Object, Object> events = new LinkedHashMap<>();
+  /**
+   * The keys of buffered modification events that later modifications may be merged with, mapped
+   * by references to the modified objects.
+   */
+  private final Map<TCSObjectReference<?>, Object> modificationKeys = new HashMap<>();
+  /**
+   * The deltas of buffered modification events, mapped by the events' keys.
+   */
+  private final Map<Object, TCSObjectDelta> deltas = new HashMap<>();
+  /**
+   * References to the objects whose current states the client knows from the events it fetched.
+   */
+  private final Set<TCSObjectReference<?>> knownObjects = new HashSet<>();
+  /**
+   * The maximum number of events to be buffered.
+   */
+  private final int capacity;
+  /**
+   * The number of events discarded since the client last fetched events.
+   */
+  private long discardedEventCount;
   /**
    * This buffer's event filter.
    */
@@ -34,27 +74,66 @@ public class EventBuffer
    * A flag indicating whether this event buffer's client is currently waiting for an event.
    */
   private boolean waitingClient;
+  /**
+   * Whether modifications are handed out as deltas, if possible.
+   */
+  private boolean deltaEncoding;
 
   /**
-   * Creates a new instance
+   * Creates a new instance with an unlimited capacity.
    *
    * @param eventFilter This buffer's initial event filter.
    */
   public EventBuffer(
       @Nonnull
       Predicate<Object> eventFilter
+  ) {
+    this(eventFilter, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param eventFilter This buffer's initial event filter.
+   * @param capacity The maximum number of events to be buffered.
+   */
+  public EventBuffer(
+      @Nonnull
+      Predicate<Object> eventFilter,
+      int capacity
   ) {
     this.eventFilter = requireNonNull(eventFilter, "eventFilter");
+    this.capacity = checkInRange(capacity, 1, Integer.MAX_VALUE, "capacity");
   }
 
   // Methods declared in interface EventListener start here
   @Override
   public void onEvent(Object event) {
+    onEvent(event, null);
+  }
+
+  // Methods not declared in any interface start here
+  /**
+   * Processes the given event.
+   *
+   * @param event The event.
+   * @param delta The delta of the event, if it is a modification event, or <code>null</code>.
+   */
+  public void onEvent(
+      @Nonnull
+      Object event,
+      @Nullable
+      TCSObjectDelta delta
+  ) {
     requireNonNull(event, "event");
     synchronized (events) {
       if (eventFilter.test(event)) {
-        if (!tryMergeWithPreviousEvent(event)) {
-          events.add(event);
+        if (discardedEventCount > 0) {
+          // The client will have to fetch the current state of all objects, anyway.
+          discardedEventCount++;
+        }
+        else if (!tryMergeWithPendingModification(event, delta)) {
+          addEvent(event, delta);
         }
 
         // If the client is waiting for an event, wake it up, since there is one now.
@@ -62,15 +141,26 @@ public class EventBuffer
           events.notify();
         }
       }
+      else if (event instanceof TCSObjectEvent objectEvent) {
+        // The client misses a modification, so its state of the object cannot be updated with
+        // deltas any more.
+        TCSObjectReference<?> objectRef
+            = objectEvent.getCurrentOrPreviousObjectState().getReference();
+        modificationKeys.remove(objectRef);
+        knownObjects.remove(objectRef);
+      }
     }
   }
 
-  // Methods not declared in any interface start here
   /**
    * Returns a list of events that are currently stored in this buffer and
    * clears the buffer.
    * If the buffer is currently empty, block until an event arrives, or for the
    * specified amount of time to pass, whichever occurs first.
+   * <p>
+   * If events had to be discarded since the last call to this method, the returned list contains
+   * only an {@link EventBufferOverflowEvent}.
+   * </p>
    *
    * @param timeout The maximum amount of time (in ms) to wait for an event to
    * arrive. Must be at least 0 (in which case this method will return
@@ -82,7 +172,7 @@ public class EventBuffer
       throws IllegalArgumentException {
     checkArgument(timeout >= 0, "timeout < 0: %s", timeout);
     synchronized (events) {
-      if (timeout > 0 && events.isEmpty()) {
+      if (timeout > 0 && events.isEmpty() && discardedEventCount == 0) {
         waitingClient = true;
         try {
           events.wait(timeout);
@@ -94,12 +184,46 @@ public class EventBuffer
           waitingClient = false;
         }
       }
-      List<Object> result = new ArrayList<>(events);
+      List<Object> result;
+      if (discardedEventCount > 0) {
+        result = new ArrayList<>();
+        result.add(new EventBufferOverflowEvent(discardedEventCount));
+        discardedEventCount = 0;
+        knownObjects.clear();
+      }
+      else {
+        result = new ArrayList<>(events.size());
+        for (Map.Entry<Object, Object> entry : events.entrySet()) {
+          result.add(deltaEncoding ? encode(entry.getKey(), entry.getValue()) : entry.getValue());
+        }
+      }
       events.clear();
+      modificationKeys.clear();
+      deltas.clear();
       return result;
     }
   }
 
+  /**
+   * Discards all buffered events because further events destined for this buffer were missed.
+   * The client will receive an {@link EventBufferOverflowEvent} the next time it fetches events.
+   *
+   * @param missedEventCount The number of events that were missed.
+   */
+  public void discardEvents(long missedEventCount) {
+    checkArgument(missedEventCount >= 0, "missedEventCount < 0: %s", missedEventCount);
+    synchronized (events) {
+      discardedEventCount += events.size() + missedEventCount;
+      events.clear();
+      modificationKeys.clear();
+      deltas.clear();
+
+      if (waitingClient) {
+        events.notify();
+      }
+    }
+  }
+
   /**
    * Checks whether a client is currently waiting for events arriving in this
    * buffer.
@@ -124,42 +248,130 @@ public class EventBuffer
   ) {
     synchronized (events) {
       this.eventFilter = requireNonNull(eventFilter);
+      // The new filter may let through modifications of objects the client has not been informed
+      // about, yet.
+      knownObjects.clear();
     }
   }
 
   /**
-   * If possible, merge the given new event with the previous one in the buffer.
+   * Indicates whether modifications are handed out as deltas, if possible.
    *
-   * @param event The new event.
-   * @return <code>true</code> if the new event was merged with the previous one.
+   * @return Whether modifications are handed out as deltas, if possible.
    */
-  private boolean tryMergeWithPreviousEvent(Object event) {
-    if (!(event instanceof TCSObjectEvent currentEvent)
-        || !(events.peekLast() instanceof TCSObjectEvent previousEvent)) {
-      return false;
+  public boolean isDeltaEncoding() {
+    synchronized (events) {
+      return deltaEncoding;
+    }
+  }
+
+  /**
+   * Sets whether modifications are handed out as deltas, if possible.
+   *
+   * @param deltaEncoding Whether modifications are handed out as deltas, if possible.
+   */
+  public void setDeltaEncoding(boolean deltaEncoding) {
+    synchronized (events) {
+      this.deltaEncoding = deltaEncoding;
+      knownObjects.clear();
+    }
+  }
+
+  private void addEvent(Object event, TCSObjectDelta delta) {
+    Object key = new Object();
+    events.put(key, event);
+    if (delta != null) {
+      deltas.put(key, delta);
+    }
+
+    if (event instanceof TCSObjectEvent objectEvent) {
+      TCSObjectReference<?> objectRef
+          = objectEvent.getCurrentOrPreviousObjectState().getReference();
+      if (objectEvent.getType() == TCSObjectEvent.Type.OBJECT_MODIFIED) {
+        modificationKeys.put(objectRef, key);
+      }
+      else {
+        // Later modifications must not be merged with modifications that happened before the
+        // object was created or removed.
+        modificationKeys.remove(objectRef);
+      }
+    }
+
+    if (events.size() > capacity) {
+      discardedEventCount = events.size();
+      events.clear();
+      modificationKeys.clear();
+      deltas.clear();
     }
+  }
 
-    if (currentEvent.getType() != TCSObjectEvent.Type.OBJECT_MODIFIED
-        || previousEvent.getType() != TCSObjectEvent.Type.OBJECT_MODIFIED) {
+  /**
+   * If possible, merge the given new event with a pending modification of the same object in the
+   * buffer.
+   * <p>
+   * The merged event is moved to the end of the buffer, as the new state of the object may refer
+   * to objects whose creation was buffered after the pending modification.
+   * </p>
+   *
+   * @param event The new event.
+   * @param delta The delta of the new event, or <code>null</code>.
+   * @return <code>true</code> if the new event was merged with a pending one.
+   */
+  private boolean tryMergeWithPendingModification(Object event, TCSObjectDelta delta) {
+    if (!(event instanceof TCSObjectEvent currentEvent)
+        || currentEvent.getType() != TCSObjectEvent.Type.OBJECT_MODIFIED) {
       return false;
     }
 
-    if (!Objects.equals(
-        currentEvent.getCurrentObjectState().getReference(),
-        previousEvent.getCurrentObjectState().getReference()
-    )) {
+    Object key = modificationKeys.get(currentEvent.getCurrentObjectState().getReference());
+    if (key == null) {
       return false;
     }
 
-    events.removeLast();
-    events.add(
+    TCSObjectEvent previousEvent = (TCSObjectEvent) events.remove(key);
+    events.put(
+        key,
         new TCSObjectEvent(
             currentEvent.getCurrentObjectState(),
             previousEvent.getPreviousObjectState(),
             TCSObjectEvent.Type.OBJECT_MODIFIED
         )
     );
+    TCSObjectDelta previousDelta = deltas.get(key);
+    if (previousDelta != null && delta != null) {
+      deltas.put(key, previousDelta.mergeWith(delta));
+    }
+    else {
+      deltas.remove(key);
+    }
 
     return true;
   }
+
+  /**
+   * Returns the representation of the given event to be handed out to the client, i.e. a delta
+   * for a modification of an object the client knows the current state of, and the event itself
+   * otherwise.
+   *
+   * @param key The event's key.
+   * @param event The event.
+   * @return The representation of the event.
+   */
+  private Object encode(Object key, Object event) {
+    if (!(event instanceof TCSObjectEvent objectEvent)) {
+      return event;
+    }
+
+    TCSObjectReference<?> objectRef = objectEvent.getCurrentOrPreviousObjectState().getReference();
+    if (objectEvent.getType() == TCSObjectEvent.Type.OBJECT_REMOVED) {
+      knownObjects.remove(objectRef);
+      return event;
+    }
+
+    TCSObjectDelta delta = deltas.get(key);
+    if (!knownObjects.add(objectRef) && delta != null) {
+      return delta;
+    }
+    return event;
+  }
 }
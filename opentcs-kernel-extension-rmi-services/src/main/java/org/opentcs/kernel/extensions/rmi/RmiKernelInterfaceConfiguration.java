@@ -130,6 +130,20 @@ public interface RmiKernelInterfaceConfiguration {
   )
   long clientSweepInterval();
 
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+          "The maximum number of events buffered for a client until it fetches them.",
+          "Modifications of the same object are merged, so this limit is usually only reached by "
+              + "clients not fetching events for a long time. If it is exceeded, the buffered "
+              + "events are discarded and the client is told to fetch the current state of all "
+              + "objects."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "2_sweeping_1"
+  )
+  int clientEventBufferCapacity();
+
   @ConfigurationEntry(
       type = "Boolean",
       description = "Whether to use SSL to encrypt connections.",
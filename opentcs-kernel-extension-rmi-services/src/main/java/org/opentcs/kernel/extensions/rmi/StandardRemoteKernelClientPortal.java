@@ -179,6 +179,17 @@ public class StandardRemoteKernelClientPortal
   @Override
   public ClientID login(String userName, String password, Predicate<Object> eventFilter)
       throws CredentialsException {
+    return login(userName, password, eventFilter, false);
+  }
+
+  @Override
+  public ClientID login(
+      String userName,
+      String password,
+      Predicate<Object> eventFilter,
+      boolean deltaEncodedEvents
+  )
+      throws CredentialsException {
     requireNonNull(userName, "userName");
     requireNonNull(password, "password");
 
@@ -191,8 +202,13 @@ public class StandardRemoteKernelClientPortal
     // Generate a new ID for the client.
     ClientID clientId = new ClientID(userName);
     // Add an entry for the newly connected client.
-    ClientEntry clientEntry = new ClientEntry(userName, account.getPermissions());
+    ClientEntry clientEntry = new ClientEntry(
+        userName,
+        account.getPermissions(),
+        configuration.clientEventBufferCapacity()
+    );
     clientEntry.getEventBuffer().setEventFilter(eventFilter);
+    clientEntry.getEventBuffer().setDeltaEncoding(deltaEncodedEvents);
     userManager.registerClient(clientId, clientEntry);
     LOG.debug("New client named {} logged in", clientId.getClientName());
     return clientId;
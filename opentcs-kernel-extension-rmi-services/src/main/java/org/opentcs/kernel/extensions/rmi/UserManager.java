@@ -25,7 +25,10 @@ import org.opentcs.components.Lifecycle;
 import org.opentcs.customizations.ApplicationEventBus;
 import org.opentcs.customizations.ApplicationHome;
 import org.opentcs.customizations.kernel.KernelExecutor;
-import org.opentcs.util.event.EventHandler;
+import org.opentcs.data.TCSObjectDelta;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.util.event.AsynchronousEventHandler;
+import org.opentcs.util.event.EventQueueOverflowEvent;
 import org.opentcs.util.event.EventSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,7 +38,7 @@ import org.slf4j.LoggerFactory;
  */
 public class UserManager
     implements
-      EventHandler,
+      AsynchronousEventHandler,
       Lifecycle {
 
   /**
@@ -158,8 +161,33 @@ public class UserManager
   public void onEvent(Object event) {
     // Forward the event to all clients' event buffers.
     synchronized (knownClients) {
+      if (event instanceof EventQueueOverflowEvent overflowEvent) {
+        // Events were dropped before they reached the clients' buffers, so all clients need to
+        // resynchronize.
+        LOG.warn(
+            "Missed {} events, making all clients resynchronize.",
+            overflowEvent.getDroppedEventCount()
+        );
+        for (ClientEntry curEntry : knownClients.values()) {
+          curEntry.getEventBuffer().discardEvents(overflowEvent.getDroppedEventCount());
+        }
+        return;
+      }
+
+      // Compute the delta for a modification only once for all clients requiring it.
+      TCSObjectDelta delta = null;
+      if (isModification(event)
+          && knownClients.values().stream()
+              .anyMatch(entry -> entry.getEventBuffer().isDeltaEncoding())) {
+        TCSObjectEvent objectEvent = (TCSObjectEvent) event;
+        delta = TCSObjectDelta.between(
+            objectEvent.getPreviousObjectState(),
+            objectEvent.getCurrentObjectState()
+        ).orElse(null);
+      }
+
       for (ClientEntry curEntry : knownClients.values()) {
-        curEntry.getEventBuffer().onEvent(event);
+        curEntry.getEventBuffer().onEvent(event, delta);
       }
     }
   }
@@ -323,6 +351,11 @@ public class UserManager
     return knownClients.containsKey(clientID);
   }
 
+  private boolean isModification(Object event) {
+    return event instanceof TCSObjectEvent objectEvent
+        && objectEvent.getType() == TCSObjectEvent.Type.OBJECT_MODIFIED;
+  }
+
   /**
    * Instances of this class are used as containers for data kept about known clients.
    */
@@ -339,7 +372,7 @@ public class UserManager
     /**
      * The client's event buffer.
      */
-    private final EventBuffer eventBuffer = new EventBuffer(event -> false);
+    private final EventBuffer eventBuffer;
     /**
      * The client's alive flag.
      */
@@ -352,8 +385,20 @@ public class UserManager
      * @param perms The client's permissions.
      */
     public ClientEntry(String name, Set<UserPermission> perms) {
+      this(name, perms, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a new ClientEntry.
+     *
+     * @param name The client's name.
+     * @param perms The client's permissions.
+     * @param eventBufferCapacity The maximum number of events to be buffered for the client.
+     */
+    public ClientEntry(String name, Set<UserPermission> perms, int eventBufferCapacity) {
       userName = requireNonNull(name, "name");
       permissions = requireNonNull(perms, "perms");
+      eventBuffer = new EventBuffer(event -> false, eventBufferCapacity);
     }
 
     /**
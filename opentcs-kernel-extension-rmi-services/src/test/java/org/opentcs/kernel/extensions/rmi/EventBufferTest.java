@@ -3,9 +3,12 @@
 package org.opentcs.kernel.extensions.rmi;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.theInstance;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -13,6 +16,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.opentcs.access.rmi.services.EventBufferOverflowEvent;
+import org.opentcs.data.TCSObjectDelta;
 import org.opentcs.data.TCSObjectEvent;
 import org.opentcs.data.model.BoundingBox;
 import org.opentcs.data.model.Point;
@@ -69,7 +74,7 @@ class EventBufferTest {
   }
 
   @Test
-  void aggregateConsecutiveTcsObjectEventsForSameObjects() {
+  void aggregateTcsObjectEventsForSameObjects() {
     Point point = new Point("point");
     Point pointA = point.withType(Point.Type.PARK_POSITION);
     Point pointB = pointA.withProperty("some-key", "some-value");
@@ -119,25 +124,24 @@ class EventBufferTest {
     eventBuffer.onEvent(event6);
 
     List<Object> result = eventBuffer.getEvents(0);
-    assertThat(result, hasSize(3));
-    assertThat(result.get(0), is(theInstance(event1)));
+    assertThat(result, hasSize(2));
 
     assertThat(
-        ((TCSObjectEvent) result.get(1)).getPreviousObjectState(),
-        is(theInstance(vehicle))
+        ((TCSObjectEvent) result.get(0)).getPreviousObjectState(),
+        is(theInstance(point))
     );
     assertThat(
-        ((TCSObjectEvent) result.get(1)).getCurrentObjectState(),
-        is(theInstance(vehicleC))
+        ((TCSObjectEvent) result.get(0)).getCurrentObjectState(),
+        is(theInstance(pointC))
     );
 
     assertThat(
-        ((TCSObjectEvent) result.get(2)).getPreviousObjectState(),
-        is(theInstance(pointA))
+        ((TCSObjectEvent) result.get(1)).getPreviousObjectState(),
+        is(theInstance(vehicle))
     );
     assertThat(
-        ((TCSObjectEvent) result.get(2)).getCurrentObjectState(),
-        is(theInstance(pointC))
+        ((TCSObjectEvent) result.get(1)).getCurrentObjectState(),
+        is(theInstance(vehicleC))
     );
   }
 
@@ -172,4 +176,148 @@ class EventBufferTest {
     assertThat(result.get(1), is(equalTo(event2)));
     assertThat(result.get(2), is(equalTo(event3)));
   }
+
+  @Test
+  void dontAggregateModificationsAcrossRemovalAndCreation() {
+    Vehicle vehicle = new Vehicle("vehicle");
+    Vehicle vehicleA = vehicle.withEnergyLevel(42);
+    Vehicle vehicleB = vehicle.withEnergyLevel(43);
+
+    TCSObjectEvent event1 = new TCSObjectEvent(
+        vehicleA,
+        vehicle,
+        TCSObjectEvent.Type.OBJECT_MODIFIED
+    );
+    TCSObjectEvent event2 = new TCSObjectEvent(
+        null,
+        vehicleA,
+        TCSObjectEvent.Type.OBJECT_REMOVED
+    );
+    TCSObjectEvent event3 = new TCSObjectEvent(
+        vehicle,
+        null,
+        TCSObjectEvent.Type.OBJECT_CREATED
+    );
+    TCSObjectEvent event4 = new TCSObjectEvent(
+        vehicleB,
+        vehicle,
+        TCSObjectEvent.Type.OBJECT_MODIFIED
+    );
+
+    eventBuffer.onEvent(event1);
+    eventBuffer.onEvent(event2);
+    eventBuffer.onEvent(event3);
+    eventBuffer.onEvent(event4);
+
+    assertThat(eventBuffer.getEvents(0), contains(event1, event2, event3, event4));
+  }
+
+  @Test
+  void moveAggregatedModificationsBehindEventsInBetween() {
+    Point point = new Point("point");
+    Vehicle vehicle = new Vehicle("vehicle");
+    Vehicle vehicleA = vehicle.withEnergyLevel(42);
+    Vehicle vehicleB = vehicleA.withCurrentPosition(point.getReference());
+
+    TCSObjectEvent event1 = new TCSObjectEvent(
+        vehicleA,
+        vehicle,
+        TCSObjectEvent.Type.OBJECT_MODIFIED
+    );
+    TCSObjectEvent event2 = new TCSObjectEvent(
+        point,
+        null,
+        TCSObjectEvent.Type.OBJECT_CREATED
+    );
+    TCSObjectEvent event3 = new TCSObjectEvent(
+        vehicleB,
+        vehicleA,
+        TCSObjectEvent.Type.OBJECT_MODIFIED
+    );
+
+    eventBuffer.onEvent(event1);
+    eventBuffer.onEvent(event2);
+    eventBuffer.onEvent(event3);
+
+    List<Object> result = eventBuffer.getEvents(0);
+    assertThat(result, hasSize(2));
+    assertThat(result.get(0), is(theInstance(event2)));
+    TCSObjectEvent mergedEvent = (TCSObjectEvent) result.get(1);
+    assertThat(mergedEvent.getCurrentObjectState(), is(theInstance(vehicleB)));
+    assertThat(mergedEvent.getPreviousObjectState(), is(theInstance(vehicle)));
+  }
+
+  @Test
+  void replaceEventsWithOverflowEventWhenCapacityExceeded() {
+    eventBuffer = new EventBuffer(event -> true, 2);
+
+    eventBuffer.onEvent(new Object());
+    eventBuffer.onEvent(new Object());
+    eventBuffer.onEvent(new Object());
+    eventBuffer.onEvent(new Object());
+
+    List<Object> result = eventBuffer.getEvents(0);
+    assertThat(result, hasSize(1));
+    assertThat(result.get(0), is(instanceOf(EventBufferOverflowEvent.class)));
+    assertThat(((EventBufferOverflowEvent) result.get(0)).getDiscardedEventCount(), is(4L));
+
+    eventBuffer.onEvent(new Object());
+
+    assertThat(eventBuffer.getEvents(0), hasSize(1));
+  }
+
+  @Test
+  void replaceEventsWithOverflowEventWhenEventsWereMissed() {
+    eventBuffer.onEvent(new Object());
+    eventBuffer.onEvent(new Object());
+    eventBuffer.discardEvents(3);
+
+    List<Object> result = eventBuffer.getEvents(0);
+    assertThat(result, hasSize(1));
+    assertThat(result.get(0), is(instanceOf(EventBufferOverflowEvent.class)));
+    assertThat(((EventBufferOverflowEvent) result.get(0)).getDiscardedEventCount(), is(5L));
+
+    assertThat(eventBuffer.getEvents(0), is(empty()));
+  }
+
+  @Test
+  void handOutDeltasForModificationsOfKnownObjects() {
+    eventBuffer.setDeltaEncoding(true);
+
+    Vehicle vehicle = new Vehicle("vehicle");
+    Vehicle vehicleA = vehicle.withEnergyLevel(42);
+    Vehicle vehicleB = vehicleA.withEnergyLevel(43);
+    Vehicle vehicleC = vehicleB.withPaused(true);
+
+    TCSObjectEvent event1 = new TCSObjectEvent(
+        vehicleA,
+        vehicle,
+        TCSObjectEvent.Type.OBJECT_MODIFIED
+    );
+    TCSObjectEvent event2 = new TCSObjectEvent(
+        vehicleB,
+        vehicleA,
+        TCSObjectEvent.Type.OBJECT_MODIFIED
+    );
+    TCSObjectEvent event3 = new TCSObjectEvent(
+        vehicleC,
+        vehicleB,
+        TCSObjectEvent.Type.OBJECT_MODIFIED
+    );
+
+    // The client does not know the vehicle, yet, so it receives the complete event.
+    eventBuffer.onEvent(event1, TCSObjectDelta.between(vehicle, vehicleA).orElseThrow());
+    assertThat(eventBuffer.getEvents(0), contains(event1));
+
+    // Subsequent modifications are handed out as a single, merged delta.
+    eventBuffer.onEvent(event2, TCSObjectDelta.between(vehicleA, vehicleB).orElseThrow());
+    eventBuffer.onEvent(event3, TCSObjectDelta.between(vehicleB, vehicleC).orElseThrow());
+    List<Object> result = eventBuffer.getEvents(0);
+    assertThat(result, hasSize(1));
+    assertThat(result.get(0), is(instanceOf(TCSObjectDelta.class)));
+    assertThat(
+        ((TCSObjectDelta) result.get(0)).getChangedAttributes(),
+        containsInAnyOrder("energyLevel", "paused")
+    );
+  }
 }
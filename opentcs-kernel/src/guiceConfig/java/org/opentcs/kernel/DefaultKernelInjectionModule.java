@@ -12,7 +12,7 @@ import java.util.concurrent.ScheduledExecutorService;
 import org.opentcs.access.Kernel;
 import org.opentcs.access.LocalKernel;
 import org.opentcs.access.SslParameterSet;
-import org.opentcs.common.LoggingScheduledThreadPoolExecutor;
+import org.opentcs.common.metrics.MetricsRegistry;
 import org.opentcs.components.kernel.ObjectNameProvider;
 import org.opentcs.components.kernel.services.DispatcherService;
 import org.opentcs.components.kernel.services.InternalPeripheralJobService;
@@ -41,6 +41,8 @@ import org.opentcs.drivers.peripherals.PeripheralControllerPool;
 import org.opentcs.drivers.vehicle.VehicleControllerPool;
 import org.opentcs.kernel.extensions.controlcenter.vehicles.AttachmentManager;
 import org.opentcs.kernel.extensions.controlcenter.vehicles.VehicleEntryPool;
+import org.opentcs.kernel.extensions.metrics.EventQueueMetrics;
+import org.opentcs.kernel.extensions.metrics.MetricsJmxExporter;
 import org.opentcs.kernel.extensions.watchdog.Watchdog;
 import org.opentcs.kernel.extensions.watchdog.WatchdogConfiguration;
 import org.opentcs.kernel.peripherals.DefaultPeripheralControllerPool;
@@ -64,6 +66,7 @@ import org.opentcs.kernel.services.StandardTransportOrderService;
 import org.opentcs.kernel.services.StandardVehicleService;
 import org.opentcs.kernel.vehicles.DefaultVehicleControllerPool;
 import org.opentcs.kernel.vehicles.LocalVehicleControllerPool;
+import org.opentcs.kernel.vehicles.TelemetryCounterRegistry;
 import org.opentcs.kernel.vehicles.VehicleCommAdapterRegistry;
 import org.opentcs.kernel.vehicles.VehicleControllerComponentsFactory;
 import org.opentcs.kernel.vehicles.VehicleControllerFactory;
@@ -79,8 +82,11 @@ import org.opentcs.kernel.workingset.PrefixedUlidObjectNameProvider;
 import org.opentcs.kernel.workingset.TCSObjectManager;
 import org.opentcs.kernel.workingset.TCSObjectRepository;
 import org.opentcs.kernel.workingset.TransportOrderPoolManager;
+import org.opentcs.kernel.workingset.WorkingSetCleanupCounters;
+import org.opentcs.kernel.workingset.WorkingSetSnapshotPublisher;
 import org.opentcs.util.event.EventBus;
 import org.opentcs.util.event.EventHandler;
+import org.opentcs.util.event.PartitionedEventBus;
 import org.opentcs.util.event.SimpleEventBus;
 import org.opentcs.util.logging.UncaughtExceptionLogger;
 
@@ -122,6 +128,8 @@ public class DefaultKernelInjectionModule
     bind(TransportOrderPoolManager.class).in(Singleton.class);
     bind(PeripheralJobPoolManager.class).in(Singleton.class);
     bind(NotificationBuffer.class).in(Singleton.class);
+    bind(WorkingSetSnapshotPublisher.class).in(Singleton.class);
+    bind(WorkingSetCleanupCounters.class).in(Singleton.class);
 
     bind(ObjectNameProvider.class)
         .to(PrefixedUlidObjectNameProvider.class)
@@ -172,6 +180,7 @@ public class DefaultKernelInjectionModule
     peripheralCommAdaptersBinder();
 
     configureWatchdogExtension();
+    configureMetrics();
   }
 
   private void configureKernelServicesDependencies() {
@@ -219,6 +228,7 @@ public class DefaultKernelInjectionModule
   private void configureVehicleControllers() {
     install(new FactoryModuleBuilder().build(VehicleControllerFactory.class));
     install(new FactoryModuleBuilder().build(VehicleControllerComponentsFactory.class));
+    bind(TelemetryCounterRegistry.class).in(Singleton.class);
 
     bind(DefaultVehicleControllerPool.class)
         .in(Singleton.class);
@@ -251,7 +261,14 @@ public class DefaultKernelInjectionModule
   }
 
   private void configureEventHub() {
-    EventBus newEventBus = new SimpleEventBus();
+    KernelApplicationConfiguration configuration = getConfigBindingProvider().get(
+        KernelApplicationConfiguration.PREFIX,
+        KernelApplicationConfiguration.class
+    );
+    EventBus newEventBus = switch (configuration.eventBusType()) {
+      case SIMPLE -> new SimpleEventBus();
+      case PARTITIONED -> new PartitionedEventBus(configuration.eventQueueCapacity());
+    };
     bind(EventHandler.class)
         .annotatedWith(ApplicationEventBus.class)
         .toInstance(newEventBus);
@@ -315,13 +332,13 @@ public class DefaultKernelInjectionModule
 
   private void configureKernelExecutor() {
     ScheduledExecutorService executor
-        = new LoggingScheduledThreadPoolExecutor(
-            1,
+        = new SnapshotPublishingScheduledThreadPoolExecutor(
             runnable -> {
               Thread thread = new Thread(runnable, "kernelExecutor");
               thread.setUncaughtExceptionHandler(new UncaughtExceptionLogger(false));
               return thread;
-            }
+            },
+            getProvider(WorkingSetSnapshotPublisher.class)
         );
     bind(ScheduledExecutorService.class)
         .annotatedWith(KernelExecutor.class)
@@ -334,6 +351,22 @@ public class DefaultKernelInjectionModule
         .toInstance(executor);
   }
 
+  private void configureMetrics() {
+    KernelApplicationConfiguration configuration = getConfigBindingProvider().get(
+        KernelApplicationConfiguration.PREFIX,
+        KernelApplicationConfiguration.class
+    );
+    bind(MetricsRegistry.class)
+        .toInstance(new MetricsRegistry(configuration.metricsEnabled()));
+
+    extensionsBinderAllModes().addBinding()
+        .to(MetricsJmxExporter.class)
+        .in(Singleton.class);
+    extensionsBinderAllModes().addBinding()
+        .to(EventQueueMetrics.class)
+        .in(Singleton.class);
+  }
+
   private void configureWatchdogExtension() {
     extensionsBinderOperating().addBinding()
         .to(Watchdog.class)
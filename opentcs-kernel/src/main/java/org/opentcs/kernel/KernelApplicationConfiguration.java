@@ -92,6 +92,60 @@ public interface KernelApplicationConfiguration {
   )
   VehicleResourceManagementType vehicleResourceManagementType();
 
+  @ConfigurationEntry(
+      type = "Long",
+      description = {
+          "The interval (in ms) within which high-frequency updates reported by vehicle drivers "
+              + "(i.e. poses, energy levels and bounding boxes) are merged into a single update of "
+              + "the respective vehicle.",
+          "Other updates (e.g. of the vehicle's position or the execution of movement commands) "
+              + "are never delayed and are applied strictly in order, with pending merged updates "
+              + "applied before them.",
+          "If set to 0, every update is applied immediately."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY,
+      orderKey = "6_telemetry"
+  )
+  long vehicleTelemetryCoalescingInterval();
+
+  @ConfigurationEntry(
+      type = "String",
+      description = {
+          "The type of event bus used for distributing events within the kernel application.",
+          "Possible values:",
+          "SIMPLE: Events are delivered to all handlers synchronously.",
+          "PARTITIONED: Events are delivered to kernel-internal handlers synchronously and to "
+              + "handlers that do not require synchronous delivery (e.g. those of the RMI and web "
+              + "API interfaces) asynchronously, each from a queue of its own."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "7_event_bus_0"
+  )
+  EventBusType eventBusType();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+          "The capacity of the queue of each handler events are delivered to asynchronously.",
+          "Only applies if the event bus type is PARTITIONED."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "7_event_bus_1"
+  )
+  int eventQueueCapacity();
+
+  @ConfigurationEntry(
+      type = "Boolean",
+      description = {
+          "Whether to record metrics (e.g. the durations of dispatcher phases) on startup.",
+          "Recorded metrics are provided via JMX and, if enabled, the web API. Recording can also "
+              + "be enabled or disabled at runtime via JMX."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "8_metrics"
+  )
+  boolean metricsEnabled();
+
   /**
    * Defines the different types of how vehicle resources (i.e., paths, points and locations
    * allocated by vehicles) are managed.
@@ -118,4 +172,19 @@ public interface KernelApplicationConfiguration {
      */
     LENGTH_RESPECTED;
   }
+
+  /**
+   * Defines the types of event buses used for distributing events within the kernel application.
+   */
+  enum EventBusType {
+    /**
+     * Events are delivered to all handlers synchronously.
+     */
+    SIMPLE,
+    /**
+     * Events are delivered to kernel-internal handlers synchronously and to handlers that do not
+     * require synchronous delivery asynchronously, each from a queue of its own.
+     */
+    PARTITIONED;
+  }
 }
@@ -30,4 +30,24 @@ public interface OrderPoolConfiguration {
       changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY
   )
   int sweepAge();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+          "The maximum number of objects to check for removal in a single slice of a sweep.",
+          "Sweeps are split into slices that are executed as separate kernel executor tasks."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY
+  )
+  int sweepSliceSize();
+
+  @ConfigurationEntry(
+      type = "Long",
+      description = {
+          "The maximum time a single slice of a sweep may hold the kernel's global lock (in ms).",
+          "A slice ends when this budget is exceeded, even if it has not reached its maximum size."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY
+  )
+  long sweepSliceBudget();
 }
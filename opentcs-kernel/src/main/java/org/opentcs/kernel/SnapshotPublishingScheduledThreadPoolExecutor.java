@@ -0,0 +1,53 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.inject.Provider;
+import java.util.concurrent.ThreadFactory;
+import org.opentcs.common.LoggingScheduledThreadPoolExecutor;
+import org.opentcs.kernel.workingset.WorkingSetSnapshotPublisher;
+
+/**
+ * The kernel executor, publishing a new snapshot of the working set after each executed task.
+ */
+public class SnapshotPublishingScheduledThreadPoolExecutor
+    extends
+      LoggingScheduledThreadPoolExecutor {
+
+  /**
+   * Provides the snapshot publisher.
+   * (A provider is used since the executor is created before the publisher can be injected.)
+   */
+  private final Provider<WorkingSetSnapshotPublisher> snapshotPublisherProvider;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param threadFactory The factory to use when the executor creates a new thread.
+   * @param snapshotPublisherProvider Provides the snapshot publisher.
+   */
+  public SnapshotPublishingScheduledThreadPoolExecutor(
+      ThreadFactory threadFactory,
+      Provider<WorkingSetSnapshotPublisher> snapshotPublisherProvider
+  ) {
+    super(1, threadFactory);
+    this.snapshotPublisherProvider = requireNonNull(
+        snapshotPublisherProvider,
+        "snapshotPublisherProvider"
+    );
+  }
+
+  @Override
+  protected void beforeExecute(Thread t, Runnable r) {
+    super.beforeExecute(t, r);
+    snapshotPublisherProvider.get().beforeTask();
+  }
+
+  @Override
+  protected void afterExecute(Runnable r, Throwable t) {
+    super.afterExecute(r, t);
+    snapshotPublisherProvider.get().afterTask();
+  }
+}
@@ -6,6 +6,9 @@ import static java.util.Objects.requireNonNull;
 
 import jakarta.inject.Inject;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.opentcs.common.metrics.Counter;
+import org.opentcs.common.metrics.MetricsRegistry;
 import org.opentcs.components.Lifecycle;
 import org.opentcs.components.kernel.services.DispatcherService;
 import org.opentcs.customizations.ApplicationEventBus;
@@ -20,6 +23,10 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Triggers dispatching of vehicles and transport orders on certain events.
+ * <p>
+ * Triggers are coalesced: While a dispatch run triggered by this instance is pending, i.e. waiting
+ * to be executed by the kernel executor, further triggers do not lead to additional runs.
+ * </p>
  */
 public class VehicleDispatchTrigger
     implements
@@ -46,6 +53,18 @@ public class VehicleDispatchTrigger
    * The kernel executor.
    */
   private final Executor kernelExecutor;
+  /**
+   * Counts the vehicle changes that triggered dispatching.
+   */
+  private final Counter triggersReceived;
+  /**
+   * Counts the dispatch runs executed for the triggers received.
+   */
+  private final Counter runsExecuted;
+  /**
+   * Whether a dispatch run triggered by this instance is waiting to be executed.
+   */
+  private final AtomicBoolean dispatchPending = new AtomicBoolean();
   /**
    * This instance's <em>initialized</em> flag.
    */
@@ -58,6 +77,8 @@ public class VehicleDispatchTrigger
    * @param eventBus The event bus.
    * @param dispatcher The dispatcher in use.
    * @param configuration The application configuration.
+   * @param metricsRegistry The registry to count the triggers received and the dispatch runs
+   * executed for them with.
    */
   @Inject
   public VehicleDispatchTrigger(
@@ -66,12 +87,23 @@ public class VehicleDispatchTrigger
       @ApplicationEventBus
       EventBus eventBus,
       DispatcherService dispatcher,
-      KernelApplicationConfiguration configuration
+      KernelApplicationConfiguration configuration,
+      MetricsRegistry metricsRegistry
   ) {
     this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
     this.eventBus = requireNonNull(eventBus, "eventBus");
     this.dispatcher = requireNonNull(dispatcher, "dispatcher");
     this.configuration = requireNonNull(configuration, "configuration");
+    requireNonNull(metricsRegistry, "metricsRegistry");
+    this.triggersReceived = metricsRegistry.counter(
+        "dispatch_triggers_total",
+        "The number of vehicle changes that triggered dispatching."
+    );
+    this.runsExecuted = metricsRegistry.counter(
+        "dispatch_triggered_runs_total",
+        "The number of dispatch runs executed for vehicle changes, with changes occurring while a "
+            + "run is pending not leading to additional runs."
+    );
   }
 
   @Override
@@ -128,10 +160,20 @@ public class VehicleDispatchTrigger
       // then lead to a second dispatch run before the first one is completed. To avoid this, we
       // ensure dispatching is done at some later point by scheduling it to be executed on the
       // kernel executor (so it does not trigger itself in a loop).
-      kernelExecutor.execute(() -> dispatcher.dispatch());
+      // If such a run is already pending, it will take this change into account, too.
+      triggersReceived.increment();
+      if (dispatchPending.compareAndSet(false, true)) {
+        kernelExecutor.execute(this::dispatch);
+      }
     }
   }
 
+  private void dispatch() {
+    dispatchPending.set(false);
+    runsExecuted.increment();
+    dispatcher.dispatch();
+  }
+
   private boolean idleAndEnergyLevelChanged(Vehicle oldVehicle, Vehicle newVehicle) {
     // If the vehicle is idle and its energy level changed, we may want to order it to recharge.
     return newVehicle.hasProcState(Vehicle.ProcState.IDLE)
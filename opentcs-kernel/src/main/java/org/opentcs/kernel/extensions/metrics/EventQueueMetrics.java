@@ -0,0 +1,135 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.inject.Inject;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+import org.opentcs.common.metrics.MetricsRegistry;
+import org.opentcs.components.kernel.KernelExtension;
+import org.opentcs.customizations.ApplicationEventBus;
+import org.opentcs.util.event.EventBus;
+import org.opentcs.util.event.PartitionedEventBus;
+import org.opentcs.util.event.PartitionedEventBus.QueueStatistics;
+
+/**
+ * A kernel extension that provides statistics on the queues of the application event bus's
+ * asynchronous listeners as metrics.
+ * <p>
+ * Statistics are only available if the application event bus is a {@link PartitionedEventBus}.
+ * </p>
+ */
+public class EventQueueMetrics
+    implements
+      KernelExtension {
+
+  /**
+   * The registry to provide the metrics with.
+   */
+  private final MetricsRegistry registry;
+  /**
+   * The application event bus.
+   */
+  private final EventBus eventBus;
+  /**
+   * Whether this kernel extension is initialized.
+   */
+  private boolean initialized;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param registry The registry to provide the metrics with.
+   * @param eventBus The application event bus.
+   */
+  @Inject
+  public EventQueueMetrics(
+      MetricsRegistry registry,
+      @ApplicationEventBus
+      EventBus eventBus
+  ) {
+    this.registry = requireNonNull(registry, "registry");
+    this.eventBus = requireNonNull(eventBus, "eventBus");
+  }
+
+  @Override
+  public void initialize() {
+    if (isInitialized()) {
+      return;
+    }
+
+    if (eventBus instanceof PartitionedEventBus partitionedEventBus) {
+      // The values are requested from the event bus whenever samples are collected, so listeners
+      // subscribing later are covered, too.
+      registerGauges(
+          partitionedEventBus,
+          "event_queue_size",
+          "Number of events in an event listener's queue.",
+          QueueStatistics::getSize
+      );
+      registerGauges(
+          partitionedEventBus,
+          "event_queue_capacity",
+          "Capacity of an event listener's queue.",
+          QueueStatistics::getCapacity
+      );
+      registerGauges(
+          partitionedEventBus,
+          "event_queue_delivered_events",
+          "Number of events delivered to an event listener.",
+          QueueStatistics::getDeliveredEvents
+      );
+      registerGauges(
+          partitionedEventBus,
+          "event_queue_dropped_events",
+          "Number of events dropped because an event listener's queue was full.",
+          QueueStatistics::getDroppedEvents
+      );
+      registerGauges(
+          partitionedEventBus,
+          "event_queue_lag_seconds",
+          "Time the oldest event in an event listener's queue has been waiting for delivery.",
+          statistics -> statistics.getLag() / 1000.0
+      );
+    }
+
+    initialized = true;
+  }
+
+  @Override
+  public boolean isInitialized() {
+    return initialized;
+  }
+
+  @Override
+  public void terminate() {
+    if (!isInitialized()) {
+      return;
+    }
+
+    initialized = false;
+  }
+
+  private void registerGauges(
+      PartitionedEventBus partitionedEventBus,
+      String name,
+      String help,
+      ToDoubleFunction<QueueStatistics> value
+  ) {
+    registry.gauges(
+        name,
+        help,
+        "listener",
+        () -> {
+          Map<String, Double> result = new HashMap<>();
+          for (QueueStatistics statistics : partitionedEventBus.getQueueStatistics()) {
+            result.put(statistics.getListener(), value.applyAsDouble(statistics));
+          }
+          return result;
+        }
+    );
+  }
+}
@@ -0,0 +1,132 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.inject.Inject;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.opentcs.common.metrics.MetricsRegistry;
+import org.opentcs.components.kernel.KernelExtension;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A kernel extension that provides the kernel's metrics via JMX.
+ * <p>
+ * While initialized, an MXBean is registered with the platform MBean server under the name
+ * {@value #OBJECT_NAME}.
+ * </p>
+ */
+public class MetricsJmxExporter
+    implements
+      KernelExtension,
+      MetricsMXBean {
+
+  /**
+   * The object name under which the MXBean is registered.
+   */
+  public static final String OBJECT_NAME = "org.opentcs:type=Metrics";
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(MetricsJmxExporter.class);
+  /**
+   * The registry keeping the metrics.
+   */
+  private final MetricsRegistry registry;
+  /**
+   * The MBean server to register with.
+   */
+  private final MBeanServer mbeanServer;
+  /**
+   * Whether this kernel extension is initialized.
+   */
+  private boolean initialized;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param registry The registry keeping the metrics.
+   */
+  @Inject
+  public MetricsJmxExporter(MetricsRegistry registry) {
+    this(registry, ManagementFactory.getPlatformMBeanServer());
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param registry The registry keeping the metrics.
+   * @param mbeanServer The MBean server to register with.
+   */
+  MetricsJmxExporter(MetricsRegistry registry, MBeanServer mbeanServer) {
+    this.registry = requireNonNull(registry, "registry");
+    this.mbeanServer = requireNonNull(mbeanServer, "mbeanServer");
+  }
+
+  @Override
+  public void initialize() {
+    if (isInitialized()) {
+      return;
+    }
+
+    try {
+      mbeanServer.registerMBean(this, new ObjectName(OBJECT_NAME));
+    }
+    catch (JMException exc) {
+      LOG.warn("Could not register metrics MXBean", exc);
+    }
+
+    initialized = true;
+  }
+
+  @Override
+  public boolean isInitialized() {
+    return initialized;
+  }
+
+  @Override
+  public void terminate() {
+    if (!isInitialized()) {
+      return;
+    }
+
+    try {
+      ObjectName objectName = new ObjectName(OBJECT_NAME);
+      if (mbeanServer.isRegistered(objectName)) {
+        mbeanServer.unregisterMBean(objectName);
+      }
+    }
+    catch (JMException exc) {
+      LOG.warn("Could not unregister metrics MXBean", exc);
+    }
+
+    initialized = false;
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return registry.isEnabled();
+  }
+
+  @Override
+  public void setEnabled(boolean enabled) {
+    LOG.info("{} recording of metrics via JMX.", enabled ? "Enabling" : "Disabling");
+    registry.setEnabled(enabled);
+  }
+
+  @Override
+  public Map<String, Double> getSamples() {
+    return registry.getSamples();
+  }
+
+  @Override
+  public String getPrometheusText() {
+    return registry.toPrometheusText();
+  }
+}
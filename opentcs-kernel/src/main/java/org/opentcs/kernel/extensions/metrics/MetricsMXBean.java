@@ -0,0 +1,40 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.metrics;
+
+import java.util.Map;
+
+/**
+ * The management interface of the kernel's metrics, as provided via JMX.
+ */
+public interface MetricsMXBean {
+
+  /**
+   * Indicates whether metrics are being recorded.
+   *
+   * @return {@code true} if, and only if, metrics are being recorded.
+   */
+  boolean isEnabled();
+
+  /**
+   * Enables or disables the recording of metrics.
+   *
+   * @param enabled Whether to record metrics.
+   */
+  void setEnabled(boolean enabled);
+
+  /**
+   * Returns the current values of all metrics, mapped by sample names as they appear in the
+   * Prometheus text format.
+   *
+   * @return The current values of all metrics.
+   */
+  Map<String, Double> getSamples();
+
+  /**
+   * Returns the current values of all metrics in the Prometheus text format.
+   *
+   * @return The current values of all metrics in the Prometheus text format.
+   */
+  String getPrometheusText();
+}
@@ -18,6 +18,9 @@ import org.opentcs.data.ObjectHistory;
 import org.opentcs.data.ObjectUnknownException;
 import org.opentcs.data.TCSObject;
 import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.OrderSequence;
+import org.opentcs.data.order.TransportOrder;
 
 /**
  * Delegate method calls to the {@link TCSObjectService} implementation.
@@ -130,6 +133,48 @@ public abstract class AbstractTCSObjectService
     return getObjectService().fetch(clazz, predicate);
   }
 
+  @Override
+  public Set<TransportOrder> fetchTransportOrders(TransportOrder.State state)
+      throws KernelRuntimeException {
+    requireNonNull(state, "state");
+
+    return getObjectService().fetchTransportOrders(state);
+  }
+
+  @Override
+  public Set<TransportOrder> fetchTransportOrdersByIntendedVehicle(
+      TCSObjectReference<Vehicle> vehicleRef
+  )
+      throws KernelRuntimeException {
+    requireNonNull(vehicleRef, "vehicleRef");
+
+    return getObjectService().fetchTransportOrdersByIntendedVehicle(vehicleRef);
+  }
+
+  @Override
+  public Set<TransportOrder> fetchTransportOrdersByWrappingSequence(
+      TCSObjectReference<OrderSequence> sequenceRef
+  )
+      throws KernelRuntimeException {
+    requireNonNull(sequenceRef, "sequenceRef");
+
+    return getObjectService().fetchTransportOrdersByWrappingSequence(sequenceRef);
+  }
+
+  @Override
+  public Set<Vehicle> fetchVehicles(Vehicle.ProcState procState)
+      throws KernelRuntimeException {
+    requireNonNull(procState, "procState");
+
+    return getObjectService().fetchVehicles(procState);
+  }
+
+  @Override
+  public void publishSnapshot()
+      throws KernelRuntimeException {
+    getObjectService().publishSnapshot();
+  }
+
   @Override
   public void updateObjectProperty(
       TCSObjectReference<?> ref,
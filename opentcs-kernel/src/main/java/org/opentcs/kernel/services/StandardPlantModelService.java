@@ -113,6 +113,15 @@ public class StandardPlantModelService
     }
   }
 
+  @Override
+  public Set<Block> fetchBlocksContaining(TCSResourceReference<?> resourceRef) {
+    requireNonNull(resourceRef, "resourceRef");
+
+    synchronized (globalSyncObject) {
+      return plantModelManager.getBlocksContaining(resourceRef);
+    }
+  }
+
   @Override
   public void loadPlantModel()
       throws IllegalStateException {
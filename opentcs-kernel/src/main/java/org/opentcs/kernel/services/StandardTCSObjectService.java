@@ -20,11 +20,22 @@ import org.opentcs.data.ObjectHistory;
 import org.opentcs.data.ObjectUnknownException;
 import org.opentcs.data.TCSObject;
 import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.OrderSequence;
+import org.opentcs.data.order.TransportOrder;
 import org.opentcs.kernel.workingset.TCSObjectManager;
 import org.opentcs.kernel.workingset.TCSObjectRepository;
+import org.opentcs.kernel.workingset.WorkingSetSnapshot;
+import org.opentcs.kernel.workingset.WorkingSetSnapshotPublisher;
 
 /**
  * This class is the standard implementation of the {@link TCSObjectService} interface.
+ * <p>
+ * Read-only calls are answered from the most recently published {@link WorkingSetSnapshot}
+ * without any locking, provided the snapshot reflects all modifications applied to the working
+ * set. Otherwise, i.e. while a batch of modifications has not been published, yet, they are
+ * answered from the working set itself while holding the global synchronization object.
+ * </p>
  */
 public class StandardTCSObjectService
     implements
@@ -38,26 +49,47 @@ public class StandardTCSObjectService
    * The object manager.
    */
   private final TCSObjectManager objectManager;
+  /**
+   * Publishes snapshots of the working set.
+   */
+  private final WorkingSetSnapshotPublisher snapshotPublisher;
 
   /**
    * Creates a new instance.
    *
    * @param globalSyncObject The kernel threads' global synchronization object.
    * @param objectManager The object manager.
+   * @param snapshotPublisher Publishes snapshots of the working set.
    */
   @Inject
   public StandardTCSObjectService(
       @GlobalSyncObject
       Object globalSyncObject,
-      TCSObjectManager objectManager
+      TCSObjectManager objectManager,
+      WorkingSetSnapshotPublisher snapshotPublisher
   ) {
     this.globalSyncObject = requireNonNull(globalSyncObject, "globalSyncObject");
     this.objectManager = requireNonNull(objectManager, "objectManager");
+    this.snapshotPublisher = requireNonNull(snapshotPublisher, "snapshotPublisher");
   }
 
   @Override
   public <T extends TCSObject<T>> Stream<T> stream(Class<T> clazz)
       throws KernelRuntimeException {
+    // Kernel executor tasks may modify objects while streaming over them and expect to see these
+    // modifications, so they always stream over the working set itself.
+    if (!snapshotPublisher.isExecutingTask()) {
+      WorkingSetSnapshot snapshot = getObjectRepo().getSnapshotIfCurrent();
+      if (snapshot != null) {
+        return snapshot.streamObjects(clazz);
+      }
+      // Callers outside of kernel executor tasks consume the stream without holding the lock, so
+      // they must not stream over the working set itself.
+      synchronized (getGlobalSyncObject()) {
+        return getObjectRepo().getObjects(clazz).stream();
+      }
+    }
+
     synchronized (getGlobalSyncObject()) {
       return getObjectRepo().streamObjects(clazz);
     }
@@ -69,9 +101,7 @@ public class StandardTCSObjectService
     requireNonNull(clazz, "clazz");
     requireNonNull(ref, "ref");
 
-    synchronized (getGlobalSyncObject()) {
-      return getObjectRepo().getObjectOrNull(clazz, ref);
-    }
+    return fetch(clazz, ref).orElse(null);
   }
 
   @Override
@@ -79,6 +109,11 @@ public class StandardTCSObjectService
     requireNonNull(clazz, "clazz");
     requireNonNull(ref, "ref");
 
+    WorkingSetSnapshot snapshot = getObjectRepo().getSnapshotIfCurrent();
+    if (snapshot != null) {
+      return Optional.ofNullable(snapshot.getObjectOrNull(clazz, ref));
+    }
+
     synchronized (getGlobalSyncObject()) {
       return Optional.ofNullable(getObjectRepo().getObjectOrNull(clazz, ref));
     }
@@ -89,15 +124,18 @@ public class StandardTCSObjectService
   public <T extends TCSObject<T>> T fetchObject(Class<T> clazz, String name) {
     requireNonNull(clazz, "clazz");
 
-    synchronized (getGlobalSyncObject()) {
-      return getObjectRepo().getObjectOrNull(clazz, name);
-    }
+    return fetch(clazz, name).orElse(null);
   }
 
   @Override
   public <T extends TCSObject<T>> Optional<T> fetch(Class<T> clazz, String name) {
     requireNonNull(clazz, "clazz");
 
+    WorkingSetSnapshot snapshot = getObjectRepo().getSnapshotIfCurrent();
+    if (snapshot != null) {
+      return Optional.ofNullable(snapshot.getObjectOrNull(clazz, name));
+    }
+
     synchronized (getGlobalSyncObject()) {
       return Optional.ofNullable(getObjectRepo().getObjectOrNull(clazz, name));
     }
@@ -108,20 +146,18 @@ public class StandardTCSObjectService
   public <T extends TCSObject<T>> Set<T> fetchObjects(Class<T> clazz) {
     requireNonNull(clazz, "clazz");
 
-    synchronized (getGlobalSyncObject()) {
-      Set<T> objects = getObjectRepo().getObjects(clazz);
-      Set<T> copies = new HashSet<>();
-      for (T object : objects) {
-        copies.add(object);
-      }
-      return copies;
-    }
+    return new HashSet<>(fetch(clazz));
   }
 
   @Override
   public <T extends TCSObject<T>> Set<T> fetch(Class<T> clazz) {
     requireNonNull(clazz, "clazz");
 
+    WorkingSetSnapshot snapshot = getObjectRepo().getSnapshotIfCurrent();
+    if (snapshot != null) {
+      return snapshot.getObjects(clazz);
+    }
+
     synchronized (getGlobalSyncObject()) {
       return getObjectRepo().getObjects(clazz);
     }
@@ -138,9 +174,7 @@ public class StandardTCSObjectService
     requireNonNull(clazz, "clazz");
     requireNonNull(predicate, "predicate");
 
-    synchronized (getGlobalSyncObject()) {
-      return getObjectRepo().getObjects(clazz, predicate);
-    }
+    return fetch(clazz, predicate);
   }
 
   @Override
@@ -153,11 +187,63 @@ public class StandardTCSObjectService
     requireNonNull(clazz, "clazz");
     requireNonNull(predicate, "predicate");
 
+    WorkingSetSnapshot snapshot = getObjectRepo().getSnapshotIfCurrent();
+    if (snapshot != null) {
+      return snapshot.getObjects(clazz, predicate);
+    }
+
     synchronized (getGlobalSyncObject()) {
       return getObjectRepo().getObjects(clazz, predicate);
     }
   }
 
+  @Override
+  public Set<TransportOrder> fetchTransportOrders(TransportOrder.State state) {
+    requireNonNull(state, "state");
+
+    synchronized (getGlobalSyncObject()) {
+      return getObjectRepo().getTransportOrders(state);
+    }
+  }
+
+  @Override
+  public Set<TransportOrder> fetchTransportOrdersByIntendedVehicle(
+      TCSObjectReference<Vehicle> vehicleRef
+  ) {
+    requireNonNull(vehicleRef, "vehicleRef");
+
+    synchronized (getGlobalSyncObject()) {
+      return getObjectRepo().getTransportOrdersByIntendedVehicle(vehicleRef);
+    }
+  }
+
+  @Override
+  public Set<TransportOrder> fetchTransportOrdersByWrappingSequence(
+      TCSObjectReference<OrderSequence> sequenceRef
+  ) {
+    requireNonNull(sequenceRef, "sequenceRef");
+
+    synchronized (getGlobalSyncObject()) {
+      return getObjectRepo().getTransportOrdersByWrappingSequence(sequenceRef);
+    }
+  }
+
+  @Override
+  public Set<Vehicle> fetchVehicles(Vehicle.ProcState procState) {
+    requireNonNull(procState, "procState");
+
+    synchronized (getGlobalSyncObject()) {
+      return getObjectRepo().getVehicles(procState);
+    }
+  }
+
+  @Override
+  public void publishSnapshot() {
+    synchronized (getGlobalSyncObject()) {
+      getObjectRepo().publishSnapshot();
+    }
+  }
+
   @Override
   public void updateObjectProperty(
       TCSObjectReference<?> ref,
@@ -120,6 +120,10 @@ public class DefaultVehicleController
    * execution of movement commands.
    */
   private final PeripheralInteractor peripheralInteractor;
+  /**
+   * Coalesces high-frequency updates of the vehicle's process model.
+   */
+  private final TelemetryCoalescer telemetryCoalescer;
   /**
    * Maps drive orders to movement commands.
    */
@@ -225,6 +229,10 @@ public class DefaultVehicleController
     requireNonNull(componentsFactory, "componentsFactory");
     this.peripheralInteractor
         = componentsFactory.createPeripheralInteractor(vehicle.getReference());
+    this.telemetryCoalescer = componentsFactory.createTelemetryCoalescer(
+        vehicle.getReference(),
+        this::handleProcessModelEvent
+    );
     this.movementCommandMapper = requireNonNull(movementCommandMapper, "movementCommandMapper");
     this.configuration = requireNonNull(configuration, "configuration");
     this.commandProcessingTracker
@@ -293,6 +301,8 @@ public class DefaultVehicleController
     peripheralInteractor.terminate();
 
     commAdapter.getProcessModel().removePropertyChangeListener(this);
+    telemetryCoalescer.discard();
+    LOG.debug("{}: Telemetry counters: {}", vehicle.getName(), telemetryCoalescer.getCounters());
     // Reset the vehicle's position.
     vehicleService.updateVehiclePosition(vehicle.getReference(), null);
     updateVehiclePose(new Pose(null, Double.NaN));
@@ -314,7 +324,13 @@ public class DefaultVehicleController
       return;
     }
 
-    handleProcessModelEvent(evt);
+    if (telemetryCoalescer.offer(evt)) {
+      return;
+    }
+
+    // Apply pending coalesced updates first, so that updates are applied in the order in which they
+    // were reported.
+    telemetryCoalescer.flushAndApply(evt);
   }
 
   @Override
@@ -0,0 +1,224 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.vehicles;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.inject.assistedinject.Assisted;
+import jakarta.annotation.Nonnull;
+import jakarta.inject.Inject;
+import java.beans.PropertyChangeEvent;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import org.opentcs.customizations.kernel.KernelExecutor;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.drivers.vehicle.VehicleProcessModel;
+import org.opentcs.kernel.KernelApplicationConfiguration;
+
+/**
+ * Coalesces high-frequency updates of a vehicle's process model (i.e. updates of the vehicle's
+ * pose, energy level and bounding box), so that at most one update per attribute is applied within
+ * the configured interval.
+ * <p>
+ * Updates of other attributes are not coalesced. To retain the order in which updates were
+ * reported, they are expected to be applied via {@link #flushAndApply(PropertyChangeEvent)}, which
+ * applies all pending coalesced updates first.
+ * </p>
+ * <p>
+ * Pending updates are applied by the kernel executor after the configured interval, while updates
+ * of other attributes are applied by the thread reporting them, which is not necessarily the
+ * kernel executor. To prevent an update of another attribute from overtaking coalesced updates
+ * that were reported before it, but are just being applied by the kernel executor, updates are
+ * applied only while holding a lock, i.e. one at a time and in the order in which they were taken
+ * from the pending updates.
+ * </p>
+ */
+public class TelemetryCoalescer {
+
+  /**
+   * The names of the process model attributes whose updates are coalesced.
+   */
+  private static final Set<String> COALESCED_ATTRIBUTES = Set.of(
+      VehicleProcessModel.Attribute.POSE.name(),
+      VehicleProcessModel.Attribute.ENERGY_LEVEL.name(),
+      VehicleProcessModel.Attribute.BOUNDING_BOX.name()
+  );
+  /**
+   * Applies updates.
+   */
+  private final Consumer<PropertyChangeEvent> updateHandler;
+  /**
+   * The kernel executor, used for applying pending updates after the configured interval.
+   */
+  private final ScheduledExecutorService kernelExecutor;
+  /**
+   * The configuration to use.
+   */
+  private final KernelApplicationConfiguration configuration;
+  /**
+   * The counters for the vehicle.
+   */
+  private final TelemetryCounters counters;
+  /**
+   * The most recent pending update for each attribute, mapped by the attribute's name.
+   */
+  private final Map<String, PropertyChangeEvent> pendingUpdates = new LinkedHashMap<>();
+  /**
+   * Held while applying updates, so that updates are applied one at a time and in order.
+   */
+  private final ReentrantLock applyLock = new ReentrantLock();
+  /**
+   * The scheduled task for applying the pending updates, or {@code null}, if there are no pending
+   * updates.
+   */
+  private ScheduledFuture<?> scheduledFlush;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param vehicleRef The vehicle whose updates are to be coalesced.
+   * @param updateHandler Applies updates.
+   * @param kernelExecutor The kernel executor.
+   * @param configuration The configuration to use.
+   * @param counterRegistry Provides the counters for the vehicle.
+   */
+  @Inject
+  public TelemetryCoalescer(
+      @Assisted
+      @Nonnull
+      TCSObjectReference<Vehicle> vehicleRef,
+      @Assisted
+      @Nonnull
+      Consumer<PropertyChangeEvent> updateHandler,
+      @Nonnull
+      @KernelExecutor
+      ScheduledExecutorService kernelExecutor,
+      @Nonnull
+      KernelApplicationConfiguration configuration,
+      @Nonnull
+      TelemetryCounterRegistry counterRegistry
+  ) {
+    requireNonNull(vehicleRef, "vehicleRef");
+    this.updateHandler = requireNonNull(updateHandler, "updateHandler");
+    this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
+    this.configuration = requireNonNull(configuration, "configuration");
+    this.counters = requireNonNull(counterRegistry, "counterRegistry")
+        .getCounters(vehicleRef.getName());
+  }
+
+  /**
+   * Offers the given update for coalescing.
+   *
+   * @param update The update.
+   * @return {@code true} if, and only if, the update was accepted and will be applied later. If
+   * {@code false} is returned, it is up to the caller to apply the update.
+   */
+  public boolean offer(
+      @Nonnull
+      PropertyChangeEvent update
+  ) {
+    requireNonNull(update, "update");
+
+    long interval = configuration.vehicleTelemetryCoalescingInterval();
+    if (interval <= 0 || !COALESCED_ATTRIBUTES.contains(update.getPropertyName())) {
+      return false;
+    }
+
+    synchronized (this) {
+      counters.updateReceived();
+      if (pendingUpdates.put(update.getPropertyName(), update) != null) {
+        counters.updateMerged();
+      }
+      if (scheduledFlush == null) {
+        scheduledFlush = kernelExecutor.schedule(this::flush, interval, TimeUnit.MILLISECONDS);
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Applies all pending updates immediately.
+   */
+  public void flush() {
+    applyLock.lock();
+    try {
+      List<PropertyChangeEvent> updates;
+      synchronized (this) {
+        if (pendingUpdates.isEmpty()) {
+          return;
+        }
+        updates = new ArrayList<>(pendingUpdates.values());
+        pendingUpdates.clear();
+        cancelScheduledFlush();
+        counters.updatesApplied(updates.size());
+      }
+
+      for (PropertyChangeEvent update : updates) {
+        updateHandler.accept(update);
+      }
+    }
+    finally {
+      applyLock.unlock();
+    }
+  }
+
+  /**
+   * Applies all pending updates and then the given update, which was not accepted for coalescing.
+   * <p>
+   * Coalesced updates that are being applied by another thread (i.e. by the kernel executor) when
+   * this method is called are applied completely before the given update.
+   * </p>
+   *
+   * @param update The update.
+   */
+  public void flushAndApply(
+      @Nonnull
+      PropertyChangeEvent update
+  ) {
+    requireNonNull(update, "update");
+
+    applyLock.lock();
+    try {
+      flush();
+      updateHandler.accept(update);
+    }
+    finally {
+      applyLock.unlock();
+    }
+  }
+
+  /**
+   * Discards all pending updates without applying them.
+   */
+  public synchronized void discard() {
+    counters.updatesDropped(pendingUpdates.size());
+    pendingUpdates.clear();
+    cancelScheduledFlush();
+  }
+
+  /**
+   * Returns the counters for the vehicle.
+   *
+   * @return The counters for the vehicle.
+   */
+  @Nonnull
+  public TelemetryCounters getCounters() {
+    return counters;
+  }
+
+  private void cancelScheduledFlush() {
+    if (scheduledFlush != null) {
+      scheduledFlush.cancel(false);
+      scheduledFlush = null;
+    }
+  }
+}
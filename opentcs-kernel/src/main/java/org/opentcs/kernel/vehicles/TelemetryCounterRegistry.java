@@ -0,0 +1,119 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.vehicles;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.inject.Inject;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToLongFunction;
+import org.opentcs.common.metrics.MetricsRegistry;
+
+/**
+ * Provides access to the {@link TelemetryCounters} of all vehicles.
+ * <p>
+ * The counters are also provided as gauges via the application's {@link MetricsRegistry}, labeled
+ * with the respective vehicle's name.
+ * Instances of this class are thread-safe.
+ * </p>
+ */
+public class TelemetryCounterRegistry {
+
+  /**
+   * The counters, mapped by the names of the vehicles they belong to.
+   */
+  private final Map<String, TelemetryCounters> counters = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a new instance.
+   *
+   * @param metricsRegistry The registry to provide the counters with.
+   */
+  @Inject
+  public TelemetryCounterRegistry(
+      @Nonnull
+      MetricsRegistry metricsRegistry
+  ) {
+    requireNonNull(metricsRegistry, "metricsRegistry");
+
+    registerGauges(
+        metricsRegistry,
+        "vehicle_telemetry_received_updates",
+        "Number of high-frequency updates reported for a vehicle and received for coalescing.",
+        TelemetryCounters::getReceivedUpdates
+    );
+    registerGauges(
+        metricsRegistry,
+        "vehicle_telemetry_merged_updates",
+        "Number of updates for a vehicle that were superseded by a more recent one.",
+        TelemetryCounters::getMergedUpdates
+    );
+    registerGauges(
+        metricsRegistry,
+        "vehicle_telemetry_applied_updates",
+        "Number of coalesced updates for a vehicle that were applied.",
+        TelemetryCounters::getAppliedUpdates
+    );
+    registerGauges(
+        metricsRegistry,
+        "vehicle_telemetry_dropped_updates",
+        "Number of coalesced updates for a vehicle that were discarded without being applied.",
+        TelemetryCounters::getDroppedUpdates
+    );
+  }
+
+  /**
+   * Returns the counters for the vehicle with the given name.
+   * <p>
+   * The counters are kept across re-initializations of the respective vehicle's controller.
+   * </p>
+   *
+   * @param vehicleName The name of the vehicle.
+   * @return The counters for the vehicle.
+   */
+  @Nonnull
+  public TelemetryCounters getCounters(
+      @Nonnull
+      String vehicleName
+  ) {
+    requireNonNull(vehicleName, "vehicleName");
+
+    return counters.computeIfAbsent(vehicleName, name -> new TelemetryCounters());
+  }
+
+  /**
+   * Returns the counters of all vehicles.
+   *
+   * @return The counters, mapped by the names of the vehicles they belong to.
+   */
+  @Nonnull
+  public Map<String, TelemetryCounters> getAllCounters() {
+    return Map.copyOf(counters);
+  }
+
+  private void registerGauges(
+      MetricsRegistry metricsRegistry,
+      String name,
+      String help,
+      ToLongFunction<TelemetryCounters> value
+  ) {
+    metricsRegistry.gauges(
+        name,
+        help,
+        "vehicle",
+        () -> {
+          Map<String, Double> result = new HashMap<>();
+          counters.forEach(
+              (vehicleName, vehicleCounters) -> result.put(
+                  vehicleName,
+                  (double) value.applyAsLong(vehicleCounters)
+              )
+          );
+          return result;
+        }
+    );
+  }
+}
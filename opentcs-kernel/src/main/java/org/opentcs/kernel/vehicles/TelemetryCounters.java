@@ -0,0 +1,103 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.vehicles;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts events related to the coalescing of high-frequency updates reported for a single vehicle
+ * by a {@link TelemetryCoalescer}.
+ * <p>
+ * Instances of this class are thread-safe.
+ * </p>
+ */
+public class TelemetryCounters {
+
+  /**
+   * The number of updates that were received for coalescing.
+   */
+  private final AtomicLong receivedUpdates = new AtomicLong();
+  /**
+   * The number of updates that were superseded by a more recent update of the same attribute
+   * before being applied.
+   */
+  private final AtomicLong mergedUpdates = new AtomicLong();
+  /**
+   * The number of updates that were applied.
+   */
+  private final AtomicLong appliedUpdates = new AtomicLong();
+  /**
+   * The number of updates that were discarded without being applied.
+   */
+  private final AtomicLong droppedUpdates = new AtomicLong();
+
+  /**
+   * Creates a new instance.
+   */
+  public TelemetryCounters() {
+  }
+
+  /**
+   * Returns the number of updates that were received for coalescing.
+   *
+   * @return The number of received updates.
+   */
+  public long getReceivedUpdates() {
+    return receivedUpdates.get();
+  }
+
+  /**
+   * Returns the number of updates that were superseded by a more recent update of the same
+   * attribute before being applied.
+   *
+   * @return The number of merged updates.
+   */
+  public long getMergedUpdates() {
+    return mergedUpdates.get();
+  }
+
+  /**
+   * Returns the number of updates that were applied.
+   *
+   * @return The number of applied updates.
+   */
+  public long getAppliedUpdates() {
+    return appliedUpdates.get();
+  }
+
+  /**
+   * Returns the number of updates that were discarded without being applied, e.g. because the
+   * vehicle controller was terminated.
+   *
+   * @return The number of dropped updates.
+   */
+  public long getDroppedUpdates() {
+    return droppedUpdates.get();
+  }
+
+  @Override
+  public String toString() {
+    return "TelemetryCounters{"
+        + "receivedUpdates=" + receivedUpdates.get()
+        + ", mergedUpdates=" + mergedUpdates.get()
+        + ", appliedUpdates=" + appliedUpdates.get()
+        + ", droppedUpdates=" + droppedUpdates.get()
+        + '}';
+  }
+
+  void updateReceived() {
+    receivedUpdates.incrementAndGet();
+  }
+
+  void updateMerged() {
+    mergedUpdates.incrementAndGet();
+  }
+
+  void updatesApplied(int count) {
+    appliedUpdates.addAndGet(count);
+  }
+
+  void updatesDropped(int count) {
+    droppedUpdates.addAndGet(count);
+  }
+}
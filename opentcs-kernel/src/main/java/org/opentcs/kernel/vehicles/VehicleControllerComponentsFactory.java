@@ -2,6 +2,8 @@
 // SPDX-License-Identifier: MIT
 package org.opentcs.kernel.vehicles;
 
+import java.beans.PropertyChangeEvent;
+import java.util.function.Consumer;
 import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Vehicle;
 
@@ -17,4 +19,16 @@ public interface VehicleControllerComponentsFactory {
    * @return A new peripheral interactor.
    */
   PeripheralInteractor createPeripheralInteractor(TCSObjectReference<Vehicle> vehicleRef);
+
+  /**
+   * Creates a new {@link TelemetryCoalescer} instance for the given vehicle.
+   *
+   * @param vehicleRef The vehicle.
+   * @param updateHandler Applies the coalesced updates.
+   * @return A new telemetry coalescer.
+   */
+  TelemetryCoalescer createTelemetryCoalescer(
+      TCSObjectReference<Vehicle> vehicleRef,
+      Consumer<PropertyChangeEvent> updateHandler
+  );
 }
@@ -5,10 +5,8 @@ package org.opentcs.kernel.workingset;
 import static java.util.Objects.requireNonNull;
 
 import jakarta.inject.Inject;
-import java.util.Objects;
 import org.opentcs.components.kernel.TransportOrderCleanupApproval;
 import org.opentcs.data.order.TransportOrder;
-import org.opentcs.data.peripherals.PeripheralJob;
 
 /**
  * Checks whether a transport order may be removed.
@@ -66,22 +64,15 @@ public class DefaultTransportOrderCleanupApproval
 
   private boolean isRelatedToJobWithNonFinalState(TransportOrder order) {
     return peripheralJobPoolManager.getObjectRepo()
-        .getObjects(
-            PeripheralJob.class,
-            job -> Objects.equals(job.getRelatedTransportOrder(), order.getReference())
-        )
+        .getPeripheralJobsByRelatedTransportOrder(order.getReference())
         .stream()
-        .filter(job -> !job.getState().isFinalState())
-        .findAny()
-        .isPresent();
+        .anyMatch(job -> !job.getState().isFinalState());
   }
 
   private boolean isRelatedToUnapprovedJob(TransportOrder order) {
-    return !(peripheralJobPoolManager.getObjectRepo().getObjects(
-        PeripheralJob.class,
-        job -> Objects.equals(job.getRelatedTransportOrder(), order.getReference())
-    )
+    return !peripheralJobPoolManager.getObjectRepo()
+        .getPeripheralJobsByRelatedTransportOrder(order.getReference())
         .stream()
-        .allMatch(defaultPeripheralJobCleanupApproval));
+        .allMatch(defaultPeripheralJobCleanupApproval);
   }
 }
@@ -0,0 +1,178 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.workingset;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import org.opentcs.data.TCSObject;
+
+/**
+ * A secondary index over objects of a specific class, mapping a key extracted from each object to
+ * the set of objects sharing that key.
+ * <p>
+ * Objects for which the key function returns {@code null} are not indexed. An index created via
+ * {@link #ofKeys(Class, Function)} maps each object to any number of keys instead.
+ * </p>
+ * <p>
+ * Note that no synchronization is done inside this class. Concurrent access of instances of this
+ * class must be synchronized externally.
+ * </p>
+ *
+ * @param <K> The type of the index keys.
+ * @param <T> The type of the indexed objects.
+ */
+class ObjectIndex<K, T extends TCSObject<T>> {
+
+  /**
+   * The class of the indexed objects.
+   */
+  private final Class<T> clazz;
+  /**
+   * Extracts the index keys from an object.
+   */
+  private final Function<T, Collection<K>> keysFunction;
+  /**
+   * The indexed objects, mapped by their names, grouped by their keys.
+   */
+  private final Map<K, Map<String, T>> objectsByKey = new HashMap<>();
+
+  /**
+   * Creates a new instance.
+   *
+   * @param clazz The class of the indexed objects.
+   * @param keyFunction Extracts the index key from an object.
+   */
+  ObjectIndex(
+      @Nonnull
+      Class<T> clazz,
+      @Nonnull
+      Function<T, K> keyFunction
+  ) {
+    this(toKeysFunction(requireNonNull(keyFunction, "keyFunction")), clazz);
+  }
+
+  private ObjectIndex(
+      @Nonnull
+      Function<T, Collection<K>> keysFunction,
+      @Nonnull
+      Class<T> clazz
+  ) {
+    this.clazz = requireNonNull(clazz, "clazz");
+    this.keysFunction = requireNonNull(keysFunction, "keysFunction");
+  }
+
+  /**
+   * Creates a new index mapping each object to any number of keys.
+   *
+   * @param <K> The type of the index keys.
+   * @param <T> The type of the indexed objects.
+   * @param clazz The class of the indexed objects.
+   * @param keysFunction Extracts the index keys from an object.
+   * @return The new index.
+   */
+  static <K, T extends TCSObject<T>> ObjectIndex<K, T> ofKeys(
+      @Nonnull
+      Class<T> clazz,
+      @Nonnull
+      Function<T, Collection<K>> keysFunction
+  ) {
+    return new ObjectIndex<>(keysFunction, clazz);
+  }
+
+  private static <K, T> Function<T, Collection<K>> toKeysFunction(Function<T, K> keyFunction) {
+    return object -> {
+      K key = keyFunction.apply(object);
+      return key == null ? Set.of() : Set.of(key);
+    };
+  }
+
+  /**
+   * Adds the given object to this index, if it is an instance of the indexed class.
+   *
+   * @param object The object.
+   */
+  void add(
+      @Nonnull
+      TCSObject<?> object
+  ) {
+    if (!clazz.isInstance(object)) {
+      return;
+    }
+    T typedObject = clazz.cast(object);
+    for (K key : keysFunction.apply(typedObject)) {
+      objectsByKey.computeIfAbsent(key, k -> new LinkedHashMap<>())
+          .put(typedObject.getName(), typedObject);
+    }
+  }
+
+  /**
+   * Removes the given object from this index, if it is an instance of the indexed class.
+   *
+   * @param object The object.
+   */
+  void remove(
+      @Nonnull
+      TCSObject<?> object
+  ) {
+    if (!clazz.isInstance(object)) {
+      return;
+    }
+    for (K key : keysFunction.apply(clazz.cast(object))) {
+      Map<String, T> objectsByName = objectsByKey.get(key);
+      if (objectsByName == null) {
+        continue;
+      }
+      objectsByName.remove(object.getName());
+      if (objectsByName.isEmpty()) {
+        objectsByKey.remove(key);
+      }
+    }
+  }
+
+  /**
+   * Replaces the previous state of an object with its current state in this index.
+   *
+   * @param previousState The object's previous state.
+   * @param currentState The object's current state.
+   */
+  void replace(
+      @Nonnull
+      TCSObject<?> previousState,
+      @Nonnull
+      TCSObject<?> currentState
+  ) {
+    remove(previousState);
+    add(currentState);
+  }
+
+  /**
+   * Returns an unmodifiable copy of the set of objects with the given key.
+   *
+   * @param key The key.
+   * @return The set of objects with the given key. If there are no such objects, the returned set
+   * is empty.
+   */
+  @Nonnull
+  Set<T> get(
+      @Nullable
+      K key
+  ) {
+    Map<String, T> objectsByName = objectsByKey.get(key);
+    return objectsByName == null ? Set.of() : Set.copyOf(objectsByName.values());
+  }
+
+  /**
+   * Removes all objects from this index.
+   */
+  void clear() {
+    objectsByKey.clear();
+  }
+}
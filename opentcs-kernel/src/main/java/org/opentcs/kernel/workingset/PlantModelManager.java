@@ -54,6 +54,7 @@ import org.opentcs.data.order.TransportOrder;
 import org.opentcs.data.peripherals.PeripheralJob;
 import org.opentcs.data.peripherals.PeripheralOperation;
 import org.opentcs.drivers.vehicle.LoadHandlingDevice;
+import org.opentcs.util.TimeProvider;
 import org.opentcs.util.event.EventHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -74,6 +75,10 @@ public class PlantModelManager
    * This class's Logger.
    */
   private static final Logger LOG = LoggerFactory.getLogger(PlantModelManager.class);
+  /**
+   * Provides the time at which vehicles enter their states.
+   */
+  private final TimeProvider timeProvider;
   /**
    * This model's name.
    */
@@ -88,6 +93,7 @@ public class PlantModelManager
    *
    * @param objectRepo The object repo.
    * @param eventHandler The event handler to publish events to.
+   * @param timeProvider Provides the time at which vehicles enter their states.
    */
   @Inject
   public PlantModelManager(
@@ -95,9 +101,12 @@ public class PlantModelManager
       TCSObjectRepository objectRepo,
       @Nonnull
       @ApplicationEventBus
-      EventHandler eventHandler
+      EventHandler eventHandler,
+      @Nonnull
+      TimeProvider timeProvider
   ) {
     super(objectRepo, eventHandler);
+    this.timeProvider = requireNonNull(timeProvider, "timeProvider");
   }
 
   /**
@@ -574,7 +583,7 @@ public class PlantModelManager
         newState
     );
 
-    Vehicle vehicle = previousState.withState(newState);
+    Vehicle vehicle = previousState.withState(newState, timeProvider.getCurrentTimeInstant());
     getObjectRepo().replaceObject(vehicle);
     emitObjectEvent(
         vehicle,
@@ -670,7 +679,7 @@ public class PlantModelManager
         newState
     );
 
-    Vehicle vehicle = previousState.withProcState(newState);
+    Vehicle vehicle = previousState.withProcState(newState, timeProvider.getCurrentTimeInstant());
     getObjectRepo().replaceObject(vehicle);
     emitObjectEvent(
         vehicle,
@@ -1082,8 +1091,6 @@ public class PlantModelManager
       throws ObjectUnknownException {
     requireNonNull(resources, "resources");
 
-    Set<Block> blocks = getObjectRepo().getObjects(Block.class);
-
     // First, collect the given references plus references to all members of blocks that contain the
     // given references in a set.
     // We could look up all resources and add them to the result immediately, but by first
@@ -1092,10 +1099,9 @@ public class PlantModelManager
     for (TCSResourceReference<?> resourceRef : resources) {
       refsToLookUp.add(resourceRef);
 
-      blocks.stream()
-          .filter(block -> block.getMembers().contains(resourceRef))
-          .flatMap(block -> block.getMembers().stream())
-          .forEach(memberRef -> refsToLookUp.add(memberRef));
+      for (Block block : getObjectRepo().getBlocksContaining(resourceRef)) {
+        refsToLookUp.addAll(block.getMembers());
+      }
     }
 
     // Look up and return the actual resources.
@@ -1104,6 +1110,22 @@ public class PlantModelManager
         .collect(Collectors.toSet());
   }
 
+  /**
+   * Returns all blocks containing the referenced resource.
+   *
+   * @param resourceRef A reference to the resource.
+   * @return The blocks containing the referenced resource. If no such blocks exist, the returned set
+   * is empty.
+   */
+  public Set<Block> getBlocksContaining(
+      @Nonnull
+      TCSResourceReference<?> resourceRef
+  ) {
+    requireNonNull(resourceRef, "resourceRef");
+
+    return getObjectRepo().getBlocksContaining(resourceRef);
+  }
+
   private List<PeripheralOperation> mapPeripheralOperationTOs(
       List<PeripheralOperationCreationTO> creationTOs
   ) {
@@ -8,6 +8,8 @@ import static org.opentcs.util.Assertions.checkArgument;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -17,12 +19,29 @@ import org.opentcs.data.ObjectExistsException;
 import org.opentcs.data.ObjectUnknownException;
 import org.opentcs.data.TCSObject;
 import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Block;
+import org.opentcs.data.model.TCSResourceReference;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.OrderSequence;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.data.peripherals.PeripheralJob;
 
 /**
  * A container for <code>TCSObject</code>s belonging together.
  * <p>
  * Provides access to a set of data objects and ensures they have unique names.
  * </p>
+ * <p>
+ * In addition to the objects grouped by their classes, this repository maintains a global index
+ * of all objects by their names and a few secondary indexes for attributes that are frequently
+ * queried (e.g. transport orders by their states or blocks by their members), so these queries
+ * do not require scanning all objects of a class.
+ * </p>
+ * <p>
+ * Furthermore, this repository keeps track of modifications and can publish immutable snapshots
+ * of its content (see {@link #publishSnapshot()}), which may be read by any thread without
+ * synchronization.
+ * </p>
  */
 public class TCSObjectRepository {
 
@@ -30,6 +49,97 @@ public class TCSObjectRepository {
    * The objects contained in this pool, mapped by their names, grouped by their classes.
    */
   private final Map<Class<?>, Map<String, TCSObject<?>>> objects = new HashMap<>();
+  /**
+   * All objects contained in this pool, mapped by their names.
+   */
+  private final Map<String, TCSObject<?>> objectsByName = new HashMap<>();
+  /**
+   * Transport orders indexed by their states.
+   */
+  private final ObjectIndex<TransportOrder.State, TransportOrder> transportOrdersByState
+      = new ObjectIndex<>(TransportOrder.class, TransportOrder::getState);
+  /**
+   * Transport orders indexed by the names of their intended vehicles.
+   */
+  private final ObjectIndex<String, TransportOrder> transportOrdersByIntendedVehicle
+      = new ObjectIndex<>(
+          TransportOrder.class,
+          order -> order.getIntendedVehicle() == null
+              ? null
+              : order.getIntendedVehicle().getName()
+      );
+  /**
+   * Transport orders indexed by the names of their wrapping sequences.
+   */
+  private final ObjectIndex<String, TransportOrder> transportOrdersByWrappingSequence
+      = new ObjectIndex<>(
+          TransportOrder.class,
+          order -> order.getWrappingSequence() == null
+              ? null
+              : order.getWrappingSequence().getName()
+      );
+  /**
+   * Vehicles indexed by their processing states.
+   */
+  private final ObjectIndex<Vehicle.ProcState, Vehicle> vehiclesByProcState
+      = new ObjectIndex<>(Vehicle.class, Vehicle::getProcState);
+  /**
+   * Blocks indexed by the names of their members.
+   */
+  private final ObjectIndex<String, Block> blocksByMember
+      = ObjectIndex.ofKeys(
+          Block.class,
+          block -> block.getMembers().stream().map(TCSResourceReference::getName).toList()
+      );
+  /**
+   * Peripheral jobs indexed by the names of their related transport orders.
+   */
+  private final ObjectIndex<String, PeripheralJob> peripheralJobsByRelatedTransportOrder
+      = new ObjectIndex<>(
+          PeripheralJob.class,
+          job -> job.getRelatedTransportOrder() == null
+              ? null
+              : job.getRelatedTransportOrder().getName()
+      );
+  /**
+   * Peripheral jobs indexed by their states.
+   */
+  private final ObjectIndex<PeripheralJob.State, PeripheralJob> peripheralJobsByState
+      = new ObjectIndex<>(PeripheralJob.class, PeripheralJob::getState);
+  /**
+   * Finished order sequences. Order sequences that are not finished are not indexed.
+   */
+  private final ObjectIndex<Boolean, OrderSequence> finishedOrderSequences
+      = new ObjectIndex<>(
+          OrderSequence.class,
+          sequence -> sequence.isFinished() ? Boolean.TRUE : null
+      );
+  /**
+   * All secondary indexes that need to be maintained when objects are added, replaced or removed.
+   */
+  private final List<ObjectIndex<?, ?>> indexes = List.of(
+      transportOrdersByState,
+      transportOrdersByIntendedVehicle,
+      transportOrdersByWrappingSequence,
+      vehiclesByProcState,
+      blocksByMember,
+      peripheralJobsByRelatedTransportOrder,
+      peripheralJobsByState,
+      finishedOrderSequences
+  );
+  /**
+   * The number of modifications applied to this repository.
+   */
+  private volatile long modificationCount;
+  /**
+   * The names of objects that were added, replaced or removed since the last snapshot was
+   * published, grouped by their classes.
+   */
+  private final Map<Class<?>, Set<String>> namesModifiedSinceSnapshot = new HashMap<>();
+  /**
+   * The most recently published snapshot.
+   */
+  private volatile WorkingSetSnapshot snapshot = WorkingSetSnapshot.EMPTY;
 
   /**
    * Creates a new instance.
@@ -55,12 +165,17 @@ public class TCSObjectRepository {
       throw new ObjectExistsException("Object name already exists: " + newObject.getName());
     }
 
-    Map<String, TCSObject<?>> objectsByName = objects.get(newObject.getClass());
-    if (objectsByName == null) {
-      objectsByName = new HashMap<>();
-      objects.put(newObject.getClass(), objectsByName);
+    Map<String, TCSObject<?>> objectsOfClass = objects.get(newObject.getClass());
+    if (objectsOfClass == null) {
+      objectsOfClass = new HashMap<>();
+      objects.put(newObject.getClass(), objectsOfClass);
     }
+    objectsOfClass.put(newObject.getName(), newObject);
     objectsByName.put(newObject.getName(), newObject);
+    for (ObjectIndex<?, ?> index : indexes) {
+      index.add(newObject);
+    }
+    markModified(newObject);
   }
 
   /**
@@ -93,6 +208,11 @@ public class TCSObjectRepository {
     );
 
     objects.get(object.getClass()).put(object.getName(), object);
+    objectsByName.put(object.getName(), object);
+    for (ObjectIndex<?, ?> index : indexes) {
+      index.replace(oldObject, object);
+    }
+    markModified(object);
   }
 
   /**
@@ -199,11 +319,7 @@ public class TCSObjectRepository {
   ) {
     requireNonNull(name, "name");
 
-    return objects.values().stream()
-        .map(objectsByName -> objectsByName.get(name))
-        .filter(object -> object != null)
-        .findAny()
-        .orElse(null);
+    return objectsByName.get(name);
   }
 
   /**
@@ -359,10 +475,234 @@ public class TCSObjectRepository {
     if (obj == null) {
       throw new ObjectUnknownException(ref);
     }
+    objectsByName.remove(obj.getName());
+    for (ObjectIndex<?, ?> index : indexes) {
+      index.remove(obj);
+    }
+    markModified(obj);
     return obj;
   }
 
+  /**
+   * Returns an unmodifiable set of transport orders in the given state.
+   * <p>
+   * This method uses an index and does not need to scan all transport orders.
+   * </p>
+   *
+   * @param state The state.
+   * @return A set of transport orders in the given state. If no such transport orders exist, the
+   * returned set is empty.
+   */
+  @Nonnull
+  public Set<TransportOrder> getTransportOrders(
+      @Nonnull
+      TransportOrder.State state
+  ) {
+    requireNonNull(state, "state");
+
+    return transportOrdersByState.get(state);
+  }
+
+  /**
+   * Returns an unmodifiable set of transport orders intended for the referenced vehicle.
+   * <p>
+   * This method uses an index and does not need to scan all transport orders.
+   * </p>
+   *
+   * @param vehicleRef A reference to the vehicle.
+   * @return A set of transport orders intended for the referenced vehicle. If no such transport
+   * orders exist, the returned set is empty.
+   */
+  @Nonnull
+  public Set<TransportOrder> getTransportOrdersByIntendedVehicle(
+      @Nonnull
+      TCSObjectReference<Vehicle> vehicleRef
+  ) {
+    requireNonNull(vehicleRef, "vehicleRef");
+
+    return transportOrdersByIntendedVehicle.get(vehicleRef.getName());
+  }
+
+  /**
+   * Returns an unmodifiable set of transport orders wrapped by the referenced order sequence.
+   * <p>
+   * This method uses an index and does not need to scan all transport orders.
+   * </p>
+   *
+   * @param sequenceRef A reference to the order sequence.
+   * @return A set of transport orders wrapped by the referenced order sequence. If no such
+   * transport orders exist, the returned set is empty.
+   */
+  @Nonnull
+  public Set<TransportOrder> getTransportOrdersByWrappingSequence(
+      @Nonnull
+      TCSObjectReference<OrderSequence> sequenceRef
+  ) {
+    requireNonNull(sequenceRef, "sequenceRef");
+
+    return transportOrdersByWrappingSequence.get(sequenceRef.getName());
+  }
+
+  /**
+   * Returns an unmodifiable set of vehicles in the given processing state.
+   * <p>
+   * This method uses an index and does not need to scan all vehicles.
+   * </p>
+   *
+   * @param procState The processing state.
+   * @return A set of vehicles in the given processing state. If no such vehicles exist, the
+   * returned set is empty.
+   */
+  @Nonnull
+  public Set<Vehicle> getVehicles(
+      @Nonnull
+      Vehicle.ProcState procState
+  ) {
+    requireNonNull(procState, "procState");
+
+    return vehiclesByProcState.get(procState);
+  }
+
+  /**
+   * Returns an unmodifiable set of blocks containing the referenced resource.
+   * <p>
+   * This method uses an index and does not need to scan all blocks.
+   * </p>
+   *
+   * @param resourceRef A reference to the resource.
+   * @return A set of blocks containing the referenced resource. If no such blocks exist, the
+   * returned set is empty.
+   */
+  @Nonnull
+  public Set<Block> getBlocksContaining(
+      @Nonnull
+      TCSResourceReference<?> resourceRef
+  ) {
+    requireNonNull(resourceRef, "resourceRef");
+
+    return blocksByMember.get(resourceRef.getName());
+  }
+
+  /**
+   * Returns an unmodifiable set of peripheral jobs related to the referenced transport order.
+   * <p>
+   * This method uses an index and does not need to scan all peripheral jobs.
+   * </p>
+   *
+   * @param orderRef A reference to the transport order.
+   * @return A set of peripheral jobs related to the referenced transport order. If no such
+   * peripheral jobs exist, the returned set is empty.
+   */
+  @Nonnull
+  public Set<PeripheralJob> getPeripheralJobsByRelatedTransportOrder(
+      @Nonnull
+      TCSObjectReference<TransportOrder> orderRef
+  ) {
+    requireNonNull(orderRef, "orderRef");
+
+    return peripheralJobsByRelatedTransportOrder.get(orderRef.getName());
+  }
+
+  /**
+   * Returns an unmodifiable set of peripheral jobs in the given state.
+   * <p>
+   * This method uses an index and does not need to scan all peripheral jobs.
+   * </p>
+   *
+   * @param state The state.
+   * @return A set of peripheral jobs in the given state. If no such peripheral jobs exist, the
+   * returned set is empty.
+   */
+  @Nonnull
+  public Set<PeripheralJob> getPeripheralJobs(
+      @Nonnull
+      PeripheralJob.State state
+  ) {
+    requireNonNull(state, "state");
+
+    return peripheralJobsByState.get(state);
+  }
+
+  /**
+   * Returns an unmodifiable set of finished order sequences.
+   * <p>
+   * This method uses an index and does not need to scan all order sequences.
+   * </p>
+   *
+   * @return A set of finished order sequences. If no such order sequences exist, the returned set
+   * is empty.
+   */
+  @Nonnull
+  public Set<OrderSequence> getFinishedOrderSequences() {
+    return finishedOrderSequences.get(Boolean.TRUE);
+  }
+
+  /**
+   * Returns the most recently published snapshot of this repository's content.
+   * <p>
+   * This method does not require any synchronization.
+   * </p>
+   *
+   * @return The most recently published snapshot.
+   */
+  @Nonnull
+  public WorkingSetSnapshot getSnapshot() {
+    return snapshot;
+  }
+
+  /**
+   * Returns the most recently published snapshot of this repository's content, provided it
+   * reflects all modifications applied to this repository.
+   * <p>
+   * This method does not require any synchronization.
+   * </p>
+   *
+   * @return The most recently published snapshot, or {@code null}, if there are modifications that
+   * have not been published, yet.
+   */
+  @Nullable
+  public WorkingSetSnapshot getSnapshotIfCurrent() {
+    WorkingSetSnapshot current = snapshot;
+    return current.getVersion() == modificationCount ? current : null;
+  }
+
+  /**
+   * Publishes a new snapshot of this repository's content, if it was modified since the last
+   * snapshot was published.
+   * <p>
+   * Only the objects that were actually modified are copied, along with the objects sharing a
+   * shard with them in the snapshot. All other objects are shared with the previous snapshot.
+   * </p>
+   *
+   * @return The published snapshot.
+   */
+  @Nonnull
+  public WorkingSetSnapshot publishSnapshot() {
+    if (snapshot.getVersion() == modificationCount) {
+      return snapshot;
+    }
+
+    Map<Class<?>, Map<String, TCSObject<?>>> modifiedObjects = new HashMap<>();
+    for (Map.Entry<Class<?>, Set<String>> entry : namesModifiedSinceSnapshot.entrySet()) {
+      Map<String, TCSObject<?>> objectsOfClass = objects.getOrDefault(entry.getKey(), Map.of());
+      Map<String, TCSObject<?>> modifiedObjectsOfClass = new HashMap<>();
+      for (String name : entry.getValue()) {
+        modifiedObjectsOfClass.put(name, objectsOfClass.get(name));
+      }
+      modifiedObjects.put(entry.getKey(), modifiedObjectsOfClass);
+    }
+    snapshot = snapshot.successor(modificationCount, modifiedObjects);
+    namesModifiedSinceSnapshot.clear();
+    return snapshot;
+  }
+
+  private void markModified(TCSObject<?> object) {
+    namesModifiedSinceSnapshot.computeIfAbsent(object.getClass(), clazz -> new HashSet<>())
+        .add(object.getName());
+    modificationCount++;
+  }
+
   private boolean containsName(String name) {
-    return objects.values().stream().anyMatch(objectsByName -> objectsByName.containsKey(name));
+    return objectsByName.containsKey(name);
   }
 }
@@ -0,0 +1,159 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.workingset;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.inject.Inject;
+import org.opentcs.common.metrics.Counter;
+import org.opentcs.common.metrics.Histogram;
+import org.opentcs.common.metrics.MetricsRegistry;
+import org.opentcs.common.metrics.Timer;
+
+/**
+ * Counts sweeps of the {@link WorkingSetCleanupTask} and the objects removed with them.
+ * <p>
+ * The counters and durations are kept in the application's {@link MetricsRegistry}, which provides
+ * them along with all other metrics, and are thus only updated while it is enabled.
+ * Instances of this class are thread-safe.
+ * </p>
+ */
+public class WorkingSetCleanupCounters {
+
+  /**
+   * The upper bounds (in seconds) of the buckets for the durations of sweeps, which may span many
+   * slices and thus take longer than the timers' default buckets cover.
+   */
+  private static final double[] SWEEP_DURATION_BUCKETS = {
+      0.01, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10, 30, 60, 300
+  };
+  /**
+   * The durations of completed sweeps (in s), from their start to the end of their last slices.
+   */
+  private final Histogram sweepDurations;
+  /**
+   * The durations of processed slices, i.e. the times they held the kernel's global lock.
+   */
+  private final Timer sliceDurations;
+  /**
+   * The number of transport orders removed.
+   */
+  private final Counter removedTransportOrders;
+  /**
+   * The number of order sequences removed.
+   */
+  private final Counter removedOrderSequences;
+  /**
+   * The number of peripheral jobs removed.
+   */
+  private final Counter removedPeripheralJobs;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param registry The registry keeping the counters and durations.
+   */
+  @Inject
+  public WorkingSetCleanupCounters(MetricsRegistry registry) {
+    requireNonNull(registry, "registry");
+
+    sweepDurations = registry.histogram(
+        "workingset_cleanup_sweep_duration_seconds",
+        "The durations of sweeps removing finished objects from the working set.",
+        SWEEP_DURATION_BUCKETS
+    );
+    sliceDurations = registry.timer(
+        "workingset_cleanup_slice_duration_seconds",
+        "The durations of the slices sweeps are split into, each holding the global lock."
+    );
+    removedTransportOrders = removedObjectsCounter(registry, "transport_order");
+    removedOrderSequences = removedObjectsCounter(registry, "order_sequence");
+    removedPeripheralJobs = removedObjectsCounter(registry, "peripheral_job");
+  }
+
+  /**
+   * Returns the number of sweeps completed.
+   *
+   * @return The number of sweeps completed.
+   */
+  public long getSweeps() {
+    return sweepDurations.getCount();
+  }
+
+  /**
+   * Returns the number of slices processed, i.e. the number of kernel executor tasks the sweeps
+   * were split into.
+   *
+   * @return The number of slices processed.
+   */
+  public long getSlices() {
+    return sliceDurations.getHistogram().getCount();
+  }
+
+  /**
+   * Returns the number of transport orders removed.
+   *
+   * @return The number of transport orders removed.
+   */
+  public long getRemovedTransportOrders() {
+    return removedTransportOrders.getCount();
+  }
+
+  /**
+   * Returns the number of order sequences removed.
+   *
+   * @return The number of order sequences removed.
+   */
+  public long getRemovedOrderSequences() {
+    return removedOrderSequences.getCount();
+  }
+
+  /**
+   * Returns the number of peripheral jobs removed.
+   *
+   * @return The number of peripheral jobs removed.
+   */
+  public long getRemovedPeripheralJobs() {
+    return removedPeripheralJobs.getCount();
+  }
+
+  @Override
+  public String toString() {
+    return "WorkingSetCleanupCounters{"
+        + "sweeps=" + getSweeps()
+        + ", slices=" + getSlices()
+        + ", removedTransportOrders=" + removedTransportOrders.getCount()
+        + ", removedOrderSequences=" + removedOrderSequences.getCount()
+        + ", removedPeripheralJobs=" + removedPeripheralJobs.getCount()
+        + '}';
+  }
+
+  void sliceProcessed(long durationNanos) {
+    sliceDurations.recordNanos(durationNanos);
+  }
+
+  void sweepCompleted(long durationMillis) {
+    sweepDurations.observe(durationMillis / 1000.0);
+  }
+
+  void transportOrdersRemoved(int count) {
+    removedTransportOrders.increment(count);
+  }
+
+  void orderSequenceRemoved() {
+    removedOrderSequences.increment();
+  }
+
+  void peripheralJobsRemoved(int count) {
+    removedPeripheralJobs.increment(count);
+  }
+
+  private static Counter removedObjectsCounter(MetricsRegistry registry, String type) {
+    return registry.counter(
+        "workingset_cleanup_removed_objects_total",
+        "The number of finished objects removed from the working set, by type.",
+        "type",
+        type
+    );
+  }
+}
@@ -5,9 +5,13 @@ package org.opentcs.kernel.workingset;
 import static java.util.Objects.requireNonNull;
 
 import jakarta.inject.Inject;
-import java.util.Objects;
-import java.util.function.Predicate;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import org.opentcs.customizations.kernel.GlobalSyncObject;
+import org.opentcs.customizations.kernel.KernelExecutor;
 import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.order.OrderSequence;
 import org.opentcs.data.order.TransportOrder;
@@ -18,6 +22,12 @@ import org.slf4j.LoggerFactory;
 
 /**
  * A task that periodically removes orders, order sequences and peripheral jobs in a final state.
+ * <p>
+ * A sweep does not check all candidates for removal at once. Instead, it is split into slices,
+ * each of which is executed as a separate task by the kernel executor and holds the global lock
+ * only for a limited number of objects and a limited amount of time. Other kernel tasks can thus be
+ * executed between the slices of a sweep.
+ * </p>
  */
 public class WorkingSetCleanupTask
     implements
@@ -31,6 +41,10 @@ public class WorkingSetCleanupTask
    * A global object to be used for synchronization within the kernel.
    */
   private final Object globalSyncObject;
+  /**
+   * The kernel's executor.
+   */
+  private final ScheduledExecutorService kernelExecutor;
   /**
    * Keeps all the transport orders.
    */
@@ -60,11 +74,20 @@ public class WorkingSetCleanupTask
    * (according to its creation time).
    */
   private final CreationTimeThreshold creationTimeThreshold;
+  /**
+   * Counts sweeps and the objects removed with them.
+   */
+  private final WorkingSetCleanupCounters counters;
+  /**
+   * The sweep currently being processed, or {@code null}, if there is none.
+   */
+  private Sweep currentSweep;
 
   /**
    * Creates a new instance.
    *
    * @param globalSyncObject The kernel threads' global synchronization object.
+   * @param kernelExecutor The kernel's executor, used for executing the slices of a sweep.
    * @param orderPoolManager The order pool manager to be used.
    * @param peripheralJobPoolManager The peripheral job pool manager to be used.
    * @param compositeOrderSequenceCleanupApproval Checks whether an order sequence may be removed.
@@ -73,20 +96,25 @@ public class WorkingSetCleanupTask
    * @param creationTimeThreshold Keeps track of the time used to determine whether a working set
    * item should be removed (according to its creation time).
    * @param configuration This class's configuration.
+   * @param counters Counts sweeps and the objects removed with them.
    */
   @Inject
   public WorkingSetCleanupTask(
       @GlobalSyncObject
       Object globalSyncObject,
+      @KernelExecutor
+      ScheduledExecutorService kernelExecutor,
       TransportOrderPoolManager orderPoolManager,
       PeripheralJobPoolManager peripheralJobPoolManager,
       OrderPoolConfiguration configuration,
       CompositeOrderSequenceCleanupApproval compositeOrderSequenceCleanupApproval,
       CompositeTransportOrderCleanupApproval compositeTransportOrderCleanupApproval,
       CompositePeripheralJobCleanupApproval compositePeripheralJobCleanupApproval,
-      CreationTimeThreshold creationTimeThreshold
+      CreationTimeThreshold creationTimeThreshold,
+      WorkingSetCleanupCounters counters
   ) {
     this.globalSyncObject = requireNonNull(globalSyncObject, "globalSyncObject");
+    this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
     this.orderPoolManager = requireNonNull(orderPoolManager, "orderPoolManager");
     this.peripheralJobPoolManager = requireNonNull(
         peripheralJobPoolManager,
@@ -100,6 +128,7 @@ public class WorkingSetCleanupTask
         = requireNonNull(compositePeripheralJobCleanupApproval);
     this.creationTimeThreshold = requireNonNull(creationTimeThreshold, "creationTimeThreshold");
     this.configuration = requireNonNull(configuration, "configuration");
+    this.counters = requireNonNull(counters, "counters");
   }
 
   public long getSweepInterval() {
@@ -109,53 +138,227 @@ public class WorkingSetCleanupTask
   @Override
   public void run() {
     synchronized (globalSyncObject) {
+      if (currentSweep != null) {
+        LOG.debug("Previous sweep still in progress, skipping this one.");
+        return;
+      }
+
       LOG.debug("Sweeping working set...");
 
       // Update the creation time threshold for this cleanup run.
       creationTimeThreshold.updateCurrentThreshold(configuration.sweepAge());
 
-      // Remove all peripheral jobs in a final state that do not belong to a transport order and
-      // that are older than the threshold.
-      Predicate<PeripheralJob> noRelatedTransportOrder = job -> job
-          .getRelatedTransportOrder() == null;
-      for (PeripheralJob peripheralJob : peripheralJobPoolManager.getObjectRepo().getObjects(
-          PeripheralJob.class,
-          noRelatedTransportOrder.and(compositePeripheralJobCleanupApproval)
-      )) {
-        peripheralJobPoolManager.removePeripheralJob(peripheralJob.getReference());
-      }
-
-      // Remove all transport orders in a final state that do NOT belong to a sequence and that are
-      // older than the threshold, including their related peripheral jobs.
-      Predicate<TransportOrder> noWrappingSequence = order -> order.getWrappingSequence() == null;
-      for (TransportOrder transportOrder : orderPoolManager.getObjectRepo().getObjects(
-          TransportOrder.class,
-          noWrappingSequence.and(compositeTransportOrderCleanupApproval)
-      )) {
-        removeRelatedPeripheralJobs(transportOrder.getReference());
-        orderPoolManager.removeTransportOrder(transportOrder.getReference());
-      }
-
-      // Remove all order sequences that have been finished, including their transport orders and
-      // the transport orders' related peripheral jobs.
-      for (OrderSequence orderSequence : orderPoolManager.getObjectRepo().getObjects(
-          OrderSequence.class,
-          compositeOrderSequenceCleanupApproval
-      )) {
-        for (TCSObjectReference<TransportOrder> transportOrderRef : orderSequence.getOrders()) {
-          removeRelatedPeripheralJobs(transportOrderRef);
+      currentSweep = new Sweep(System.currentTimeMillis());
+    }
+
+    processSlice();
+  }
+
+  private void processSlice() {
+    synchronized (globalSyncObject) {
+      long sliceStart = System.nanoTime();
+      long sliceBudget = TimeUnit.MILLISECONDS.toNanos(configuration.sweepSliceBudget());
+      int sliceSize = configuration.sweepSliceSize();
+
+      // Candidates are collected group by group as part of the slices, too, each group as soon as
+      // the previously collected candidates have been processed.
+      int processedCandidates = 0;
+      while (System.nanoTime() - sliceStart < sliceBudget) {
+        if (!currentSweep.hasCollectedCandidates()) {
+          if (!currentSweep.collectNextCandidates()) {
+            break;
+          }
+        }
+        else if (processedCandidates < sliceSize) {
+          currentSweep.processNextCandidate();
+          processedCandidates++;
+        }
+        else {
+          break;
         }
-        orderPoolManager.removeFinishedOrderSequenceAndOrders(orderSequence.getReference());
+      }
+      counters.sliceProcessed(System.nanoTime() - sliceStart);
+
+      if (!currentSweep.hasCandidates()) {
+        long duration = System.currentTimeMillis() - currentSweep.startTime;
+        counters.sweepCompleted(duration);
+        LOG.debug("Sweep finished in {} ms: {}", duration, counters);
+        currentSweep = null;
+        return;
       }
     }
+
+    kernelExecutor.execute(this::processSlice);
   }
 
-  private void removeRelatedPeripheralJobs(TCSObjectReference<TransportOrder> transportOrderRef) {
-    for (PeripheralJob peripheralJob : peripheralJobPoolManager.getObjectRepo().getObjects(
-        PeripheralJob.class,
-        job -> Objects.equals(job.getRelatedTransportOrder(), transportOrderRef)
-    )) {
+  private int removeRelatedPeripheralJobs(TCSObjectReference<TransportOrder> transportOrderRef) {
+    int count = 0;
+    for (PeripheralJob peripheralJob : peripheralJobPoolManager.getObjectRepo()
+        .getPeripheralJobsByRelatedTransportOrder(transportOrderRef)) {
       peripheralJobPoolManager.removePeripheralJob(peripheralJob.getReference());
+      count++;
+    }
+    return count;
+  }
+
+  /**
+   * The candidates for removal in a single sweep.
+   * <p>
+   * Candidates are only collected by their names, using the object repository's indexes. They are
+   * collected in groups (e.g. the transport orders in one final state), with each group being
+   * collected only after all previously collected candidates have been processed. Whether
+   * candidates may actually be removed is checked when they are processed, as they may have changed
+   * in the meantime.
+   * </p>
+   */
+  private class Sweep {
+
+    /**
+     * The time at which this sweep started.
+     */
+    private final long startTime;
+    /**
+     * The collections of groups of candidates that are still to be executed.
+     */
+    private final Queue<Runnable> candidateCollections = new ArrayDeque<>();
+    /**
+     * The names of peripheral jobs in a final state that do not belong to a transport order.
+     */
+    private final Queue<String> peripheralJobs = new ArrayDeque<>();
+    /**
+     * The names of transport orders in a final state that do not belong to an order sequence.
+     */
+    private final Queue<String> transportOrders = new ArrayDeque<>();
+    /**
+     * The names of finished order sequences.
+     */
+    private final Queue<String> orderSequences = new ArrayDeque<>();
+
+    Sweep(long startTime) {
+      this.startTime = startTime;
+
+      TCSObjectRepository objectRepo = orderPoolManager.getObjectRepo();
+      for (PeripheralJob.State state : PeripheralJob.State.values()) {
+        if (state.isFinalState()) {
+          candidateCollections.add(
+              () -> collectPeripheralJobs(objectRepo.getPeripheralJobs(state))
+          );
+        }
+      }
+      for (TransportOrder.State state : TransportOrder.State.values()) {
+        if (state.isFinalState()) {
+          candidateCollections.add(
+              () -> collectTransportOrders(objectRepo.getTransportOrders(state))
+          );
+        }
+      }
+      candidateCollections.add(
+          () -> collectOrderSequences(objectRepo.getFinishedOrderSequences())
+      );
+    }
+
+    boolean hasCandidates() {
+      return hasCollectedCandidates() || !candidateCollections.isEmpty();
+    }
+
+    boolean hasCollectedCandidates() {
+      return !peripheralJobs.isEmpty() || !transportOrders.isEmpty() || !orderSequences.isEmpty();
+    }
+
+    /**
+     * Collects the next group of candidates.
+     *
+     * @return {@code true} if a group of candidates was collected (which may be empty),
+     * {@code false} if all groups of candidates have already been collected.
+     */
+    boolean collectNextCandidates() {
+      Runnable collection = candidateCollections.poll();
+      if (collection == null) {
+        return false;
+      }
+      collection.run();
+      return true;
+    }
+
+    /**
+     * Checks the next collected candidate and removes it if its removal is approved.
+     */
+    void processNextCandidate() {
+      if (!peripheralJobs.isEmpty()) {
+        processPeripheralJob(peripheralJobs.poll());
+      }
+      else if (!transportOrders.isEmpty()) {
+        processTransportOrder(transportOrders.poll());
+      }
+      else if (!orderSequences.isEmpty()) {
+        processOrderSequence(orderSequences.poll());
+      }
+    }
+
+    private void collectPeripheralJobs(Set<PeripheralJob> jobs) {
+      for (PeripheralJob job : jobs) {
+        if (job.getRelatedTransportOrder() == null) {
+          peripheralJobs.add(job.getName());
+        }
+      }
+    }
+
+    private void collectTransportOrders(Set<TransportOrder> orders) {
+      for (TransportOrder order : orders) {
+        if (order.getWrappingSequence() == null) {
+          transportOrders.add(order.getName());
+        }
+      }
+    }
+
+    private void collectOrderSequences(Set<OrderSequence> sequences) {
+      for (OrderSequence sequence : sequences) {
+        orderSequences.add(sequence.getName());
+      }
+    }
+
+    private void processPeripheralJob(String name) {
+      // Remove the peripheral job if its removal is approved.
+      PeripheralJob job = peripheralJobPoolManager.getObjectRepo()
+          .getObjectOrNull(PeripheralJob.class, name);
+      if (job == null
+          || job.getRelatedTransportOrder() != null
+          || !compositePeripheralJobCleanupApproval.test(job)) {
+        return;
+      }
+      peripheralJobPoolManager.removePeripheralJob(job.getReference());
+      counters.peripheralJobsRemoved(1);
+    }
+
+    private void processTransportOrder(String name) {
+      // Remove the transport order if its removal is approved, including its related
+      // peripheral jobs.
+      TransportOrder order = orderPoolManager.getObjectRepo()
+          .getObjectOrNull(TransportOrder.class, name);
+      if (order == null
+          || order.getWrappingSequence() != null
+          || !compositeTransportOrderCleanupApproval.test(order)) {
+        return;
+      }
+      counters.peripheralJobsRemoved(removeRelatedPeripheralJobs(order.getReference()));
+      orderPoolManager.removeTransportOrder(order.getReference());
+      counters.transportOrdersRemoved(1);
+    }
+
+    private void processOrderSequence(String name) {
+      // Remove the order sequence, including its transport orders and the transport orders'
+      // related peripheral jobs.
+      OrderSequence sequence = orderPoolManager.getObjectRepo()
+          .getObjectOrNull(OrderSequence.class, name);
+      if (sequence == null || !compositeOrderSequenceCleanupApproval.test(sequence)) {
+        return;
+      }
+      for (TCSObjectReference<TransportOrder> transportOrderRef : sequence.getOrders()) {
+        counters.peripheralJobsRemoved(removeRelatedPeripheralJobs(transportOrderRef));
+      }
+      orderPoolManager.removeFinishedOrderSequenceAndOrders(sequence.getReference());
+      counters.orderSequenceRemoved();
+      counters.transportOrdersRemoved(sequence.getOrders().size());
     }
   }
 }
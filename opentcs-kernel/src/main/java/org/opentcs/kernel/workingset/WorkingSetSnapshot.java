@@ -0,0 +1,344 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.workingset;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectReference;
+
+/**
+ * An immutable, versioned snapshot of the objects contained in a {@link TCSObjectRepository}.
+ * <p>
+ * Instances of this class may be read concurrently by any number of threads without any
+ * synchronization. Objects of classes that were not modified between two snapshots are shared
+ * between these snapshots. The objects of a single class are split into shards by their names, and
+ * only the shards containing objects that were actually modified are copied for a successor, while
+ * all other shards are shared.
+ * </p>
+ */
+public class WorkingSetSnapshot {
+
+  /**
+   * An empty snapshot with version 0.
+   */
+  public static final WorkingSetSnapshot EMPTY = new WorkingSetSnapshot(0, Map.of());
+  /**
+   * This snapshot's version.
+   */
+  private final long version;
+  /**
+   * The objects contained in this snapshot, grouped by their classes.
+   */
+  private final Map<Class<?>, ClassSnapshot> objects;
+
+  private WorkingSetSnapshot(long version, Map<Class<?>, ClassSnapshot> objects) {
+    this.version = version;
+    this.objects = requireNonNull(objects, "objects");
+  }
+
+  /**
+   * Returns this snapshot's version.
+   * <p>
+   * The version corresponds to the number of modifications applied to the repository at the time
+   * this snapshot was created.
+   * </p>
+   *
+   * @return This snapshot's version.
+   */
+  public long getVersion() {
+    return version;
+  }
+
+  /**
+   * Returns an object from this snapshot.
+   *
+   * @param <T> The object's type.
+   * @param clazz The class of the object to be returned.
+   * @param ref A reference to the object to be returned.
+   * @return The referenced object, or {@code null}, if no such object exists in this snapshot.
+   */
+  @Nullable
+  public <T extends TCSObject<T>> T getObjectOrNull(
+      @Nonnull
+      Class<T> clazz,
+      @Nonnull
+      TCSObjectReference<T> ref
+  ) {
+    requireNonNull(ref, "ref");
+
+    return getObjectOrNull(clazz, ref.getName());
+  }
+
+  /**
+   * Returns an object from this snapshot.
+   *
+   * @param <T> The object's type.
+   * @param clazz The class of the object to be returned.
+   * @param name The name of the object to be returned.
+   * @return The named object, or {@code null}, if no such object exists in this snapshot or if an
+   * object exists but is not an instance of the given class.
+   */
+  @Nullable
+  public <T extends TCSObject<T>> T getObjectOrNull(
+      @Nonnull
+      Class<T> clazz,
+      @Nonnull
+      String name
+  ) {
+    requireNonNull(clazz, "clazz");
+    requireNonNull(name, "name");
+
+    ClassSnapshot classSnapshot = objects.get(clazz);
+    if (classSnapshot == null) {
+      return null;
+    }
+    TCSObject<?> result = classSnapshot.get(name);
+    return clazz.isInstance(result) ? clazz.cast(result) : null;
+  }
+
+  /**
+   * Returns a stream of objects belonging to the given class.
+   *
+   * @param <T> The objects' type.
+   * @param clazz The class of the objects to be returned.
+   * @return A stream of objects belonging to the given class.
+   */
+  @Nonnull
+  public <T extends TCSObject<T>> Stream<T> streamObjects(
+      @Nonnull
+      Class<T> clazz
+  ) {
+    requireNonNull(clazz, "clazz");
+
+    ClassSnapshot classSnapshot = objects.get(clazz);
+    if (classSnapshot == null) {
+      return Stream.empty();
+    }
+    return classSnapshot.stream().map(clazz::cast);
+  }
+
+  /**
+   * Returns an unmodifiable set of objects belonging to the given class.
+   *
+   * @param <T> The objects' type.
+   * @param clazz The class of the objects to be returned.
+   * @return A set of objects belonging to the given class.
+   */
+  @Nonnull
+  @SuppressWarnings("unchecked")
+  public <T extends TCSObject<T>> Set<T> getObjects(
+      @Nonnull
+      Class<T> clazz
+  ) {
+    requireNonNull(clazz, "clazz");
+
+    ClassSnapshot classSnapshot = objects.get(clazz);
+    if (classSnapshot == null) {
+      return Set.of();
+    }
+    // The set only contains instances of the given class, so sharing it is safe.
+    return (Set<T>) classSnapshot.allObjects;
+  }
+
+  /**
+   * Returns an unmodifiable set of objects of the given class for which the given predicate is
+   * true.
+   *
+   * @param <T> The objects' type.
+   * @param clazz The class of the objects to be returned.
+   * @param predicate The predicate that must be true for returned objects.
+   * @return A set of objects of the given class for which the given predicate is true. If no such
+   * objects exist, the returned set is empty.
+   */
+  @Nonnull
+  public <T extends TCSObject<T>> Set<T> getObjects(
+      @Nonnull
+      Class<T> clazz,
+      @Nonnull
+      Predicate<? super T> predicate
+  ) {
+    requireNonNull(predicate, "predicate");
+
+    return streamObjects(clazz)
+        .filter(predicate)
+        .collect(Collectors.toUnmodifiableSet());
+  }
+
+  /**
+   * Creates a successor of this snapshot.
+   *
+   * @param newVersion The successor's version.
+   * @param modifiedObjects The current states of all objects modified since this snapshot was
+   * created, mapped by their names and grouped by their classes. Objects that were removed are
+   * mapped to {@code null}. Objects not contained in this map are shared with this snapshot.
+   * @return The successor snapshot.
+   */
+  WorkingSetSnapshot successor(
+      long newVersion,
+      Map<Class<?>, Map<String, TCSObject<?>>> modifiedObjects
+  ) {
+    Map<Class<?>, ClassSnapshot> newObjects = new HashMap<>(objects);
+    for (Map.Entry<Class<?>, Map<String, TCSObject<?>>> entry : modifiedObjects.entrySet()) {
+      ClassSnapshot classSnapshot = objects.getOrDefault(entry.getKey(), ClassSnapshot.EMPTY)
+          .successor(entry.getValue());
+      if (classSnapshot.size() == 0) {
+        newObjects.remove(entry.getKey());
+      }
+      else {
+        newObjects.put(entry.getKey(), classSnapshot);
+      }
+    }
+    return new WorkingSetSnapshot(newVersion, Map.copyOf(newObjects));
+  }
+
+  /**
+   * Returns the shard of the given class's objects that an object with the given name belongs to.
+   * <p>
+   * Used for verifying that unmodified shards are shared between snapshots.
+   * </p>
+   *
+   * @param clazz The class.
+   * @param name The object name.
+   * @return The shard, or {@code null}, if this snapshot does not contain any objects of the given
+   * class.
+   */
+  @Nullable
+  Map<String, TCSObject<?>> getShard(Class<?> clazz, String name) {
+    ClassSnapshot classSnapshot = objects.get(clazz);
+    return classSnapshot == null ? null : classSnapshot.shardOf(name);
+  }
+
+  /**
+   * An immutable copy of all objects of a single class, split into shards by their names.
+   */
+  private static class ClassSnapshot {
+
+    /**
+     * The number of shards the objects are split into.
+     */
+    private static final int SHARD_COUNT = 64;
+    /**
+     * A snapshot without any objects.
+     */
+    private static final ClassSnapshot EMPTY
+        = new ClassSnapshot(Collections.nCopies(SHARD_COUNT, Map.of()), 0);
+    /**
+     * The shards, each with objects mapped by their names.
+     */
+    private final List<Map<String, TCSObject<?>>> shards;
+    /**
+     * The total number of objects.
+     */
+    private final int size;
+    /**
+     * An unmodifiable view on all objects.
+     */
+    private final Set<TCSObject<?>> allObjects = new AllObjectsView();
+
+    private ClassSnapshot(List<Map<String, TCSObject<?>>> shards, int size) {
+      this.shards = shards;
+      this.size = size;
+    }
+
+    int size() {
+      return size;
+    }
+
+    TCSObject<?> get(String name) {
+      return shardOf(name).get(name);
+    }
+
+    Stream<TCSObject<?>> stream() {
+      return shards.stream().flatMap(shard -> shard.values().stream());
+    }
+
+    Map<String, TCSObject<?>> shardOf(String name) {
+      return shards.get(shardIndex(name));
+    }
+
+    /**
+     * Creates a successor of this snapshot, copying only the shards containing modified objects.
+     *
+     * @param modifiedObjects The current states of the modified objects, mapped by their names,
+     * with objects that were removed mapped to {@code null}.
+     * @return The successor.
+     */
+    ClassSnapshot successor(Map<String, TCSObject<?>> modifiedObjects) {
+      Map<Integer, Map<String, TCSObject<?>>> modifiedShards = new HashMap<>();
+      for (Map.Entry<String, TCSObject<?>> entry : modifiedObjects.entrySet()) {
+        int index = shardIndex(entry.getKey());
+        Map<String, TCSObject<?>> shard
+            = modifiedShards.computeIfAbsent(index, i -> new HashMap<>(shards.get(i)));
+        if (entry.getValue() == null) {
+          shard.remove(entry.getKey());
+        }
+        else {
+          shard.put(entry.getKey(), entry.getValue());
+        }
+      }
+
+      List<Map<String, TCSObject<?>>> newShards = new ArrayList<>(shards);
+      int newSize = size;
+      for (Map.Entry<Integer, Map<String, TCSObject<?>>> entry : modifiedShards.entrySet()) {
+        newSize += entry.getValue().size() - shards.get(entry.getKey()).size();
+        newShards.set(entry.getKey(), Map.copyOf(entry.getValue()));
+      }
+      return new ClassSnapshot(Collections.unmodifiableList(newShards), newSize);
+    }
+
+    private static int shardIndex(String name) {
+      return Math.floorMod(name.hashCode(), SHARD_COUNT);
+    }
+
+    /**
+     * An unmodifiable view on all objects in all shards.
+     * <p>
+     * When serialized (e.g. when sent to a remote client), the view is replaced with an immutable
+     * copy of the objects, so that the snapshot it belongs to is not serialized along with it.
+     * </p>
+     */
+    private class AllObjectsView
+        extends
+          AbstractSet<TCSObject<?>>
+        implements
+          Serializable {
+
+      AllObjectsView() {
+      }
+
+      @Override
+      public Iterator<TCSObject<?>> iterator() {
+        return ClassSnapshot.this.stream().iterator();
+      }
+
+      @Override
+      public int size() {
+        return size;
+      }
+
+      @Override
+      public boolean contains(Object o) {
+        return o instanceof TCSObject<?> object && object.equals(get(object.getName()));
+      }
+
+      private Object writeReplace() {
+        return Set.copyOf(this);
+      }
+    }
+  }
+}
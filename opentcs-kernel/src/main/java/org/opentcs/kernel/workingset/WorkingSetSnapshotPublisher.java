@@ -0,0 +1,83 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.workingset;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.inject.Inject;
+import org.opentcs.customizations.kernel.GlobalSyncObject;
+
+/**
+ * Publishes snapshots of the kernel's working set after each task executed by the kernel executor.
+ * <p>
+ * Tasks executed by the kernel executor are regarded as batches of modifications to the working
+ * set. Publishing a new snapshot only after each such batch (instead of after each single
+ * modification) keeps the costs for copying low while still allowing readers outside of the kernel
+ * executor to access a consistent state of the working set without any locking.
+ * </p>
+ */
+public class WorkingSetSnapshotPublisher {
+
+  /**
+   * Indicates whether the current thread is executing a kernel executor task.
+   */
+  private static final ThreadLocal<Boolean> EXECUTING_TASK
+      = ThreadLocal.withInitial(() -> Boolean.FALSE);
+  /**
+   * A global object to be used for synchronization within the kernel.
+   */
+  private final Object globalSyncObject;
+  /**
+   * The object repo.
+   */
+  private final TCSObjectRepository objectRepo;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param globalSyncObject The kernel threads' global synchronization object.
+   * @param objectRepo The object repo.
+   */
+  @Inject
+  public WorkingSetSnapshotPublisher(
+      @GlobalSyncObject
+      Object globalSyncObject,
+      @Nonnull
+      TCSObjectRepository objectRepo
+  ) {
+    this.globalSyncObject = requireNonNull(globalSyncObject, "globalSyncObject");
+    this.objectRepo = requireNonNull(objectRepo, "objectRepo");
+  }
+
+  /**
+   * Called by the kernel executor before it executes a task.
+   */
+  public void beforeTask() {
+    EXECUTING_TASK.set(Boolean.TRUE);
+  }
+
+  /**
+   * Called by the kernel executor after it executed a task.
+   * Publishes a new snapshot of the working set if it was modified.
+   */
+  public void afterTask() {
+    EXECUTING_TASK.set(Boolean.FALSE);
+    synchronized (globalSyncObject) {
+      objectRepo.publishSnapshot();
+    }
+  }
+
+  /**
+   * Indicates whether the current thread is executing a kernel executor task.
+   * <p>
+   * Code running in a kernel executor task may expect to work on the live working set, e.g. when
+   * streaming over objects while modifying them.
+   * </p>
+   *
+   * @return {@code true} if, and only if, the current thread is executing a kernel executor task.
+   */
+  public boolean isExecutingTask() {
+    return EXECUTING_TASK.get();
+  }
+}
@@ -2,14 +2,21 @@
 // SPDX-License-Identifier: MIT
 package org.opentcs;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.is;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.opentcs.common.SameThreadExecutorService;
+import org.opentcs.common.metrics.MetricsRegistry;
 import org.opentcs.components.kernel.services.DispatcherService;
 import org.opentcs.data.TCSObjectEvent;
 import org.opentcs.data.model.Vehicle;
@@ -27,6 +34,7 @@ public class VehicleDispatchTriggerTest {
   private EventBus eventBus;
   private KernelApplicationConfiguration config;
   private DispatcherService dispatcher;
+  private MetricsRegistry metricsRegistry;
 
   private VehicleDispatchTrigger trigger;
 
@@ -36,11 +44,13 @@ public class VehicleDispatchTriggerTest {
     dispatcher = mock(DispatcherService.class);
     config = mock(KernelApplicationConfiguration.class);
     when(config.rerouteOnDriveOrderFinished()).thenReturn(false);
+    metricsRegistry = new MetricsRegistry(true);
     trigger = new VehicleDispatchTrigger(
         new SameThreadExecutorService(),
         eventBus,
         dispatcher,
-        config
+        config,
+        metricsRegistry
     );
   }
 
@@ -161,4 +171,34 @@ public class VehicleDispatchTriggerTest {
     verify(dispatcher).reroute(vehicleNew.getReference(), ReroutingType.REGULAR);
   }
 
+  @Test
+  void coalesceTriggersWhileDispatchRunIsPending() {
+    List<Runnable> pendingTasks = new ArrayList<>();
+    trigger = new VehicleDispatchTrigger(
+        pendingTasks::add,
+        eventBus,
+        dispatcher,
+        config,
+        metricsRegistry
+    );
+
+    for (int i = 0; i < 3; i++) {
+      Vehicle vehicleOld = new Vehicle("someVehicle-" + i)
+          .withIntegrationLevel(Vehicle.IntegrationLevel.TO_BE_UTILIZED)
+          .withProcState(Vehicle.ProcState.PROCESSING_ORDER);
+      trigger.onEvent(
+          new TCSObjectEvent(
+              vehicleOld.withProcState(Vehicle.ProcState.AWAITING_ORDER),
+              vehicleOld,
+              TCSObjectEvent.Type.OBJECT_MODIFIED
+          )
+      );
+    }
+
+    assertThat(pendingTasks.size(), is(1));
+    pendingTasks.getFirst().run();
+    verify(dispatcher, times(1)).dispatch();
+    assertThat(metricsRegistry.getSamples(), hasEntry("dispatch_triggers_total", 3.0));
+    assertThat(metricsRegistry.getSamples(), hasEntry("dispatch_triggered_runs_total", 1.0));
+  }
 }
@@ -0,0 +1,60 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.metrics;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anEmptyMap;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Test;
+import org.opentcs.common.metrics.MetricsRegistry;
+import org.opentcs.util.event.AsynchronousEventHandler;
+import org.opentcs.util.event.PartitionedEventBus;
+import org.opentcs.util.event.SimpleEventBus;
+
+/**
+ * Unit tests for {@link EventQueueMetrics}.
+ */
+class EventQueueMetricsTest {
+
+  @Test
+  void provideStatisticsOfPartitionedEventBus() {
+    MetricsRegistry registry = new MetricsRegistry(true);
+    PartitionedEventBus eventBus = new PartitionedEventBus(10);
+    EventQueueMetrics metrics = new EventQueueMetrics(registry, eventBus);
+    class SomeListener
+        implements
+          AsynchronousEventHandler {
+
+      @Override
+      public void onEvent(Object event) {
+      }
+    }
+    AsynchronousEventHandler listener = new SomeListener();
+
+    metrics.initialize();
+    eventBus.subscribe(listener);
+
+    assertThat(
+        registry.getSamples(),
+        hasEntry("event_queue_capacity{listener=\"SomeListener\"}", 10.0)
+    );
+    assertThat(
+        registry.getSamples(),
+        hasEntry("event_queue_dropped_events{listener=\"SomeListener\"}", 0.0)
+    );
+
+    eventBus.unsubscribe(listener);
+  }
+
+  @Test
+  void provideNoStatisticsOfOtherEventBuses() {
+    MetricsRegistry registry = new MetricsRegistry(true);
+    EventQueueMetrics metrics = new EventQueueMetrics(registry, new SimpleEventBus());
+
+    metrics.initialize();
+
+    assertThat(registry.getSamples(), is(anEmptyMap()));
+  }
+}
@@ -0,0 +1,63 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.metrics;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.Map;
+import javax.management.JMX;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.common.metrics.MetricsRegistry;
+
+/**
+ * Unit tests for {@link MetricsJmxExporter}.
+ */
+class MetricsJmxExporterTest {
+
+  private MetricsRegistry registry;
+  private MBeanServer mbeanServer;
+  private MetricsJmxExporter exporter;
+
+  @BeforeEach
+  void setUp() {
+    registry = new MetricsRegistry(false);
+    mbeanServer = MBeanServerFactory.newMBeanServer();
+    exporter = new MetricsJmxExporter(registry, mbeanServer);
+  }
+
+  @Test
+  void registerMXBeanWhileInitialized()
+      throws MalformedObjectNameException {
+    ObjectName objectName = new ObjectName(MetricsJmxExporter.OBJECT_NAME);
+
+    exporter.initialize();
+    assertThat(mbeanServer.isRegistered(objectName), is(true));
+
+    exporter.terminate();
+    assertThat(mbeanServer.isRegistered(objectName), is(false));
+  }
+
+  @Test
+  void provideMetricsViaMXBean()
+      throws MalformedObjectNameException {
+    exporter.initialize();
+    MetricsMXBean proxy = JMX.newMXBeanProxy(
+        mbeanServer,
+        new ObjectName(MetricsJmxExporter.OBJECT_NAME),
+        MetricsMXBean.class
+    );
+
+    proxy.setEnabled(true);
+    registry.counter("some_total", "Some counter.").increment();
+
+    assertThat(registry.isEnabled(), is(true));
+    assertThat(proxy.getSamples(), is(Map.of("some_total", 1.0)));
+    assertThat(proxy.getPrometheusText(), is(registry.toPrometheusText()));
+  }
+}
@@ -0,0 +1,82 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.services;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.mockito.Mockito.mock;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.data.model.Point;
+import org.opentcs.kernel.workingset.TCSObjectManager;
+import org.opentcs.kernel.workingset.TCSObjectRepository;
+import org.opentcs.kernel.workingset.WorkingSetSnapshotPublisher;
+import org.opentcs.util.event.EventHandler;
+
+/**
+ * Unit tests for {@link StandardTCSObjectService}.
+ */
+class StandardTCSObjectServiceTest {
+
+  private TCSObjectRepository objectRepo;
+  private StandardTCSObjectService objectService;
+
+  @BeforeEach
+  void setUp() {
+    Object globalSyncObject = new Object();
+    objectRepo = new TCSObjectRepository();
+    objectService = new StandardTCSObjectService(
+        globalSyncObject,
+        new TCSObjectManager(objectRepo, mock(EventHandler.class)),
+        new WorkingSetSnapshotPublisher(globalSyncObject, objectRepo)
+    );
+  }
+
+  @Test
+  void provideSerializableObjectsFromSnapshot()
+      throws Exception {
+    Point pointA = new Point("Point-A");
+    Point pointB = new Point("Point-B");
+    objectRepo.addObject(pointA);
+    objectRepo.addObject(pointB);
+    objectRepo.publishSnapshot();
+    assertThat(objectRepo.getSnapshotIfCurrent(), is(notNullValue()));
+
+    Set<?> result = serializeAndDeserialize(objectService.fetch(Point.class));
+
+    assertThat(result, containsInAnyOrder(pointA, pointB));
+  }
+
+  @Test
+  void provideSerializableObjectsFromWorkingSet()
+      throws Exception {
+    Point pointA = new Point("Point-A");
+    objectRepo.addObject(pointA);
+
+    Set<?> result = serializeAndDeserialize(objectService.fetch(Point.class));
+
+    assertThat(result, containsInAnyOrder(pointA));
+  }
+
+  private Set<?> serializeAndDeserialize(Set<?> objects)
+      throws IOException,
+        ClassNotFoundException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(objects);
+    }
+    try (ObjectInputStream in
+        = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      return (Set<?>) in.readObject();
+    }
+  }
+}
@@ -7,8 +7,11 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -19,11 +22,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.mockito.Mockito;
 import org.opentcs.DataObjectFactory;
+import org.opentcs.common.metrics.MetricsRegistry;
 import org.opentcs.components.kernel.Scheduler;
 import org.opentcs.components.kernel.services.DispatcherService;
 import org.opentcs.components.kernel.services.InternalTransportOrderService;
@@ -115,6 +121,10 @@ class DefaultVehicleControllerTest {
    * A (mocked) peripheral interactor.
    */
   private PeripheralInteractor peripheralInteractor;
+  /**
+   * The (mocked) kernel application configuration.
+   */
+  private KernelApplicationConfiguration configuration;
   /**
    * The instance we're testing.
    */
@@ -157,6 +167,16 @@ class DefaultVehicleControllerTest {
 
     doReturn(peripheralInteractor).when(componentsFactory)
         .createPeripheralInteractor(vehicle.getReference());
+    configuration = mock(KernelApplicationConfiguration.class);
+    doAnswer(
+        invocation -> new TelemetryCoalescer(
+            invocation.getArgument(0),
+            invocation.getArgument(1),
+            mock(ScheduledExecutorService.class),
+            configuration,
+            new TelemetryCounterRegistry(new MetricsRegistry(false))
+        )
+    ).when(componentsFactory).createTelemetryCoalescer(eq(vehicle.getReference()), any());
 
     scheduler = spy(new DummyScheduler());
     scheduler.initialize();
@@ -171,7 +191,7 @@ class DefaultVehicleControllerTest {
         eventBus,
         componentsFactory,
         mock(MovementCommandMapper.class),
-        mock(KernelApplicationConfiguration.class),
+        configuration,
         new CommandProcessingTracker(),
         dataTransformerRegistry,
         mock(VehiclePositionResolver.class)
@@ -210,6 +230,30 @@ class DefaultVehicleControllerTest {
     );
   }
 
+  @Test
+  void shouldForwardOnlyLatestCoalescedPoseBeforePositionChange() {
+    when(configuration.vehicleTelemetryCoalescingInterval()).thenReturn(100L);
+    Point point = dataObjectFactory.createPoint();
+    doReturn(Optional.of(point)).when(vehicleService).fetch(Point.class, point.getName());
+    Pose firstPose = new Pose(new Triple(211, 391, 0), 7.5);
+    Pose secondPose = new Pose(new Triple(212, 392, 0), 7.5);
+
+    vehicleModel.setPose(firstPose);
+    vehicleModel.setPose(secondPose);
+
+    verify(vehicleService, never()).updateVehiclePose(vehicle.getReference(), secondPose);
+
+    vehicleModel.setPosition(point.getName());
+
+    InOrder inOrder = inOrder(vehicleService);
+    inOrder.verify(vehicleService).updateVehiclePose(vehicle.getReference(), secondPose);
+    inOrder.verify(vehicleService).updateVehiclePosition(
+        vehicle.getReference(),
+        point.getReference()
+    );
+    verify(vehicleService, never()).updateVehiclePose(vehicle.getReference(), firstPose);
+  }
+
   @Test
   void shouldTransformPoseWhenUsingDifferentCoordinateSystems() {
     // The initial call to the transformer should have already been made during initialization.
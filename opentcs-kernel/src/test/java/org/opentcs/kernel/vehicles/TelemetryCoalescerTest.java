@@ -0,0 +1,194 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.vehicles;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.beans.PropertyChangeEvent;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.opentcs.common.metrics.MetricsRegistry;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.drivers.vehicle.VehicleProcessModel;
+import org.opentcs.kernel.KernelApplicationConfiguration;
+
+/**
+ * Unit tests for {@link TelemetryCoalescer}.
+ */
+class TelemetryCoalescerTest {
+
+  private ScheduledExecutorService kernelExecutor;
+  private KernelApplicationConfiguration configuration;
+  private List<PropertyChangeEvent> appliedUpdates;
+  private Runnable updateHandlerHook = () -> {
+  };
+  private MetricsRegistry metricsRegistry;
+  private TelemetryCoalescer coalescer;
+
+  @BeforeEach
+  void setUp() {
+    kernelExecutor = mock(ScheduledExecutorService.class);
+    doReturn(mock(ScheduledFuture.class))
+        .when(kernelExecutor).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+    configuration = mock(KernelApplicationConfiguration.class);
+    when(configuration.vehicleTelemetryCoalescingInterval()).thenReturn(100L);
+    appliedUpdates = new CopyOnWriteArrayList<>();
+    metricsRegistry = new MetricsRegistry(false);
+    coalescer = new TelemetryCoalescer(
+        new Vehicle("some-vehicle").getReference(),
+        update -> {
+          appliedUpdates.add(update);
+          updateHandlerHook.run();
+        },
+        kernelExecutor,
+        configuration,
+        new TelemetryCounterRegistry(metricsRegistry)
+    );
+  }
+
+  @Test
+  void rejectUpdatesIfDisabled() {
+    when(configuration.vehicleTelemetryCoalescingInterval()).thenReturn(0L);
+
+    assertThat(coalescer.offer(update(VehicleProcessModel.Attribute.POSE, 1)), is(false));
+  }
+
+  @Test
+  void rejectUpdatesOfDiscreteAttributes() {
+    assertThat(coalescer.offer(update(VehicleProcessModel.Attribute.POSITION, 1)), is(false));
+    assertThat(
+        coalescer.offer(update(VehicleProcessModel.Attribute.COMMAND_EXECUTED, 1)),
+        is(false)
+    );
+  }
+
+  @Test
+  void applyOnlyLatestUpdatePerAttribute() {
+    PropertyChangeEvent poseUpdate1 = update(VehicleProcessModel.Attribute.POSE, 1);
+    PropertyChangeEvent poseUpdate2 = update(VehicleProcessModel.Attribute.POSE, 2);
+    PropertyChangeEvent energyUpdate = update(VehicleProcessModel.Attribute.ENERGY_LEVEL, 3);
+
+    assertThat(coalescer.offer(poseUpdate1), is(true));
+    assertThat(coalescer.offer(energyUpdate), is(true));
+    assertThat(coalescer.offer(poseUpdate2), is(true));
+    assertThat(appliedUpdates, is(empty()));
+
+    coalescer.flush();
+
+    assertThat(appliedUpdates, contains(poseUpdate2, energyUpdate));
+    assertThat(coalescer.getCounters().getReceivedUpdates(), is(3L));
+    assertThat(coalescer.getCounters().getMergedUpdates(), is(1L));
+    assertThat(coalescer.getCounters().getAppliedUpdates(), is(2L));
+  }
+
+  @Test
+  void scheduleSingleFlushPerInterval() {
+    coalescer.offer(update(VehicleProcessModel.Attribute.POSE, 1));
+    coalescer.offer(update(VehicleProcessModel.Attribute.POSE, 2));
+    coalescer.offer(update(VehicleProcessModel.Attribute.BOUNDING_BOX, 3));
+
+    ArgumentCaptor<Runnable> flushCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(kernelExecutor, times(1))
+        .schedule(flushCaptor.capture(), eq(100L), eq(TimeUnit.MILLISECONDS));
+
+    flushCaptor.getValue().run();
+
+    assertThat(appliedUpdates.size(), is(2));
+  }
+
+  @Test
+  void countDiscardedUpdatesAsDropped() {
+    coalescer.offer(update(VehicleProcessModel.Attribute.POSE, 1));
+    coalescer.offer(update(VehicleProcessModel.Attribute.ENERGY_LEVEL, 2));
+
+    coalescer.discard();
+    coalescer.flush();
+
+    assertThat(appliedUpdates, is(empty()));
+    assertThat(coalescer.getCounters().getDroppedUpdates(), is(2L));
+  }
+
+  @Test
+  void applyUpdateNotCoalescedOnlyAfterUpdatesBeingFlushed()
+      throws Exception {
+    PropertyChangeEvent poseUpdate = update(VehicleProcessModel.Attribute.POSE, 1);
+    PropertyChangeEvent positionUpdate = update(VehicleProcessModel.Attribute.POSITION, 2);
+    CountDownLatch flushStarted = new CountDownLatch(1);
+    CountDownLatch flushMayFinish = new CountDownLatch(1);
+    updateHandlerHook = () -> {
+      if (flushStarted.getCount() > 0) {
+        flushStarted.countDown();
+        awaitUninterruptibly(flushMayFinish);
+      }
+    };
+    coalescer.offer(poseUpdate);
+
+    // Let the scheduled flush run on a separate thread, as it would on the kernel executor.
+    Thread flushThread = new Thread(coalescer::flush);
+    flushThread.start();
+    assertThat(flushStarted.await(5, TimeUnit.SECONDS), is(true));
+
+    Thread reportingThread = new Thread(() -> coalescer.flushAndApply(positionUpdate));
+    reportingThread.start();
+    reportingThread.join(100);
+    assertThat(appliedUpdates, contains(poseUpdate));
+
+    flushMayFinish.countDown();
+    flushThread.join(5000);
+    reportingThread.join(5000);
+
+    assertThat(appliedUpdates, contains(poseUpdate, positionUpdate));
+  }
+
+  @Test
+  void provideCountersAsMetrics() {
+    coalescer.offer(update(VehicleProcessModel.Attribute.POSE, 1));
+    coalescer.offer(update(VehicleProcessModel.Attribute.POSE, 2));
+    coalescer.flush();
+
+    assertThat(
+        metricsRegistry.getSamples(),
+        hasEntry("vehicle_telemetry_received_updates{vehicle=\"some-vehicle\"}", 2.0)
+    );
+    assertThat(
+        metricsRegistry.getSamples(),
+        hasEntry("vehicle_telemetry_merged_updates{vehicle=\"some-vehicle\"}", 1.0)
+    );
+    assertThat(
+        metricsRegistry.getSamples(),
+        hasEntry("vehicle_telemetry_applied_updates{vehicle=\"some-vehicle\"}", 1.0)
+    );
+  }
+
+  private static void awaitUninterruptibly(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    }
+    catch (InterruptedException exc) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private PropertyChangeEvent update(VehicleProcessModel.Attribute attribute, Object newValue) {
+    return new PropertyChangeEvent(this, attribute.name(), null, newValue);
+  }
+}
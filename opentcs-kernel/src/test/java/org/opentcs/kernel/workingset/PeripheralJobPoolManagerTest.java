@@ -19,6 +19,7 @@ import org.opentcs.access.to.peripherals.PeripheralOperationCreationTO;
 import org.opentcs.data.model.Triple;
 import org.opentcs.data.peripherals.PeripheralJob;
 import org.opentcs.data.peripherals.PeripheralOperation;
+import org.opentcs.util.TimeProvider;
 import org.opentcs.util.event.SimpleEventBus;
 
 /**
@@ -42,7 +43,7 @@ class PeripheralJobPoolManagerTest {
   @BeforeEach
   void setUp() {
     objectRepo = new TCSObjectRepository();
-    plantModelManager = new PlantModelManager(objectRepo, new SimpleEventBus());
+    plantModelManager = new PlantModelManager(objectRepo, new SimpleEventBus(), new TimeProvider());
     jobPoolManager = new PeripheralJobPoolManager(
         objectRepo,
         new SimpleEventBus(),
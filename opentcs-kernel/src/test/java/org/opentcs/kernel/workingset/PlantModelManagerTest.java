@@ -12,8 +12,10 @@ import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.opentcs.access.to.model.BlockCreationTO;
@@ -34,6 +36,8 @@ import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Triple;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.model.visualization.VisualLayout;
+import org.opentcs.util.DiscreteEventScheduler;
+import org.opentcs.util.VirtualTimeProvider;
 import org.opentcs.util.event.SimpleEventBus;
 
 /**
@@ -42,13 +46,19 @@ import org.opentcs.util.event.SimpleEventBus;
 class PlantModelManagerTest {
 
   private TCSObjectRepository objectRepo;
+  private DiscreteEventScheduler scheduler;
   private PlantModelManager plantModelManager;
   private PlantModelCreationTO plantModelCreationTo;
 
   @BeforeEach
   void setUp() {
     objectRepo = new TCSObjectRepository();
-    plantModelManager = new PlantModelManager(objectRepo, new SimpleEventBus());
+    scheduler = new DiscreteEventScheduler(1000);
+    plantModelManager = new PlantModelManager(
+        objectRepo,
+        new SimpleEventBus(),
+        new VirtualTimeProvider(scheduler)
+    );
     plantModelCreationTo = new PlantModelCreationTO("some-plant-model")
         .withPoint(new PointCreationTO("point1"))
         .withPoint(new PointCreationTO("point2"))
@@ -214,4 +224,47 @@ class PlantModelManagerTest {
         hasSize(5)
     );
   }
+
+  @Test
+  void returnBlocksContainingResource() {
+    plantModelManager.createPlantModelObjects(
+        new PlantModelCreationTO("some-plant-model")
+            .withPoint(new PointCreationTO("point-in-block"))
+            .withPoint(new PointCreationTO("point-outside-of-block"))
+            .withBlock(new BlockCreationTO("some-block").withMemberNames(Set.of("point-in-block")))
+    );
+
+    Point pointInBlock = objectRepo.getObject(Point.class, "point-in-block");
+    Point pointOutsideOfBlock = objectRepo.getObject(Point.class, "point-outside-of-block");
+
+    assertThat(plantModelManager.getBlocksContaining(pointInBlock.getReference()), hasSize(1));
+    assertThat(
+        plantModelManager.getBlocksContaining(pointOutsideOfBlock.getReference()),
+        is(empty())
+    );
+
+    plantModelManager.clear();
+
+    assertThat(plantModelManager.getBlocksContaining(pointInBlock.getReference()), is(empty()));
+  }
+
+  @Test
+  void stampVehicleStatesWithProvidedTime() {
+    plantModelManager.createPlantModelObjects(plantModelCreationTo);
+    Vehicle vehicle = objectRepo.getObject(Vehicle.class, "some-vehicle");
+
+    // Let the virtual time advance.
+    scheduler.schedule(() -> {
+    }, 5, TimeUnit.SECONDS);
+    scheduler.processNextEvents();
+
+    plantModelManager.setVehicleState(vehicle.getReference(), Vehicle.State.IDLE);
+    vehicle = plantModelManager.setVehicleProcState(
+        vehicle.getReference(),
+        Vehicle.ProcState.AWAITING_ORDER
+    );
+
+    assertThat(vehicle.getStateTimestamp(), is(equalTo(Instant.ofEpochMilli(6000))));
+    assertThat(vehicle.getProcStateTimestamp(), is(equalTo(Instant.ofEpochMilli(6000))));
+  }
 }
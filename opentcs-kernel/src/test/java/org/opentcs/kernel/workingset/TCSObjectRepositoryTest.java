@@ -6,18 +6,32 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.opentcs.data.ObjectExistsException;
 import org.opentcs.data.ObjectUnknownException;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.model.Block;
 import org.opentcs.data.model.LocationType;
 import org.opentcs.data.model.Path;
 import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.OrderSequence;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.data.peripherals.PeripheralJob;
 
 /**
  * Unit tests for {@link TCSObjectRepository}.
@@ -228,4 +242,270 @@ class TCSObjectRepositoryTest {
     // Another object with the same name.
     assertThrows(ObjectExistsException.class, () -> pool.addObject(new Point("some-point")));
   }
+
+  @Test
+  void returnObjectByNameAfterRemovalAndReAddition() {
+    Point point = new Point("some-name");
+    LocationType locationType = new LocationType("some-name");
+
+    pool.addObject(point);
+    pool.removeObject(point.getReference());
+    pool.addObject(locationType);
+
+    assertThat(pool.getObjectOrNull("some-name"), is(locationType));
+  }
+
+  @Test
+  void returnTransportOrdersByState() {
+    TransportOrder order1 = new TransportOrder("T1", List.of());
+    TransportOrder order2 = new TransportOrder("T2", List.of())
+        .withState(TransportOrder.State.DISPATCHABLE);
+
+    pool.addObject(order1);
+    pool.addObject(order2);
+
+    assertThat(pool.getTransportOrders(TransportOrder.State.RAW), contains(order1));
+    assertThat(pool.getTransportOrders(TransportOrder.State.DISPATCHABLE), contains(order2));
+    assertThat(pool.getTransportOrders(TransportOrder.State.FINISHED), is(empty()));
+  }
+
+  @Test
+  void updateTransportOrderStateIndexOnReplacement() {
+    TransportOrder orderV1 = new TransportOrder("T1", List.of());
+    TransportOrder orderV2 = orderV1.withState(TransportOrder.State.ACTIVE);
+
+    pool.addObject(orderV1);
+    pool.replaceObject(orderV2);
+
+    assertThat(pool.getTransportOrders(TransportOrder.State.RAW), is(empty()));
+    assertThat(pool.getTransportOrders(TransportOrder.State.ACTIVE), contains(orderV2));
+  }
+
+  @Test
+  void updateTransportOrderStateIndexOnRemoval() {
+    TransportOrder order = new TransportOrder("T1", List.of());
+
+    pool.addObject(order);
+    pool.removeObject(order.getReference());
+
+    assertThat(pool.getTransportOrders(TransportOrder.State.RAW), is(empty()));
+  }
+
+  @Test
+  void returnTransportOrdersByIntendedVehicle() {
+    Vehicle vehicle = new Vehicle("V1");
+    TransportOrder order1 = new TransportOrder("T1", List.of())
+        .withIntendedVehicle(vehicle.getReference());
+    TransportOrder order2 = new TransportOrder("T2", List.of());
+
+    pool.addObject(vehicle);
+    pool.addObject(order1);
+    pool.addObject(order2);
+
+    assertThat(pool.getTransportOrdersByIntendedVehicle(vehicle.getReference()), contains(order1));
+  }
+
+  @Test
+  void returnTransportOrdersByWrappingSequence() {
+    OrderSequence sequence = new OrderSequence("S1");
+    TransportOrder order1 = new TransportOrder("T1", List.of())
+        .withWrappingSequence(sequence.getReference());
+    TransportOrder order2 = new TransportOrder("T2", List.of());
+
+    pool.addObject(sequence);
+    pool.addObject(order1);
+    pool.addObject(order2);
+
+    assertThat(
+        pool.getTransportOrdersByWrappingSequence(sequence.getReference()),
+        contains(order1)
+    );
+  }
+
+  @Test
+  void returnPeripheralJobsByRelatedTransportOrder() {
+    TransportOrder order = new TransportOrder("T1", List.of());
+    PeripheralJob job1 = new PeripheralJob("J1", "Token", mock())
+        .withRelatedTransportOrder(order.getReference());
+    PeripheralJob job2 = new PeripheralJob("J2", "Token", mock());
+
+    pool.addObject(order);
+    pool.addObject(job1);
+    pool.addObject(job2);
+
+    assertThat(pool.getPeripheralJobsByRelatedTransportOrder(order.getReference()), contains(job1));
+
+    pool.removeObject(job1.getReference());
+
+    assertThat(pool.getPeripheralJobsByRelatedTransportOrder(order.getReference()), is(empty()));
+  }
+
+  @Test
+  void returnPeripheralJobsByState() {
+    PeripheralJob job1 = new PeripheralJob("J1", "Token", mock());
+    PeripheralJob job2 = new PeripheralJob("J2", "Token", mock());
+
+    pool.addObject(job1);
+    pool.addObject(job2);
+    pool.replaceObject(job2.withState(PeripheralJob.State.FINISHED));
+
+    assertThat(pool.getPeripheralJobs(PeripheralJob.State.TO_BE_PROCESSED), contains(job1));
+    assertThat(pool.getPeripheralJobs(PeripheralJob.State.FINISHED).size(), is(1));
+    assertThat(pool.getPeripheralJobs(PeripheralJob.State.FAILED), is(empty()));
+  }
+
+  @Test
+  void returnFinishedOrderSequences() {
+    OrderSequence sequence1 = new OrderSequence("S1");
+    OrderSequence sequence2 = new OrderSequence("S2");
+
+    pool.addObject(sequence1);
+    pool.addObject(sequence2);
+    pool.replaceObject(sequence2.withComplete(true).withFinished(true));
+
+    assertThat(pool.getFinishedOrderSequences().size(), is(1));
+    assertThat(pool.getFinishedOrderSequences().iterator().next().getName(), is("S2"));
+
+    pool.removeObject(sequence2.getReference());
+
+    assertThat(pool.getFinishedOrderSequences(), is(empty()));
+  }
+
+  @Test
+  void returnVehiclesByProcState() {
+    Vehicle vehicle1 = new Vehicle("V1");
+    Vehicle vehicle2 = new Vehicle("V2");
+
+    pool.addObject(vehicle1);
+    pool.addObject(vehicle2);
+    pool.replaceObject(vehicle2.withProcState(Vehicle.ProcState.AWAITING_ORDER));
+
+    assertThat(pool.getVehicles(Vehicle.ProcState.IDLE), contains(vehicle1));
+    assertThat(pool.getVehicles(Vehicle.ProcState.AWAITING_ORDER).size(), is(1));
+    assertThat(pool.getVehicles(Vehicle.ProcState.PROCESSING_ORDER), is(empty()));
+  }
+
+  @Test
+  void returnBlocksContainingResource() {
+    Point point1 = new Point("P1");
+    Point point2 = new Point("P2");
+    Block block1 = new Block("B1").withMembers(Set.of(point1.getReference()));
+    Block block2 = new Block("B2")
+        .withMembers(Set.of(point1.getReference(), point2.getReference()));
+
+    pool.addObject(point1);
+    pool.addObject(point2);
+    pool.addObject(block1);
+    pool.addObject(block2);
+
+    assertThat(pool.getBlocksContaining(point1.getReference()), containsInAnyOrder(block1, block2));
+    assertThat(pool.getBlocksContaining(point2.getReference()), contains(block2));
+  }
+
+  @Test
+  void updateBlockMemberIndexOnReplacementAndRemoval() {
+    Point point1 = new Point("P1");
+    Point point2 = new Point("P2");
+    Block blockV1 = new Block("B1").withMembers(Set.of(point1.getReference()));
+    Block blockV2 = blockV1.withMembers(Set.of(point2.getReference()));
+
+    pool.addObject(point1);
+    pool.addObject(point2);
+    pool.addObject(blockV1);
+    pool.replaceObject(blockV2);
+
+    assertThat(pool.getBlocksContaining(point1.getReference()), is(empty()));
+    assertThat(pool.getBlocksContaining(point2.getReference()), contains(blockV2));
+
+    pool.removeObject(blockV2.getReference());
+
+    assertThat(pool.getBlocksContaining(point2.getReference()), is(empty()));
+  }
+
+  @Test
+  void provideNoCurrentSnapshotBeforePublishing() {
+    pool.addObject(new Point("Point-00001"));
+
+    assertThat(pool.getSnapshotIfCurrent(), is(nullValue()));
+  }
+
+  @Test
+  void provideSnapshotWithContentAtTimeOfPublishing() {
+    Point pointV1 = new Point("Point-00001");
+    Point pointV2 = pointV1.withType(Point.Type.PARK_POSITION);
+    pool.addObject(pointV1);
+
+    WorkingSetSnapshot snapshot = pool.publishSnapshot();
+    pool.replaceObject(pointV2);
+    pool.addObject(new Point("Point-00002"));
+
+    assertThat(snapshot.getObjectOrNull(Point.class, "Point-00001"), is(pointV1));
+    assertThat(snapshot.getObjects(Point.class), contains(pointV1));
+    assertThat(pool.getSnapshotIfCurrent(), is(nullValue()));
+    assertThat(pool.publishSnapshot().getObjects(Point.class).size(), is(2));
+    assertThat(pool.getSnapshotIfCurrent(), is(notNullValue()));
+  }
+
+  @Test
+  void shareUnmodifiedClassesBetweenSnapshots() {
+    Point point = new Point("Point-00001");
+    pool.addObject(point);
+    pool.addObject(new LocationType("LocationType-00001"));
+
+    WorkingSetSnapshot snapshot1 = pool.publishSnapshot();
+    pool.removeObject(point.getReference());
+    WorkingSetSnapshot snapshot2 = pool.publishSnapshot();
+
+    assertThat(snapshot2, is(not(sameInstance(snapshot1))));
+    assertThat(snapshot2.getObjects(Point.class), is(empty()));
+    assertThat(
+        snapshot2.getObjects(LocationType.class),
+        is(sameInstance(snapshot1.getObjects(LocationType.class)))
+    );
+  }
+
+  @Test
+  void shareUnmodifiedObjectsOfModifiedClassBetweenSnapshots() {
+    List<Point> points = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      Point point = new Point(String.format("Point-%05d", i));
+      points.add(point);
+      pool.addObject(point);
+    }
+    Point modifiedPoint = points.get(0);
+
+    WorkingSetSnapshot snapshot1 = pool.publishSnapshot();
+    pool.replaceObject(modifiedPoint.withType(Point.Type.PARK_POSITION));
+    WorkingSetSnapshot snapshot2 = pool.publishSnapshot();
+
+    Map<String, TCSObject<?>> modifiedShard
+        = snapshot1.getShard(Point.class, modifiedPoint.getName());
+    assertThat(
+        snapshot2.getShard(Point.class, modifiedPoint.getName()),
+        is(not(sameInstance(modifiedShard)))
+    );
+    int sharedPoints = 0;
+    for (Point point : points) {
+      Map<String, TCSObject<?>> shard = snapshot1.getShard(Point.class, point.getName());
+      if (shard != modifiedShard) {
+        assertThat(snapshot2.getShard(Point.class, point.getName()), is(sameInstance(shard)));
+        sharedPoints++;
+      }
+    }
+    assertThat(sharedPoints, is(greaterThan(900)));
+    assertThat(snapshot2.getObjects(Point.class).size(), is(1000));
+    assertThat(
+        snapshot2.getObjectOrNull(Point.class, modifiedPoint.getName()).getType(),
+        is(Point.Type.PARK_POSITION)
+    );
+  }
+
+  @Test
+  void doNotPublishNewSnapshotWithoutModifications() {
+    pool.addObject(new Point("Point-00001"));
+
+    WorkingSetSnapshot snapshot = pool.publishSnapshot();
+
+    assertThat(pool.publishSnapshot(), is(sameInstance(snapshot)));
+  }
 }
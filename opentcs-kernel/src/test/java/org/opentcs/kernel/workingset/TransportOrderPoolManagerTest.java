@@ -31,6 +31,7 @@ import org.opentcs.data.model.Triple;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.OrderSequence;
 import org.opentcs.data.order.TransportOrder;
+import org.opentcs.util.TimeProvider;
 import org.opentcs.util.event.SimpleEventBus;
 
 /**
@@ -54,7 +55,7 @@ class TransportOrderPoolManagerTest {
   @BeforeEach
   void setUp() {
     objectRepo = new TCSObjectRepository();
-    plantModelManager = new PlantModelManager(objectRepo, new SimpleEventBus());
+    plantModelManager = new PlantModelManager(objectRepo, new SimpleEventBus(), new TimeProvider());
     orderPoolManager = new TransportOrderPoolManager(
         objectRepo,
         new SimpleEventBus(),
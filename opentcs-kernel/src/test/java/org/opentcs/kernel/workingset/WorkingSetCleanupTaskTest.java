@@ -3,14 +3,20 @@
 package org.opentcs.kernel.workingset;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.time.Instant;
+import java.util.ArrayDeque;
 import java.util.List;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.opentcs.common.metrics.MetricsRegistry;
 import org.opentcs.data.order.OrderSequence;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.data.peripherals.PeripheralJob;
@@ -22,10 +28,31 @@ class WorkingSetCleanupTaskTest {
   private TCSObjectRepository objectRepository;
 
   private OrderPoolConfiguration configuration;
+  private MetricsRegistry metricsRegistry;
+  private WorkingSetCleanupCounters counters;
+  private Queue<Runnable> deferredKernelTasks;
+  private boolean deferKernelTasks;
 
   @BeforeEach
   void setup() {
     configuration = mock();
+    when(configuration.sweepSliceSize()).thenReturn(1000);
+    when(configuration.sweepSliceBudget()).thenReturn(1000L);
+    metricsRegistry = new MetricsRegistry(true);
+    counters = new WorkingSetCleanupCounters(metricsRegistry);
+    deferredKernelTasks = new ArrayDeque<>();
+    deferKernelTasks = false;
+    ScheduledExecutorService kernelExecutor = mock();
+    doAnswer(invocation -> {
+      Runnable task = invocation.getArgument(0, Runnable.class);
+      if (deferKernelTasks) {
+        deferredKernelTasks.add(task);
+      }
+      else {
+        task.run();
+      }
+      return null;
+    }).when(kernelExecutor).execute(any(Runnable.class));
     objectRepository = new TCSObjectRepository();
     CreationTimeThreshold creationTimeThreshold = new CreationTimeThreshold();
 
@@ -57,6 +84,7 @@ class WorkingSetCleanupTaskTest {
         );
     cleanupTask = new WorkingSetCleanupTask(
         new Object(),
+        kernelExecutor,
         orderPoolManager,
         peripheralJobPoolManager,
         configuration,
@@ -72,7 +100,8 @@ class WorkingSetCleanupTaskTest {
             Set.of(),
             peripheralJobCleanupApproval
         ),
-        creationTimeThreshold
+        creationTimeThreshold,
+        counters
     );
   }
 
@@ -146,4 +175,74 @@ class WorkingSetCleanupTaskTest {
     assertEquals(0, objectRepository.getObjects(TransportOrder.class).size());
   }
 
+  @Test
+  void cleanInMultipleSlices() {
+    when(configuration.sweepAge()).thenReturn(60000);
+    when(configuration.sweepSliceSize()).thenReturn(2);
+
+    for (int i = 0; i < 5; i++) {
+      objectRepository.addObject(
+          new TransportOrder("Order-" + i, List.of())
+              .withCreationTime(Instant.now().minusMillis(70000))
+              .withState(TransportOrder.State.FINISHED)
+      );
+    }
+
+    cleanupTask.run();
+    assertEquals(0, objectRepository.getObjects(TransportOrder.class).size());
+    assertEquals(3, counters.getSlices());
+    assertEquals(1, counters.getSweeps());
+    assertEquals(5, counters.getRemovedTransportOrders());
+    assertEquals(
+        5.0,
+        metricsRegistry.getSamples()
+            .get("workingset_cleanup_removed_objects_total{type=\"transport_order\"}")
+    );
+    assertEquals(
+        1.0,
+        metricsRegistry.getSamples().get("workingset_cleanup_sweep_duration_seconds_count")
+    );
+    assertEquals(
+        3.0,
+        metricsRegistry.getSamples().get("workingset_cleanup_slice_duration_seconds_count")
+    );
+  }
+
+  @Test
+  void recheckCandidatesWhenProcessingThem() {
+    when(configuration.sweepAge()).thenReturn(60000);
+    when(configuration.sweepSliceSize()).thenReturn(1);
+    deferKernelTasks = true;
+
+    TransportOrder order = new TransportOrder("Order-1", List.of())
+        .withCreationTime(Instant.now().minusMillis(70000))
+        .withState(TransportOrder.State.FINISHED);
+    objectRepository.addObject(order);
+    objectRepository.addObject(
+        new PeripheralJob("Job-1", "Vehicle-1", mock())
+            .withCreationTime(Instant.now().minusMillis(65000))
+            .withState(PeripheralJob.State.FINISHED)
+    );
+
+    // The first slice removes the peripheral job and leaves the transport order for the next one.
+    cleanupTask.run();
+    assertEquals(0, objectRepository.getObjects(PeripheralJob.class).size());
+    assertEquals(1, objectRepository.getObjects(TransportOrder.class).size());
+    assertEquals(1, deferredKernelTasks.size());
+
+    // A new sweep is not started while the current one is still in progress.
+    cleanupTask.run();
+    assertEquals(1, deferredKernelTasks.size());
+
+    // The transport order is now related to a peripheral job not in a final state.
+    objectRepository.addObject(
+        new PeripheralJob("Job-2", "Vehicle-1", mock())
+            .withCreationTime(Instant.now().minusMillis(65000))
+            .withRelatedTransportOrder(order.getReference())
+    );
+    deferredKernelTasks.poll().run();
+    assertEquals(1, objectRepository.getObjects(TransportOrder.class).size());
+    assertEquals(0, deferredKernelTasks.size());
+    assertEquals(1, counters.getSweeps());
+  }
 }
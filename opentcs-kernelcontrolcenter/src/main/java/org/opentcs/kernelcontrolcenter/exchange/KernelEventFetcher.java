@@ -11,6 +11,7 @@ import javax.swing.SwingUtilities;
 import org.opentcs.access.Kernel;
 import org.opentcs.access.KernelServicePortal;
 import org.opentcs.access.KernelStateTransitionEvent;
+import org.opentcs.access.rmi.services.EventBufferOverflowEvent;
 import org.opentcs.common.ClientConnectionMode;
 import org.opentcs.common.KernelClientApplication;
 import org.opentcs.common.PortalManager;
@@ -203,6 +204,12 @@ public class KernelEventFetcher
             // If the kernel switches to SHUTDOWN, remember to shut down.
             shutDown = stateEvent.getEnteredState() == Kernel.State.SHUTDOWN;
           }
+          else if (event instanceof EventBufferOverflowEvent overflowEvent) {
+            LOG.warn(
+                "Kernel discarded {} events that were not fetched in time.",
+                overflowEvent.getDiscardedEventCount()
+            );
+          }
         }
       }
       catch (Exception exc) {
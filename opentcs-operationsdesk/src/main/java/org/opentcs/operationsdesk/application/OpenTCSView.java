@@ -51,6 +51,7 @@ import org.opentcs.access.Kernel;
 import org.opentcs.access.KernelServicePortal;
 import org.opentcs.access.SharedKernelServicePortal;
 import org.opentcs.access.SharedKernelServicePortalProvider;
+import org.opentcs.access.rmi.services.EventBufferOverflowEvent;
 import org.opentcs.components.kernel.services.ServiceUnavailableException;
 import org.opentcs.components.plantoverview.PlantModelExporter;
 import org.opentcs.components.plantoverview.PlantModelImporter;
@@ -483,6 +484,9 @@ public class OpenTCSView
     if (event instanceof KernelStateChangeEvent) {
       handleKernelStateChangeEvent((KernelStateChangeEvent) event);
     }
+    if (event instanceof EventBufferOverflowEvent) {
+      handleEventBufferOverflow((EventBufferOverflowEvent) event);
+    }
   }
 
   private void handleSystemModelTransition(SystemModelTransitionEvent evt) {
@@ -988,6 +992,22 @@ public class OpenTCSView
     }
   }
 
+  private void handleEventBufferOverflow(EventBufferOverflowEvent event) {
+    // Events have been missed, so the displayed state of the kernel's objects may be outdated.
+    LOG.warn(
+        "Kernel discarded {} events for this client, reloading the model...",
+        event.getDiscardedEventCount()
+    );
+    loadCurrentKernelModel();
+    statusPanel.setLogMessage(
+        Level.WARNING,
+        bundle.getFormatted(
+            "openTcsView.message_eventsDiscarded.text",
+            event.getDiscardedEventCount()
+        )
+    );
+  }
+
   private void handleNoKernelConnection() {
     if (sharedPortal != null) {
       sharedPortal.close();
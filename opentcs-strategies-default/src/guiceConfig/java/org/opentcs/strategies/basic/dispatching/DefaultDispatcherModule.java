@@ -12,6 +12,7 @@ import org.opentcs.customizations.kernel.KernelInjectionModule;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.ReroutingType;
 import org.opentcs.data.order.TransportOrder;
+import org.opentcs.strategies.basic.dispatching.phase.assignment.AssignmentCandidateEvaluator;
 import org.opentcs.strategies.basic.dispatching.phase.parking.DefaultParkingPositionSupplier;
 import org.opentcs.strategies.basic.dispatching.phase.parking.ParkingPositionSupplier;
 import org.opentcs.strategies.basic.dispatching.phase.recharging.DefaultRechargePositionSupplier;
@@ -114,6 +115,12 @@ public class DefaultDispatcherModule
 
     bind(OrderReservationPool.class)
         .in(Singleton.class);
+    bind(AssignmentCandidateEvaluator.class)
+        .in(Singleton.class);
+    bind(DispatchCoordinator.class)
+        .in(Singleton.class);
+    bind(DispatcherMetrics.class)
+        .in(Singleton.class);
 
     bind(ParkingPositionSupplier.class)
         .to(DefaultParkingPositionSupplier.class)
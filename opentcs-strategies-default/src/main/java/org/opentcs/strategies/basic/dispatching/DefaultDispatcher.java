@@ -19,6 +19,7 @@ import org.opentcs.customizations.kernel.KernelExecutor;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.ReroutingType;
 import org.opentcs.data.order.TransportOrder;
+import org.opentcs.strategies.basic.dispatching.phase.assignment.AssignmentCandidateEvaluator;
 import org.opentcs.strategies.basic.dispatching.phase.assignment.OrderAssigner;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -63,6 +64,10 @@ public class DefaultDispatcher
 
   private final TransportOrderAssignmentChecker transportOrderAssignmentChecker;
 
+  private final AssignmentCandidateEvaluator assignmentCandidateEvaluator;
+
+  private final DispatchCoordinator dispatchCoordinator;
+
   private ScheduledFuture<?> periodicDispatchTaskFuture;
   /**
    * Indicates whether this component is enabled.
@@ -83,6 +88,8 @@ public class DefaultDispatcher
    * @param orderAssigner Handles assignments of transport orders to vehicles.
    * @param transportOrderAssignmentChecker Checks whether the assignment of transport orders to
    * vehicles is possible.
+   * @param assignmentCandidateEvaluator Evaluates assignment candidates, optionally in parallel.
+   * @param dispatchCoordinator Keeps track of changes and determines the scope of dispatch runs.
    */
   @Inject
   public DefaultDispatcher(
@@ -96,7 +103,9 @@ public class DefaultDispatcher
       DefaultDispatcherConfiguration configuration,
       RerouteUtil rerouteUtil,
       OrderAssigner orderAssigner,
-      TransportOrderAssignmentChecker transportOrderAssignmentChecker
+      TransportOrderAssignmentChecker transportOrderAssignmentChecker,
+      AssignmentCandidateEvaluator assignmentCandidateEvaluator,
+      DispatchCoordinator dispatchCoordinator
   ) {
     this.orderReservationPool = requireNonNull(orderReservationPool, "orderReservationPool");
     this.transportOrderUtil = requireNonNull(transportOrderUtil, "transportOrderUtil");
@@ -114,6 +123,11 @@ public class DefaultDispatcher
         transportOrderAssignmentChecker,
         "transportOrderAssignmentChecker"
     );
+    this.assignmentCandidateEvaluator = requireNonNull(
+        assignmentCandidateEvaluator,
+        "assignmentCandidateEvaluator"
+    );
+    this.dispatchCoordinator = requireNonNull(dispatchCoordinator, "dispatchCoordinator");
   }
 
   @Override
@@ -126,6 +140,8 @@ public class DefaultDispatcher
 
     transportOrderUtil.initialize();
     orderReservationPool.clear();
+    assignmentCandidateEvaluator.initialize();
+    dispatchCoordinator.initialize();
 
     fullDispatchTask.initialize();
 
@@ -155,6 +171,8 @@ public class DefaultDispatcher
     periodicDispatchTaskFuture = null;
 
     fullDispatchTask.terminate();
+    dispatchCoordinator.terminate();
+    assignmentCandidateEvaluator.terminate();
 
     initialized = false;
   }
@@ -167,7 +185,13 @@ public class DefaultDispatcher
   @Override
   public void dispatch() {
     LOG.debug("Executing dispatch task...");
-    fullDispatchTask.run();
+    dispatchCoordinator.beginRun();
+    try {
+      fullDispatchTask.run();
+    }
+    finally {
+      dispatchCoordinator.endRun();
+    }
   }
 
   @Override
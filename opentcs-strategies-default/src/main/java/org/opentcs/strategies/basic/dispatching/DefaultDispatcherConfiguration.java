@@ -92,6 +92,32 @@ public interface DefaultDispatcherConfiguration {
   )
   int maxRoutesToConsider();
 
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {"The number of threads used for computing assignment candidates (i.e. the "
+          + "routes and costs for pairs of vehicles and transport orders) in parallel.",
+          "A value of 1 or less means candidates are computed sequentially by the kernel "
+              + "executor."},
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "0_assign_special_2"
+  )
+  int assignmentCandidateParallelism();
+
+  @ConfigurationEntry(
+      type = "String",
+      description = {
+          "The strategy to use for assigning free transport orders to vehicles.",
+          "Possible values:",
+          "GREEDY: Assign the best candidate according to the configured candidate priorities to "
+              + "each vehicle or transport order, one after the other.",
+          "MIN_TOTAL_COSTS: Assign as many transport orders as possible at once, with the lowest "
+              + "total routing costs. (Candidate priorities are not considered.)"
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY,
+      orderKey = "0_assign_special_3"
+  )
+  OrderAssignmentStrategy orderAssignmentStrategy();
+
   @ConfigurationEntry(
       type = "Boolean",
       description = "Whether orders to the current position with no operation should be assigned.",
@@ -190,6 +216,25 @@ public interface DefaultDispatcherConfiguration {
   )
   long idleVehicleRedispatchingInterval();
 
+  @ConfigurationEntry(
+      type = "Boolean",
+      description = {
+          "Whether to dispatch incrementally.",
+          "If true, dispatch runs triggered by changes of vehicles or transport orders consider "
+              + "only the vehicles and transport orders that changed since the previous run when "
+              + "assigning transport orders and drive orders. Full dispatch runs are then executed "
+              + "only with the periodic redispatching of vehicles and after changes to the plant "
+              + "model that may affect all vehicles (e.g. paths being locked or unlocked).",
+          "Note that transport orders that could only be assigned due to changes not covered by "
+              + "this (e.g. of properties of other objects) may be assigned only with the next "
+              + "periodic redispatching.",
+          "If false, every dispatch run is a full one."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY,
+      orderKey = "9_misc_1"
+  )
+  boolean incrementalDispatching();
+
   /**
    * The available strategies for situations in which rerouting is not possible.
    */
@@ -208,4 +253,19 @@ public interface DefaultDispatcherConfiguration {
      */
     PAUSE_AT_PATH_LOCK;
   }
+
+  /**
+   * The available strategies for assigning free transport orders to vehicles.
+   */
+  enum OrderAssignmentStrategy {
+    /**
+     * Assign the best candidate according to the configured candidate priorities to each vehicle
+     * or transport order, one after the other.
+     */
+    GREEDY,
+    /**
+     * Assign as many transport orders as possible at once, with the lowest total routing costs.
+     */
+    MIN_TOTAL_COSTS;
+  }
 }
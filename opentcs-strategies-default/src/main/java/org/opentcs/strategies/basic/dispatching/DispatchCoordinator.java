@@ -0,0 +1,314 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.dispatching;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.inject.Inject;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import org.opentcs.components.Lifecycle;
+import org.opentcs.customizations.ApplicationEventBus;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.model.Block;
+import org.opentcs.data.model.Location;
+import org.opentcs.data.model.LocationType;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.data.peripherals.PeripheralJob;
+import org.opentcs.util.event.EventHandler;
+import org.opentcs.util.event.EventSource;
+
+/**
+ * Keeps track of the vehicles and transport orders that changed since the last dispatch run and
+ * determines the scope of dispatch runs.
+ * <p>
+ * With incremental dispatching enabled, a dispatch run is a <em>full</em> run only if one was
+ * explicitly requested (e.g. by the periodic redispatching task) or if it is the first run after
+ * initialization. Any other run is an <em>incremental</em> one, in which phases may restrict
+ * themselves to the vehicles and transport orders that changed (i.e. became <em>dirty</em>) since
+ * the previous run started or that change during the run itself.
+ * </p>
+ * <p>
+ * Changes to the plant model that may affect the routes or the assignability of any vehicle (e.g.
+ * paths being locked or unlocked, or peripheral devices changing their state) mark all vehicles
+ * and transport orders as changed, i.e. the next dispatch run is a full one, and the current
+ * incremental run, if any, considers all vehicles and transport orders from then on.
+ * </p>
+ */
+public class DispatchCoordinator
+    implements
+      EventHandler,
+      Lifecycle {
+
+  /**
+   * Where we register for application events.
+   */
+  private final EventSource eventSource;
+  /**
+   * The dispatcher configuration.
+   */
+  private final DefaultDispatcherConfiguration configuration;
+  /**
+   * Records the numbers of full and incremental dispatch runs.
+   */
+  private final DispatcherMetrics metrics;
+  /**
+   * The names of vehicles that changed since the current or last dispatch run started.
+   */
+  private Set<String> dirtyVehicles = new HashSet<>();
+  /**
+   * The names of transport orders that changed since the current or last dispatch run started.
+   */
+  private Set<String> dirtyTransportOrders = new HashSet<>();
+  /**
+   * The names of vehicles in the scope of the current incremental dispatch run.
+   */
+  private Set<String> runVehicles = new HashSet<>();
+  /**
+   * The names of transport orders in the scope of the current incremental dispatch run.
+   */
+  private Set<String> runTransportOrders = new HashSet<>();
+  /**
+   * Whether the current incremental dispatch run is to consider all vehicles and transport orders
+   * from now on.
+   */
+  private boolean runScopeUnrestricted;
+  /**
+   * Whether the next dispatch run is to be a full one.
+   */
+  private boolean fullRunRequested = true;
+  /**
+   * Whether the current dispatch run is an incremental one.
+   */
+  private boolean incrementalRun;
+  /**
+   * Whether this instance is initialized.
+   */
+  private boolean initialized;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param eventSource Where this instance registers for application events.
+   * @param configuration The dispatcher configuration.
+   * @param metrics Records the numbers of full and incremental dispatch runs.
+   */
+  @Inject
+  public DispatchCoordinator(
+      @ApplicationEventBus
+      EventSource eventSource,
+      DefaultDispatcherConfiguration configuration,
+      DispatcherMetrics metrics
+  ) {
+    this.eventSource = requireNonNull(eventSource, "eventSource");
+    this.configuration = requireNonNull(configuration, "configuration");
+    this.metrics = requireNonNull(metrics, "metrics");
+  }
+
+  @Override
+  public void initialize() {
+    if (isInitialized()) {
+      return;
+    }
+
+    synchronized (this) {
+      dirtyVehicles.clear();
+      dirtyTransportOrders.clear();
+      fullRunRequested = true;
+    }
+    eventSource.subscribe(this);
+
+    initialized = true;
+  }
+
+  @Override
+  public boolean isInitialized() {
+    return initialized;
+  }
+
+  @Override
+  public void terminate() {
+    if (!isInitialized()) {
+      return;
+    }
+
+    eventSource.unsubscribe(this);
+
+    initialized = false;
+  }
+
+  @Override
+  public synchronized void onEvent(Object event) {
+    if (!(event instanceof TCSObjectEvent objectEvent)) {
+      return;
+    }
+
+    if (relevantPlantModelChange(objectEvent)) {
+      markAllDirty();
+      return;
+    }
+
+    if (objectEvent.getType() == TCSObjectEvent.Type.OBJECT_REMOVED) {
+      return;
+    }
+
+    if (objectEvent.getCurrentObjectState() instanceof Vehicle vehicle) {
+      if (objectEvent.getType() == TCSObjectEvent.Type.OBJECT_CREATED
+          || relevantVehicleChange((Vehicle) objectEvent.getPreviousObjectState(), vehicle)) {
+        dirtyVehicles.add(vehicle.getName());
+        if (incrementalRun) {
+          runVehicles.add(vehicle.getName());
+        }
+      }
+    }
+    else if (objectEvent.getCurrentObjectState() instanceof TransportOrder order) {
+      if (objectEvent.getType() == TCSObjectEvent.Type.OBJECT_CREATED
+          || relevantOrderChange((TransportOrder) objectEvent.getPreviousObjectState(), order)) {
+        dirtyTransportOrders.add(order.getName());
+        if (incrementalRun) {
+          runTransportOrders.add(order.getName());
+        }
+      }
+    }
+  }
+
+  /**
+   * Requests the next dispatch run to be a full one.
+   */
+  public synchronized void requestFullRun() {
+    fullRunRequested = true;
+  }
+
+  /**
+   * Indicates whether the current dispatch run is an incremental one.
+   *
+   * @return {@code true} if, and only if, the current dispatch run is an incremental one.
+   */
+  public synchronized boolean isIncrementalRun() {
+    return incrementalRun;
+  }
+
+  /**
+   * Checks whether the given vehicle needs to be considered in the current dispatch run.
+   *
+   * @param vehicle The vehicle.
+   * @return {@code true} if the current dispatch run is a full one or if the vehicle changed since
+   * the previous dispatch run started.
+   */
+  public synchronized boolean isInScope(
+      @Nonnull
+      Vehicle vehicle
+  ) {
+    requireNonNull(vehicle, "vehicle");
+
+    return !incrementalRun || runScopeUnrestricted || runVehicles.contains(vehicle.getName());
+  }
+
+  /**
+   * Checks whether the given transport order needs to be considered in the current dispatch run.
+   *
+   * @param order The transport order.
+   * @return {@code true} if the current dispatch run is a full one or if the transport order
+   * changed since the previous dispatch run started.
+   */
+  public synchronized boolean isInScope(
+      @Nonnull
+      TransportOrder order
+  ) {
+    requireNonNull(order, "order");
+
+    return !incrementalRun
+        || runScopeUnrestricted
+        || runTransportOrders.contains(order.getName());
+  }
+
+  /**
+   * Marks the beginning of a dispatch run and determines its scope.
+   */
+  synchronized void beginRun() {
+    incrementalRun = configuration.incrementalDispatching() && !fullRunRequested;
+    fullRunRequested = false;
+    runScopeUnrestricted = false;
+
+    runVehicles = dirtyVehicles;
+    runTransportOrders = dirtyTransportOrders;
+    dirtyVehicles = new HashSet<>();
+    dirtyTransportOrders = new HashSet<>();
+
+    metrics.runBegun(incrementalRun);
+  }
+
+  /**
+   * Marks the end of a dispatch run.
+   */
+  synchronized void endRun() {
+    incrementalRun = false;
+    runScopeUnrestricted = false;
+    runVehicles = new HashSet<>();
+    runTransportOrders = new HashSet<>();
+  }
+
+  private void markAllDirty() {
+    fullRunRequested = true;
+    if (incrementalRun) {
+      runScopeUnrestricted = true;
+    }
+  }
+
+  private boolean relevantPlantModelChange(TCSObjectEvent event) {
+    Object object = event.getCurrentOrPreviousObjectState();
+    if (object instanceof Path
+        || object instanceof Location
+        || object instanceof LocationType
+        || object instanceof Block) {
+      return true;
+    }
+    if (object instanceof Point) {
+      // Points are modified whenever vehicles occupy or leave them, which does not affect other
+      // vehicles' routes.
+      return event.getType() != TCSObjectEvent.Type.OBJECT_MODIFIED
+          || relevantPointChange(
+              (Point) event.getPreviousObjectState(),
+              (Point) event.getCurrentObjectState()
+          );
+    }
+    if (object instanceof PeripheralJob) {
+      return event.getType() == TCSObjectEvent.Type.OBJECT_MODIFIED
+          && ((PeripheralJob) event.getPreviousObjectState()).getState()
+              != ((PeripheralJob) event.getCurrentObjectState()).getState();
+    }
+    return false;
+  }
+
+  private boolean relevantPointChange(Point oldPoint, Point newPoint) {
+    return oldPoint.getType() != newPoint.getType()
+        || !Objects.equals(oldPoint.getProperties(), newPoint.getProperties())
+        || !Objects.equals(
+            oldPoint.getMaxVehicleBoundingBox(),
+            newPoint.getMaxVehicleBoundingBox()
+        );
+  }
+
+  private boolean relevantVehicleChange(Vehicle oldVehicle, Vehicle newVehicle) {
+    return oldVehicle.getProcState() != newVehicle.getProcState()
+        || oldVehicle.getState() != newVehicle.getState()
+        || oldVehicle.getIntegrationLevel() != newVehicle.getIntegrationLevel()
+        || oldVehicle.getEnergyLevel() != newVehicle.getEnergyLevel()
+        || oldVehicle.isPaused() != newVehicle.isPaused()
+        || !Objects.equals(oldVehicle.getCurrentPosition(), newVehicle.getCurrentPosition())
+        || !Objects.equals(oldVehicle.getTransportOrder(), newVehicle.getTransportOrder())
+        || !Objects.equals(oldVehicle.getOrderSequence(), newVehicle.getOrderSequence())
+        || !Objects.equals(oldVehicle.getAllowedOrderTypes(), newVehicle.getAllowedOrderTypes());
+  }
+
+  private boolean relevantOrderChange(TransportOrder oldOrder, TransportOrder newOrder) {
+    return oldOrder.getState() != newOrder.getState()
+        || !Objects.equals(oldOrder.getIntendedVehicle(), newOrder.getIntendedVehicle())
+        || oldOrder.isDispensable() != newOrder.isDispensable();
+  }
+}
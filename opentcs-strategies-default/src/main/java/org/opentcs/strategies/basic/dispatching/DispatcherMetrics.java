@@ -0,0 +1,285 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.dispatching;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.inject.Inject;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.opentcs.common.metrics.Counter;
+import org.opentcs.common.metrics.Histogram;
+import org.opentcs.common.metrics.MetricsRegistry;
+import org.opentcs.common.metrics.Timer;
+
+/**
+ * Provides the metrics recorded by the default dispatcher.
+ * <p>
+ * All metrics are kept in the application's {@link MetricsRegistry} and are thus only updated
+ * while it is enabled.
+ * </p>
+ */
+public class DispatcherMetrics {
+
+  /**
+   * The upper bounds of buckets for the numbers of vehicles and transport orders considered.
+   */
+  private static final double[] COUNT_BUCKETS = {0, 1, 2, 5, 10, 20, 50, 100, 200, 500, 1000};
+  /**
+   * The registry keeping the metrics.
+   */
+  private final MetricsRegistry registry;
+  /**
+   * Measures the duration of dispatch runs.
+   */
+  private final Timer runDuration;
+  /**
+   * Counts full dispatch runs.
+   */
+  private final Counter fullRuns;
+  /**
+   * Counts incremental dispatch runs.
+   */
+  private final Counter incrementalRuns;
+  /**
+   * Records the numbers of vehicles considered for order assignment.
+   */
+  private final Histogram vehiclesConsidered;
+  /**
+   * Records the numbers of transport orders considered for assignment.
+   */
+  private final Histogram ordersConsidered;
+  /**
+   * Counts route computations that yielded a route.
+   */
+  private final Counter routeComputationsFound;
+  /**
+   * Counts route computations that did not yield a route.
+   */
+  private final Counter routeComputationsNotFound;
+  /**
+   * Counts transport orders assigned to vehicles.
+   */
+  private final Counter assignmentsAssigned;
+  /**
+   * Counts transport orders reserved for vehicles.
+   */
+  private final Counter assignmentsReserved;
+  /**
+   * The timers measuring the durations of phases, mapped by phase class.
+   */
+  private final Map<Class<?>, Timer> phaseDurations = new ConcurrentHashMap<>();
+  /**
+   * The counters for filtered objects, mapped by kind of object and filter class.
+   */
+  private final Map<String, Map<Class<?>, Counter>> filteredCounters = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a new instance.
+   *
+   * @param registry The registry keeping the metrics.
+   */
+  @Inject
+  public DispatcherMetrics(MetricsRegistry registry) {
+    this.registry = requireNonNull(registry, "registry");
+
+    runDuration = registry.timer(
+        "dispatcher_run_duration_seconds",
+        "The duration of dispatch runs."
+    );
+    fullRuns = runs("full");
+    incrementalRuns = runs("incremental");
+    vehiclesConsidered = registry.histogram(
+        "dispatcher_assignment_vehicles_considered",
+        "The number of vehicles considered with an attempt to assign transport orders.",
+        COUNT_BUCKETS
+    );
+    ordersConsidered = registry.histogram(
+        "dispatcher_assignment_orders_considered",
+        "The number of transport orders considered with an attempt to assign transport orders.",
+        COUNT_BUCKETS
+    );
+    routeComputationsFound = routeComputations("found");
+    routeComputationsNotFound = routeComputations("not_found");
+    assignmentsAssigned = assignments("assigned");
+    assignmentsReserved = assignments("reserved");
+  }
+
+  /**
+   * Indicates whether metrics are being recorded.
+   * Allows callers to skip the preparation of values to be recorded.
+   *
+   * @return {@code true} if, and only if, metrics are being recorded.
+   */
+  public boolean isEnabled() {
+    return registry.isEnabled();
+  }
+
+  /**
+   * Returns the timer measuring the duration of dispatch runs.
+   *
+   * @return The timer.
+   */
+  @Nonnull
+  public Timer getRunDuration() {
+    return runDuration;
+  }
+
+  /**
+   * Records the beginning of a dispatch run.
+   *
+   * @param incremental Whether the run is an incremental one.
+   */
+  public void runBegun(boolean incremental) {
+    if (incremental) {
+      incrementalRuns.increment();
+    }
+    else {
+      fullRuns.increment();
+    }
+  }
+
+  /**
+   * Returns the number of full dispatch runs.
+   *
+   * @return The number of full dispatch runs.
+   */
+  public long getFullRuns() {
+    return fullRuns.getCount();
+  }
+
+  /**
+   * Returns the number of incremental dispatch runs.
+   *
+   * @return The number of incremental dispatch runs.
+   */
+  public long getIncrementalRuns() {
+    return incrementalRuns.getCount();
+  }
+
+  /**
+   * Returns the timer measuring the duration of the given phase.
+   *
+   * @param phase The phase.
+   * @return The timer.
+   */
+  @Nonnull
+  public Timer getPhaseDuration(
+      @Nonnull
+      Phase phase
+  ) {
+    requireNonNull(phase, "phase");
+
+    return phaseDurations.computeIfAbsent(
+        phase.getClass(),
+        phaseClass -> registry.timer(
+            "dispatcher_phase_duration_seconds",
+            "The duration of dispatch phases.",
+            "phase",
+            phaseClass.getSimpleName()
+        )
+    );
+  }
+
+  /**
+   * Records an attempt to assign the given numbers of transport orders and vehicles to each other.
+   *
+   * @param vehicleCount The number of vehicles considered.
+   * @param orderCount The number of transport orders considered.
+   */
+  public void assignmentAttempted(int vehicleCount, int orderCount) {
+    vehiclesConsidered.observe(vehicleCount);
+    ordersConsidered.observe(orderCount);
+  }
+
+  /**
+   * Records a route computation for an assignment candidate.
+   *
+   * @param routeFound Whether a route was found.
+   */
+  public void routeComputed(boolean routeFound) {
+    if (routeFound) {
+      routeComputationsFound.increment();
+    }
+    else {
+      routeComputationsNotFound.increment();
+    }
+  }
+
+  /**
+   * Records that the given filter filtered an object.
+   *
+   * @param kind The kind of object filtered (e.g. {@code "vehicle"} or {@code "candidate"}).
+   * @param filter The filter.
+   */
+  public void filtered(
+      @Nonnull
+      String kind,
+      @Nonnull
+      Object filter
+  ) {
+    requireNonNull(kind, "kind");
+    requireNonNull(filter, "filter");
+
+    if (!registry.isEnabled()) {
+      return;
+    }
+
+    filteredCounters.computeIfAbsent(kind, k -> new ConcurrentHashMap<>())
+        .computeIfAbsent(
+            filter.getClass(),
+            filterClass -> registry.counter(
+                "dispatcher_filtered_total",
+                "The number of objects filtered during dispatching, by kind of object and filter.",
+                "kind",
+                kind,
+                "filter",
+                filterClass.getSimpleName()
+            )
+        )
+        .increment();
+  }
+
+  /**
+   * Records the assignment of a transport order to a vehicle.
+   *
+   * @param reserved Whether the transport order was merely reserved for the vehicle, as the vehicle
+   * still has to finish or abort its current transport order.
+   */
+  public void orderAssigned(boolean reserved) {
+    if (reserved) {
+      assignmentsReserved.increment();
+    }
+    else {
+      assignmentsAssigned.increment();
+    }
+  }
+
+  private Counter runs(String type) {
+    return registry.counter(
+        "dispatcher_runs_total",
+        "The number of dispatch runs, by whether they were full or incremental ones.",
+        "type",
+        type
+    );
+  }
+
+  private Counter routeComputations(String result) {
+    return registry.counter(
+        "dispatcher_route_computations_total",
+        "The number of route computations for assignment candidates, by result.",
+        "result",
+        result
+    );
+  }
+
+  private Counter assignments(String type) {
+    return registry.counter(
+        "dispatcher_assignments_total",
+        "The number of transport orders assigned to or reserved for vehicles.",
+        "type",
+        type
+    );
+  }
+}
@@ -5,6 +5,7 @@ package org.opentcs.strategies.basic.dispatching;
 import static java.util.Objects.requireNonNull;
 
 import jakarta.inject.Inject;
+import org.opentcs.common.metrics.Timer;
 import org.opentcs.components.Lifecycle;
 import org.opentcs.strategies.basic.dispatching.phase.AssignReservedOrdersPhase;
 import org.opentcs.strategies.basic.dispatching.phase.AssignSequenceSuccessorsPhase;
@@ -42,6 +43,10 @@ public class FullDispatchTask
   private final PrioritizedReparkPhase prioritizedReparkPhase;
   private final PrioritizedParkingPhase prioritizedParkingPhase;
   private final ParkIdleVehiclesPhase parkIdleVehiclesPhase;
+  /**
+   * The dispatcher's metrics.
+   */
+  private final DispatcherMetrics metrics;
   /**
    * Indicates whether this component is enabled.
    */
@@ -58,7 +63,8 @@ public class FullDispatchTask
       RechargeIdleVehiclesPhase rechargeIdleVehiclesPhase,
       PrioritizedReparkPhase prioritizedReparkPhase,
       PrioritizedParkingPhase prioritizedParkingPhase,
-      ParkIdleVehiclesPhase parkIdleVehiclesPhase
+      ParkIdleVehiclesPhase parkIdleVehiclesPhase,
+      DispatcherMetrics metrics
   ) {
     this.checkNewOrdersPhase = requireNonNull(checkNewOrdersPhase, "checkNewOrdersPhase");
     this.finishWithdrawalsPhase = requireNonNull(finishWithdrawalsPhase, "finishWithdrawalsPhase");
@@ -85,6 +91,7 @@ public class FullDispatchTask
         "prioritizedParkingPhase"
     );
     this.parkIdleVehiclesPhase = requireNonNull(parkIdleVehiclesPhase, "parkIdleVehiclesPhase");
+    this.metrics = requireNonNull(metrics, "metrics");
   }
 
   @Override
@@ -135,16 +142,22 @@ public class FullDispatchTask
   @Override
   public final void run() {
     LOG.debug("Starting full dispatch run...");
-
-    checkNewOrdersPhase.run();
-    // Check what vehicles involved in a process should do.
-    finishWithdrawalsPhase.run();
-    assignNextDriveOrdersPhase.run();
-    assignSequenceSuccessorsPhase.run();
-    // Check what vehicles not already in a process should do.
-    assignOrders();
-    rechargeVehicles();
-    parkVehicles();
+    Timer timer = metrics.getRunDuration();
+    long start = timer.start();
+    try {
+      runPhase(checkNewOrdersPhase);
+      // Check what vehicles involved in a process should do.
+      runPhase(finishWithdrawalsPhase);
+      runPhase(assignNextDriveOrdersPhase);
+      runPhase(assignSequenceSuccessorsPhase);
+      // Check what vehicles not already in a process should do.
+      assignOrders();
+      rechargeVehicles();
+      parkVehicles();
+    }
+    finally {
+      timer.stop(start);
+    }
 
     LOG.debug("Finished full dispatch run.");
   }
@@ -156,8 +169,8 @@ public class FullDispatchTask
    * </p>
    */
   protected void assignOrders() {
-    assignReservedOrdersPhase.run();
-    assignFreeOrdersPhase.run();
+    runPhase(assignReservedOrdersPhase);
+    runPhase(assignFreeOrdersPhase);
   }
 
   /**
@@ -167,7 +180,7 @@ public class FullDispatchTask
    * </p>
    */
   protected void rechargeVehicles() {
-    rechargeIdleVehiclesPhase.run();
+    runPhase(rechargeIdleVehiclesPhase);
   }
 
   /**
@@ -177,8 +190,29 @@ public class FullDispatchTask
    * </p>
    */
   protected void parkVehicles() {
-    prioritizedReparkPhase.run();
-    prioritizedParkingPhase.run();
-    parkIdleVehiclesPhase.run();
+    runPhase(prioritizedReparkPhase);
+    runPhase(prioritizedParkingPhase);
+    runPhase(parkIdleVehiclesPhase);
+  }
+
+  /**
+   * Runs the given phase, measuring its duration if metrics are enabled.
+   *
+   * @param phase The phase to run.
+   */
+  protected void runPhase(Phase phase) {
+    if (!metrics.isEnabled()) {
+      phase.run();
+      return;
+    }
+
+    Timer timer = metrics.getPhaseDuration(phase);
+    long start = timer.start();
+    try {
+      phase.run();
+    }
+    finally {
+      timer.stop(start);
+    }
   }
 }
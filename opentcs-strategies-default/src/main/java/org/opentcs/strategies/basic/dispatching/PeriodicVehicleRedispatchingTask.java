@@ -32,30 +32,36 @@ public class PeriodicVehicleRedispatchingTask
 
   private final InternalTCSObjectService objectService;
 
+  private final DispatchCoordinator dispatchCoordinator;
+
   /**
    * Creates a new instance.
    *
    * @param dispatcherService The dispatcher service used to dispatch vehicles.
    * @param objectService The object service.
+   * @param dispatchCoordinator Determines the scope of dispatch runs.
    */
   @Inject
   public PeriodicVehicleRedispatchingTask(
       DispatcherService dispatcherService,
-      InternalTCSObjectService objectService
+      InternalTCSObjectService objectService,
+      DispatchCoordinator dispatchCoordinator
   ) {
     this.dispatcherService = requireNonNull(dispatcherService, "dispatcherService");
     this.objectService = requireNonNull(objectService, "objectService");
+    this.dispatchCoordinator = requireNonNull(dispatchCoordinator, "dispatchCoordinator");
   }
 
   @Override
   public void run() {
     // If there are any vehicles that could process a transport order,
-    // trigger the dispatcher once.
+    // trigger the dispatcher once, with a full dispatch run.
     objectService.stream(Vehicle.class)
         .filter(this::couldProcessTransportOrder)
         .findAny()
         .ifPresent(vehicle -> {
           LOG.debug("Vehicle {} could process transport order, triggering dispatcher ...", vehicle);
+          dispatchCoordinator.requestFullRun();
           dispatcherService.dispatch();
         });
   }
@@ -0,0 +1,105 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.dispatching;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.opentcs.components.kernel.RouteSelector;
+import org.opentcs.components.kernel.Router;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+
+/**
+ * Determines the costs of the routes a {@link RouteSelector} selects for a vehicle from a source
+ * point to each of a set of destination points.
+ */
+public class SelectedRouteCosts {
+
+  /**
+   * The router computing the routes.
+   */
+  private final Router router;
+  /**
+   * Selects a route from a set of routes.
+   */
+  private final RouteSelector routeSelector;
+  /**
+   * The dispatcher configuration.
+   */
+  private final DefaultDispatcherConfiguration configuration;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param router The router computing the routes.
+   * @param routeSelector Selects a route from a set of routes.
+   * @param configuration The dispatcher configuration.
+   */
+  public SelectedRouteCosts(
+      @Nonnull
+      Router router,
+      @Nonnull
+      RouteSelector routeSelector,
+      @Nonnull
+      DefaultDispatcherConfiguration configuration
+  ) {
+    this.router = requireNonNull(router, "router");
+    this.routeSelector = requireNonNull(routeSelector, "routeSelector");
+    this.configuration = requireNonNull(configuration, "configuration");
+  }
+
+  /**
+   * Returns the costs of the routes selected for the given vehicle from the given source point to
+   * each of the given destination points.
+   * <p>
+   * If the route selector always selects the route with the lowest costs, the costs to all
+   * destination points are computed at once instead of routing to each of them separately.
+   * </p>
+   *
+   * @param vehicle The vehicle.
+   * @param sourcePoint The starting point of the routes.
+   * @param destinationPoints The end points of the routes.
+   * @return The costs of the selected routes, mapped by their respective destination points.
+   * If no route to a destination point was selected, its costs are <code>Long.MAX_VALUE</code>.
+   */
+  @Nonnull
+  public Map<Point, Long> getCosts(
+      @Nonnull
+      Vehicle vehicle,
+      @Nonnull
+      Point sourcePoint,
+      @Nonnull
+      Set<Point> destinationPoints
+  ) {
+    requireNonNull(vehicle, "vehicle");
+    requireNonNull(sourcePoint, "sourcePoint");
+    requireNonNull(destinationPoints, "destinationPoints");
+
+    if (routeSelector.selectsLowestCostRoute()) {
+      return router.getRouteCosts(vehicle, sourcePoint, destinationPoints, Set.of());
+    }
+
+    return destinationPoints.stream()
+        .collect(
+            Collectors.toMap(
+                destinationPoint -> destinationPoint,
+                destinationPoint -> routeSelector
+                    .select(
+                        router.getRoutes(
+                            vehicle,
+                            sourcePoint,
+                            destinationPoint,
+                            Set.of(),
+                            configuration.maxRoutesToConsider()
+                        )
+                    )
+                    .map(route -> route.getCosts())
+                    .orElse(Long.MAX_VALUE)
+            )
+        );
+  }
+}
@@ -147,8 +147,7 @@ public class TransportOrderUtil
    * marking them as DISPATCHABLE.
    */
   public void markNewDispatchableOrders() {
-    transportOrderService.stream(TransportOrder.class)
-        .filter(order -> order.hasState(TransportOrder.State.ACTIVE))
+    transportOrderService.fetchTransportOrders(TransportOrder.State.ACTIVE).stream()
         .filter(order -> !hasUnfinishedDependencies(order))
         .forEach(
             order -> updateTransportOrderState(
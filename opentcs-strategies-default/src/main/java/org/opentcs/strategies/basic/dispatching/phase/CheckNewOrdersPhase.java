@@ -74,7 +74,7 @@ public class CheckNewOrdersPhase
 
   @Override
   public void run() {
-    objectService.fetch(TransportOrder.class, this::inRawState)
+    objectService.fetchTransportOrders(TransportOrder.State.RAW)
         .forEach(order -> checkRawTransportOrder(order));
   }
 
@@ -103,8 +103,4 @@ public class CheckNewOrdersPhase
       );
     }
   }
-
-  private boolean inRawState(TransportOrder order) {
-    return order.hasState(TransportOrder.State.RAW);
-  }
 }
@@ -60,8 +60,7 @@ public class FinishWithdrawalsPhase
 
   @Override
   public void run() {
-    objectService.fetch(Vehicle.class).stream()
-        .filter(vehicle -> vehicle.hasProcState(Vehicle.ProcState.AWAITING_ORDER))
+    objectService.fetchVehicles(Vehicle.ProcState.AWAITING_ORDER).stream()
         .filter(vehicle -> hasWithdrawnTransportOrder(vehicle))
         .forEach(vehicle -> transportOrderUtil.finishAbortion(vehicle));
   }
@@ -32,8 +32,7 @@ public class TargetedPointsSupplier {
    * @return A set of all points currently targeted by vehicles.
    */
   public Set<Point> getTargetedPoints() {
-    return objectService.stream(TransportOrder.class)
-        .filter(order -> order.hasState(TransportOrder.State.BEING_PROCESSED))
+    return objectService.fetchTransportOrders(TransportOrder.State.BEING_PROCESSED).stream()
         .map(
             transportOrder -> transportOrder.getAllDriveOrders().getLast().getRoute()
                 .getFinalDestinationPoint()
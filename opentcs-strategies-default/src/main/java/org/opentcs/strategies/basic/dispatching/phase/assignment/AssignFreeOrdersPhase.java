@@ -13,6 +13,7 @@ import org.opentcs.components.kernel.services.InternalTCSObjectService;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.OrderSequence;
 import org.opentcs.data.order.TransportOrder;
+import org.opentcs.strategies.basic.dispatching.DispatchCoordinator;
 import org.opentcs.strategies.basic.dispatching.Phase;
 import org.opentcs.strategies.basic.dispatching.TransportOrderUtil;
 import org.opentcs.strategies.basic.dispatching.phase.OrderFilterResult;
@@ -64,6 +65,10 @@ public class AssignFreeOrdersPhase
    * Provides methods to check and update the dispatching status of transport orders.
    */
   private final DispatchingStatusMarker dispatchingStatusMarker;
+  /**
+   * Determines the scope of dispatch runs.
+   */
+  private final DispatchCoordinator dispatchCoordinator;
   /**
    * Indicates whether this component is initialized.
    */
@@ -78,7 +83,8 @@ public class AssignFreeOrdersPhase
       CompositeTransportOrderSelectionFilter transportOrderSelectionFilter,
       OrderAssigner orderAssigner,
       DispatchingStatusMarker dispatchingStatusMarker,
-      TransportOrderUtil transportOrderUtil
+      TransportOrderUtil transportOrderUtil,
+      DispatchCoordinator dispatchCoordinator
   ) {
     this.objectService = requireNonNull(objectService, "objectService");
     this.vehicleSelectionFilter = requireNonNull(vehicleSelectionFilter, "vehicleSelectionFilter");
@@ -97,6 +103,7 @@ public class AssignFreeOrdersPhase
         "dispatchingStatusMarker"
     );
     this.transportOrderUtil = requireNonNull(transportOrderUtil, "transportOrderUtil");
+    this.dispatchCoordinator = requireNonNull(dispatchCoordinator, "dispatchCoordinator");
   }
 
   @Override
@@ -143,28 +150,61 @@ public class AssignFreeOrdersPhase
     // Select only dispatchable orders first, then apply the composite filter, handle
     // the orders that can be tried as usual and mark the others as filtered (if they aren't, yet).
     Map<Boolean, List<OrderFilterResult>> ordersSplitByFilter
-        = objectService.stream(TransportOrder.class)
+        = objectService.fetchTransportOrders(TransportOrder.State.DISPATCHABLE).stream()
             .filter(isFreelyDispatchableToAnyVehicle)
             .map(order -> new OrderFilterResult(order, transportOrderSelectionFilter.apply(order)))
             .collect(Collectors.partitioningBy(filterResult -> !filterResult.isFiltered()));
 
     markNewlyFilteredOrders(ordersSplitByFilter.get(Boolean.FALSE));
 
+    Collection<TransportOrder> availableOrders = ordersSplitByFilter.get(Boolean.TRUE).stream()
+        .map(OrderFilterResult::getOrder)
+        .collect(Collectors.toList());
+
+    if (dispatchCoordinator.isIncrementalRun()) {
+      tryAssignmentsIncrementally(availableVehicles, availableOrders);
+    }
+    else {
+      orderAssigner.tryAssignments(availableVehicles, availableOrders);
+    }
+  }
+
+  private void tryAssignmentsIncrementally(
+      Collection<Vehicle> availableVehicles,
+      Collection<TransportOrder> availableOrders
+  ) {
+    // Only pairs of vehicles and transport orders of which at least one changed since the previous
+    // dispatch run need to be considered. All other pairs were already considered before.
+    boolean anyVehicleChanged = availableVehicles.stream()
+        .anyMatch(dispatchCoordinator::isInScope);
+    boolean anyOrderChanged = availableOrders.stream()
+        .anyMatch(dispatchCoordinator::isInScope);
+
+    if (!anyVehicleChanged && !anyOrderChanged) {
+      LOG.debug("No changed vehicles or transport orders, skipping assignments.");
+      return;
+    }
+
     orderAssigner.tryAssignments(
-        availableVehicles,
-        ordersSplitByFilter.get(Boolean.TRUE).stream()
-            .map(OrderFilterResult::getOrder)
-            .collect(Collectors.toList())
+        anyOrderChanged
+            ? availableVehicles
+            : availableVehicles.stream()
+                .filter(dispatchCoordinator::isInScope)
+                .collect(Collectors.toList()),
+        anyVehicleChanged
+            ? availableOrders
+            : availableOrders.stream()
+                .filter(dispatchCoordinator::isInScope)
+                .collect(Collectors.toList())
     );
   }
 
   private void markFirstDispatchableOrderInUnassignedSequences() {
-    objectService.fetch(
-        TransportOrder.class,
-        order -> order.hasState(TransportOrder.State.DISPATCHABLE)
-            && order.getWrappingSequence() != null
-            && !partOfAnyVehiclesSequence(order)
-    )
+    objectService.fetchTransportOrders(TransportOrder.State.DISPATCHABLE).stream()
+        .filter(
+            order -> order.getWrappingSequence() != null
+                && !partOfAnyVehiclesSequence(order)
+        )
         .forEach(
             order -> {
               transportOrderUtil
@@ -11,6 +11,7 @@ import org.opentcs.components.kernel.services.InternalVehicleService;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.drivers.vehicle.VehicleControllerPool;
+import org.opentcs.strategies.basic.dispatching.DispatchCoordinator;
 import org.opentcs.strategies.basic.dispatching.Phase;
 import org.opentcs.strategies.basic.dispatching.TransportOrderUtil;
 import org.slf4j.Logger;
@@ -39,6 +40,10 @@ public class AssignNextDriveOrdersPhase
    */
   private final VehicleControllerPool vehicleControllerPool;
   private final TransportOrderUtil transportOrderUtil;
+  /**
+   * Determines the scope of dispatch runs.
+   */
+  private final DispatchCoordinator dispatchCoordinator;
   /**
    * Indicates whether this component is initialized.
    */
@@ -50,13 +55,15 @@ public class AssignNextDriveOrdersPhase
       InternalVehicleService vehicleService,
       Router router,
       VehicleControllerPool vehicleControllerPool,
-      TransportOrderUtil transportOrderUtil
+      TransportOrderUtil transportOrderUtil,
+      DispatchCoordinator dispatchCoordinator
   ) {
     this.transportOrderService = requireNonNull(transportOrderService, "transportOrderService");
     this.vehicleService = requireNonNull(vehicleService, "vehicleService");
     this.router = requireNonNull(router, "router");
     this.vehicleControllerPool = requireNonNull(vehicleControllerPool, "vehicleControllerPool");
     this.transportOrderUtil = requireNonNull(transportOrderUtil, "transportOrderUtil");
+    this.dispatchCoordinator = requireNonNull(dispatchCoordinator, "dispatchCoordinator");
   }
 
   @Override
@@ -82,8 +89,8 @@ public class AssignNextDriveOrdersPhase
 
   @Override
   public void run() {
-    transportOrderService.fetch(Vehicle.class).stream()
-        .filter(vehicle -> vehicle.hasProcState(Vehicle.ProcState.AWAITING_ORDER))
+    transportOrderService.fetchVehicles(Vehicle.ProcState.AWAITING_ORDER).stream()
+        .filter(dispatchCoordinator::isInScope)
         .forEach(vehicle -> checkForNextDriveOrder(vehicle));
   }
 
@@ -0,0 +1,168 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.dispatching.phase.assignment;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.inject.Inject;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.function.Function;
+import org.opentcs.components.Lifecycle;
+import org.opentcs.components.kernel.services.InternalTCSObjectService;
+import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Evaluates functions for a number of inputs, optionally in parallel on a dedicated and bounded
+ * pool of threads.
+ * <p>
+ * This is used for computing assignment candidates (which is mostly about computing routes) in
+ * parallel. The functions evaluated must not modify the kernel's working set, as they are not
+ * executed by the kernel executor in parallel mode. Before evaluating functions in parallel, a
+ * snapshot of the working set is published, so the functions may read from the working set without
+ * having to acquire the kernel's global synchronization object (which the kernel executor may hold
+ * while waiting for the results).
+ * </p>
+ */
+public class AssignmentCandidateEvaluator
+    implements
+      Lifecycle {
+
+  /**
+   * This class's Logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(AssignmentCandidateEvaluator.class);
+  /**
+   * The object service.
+   */
+  private final InternalTCSObjectService objectService;
+  /**
+   * The dispatcher configuration.
+   */
+  private final DefaultDispatcherConfiguration configuration;
+  /**
+   * The pool evaluating functions in parallel, or {@code null}, if functions are evaluated
+   * sequentially.
+   */
+  private volatile ForkJoinPool pool;
+  /**
+   * Indicates whether this component is initialized.
+   */
+  private boolean initialized;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param objectService The object service.
+   * @param configuration The dispatcher configuration.
+   */
+  @Inject
+  public AssignmentCandidateEvaluator(
+      @Nonnull
+      InternalTCSObjectService objectService,
+      @Nonnull
+      DefaultDispatcherConfiguration configuration
+  ) {
+    this.objectService = requireNonNull(objectService, "objectService");
+    this.configuration = requireNonNull(configuration, "configuration");
+  }
+
+  @Override
+  public void initialize() {
+    if (isInitialized()) {
+      return;
+    }
+
+    int parallelism = configuration.assignmentCandidateParallelism();
+    if (parallelism > 1) {
+      LOG.debug("Evaluating assignment candidates with parallelism {}.", parallelism);
+      pool = new ForkJoinPool(parallelism, this::createWorkerThread, null, false);
+    }
+
+    initialized = true;
+  }
+
+  @Override
+  public boolean isInitialized() {
+    return initialized;
+  }
+
+  @Override
+  public void terminate() {
+    if (!isInitialized()) {
+      return;
+    }
+
+    if (pool != null) {
+      pool.shutdownNow();
+      pool = null;
+    }
+
+    initialized = false;
+  }
+
+  /**
+   * Indicates whether this evaluator evaluates functions in parallel.
+   *
+   * @return {@code true} if, and only if, this evaluator evaluates functions in parallel.
+   */
+  public boolean isParallel() {
+    return pool != null;
+  }
+
+  /**
+   * Applies the given function to each of the given inputs.
+   * <p>
+   * If this evaluator is parallel, the function is applied by the threads of this evaluator's pool
+   * and this method blocks until all results are available. Otherwise, the function is applied
+   * sequentially by the calling thread.
+   * </p>
+   *
+   * @param <T> The type of the inputs.
+   * @param <R> The type of the results.
+   * @param inputs The inputs.
+   * @param function The function to apply to each of the inputs.
+   * @return The results, in the order of the respective inputs.
+   */
+  @Nonnull
+  public <T, R> List<R> evaluate(
+      @Nonnull
+      List<T> inputs,
+      @Nonnull
+      Function<T, R> function
+  ) {
+    requireNonNull(inputs, "inputs");
+    requireNonNull(function, "function");
+
+    ForkJoinPool currentPool = pool;
+    if (currentPool == null || inputs.size() < 2) {
+      return inputs.stream().map(function).toList();
+    }
+
+    objectService.publishSnapshot();
+
+    List<ForkJoinTask<R>> tasks = new ArrayList<>(inputs.size());
+    for (T input : inputs) {
+      tasks.add(currentPool.submit(() -> function.apply(input)));
+    }
+
+    List<R> results = new ArrayList<>(tasks.size());
+    for (ForkJoinTask<R> task : tasks) {
+      results.add(task.join());
+    }
+    return results;
+  }
+
+  private ForkJoinWorkerThread createWorkerThread(ForkJoinPool forkJoinPool) {
+    ForkJoinWorkerThread thread
+        = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+    thread.setName("assignmentCandidateEvaluator-" + thread.getPoolIndex());
+    return thread;
+  }
+}
@@ -0,0 +1,199 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.dispatching.phase.assignment;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
+
+import jakarta.annotation.Nonnull;
+import java.util.Arrays;
+
+/**
+ * Solves the (rectangular) assignment problem using the Hungarian algorithm.
+ * <p>
+ * Given a matrix of costs for assigning rows (e.g. vehicles) to columns (e.g. transport orders),
+ * each row is assigned to at most one column and vice versa, such that the number of assignments
+ * is maximized and, among all assignments with that number, the sum of the costs is minimized.
+ * Entries with the value {@link #INFEASIBLE} are never assigned.
+ * </p>
+ * <p>
+ * The algorithm's runtime is in O(n<sup>2</sup> * m), with n being the smaller and m being the
+ * larger dimension of the cost matrix.
+ * </p>
+ */
+public class MinimumCostAssignment {
+
+  /**
+   * Marks an entry in the cost matrix as not assignable.
+   */
+  public static final long INFEASIBLE = Long.MAX_VALUE;
+  /**
+   * The value indicating that a row is not assigned to any column.
+   */
+  public static final int UNASSIGNED = -1;
+
+  /**
+   * Prevents instantiation.
+   */
+  private MinimumCostAssignment() {
+  }
+
+  /**
+   * Computes an assignment of rows to columns for the given cost matrix.
+   *
+   * @param costs The cost matrix, with {@code costs[row][column]} being the costs for assigning the
+   * row to the column. All rows must have the same length, and all entries must either be
+   * non-negative or {@link #INFEASIBLE}.
+   * @return An array containing, for each row, the index of the column it is assigned to, or
+   * {@link #UNASSIGNED}, if it is not assigned to any column.
+   * @throws IllegalArgumentException If the cost matrix is malformed.
+   * @throws ArithmeticException If the feasible costs are too high to be processed without
+   * overflowing.
+   */
+  @Nonnull
+  public static int[] solve(
+      @Nonnull
+      long[][] costs
+  )
+      throws IllegalArgumentException,
+        ArithmeticException {
+    requireNonNull(costs, "costs");
+
+    int rowCount = costs.length;
+    int columnCount = rowCount == 0 ? 0 : costs[0].length;
+    long maxFeasibleCosts = 0;
+    for (long[] row : costs) {
+      checkArgument(row.length == columnCount, "Rows have different lengths");
+      for (long entry : row) {
+        checkArgument(entry >= 0, "Negative costs: %s", entry);
+        if (entry != INFEASIBLE) {
+          maxFeasibleCosts = Math.max(maxFeasibleCosts, entry);
+        }
+      }
+    }
+
+    int[] result = new int[rowCount];
+    Arrays.fill(result, UNASSIGNED);
+    if (rowCount == 0 || columnCount == 0) {
+      return result;
+    }
+
+    // Replace infeasible entries with costs higher than those of any set of feasible assignments,
+    // so that assigning one more feasible pair is always preferred. Make sure the potentials the
+    // algorithm computes (bounded by the number of assignments times the highest costs) can't
+    // overflow.
+    int assignmentCount = Math.min(rowCount, columnCount);
+    long infeasibleCosts = Math.addExact(
+        Math.multiplyExact(assignmentCount, Math.addExact(maxFeasibleCosts, 1)),
+        1
+    );
+    Math.multiplyExact(Math.multiplyExact(infeasibleCosts, assignmentCount + 1), 2);
+
+    boolean transposed = rowCount > columnCount;
+    long[][] matrix = transposed ? transpose(costs) : costs;
+    int[] columnsByRow = solveWithRowsNotExceedingColumns(matrix, infeasibleCosts);
+
+    for (int row = 0; row < columnsByRow.length; row++) {
+      int column = columnsByRow[row];
+      if (column == UNASSIGNED || matrix[row][column] == INFEASIBLE) {
+        continue;
+      }
+      if (transposed) {
+        result[column] = row;
+      }
+      else {
+        result[row] = column;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Solves the assignment problem for a matrix with at most as many rows as columns.
+   *
+   * @param costs The cost matrix.
+   * @param infeasibleCosts The costs to be used for infeasible entries.
+   * @return The column assigned to each row.
+   */
+  private static int[] solveWithRowsNotExceedingColumns(long[][] costs, long infeasibleCosts) {
+    int rowCount = costs.length;
+    int columnCount = costs[0].length;
+
+    // Arrays are indexed starting with 1, with index 0 being used as a sentinel.
+    long[] rowPotentials = new long[rowCount + 1];
+    long[] columnPotentials = new long[columnCount + 1];
+    int[] rowsByColumn = new int[columnCount + 1];
+    int[] predecessors = new int[columnCount + 1];
+    long[] minSlacks = new long[columnCount + 1];
+    boolean[] visited = new boolean[columnCount + 1];
+
+    for (int row = 1; row <= rowCount; row++) {
+      rowsByColumn[0] = row;
+      int currentColumn = 0;
+      Arrays.fill(minSlacks, Long.MAX_VALUE);
+      Arrays.fill(visited, false);
+
+      // Find an augmenting path from the current row to an unassigned column.
+      do {
+        visited[currentColumn] = true;
+        int currentRow = rowsByColumn[currentColumn];
+        long delta = Long.MAX_VALUE;
+        int nextColumn = 0;
+        for (int column = 1; column <= columnCount; column++) {
+          if (visited[column]) {
+            continue;
+          }
+          long entry = costs[currentRow - 1][column - 1];
+          long slack = (entry == INFEASIBLE ? infeasibleCosts : entry)
+              - rowPotentials[currentRow] - columnPotentials[column];
+          if (slack < minSlacks[column]) {
+            minSlacks[column] = slack;
+            predecessors[column] = currentColumn;
+          }
+          if (minSlacks[column] < delta) {
+            delta = minSlacks[column];
+            nextColumn = column;
+          }
+        }
+        for (int column = 0; column <= columnCount; column++) {
+          if (visited[column]) {
+            rowPotentials[rowsByColumn[column]] += delta;
+            columnPotentials[column] -= delta;
+          }
+          else {
+            minSlacks[column] -= delta;
+          }
+        }
+        currentColumn = nextColumn;
+      }
+      while (rowsByColumn[currentColumn] != 0);
+
+      // Flip the assignments along the augmenting path.
+      do {
+        int previousColumn = predecessors[currentColumn];
+        rowsByColumn[currentColumn] = rowsByColumn[previousColumn];
+        currentColumn = previousColumn;
+      }
+      while (currentColumn != 0);
+    }
+
+    int[] columnsByRow = new int[rowCount];
+    Arrays.fill(columnsByRow, UNASSIGNED);
+    for (int column = 1; column <= columnCount; column++) {
+      if (rowsByColumn[column] != 0) {
+        columnsByRow[rowsByColumn[column] - 1] = column - 1;
+      }
+    }
+    return columnsByRow;
+  }
+
+  private static long[][] transpose(long[][] costs) {
+    long[][] result = new long[costs[0].length][costs.length];
+    for (int row = 0; row < costs.length; row++) {
+      for (int column = 0; column < costs[row].length; column++) {
+        result[column][row] = costs[row][column];
+      }
+    }
+    return result;
+  }
+}
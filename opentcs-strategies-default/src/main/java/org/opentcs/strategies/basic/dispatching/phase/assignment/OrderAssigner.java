@@ -5,8 +5,10 @@ package org.opentcs.strategies.basic.dispatching.phase.assignment;
 import static java.util.Objects.requireNonNull;
 
 import jakarta.inject.Inject;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -18,6 +20,9 @@ import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.OrderConstants;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.strategies.basic.dispatching.AssignmentCandidate;
+import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
+import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration.OrderAssignmentStrategy;
+import org.opentcs.strategies.basic.dispatching.DispatcherMetrics;
 import org.opentcs.strategies.basic.dispatching.DriveOrderRouteAssigner;
 import org.opentcs.strategies.basic.dispatching.OrderReservationPool;
 import org.opentcs.strategies.basic.dispatching.TransportOrderUtil;
@@ -78,6 +83,18 @@ public class OrderAssigner {
    * Assigns routes to drive orders.
    */
   private final DriveOrderRouteAssigner driveOrderRouteAssigner;
+  /**
+   * Evaluates assignment candidates, optionally in parallel.
+   */
+  private final AssignmentCandidateEvaluator assignmentCandidateEvaluator;
+  /**
+   * The dispatcher configuration.
+   */
+  private final DefaultDispatcherConfiguration configuration;
+  /**
+   * The dispatcher's metrics.
+   */
+  private final DispatcherMetrics metrics;
 
   @Inject
   public OrderAssigner(
@@ -90,7 +107,10 @@ public class OrderAssigner {
       CompositeAssignmentCandidateSelectionFilter assignmentCandidateSelectionFilter,
       TransportOrderUtil transportOrderUtil,
       DispatchingStatusMarker dispatchingStatusMarker,
-      DriveOrderRouteAssigner driveOrderRouteAssigner
+      DriveOrderRouteAssigner driveOrderRouteAssigner,
+      AssignmentCandidateEvaluator assignmentCandidateEvaluator,
+      DefaultDispatcherConfiguration configuration,
+      DispatcherMetrics metrics
   ) {
     this.objectService = requireNonNull(objectService, "objectService");
     this.orderReservationPool = requireNonNull(orderReservationPool, "orderReservationPool");
@@ -117,6 +137,12 @@ public class OrderAssigner {
         driveOrderRouteAssigner,
         "driveOrderRouteAssigner"
     );
+    this.assignmentCandidateEvaluator = requireNonNull(
+        assignmentCandidateEvaluator,
+        "assignmentCandidateEvaluator"
+    );
+    this.configuration = requireNonNull(configuration, "configuration");
+    this.metrics = requireNonNull(metrics, "metrics");
   }
 
   /**
@@ -134,17 +160,20 @@ public class OrderAssigner {
         availableOrders.size(),
         availableVehicles.size()
     );
+    metrics.assignmentAttempted(availableVehicles.size(), availableOrders.size());
 
     AssignmentState assignmentState = new AssignmentState();
-    if (availableVehicles.size() < availableOrders.size()) {
-      availableVehicles.stream()
-          .sorted(vehicleComparator)
-          .forEach(vehicle -> tryAssignOrder(vehicle, availableOrders, assignmentState));
+    CandidateCache candidateCache = createCandidateCache(availableVehicles, availableOrders);
+    if (configuration.orderAssignmentStrategy() == OrderAssignmentStrategy.MIN_TOTAL_COSTS) {
+      tryAssignWithMinTotalCosts(
+          availableVehicles,
+          availableOrders,
+          assignmentState,
+          candidateCache
+      );
     }
     else {
-      availableOrders.stream()
-          .sorted(orderComparator)
-          .forEach(order -> tryAssignVehicle(order, availableVehicles, assignmentState));
+      tryAssignGreedily(availableVehicles, availableOrders, assignmentState, candidateCache);
     }
 
     assignmentState.getFilteredOrders().values().stream()
@@ -161,16 +190,108 @@ public class OrderAssigner {
         .forEach(dispatchingStatusMarker::markOrderAsResumed);
   }
 
+  private void tryAssignGreedily(
+      Collection<Vehicle> availableVehicles,
+      Collection<TransportOrder> availableOrders,
+      AssignmentState assignmentState,
+      CandidateCache candidateCache
+  ) {
+    if (availableVehicles.size() < availableOrders.size()) {
+      availableVehicles.stream()
+          .sorted(vehicleComparator)
+          .forEach(
+              vehicle -> tryAssignOrder(vehicle, availableOrders, assignmentState, candidateCache)
+          );
+    }
+    else {
+      availableOrders.stream()
+          .sorted(orderComparator)
+          .forEach(
+              order -> tryAssignVehicle(order, availableVehicles, assignmentState, candidateCache)
+          );
+    }
+  }
+
+  /**
+   * Assigns as many of the given transport orders to the given vehicles as possible, with the
+   * lowest total routing costs of all assignments (instead of assigning the best candidate for one
+   * vehicle/transport order after the other).
+   *
+   * @param availableVehicles The vehicles available for order assignment.
+   * @param availableOrders The transport order available to be assigned to a vehicle.
+   * @param assignmentState The assignment state.
+   * @param candidateCache The cache for assignment candidates.
+   */
+  private void tryAssignWithMinTotalCosts(
+      Collection<Vehicle> availableVehicles,
+      Collection<TransportOrder> availableOrders,
+      AssignmentState assignmentState,
+      CandidateCache candidateCache
+  ) {
+    // Sort vehicles and transport orders so that results are deterministic.
+    List<Vehicle> vehicles = availableVehicles.stream().sorted(vehicleComparator).toList();
+    List<TransportOrder> orders = availableOrders.stream().sorted(orderComparator).toList();
+
+    AssignmentCandidate[][] candidates = new AssignmentCandidate[vehicles.size()][orders.size()];
+    long[][] costs = new long[vehicles.size()][orders.size()];
+    List<CandidateFilterResult> filterResults = new ArrayList<>();
+    for (int i = 0; i < vehicles.size(); i++) {
+      Vehicle vehicle = vehicles.get(i);
+      for (int j = 0; j < orders.size(); j++) {
+        TransportOrder order = orders.get(j);
+        costs[i][j] = MinimumCostAssignment.INFEASIBLE;
+        if (!vehicleCanTakeOrder(vehicle, order) || !orderAssignableToVehicle(order, vehicle)) {
+          continue;
+        }
+
+        Optional<AssignmentCandidate> candidate = candidateCache.getCandidate(vehicle, order);
+        if (candidate.isEmpty()) {
+          continue;
+        }
+
+        CandidateFilterResult filterResult = new CandidateFilterResult(
+            candidate.get(),
+            assignmentCandidateSelectionFilter.apply(candidate.get())
+        );
+        if (filterResult.isFiltered()) {
+          filterResults.add(filterResult);
+          continue;
+        }
+
+        candidates[i][j] = candidate.get();
+        costs[i][j] = candidate.get().getCompleteRoutingCosts();
+      }
+    }
+
+    int[] assignedOrders;
+    try {
+      assignedOrders = MinimumCostAssignment.solve(costs);
+    }
+    catch (ArithmeticException e) {
+      LOG.warn("Routing costs too high to minimize their total, assigning greedily instead.", e);
+      tryAssignGreedily(vehicles, orders, assignmentState, candidateCache);
+      return;
+    }
+
+    filterResults.stream()
+        .map(CandidateFilterResult::toFilterResult)
+        .forEach(filterResult -> assignmentState.addFilteredOrder(filterResult));
+
+    for (int i = 0; i < assignedOrders.length; i++) {
+      if (assignedOrders[i] != MinimumCostAssignment.UNASSIGNED) {
+        assignOrder(candidates[i][assignedOrders[i]], assignmentState);
+      }
+    }
+  }
+
   private void tryAssignOrder(
       Vehicle vehicle,
       Collection<TransportOrder> availableOrders,
-      AssignmentState assignmentState
+      AssignmentState assignmentState,
+      CandidateCache candidateCache
   ) {
     LOG.debug("Trying to find transport order for vehicle '{}'...", vehicle.getName());
 
-    Point vehiclePosition
-        = objectService.fetch(Point.class, vehicle.getCurrentPosition()).orElseThrow();
-
     Map<Boolean, List<CandidateFilterResult>> ordersSplitByFilter
         = availableOrders.stream()
             .filter(
@@ -178,7 +299,7 @@ public class OrderAssigner {
                     && vehicleCanTakeOrder(vehicle, order)
                     && orderAssignableToVehicle(order, vehicle))
             )
-            .map(order -> computeCandidate(vehicle, vehiclePosition, order))
+            .map(order -> candidateCache.getCandidate(vehicle, order))
             .filter(optCandidate -> optCandidate.isPresent())
             .map(optCandidate -> optCandidate.get())
             .map(
@@ -203,7 +324,8 @@ public class OrderAssigner {
   private void tryAssignVehicle(
       TransportOrder order,
       Collection<Vehicle> availableVehicles,
-      AssignmentState assignmentState
+      AssignmentState assignmentState,
+      CandidateCache candidateCache
   ) {
     LOG.debug("Trying to find vehicle for transport order '{}'...", order.getName());
 
@@ -214,13 +336,7 @@ public class OrderAssigner {
                     && vehicleCanTakeOrder(vehicle, order)
                     && orderAssignableToVehicle(order, vehicle))
             )
-            .map(
-                vehicle -> computeCandidate(
-                    vehicle,
-                    objectService.fetch(Point.class, vehicle.getCurrentPosition()).orElseThrow(),
-                    order
-                )
-            )
+            .map(vehicle -> candidateCache.getCandidate(vehicle, order))
             .filter(optCandidate -> optCandidate.isPresent())
             .map(optCandidate -> optCandidate.get())
             .map(
@@ -262,6 +378,7 @@ public class OrderAssigner {
           candidate.getDriveOrders()
       );
       assignmentState.getAssignedCandidates().add(candidate);
+      metrics.orderAssigned(false);
     }
     else {
       LOG.debug(
@@ -279,17 +396,76 @@ public class OrderAssigner {
           candidate.getVehicle().getReference()
       );
       assignmentState.getReservedCandidates().add(candidate);
+      metrics.orderAssigned(true);
       transportOrderUtil.abortOrder(candidate.getVehicle(), false);
     }
   }
 
+  /**
+   * Creates a cache for the assignment candidates for the given vehicles and transport orders.
+   * <p>
+   * If the candidates are to be evaluated in parallel, the cache is filled with the candidates for
+   * all pairs of vehicles and transport orders that may be assigned to each other. These are
+   * computed in parallel, based on the (immutable) vehicles, transport orders and vehicle positions
+   * determined here. Otherwise, the cache remains empty and candidates are computed on demand.
+   * </p>
+   *
+   * @param vehicles The vehicles.
+   * @param orders The transport orders.
+   * @return The cache.
+   */
+  private CandidateCache createCandidateCache(
+      Collection<Vehicle> vehicles,
+      Collection<TransportOrder> orders
+  ) {
+    Map<String, Point> vehiclePositions = new HashMap<>();
+    for (Vehicle vehicle : vehicles) {
+      vehiclePositions.put(
+          vehicle.getName(),
+          objectService.fetch(Point.class, vehicle.getCurrentPosition()).orElseThrow()
+      );
+    }
+    CandidateCache cache = new CandidateCache(vehiclePositions);
+
+    if (!assignmentCandidateEvaluator.isParallel()) {
+      return cache;
+    }
+
+    List<CandidateKey> keys = vehicles.stream()
+        .flatMap(
+            vehicle -> orders.stream()
+                .filter(
+                    order -> vehicleCanTakeOrder(vehicle, order)
+                        && orderAssignableToVehicle(order, vehicle)
+                )
+                .map(order -> new CandidateKey(vehicle, order))
+        )
+        .toList();
+    List<Optional<AssignmentCandidate>> candidates = assignmentCandidateEvaluator.evaluate(
+        keys,
+        key -> computeCandidate(
+            key.vehicle(),
+            vehiclePositions.get(key.vehicle().getName()),
+            key.order()
+        )
+    );
+    for (int i = 0; i < keys.size(); i++) {
+      cache.candidates.put(keys.get(i), candidates.get(i));
+    }
+
+    return cache;
+  }
+
   private Optional<AssignmentCandidate> computeCandidate(
       Vehicle vehicle,
       Point vehiclePosition,
       TransportOrder order
   ) {
-    return driveOrderRouteAssigner.tryAssignRoutes(order, vehicle, vehiclePosition)
-        .map(driveOrders -> new AssignmentCandidate(vehicle, order, driveOrders));
+    Optional<AssignmentCandidate> candidate
+        = driveOrderRouteAssigner.tryAssignRoutes(order, vehicle, vehiclePosition)
+            .map(driveOrders -> new AssignmentCandidate(vehicle, order, driveOrders));
+    metrics.routeComputed(candidate.isPresent());
+    return candidate;
   }
 
   private boolean vehicleCanTakeOrder(Vehicle vehicle, TransportOrder order) {
@@ -309,4 +485,40 @@ public class OrderAssigner {
                     || orderType.getName().equals(OrderConstants.TYPE_ANY)
             ));
   }
+
+  /**
+   * Identifies an assignment candidate by the vehicle and the transport order.
+   *
+   * @param vehicle The vehicle.
+   * @param order The transport order.
+   */
+  private record CandidateKey(Vehicle vehicle, TransportOrder order) {
+  }
+
+  /**
+   * Caches assignment candidates during a single call to
+   * {@link #tryAssignments(Collection, Collection)}.
+   */
+  private class CandidateCache {
+
+    /**
+     * The vehicles' current positions, mapped by vehicle name.
+     */
+    private final Map<String, Point> vehiclePositions;
+    /**
+     * The (possibly empty) candidates computed so far.
+     */
+    private final Map<CandidateKey, Optional<AssignmentCandidate>> candidates = new HashMap<>();
+
+    CandidateCache(Map<String, Point> vehiclePositions) {
+      this.vehiclePositions = requireNonNull(vehiclePositions, "vehiclePositions");
+    }
+
+    Optional<AssignmentCandidate> getCandidate(Vehicle vehicle, TransportOrder order) {
+      return candidates.computeIfAbsent(
+          new CandidateKey(vehicle, order),
+          key -> computeCandidate(vehicle, vehiclePositions.get(vehicle.getName()), order)
+      );
+    }
+  }
 }
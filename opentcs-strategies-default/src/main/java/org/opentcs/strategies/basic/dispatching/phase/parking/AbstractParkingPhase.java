@@ -5,8 +5,10 @@ package org.opentcs.strategies.basic.dispatching.phase.parking;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.opentcs.access.to.order.DestinationCreationTO;
 import org.opentcs.access.to.order.TransportOrderCreationTO;
 import org.opentcs.components.kernel.services.InternalTransportOrderService;
@@ -20,6 +22,7 @@ import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
 import org.opentcs.strategies.basic.dispatching.DriveOrderRouteAssigner;
 import org.opentcs.strategies.basic.dispatching.Phase;
 import org.opentcs.strategies.basic.dispatching.TransportOrderUtil;
+import org.opentcs.strategies.basic.dispatching.phase.TargetedPointsSupplier;
 import org.opentcs.strategies.basic.dispatching.selection.candidates.CompositeAssignmentCandidateSelectionFilter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -59,6 +62,10 @@ public abstract class AbstractParkingPhase
    * Assigns routes to drive orders.
    */
   private final DriveOrderRouteAssigner driveOrderRouteAssigner;
+  /**
+   * Finds all points which are currently targeted by vehicles.
+   */
+  private final TargetedPointsSupplier targetedPointsSupplier;
   /**
    * Indicates whether this component is initialized.
    */
@@ -70,7 +77,8 @@ public abstract class AbstractParkingPhase
       CompositeAssignmentCandidateSelectionFilter assignmentCandidateSelectionFilter,
       TransportOrderUtil transportOrderUtil,
       DefaultDispatcherConfiguration configuration,
-      DriveOrderRouteAssigner driveOrderRouteAssigner
+      DriveOrderRouteAssigner driveOrderRouteAssigner,
+      TargetedPointsSupplier targetedPointsSupplier
   ) {
     this.orderService = requireNonNull(orderService, "orderService");
     this.parkingPosSupplier = requireNonNull(parkingPosSupplier, "parkingPosSupplier");
@@ -84,6 +92,7 @@ public abstract class AbstractParkingPhase
         driveOrderRouteAssigner,
         "driveOrderRouteAssigner"
     );
+    this.targetedPointsSupplier = requireNonNull(targetedPointsSupplier, "targetedPointsSupplier");
   }
 
   @Override
@@ -121,9 +130,35 @@ public abstract class AbstractParkingPhase
     return configuration;
   }
 
+  /**
+   * Returns the points currently targeted by vehicles.
+   * <p>
+   * The returned set is modifiable, so it can be passed to
+   * {@link #createParkingOrder(Vehicle, Set)} for a number of vehicles in turn.
+   * </p>
+   *
+   * @return The points currently targeted by vehicles.
+   */
+  protected Set<Point> fetchTargetedPoints() {
+    return new HashSet<>(targetedPointsSupplier.getTargetedPoints());
+  }
+
   protected void createParkingOrder(Vehicle vehicle) {
+    createParkingOrder(vehicle, fetchTargetedPoints());
+  }
+
+  /**
+   * Creates a parking order for the given vehicle, considering the given points as targeted by
+   * vehicles.
+   * If the parking order is assigned to the vehicle, its parking position is added to the given
+   * points.
+   *
+   * @param vehicle The vehicle.
+   * @param targetedPoints The points currently targeted by vehicles.
+   */
+  protected void createParkingOrder(Vehicle vehicle, Set<Point> targetedPoints) {
     // Get a suitable parking position for the vehicle.
-    Optional<Point> parkPos = parkingPosSupplier.findParkingPosition(vehicle);
+    Optional<Point> parkPos = parkingPosSupplier.findParkingPosition(vehicle, targetedPoints);
     LOG.debug("Parking position for {}: {}", vehicle, parkPos);
     // If we could not find a suitable parking position at all, just leave the vehicle where it is.
     if (!parkPos.isPresent()) {
@@ -155,6 +190,7 @@ public abstract class AbstractParkingPhase
           candidate.get().getTransportOrder(),
           candidate.get().getDriveOrders()
       );
+      targetedPoints.add(parkPos.get());
     }
     else {
       // Mark the order as failed, since the vehicle cannot execute it.
@@ -7,6 +7,8 @@ import static java.util.Objects.requireNonNull;
 import jakarta.annotation.Nullable;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.opentcs.components.kernel.RouteSelector;
@@ -15,6 +17,7 @@ import org.opentcs.components.kernel.services.InternalPlantModelService;
 import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
+import org.opentcs.strategies.basic.dispatching.SelectedRouteCosts;
 import org.opentcs.strategies.basic.dispatching.phase.TargetedPointsSupplier;
 
 /**
@@ -37,13 +40,9 @@ public abstract class AbstractParkingPositionSupplier
    */
   private final TargetedPointsSupplier targetedPointsSupplier;
   /**
-   * The dispatcher configuration.
+   * Determines the costs of the routes to parking positions.
    */
-  private final DefaultDispatcherConfiguration configuration;
-  /**
-   * Selects a route from a set of routes.
-   */
-  private final RouteSelector routeSelector;
+  private final SelectedRouteCosts selectedRouteCosts;
   /**
    * Indicates whether this component is initialized.
    */
@@ -55,7 +54,7 @@ public abstract class AbstractParkingPositionSupplier
    * @param plantModelService The plant model service.
    * @param router A router for computing distances to parking positions.
    * @param targetedPointsSupplier Finds all points which are currently targeted by vehicles.
-   * @param configuration The dispatcher configuraton.
+   * @param configuration The dispatcher configuration.
    * @param routeSelector Selects a route from a set of routes.
    */
   protected AbstractParkingPositionSupplier(
@@ -68,8 +67,7 @@ public abstract class AbstractParkingPositionSupplier
     this.plantModelService = requireNonNull(plantModelService, "plantModelService");
     this.router = requireNonNull(router, "router");
     this.targetedPointsSupplier = requireNonNull(targetedPointsSupplier, "targetedPointsSupplier");
-    this.configuration = requireNonNull(configuration, "configuration");
-    this.routeSelector = requireNonNull(routeSelector, "routeSelector");
+    this.selectedRouteCosts = new SelectedRouteCosts(router, routeSelector, configuration);
   }
 
   @Override
@@ -113,6 +111,16 @@ public abstract class AbstractParkingPositionSupplier
     return router;
   }
 
+  @Override
+  public Optional<Point> findParkingPosition(Vehicle vehicle) {
+    requireNonNull(vehicle, "vehicle");
+
+    return findParkingPosition(vehicle, targetedPointsSupplier.getTargetedPoints());
+  }
+
+  @Override
+  public abstract Optional<Point> findParkingPosition(Vehicle vehicle, Set<Point> targetedPoints);
+
   /**
    * Returns a set of parking positions usable for the given vehicle (usable in the sense that these
    * positions are not occupied by other vehicles).
@@ -121,12 +129,23 @@ public abstract class AbstractParkingPositionSupplier
    * @return The set of usable parking positions.
    */
   protected Set<Point> findUsableParkingPositions(Vehicle vehicle) {
+    return findUsableParkingPositions(vehicle, targetedPointsSupplier.getTargetedPoints());
+  }
+
+  /**
+   * Returns a set of parking positions usable for the given vehicle (usable in the sense that these
+   * positions are not occupied or targeted by other vehicles).
+   *
+   * @param vehicle The vehicles to find parking positions for.
+   * @param targetedPoints The points currently targeted by vehicles.
+   * @return The set of usable parking positions.
+   */
+  protected Set<Point> findUsableParkingPositions(Vehicle vehicle, Set<Point> targetedPoints) {
+    requireNonNull(vehicle, "vehicle");
+    requireNonNull(targetedPoints, "targetedPoints");
+
     return fetchAllParkingPositions().stream()
-        .filter(
-            point -> isPointUnoccupiedFor(
-                point, vehicle, targetedPointsSupplier.getTargetedPoints()
-            )
-        )
+        .filter(point -> isPointUnoccupiedFor(point, vehicle, targetedPoints))
         .collect(Collectors.toSet());
   }
 
@@ -150,11 +169,10 @@ public abstract class AbstractParkingPositionSupplier
     Point vehiclePos
         = plantModelService.fetch(Point.class, vehicle.getCurrentPosition()).orElseThrow();
 
-    return points.stream()
-        .map(point -> parkingPositionCandidate(vehicle, vehiclePos, point))
-        .filter(candidate -> candidate.costs < Long.MAX_VALUE)
-        .min(Comparator.comparingLong(candidate -> candidate.costs))
-        .map(candidate -> candidate.point)
+    return selectedRouteCosts.getCosts(vehicle, vehiclePos, points).entrySet().stream()
+        .filter(entry -> entry.getValue() < Long.MAX_VALUE)
+        .min(Comparator.comparingLong(Map.Entry::getValue))
+        .map(Map.Entry::getKey)
         .orElse(null);
   }
 
@@ -214,37 +232,4 @@ public abstract class AbstractParkingPositionSupplier
     }
     return false;
   }
-
-  private PointCandidate parkingPositionCandidate(
-      Vehicle vehicle,
-      Point srcPosition,
-      Point destPosition
-  ) {
-    return new PointCandidate(
-        destPosition,
-        routeSelector
-            .select(
-                router.getRoutes(
-                    vehicle,
-                    srcPosition,
-                    destPosition,
-                    Set.of(),
-                    configuration.maxRoutesToConsider()
-                )
-            )
-            .map(route -> route.getCosts())
-            .orElse(Long.MAX_VALUE)
-    );
-  }
-
-  private static class PointCandidate {
-
-    private final Point point;
-    private final long costs;
-
-    PointCandidate(Point point, long costs) {
-      this.point = point;
-      this.costs = costs;
-    }
-  }
 }
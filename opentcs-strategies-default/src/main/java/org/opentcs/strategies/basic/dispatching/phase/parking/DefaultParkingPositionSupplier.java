@@ -55,14 +55,15 @@ public class DefaultParkingPositionSupplier
   }
 
   @Override
-  public Optional<Point> findParkingPosition(final Vehicle vehicle) {
+  public Optional<Point> findParkingPosition(final Vehicle vehicle, Set<Point> targetedPoints) {
     requireNonNull(vehicle, "vehicle");
+    requireNonNull(targetedPoints, "targetedPoints");
 
     if (vehicle.getCurrentPosition() == null) {
       return Optional.empty();
     }
 
-    Set<Point> parkingPosCandidates = findUsableParkingPositions(vehicle);
+    Set<Point> parkingPosCandidates = findUsableParkingPositions(vehicle, targetedPoints);
 
     if (parkingPosCandidates.isEmpty()) {
       LOG.debug("No parking position candidates found.");
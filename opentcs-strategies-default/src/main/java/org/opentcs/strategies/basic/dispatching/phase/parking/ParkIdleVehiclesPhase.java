@@ -5,11 +5,14 @@ package org.opentcs.strategies.basic.dispatching.phase.parking;
 import static java.util.Objects.requireNonNull;
 
 import jakarta.inject.Inject;
+import java.util.Set;
 import org.opentcs.components.kernel.services.InternalTransportOrderService;
+import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
 import org.opentcs.strategies.basic.dispatching.DriveOrderRouteAssigner;
 import org.opentcs.strategies.basic.dispatching.TransportOrderUtil;
+import org.opentcs.strategies.basic.dispatching.phase.TargetedPointsSupplier;
 import org.opentcs.strategies.basic.dispatching.selection.candidates.CompositeAssignmentCandidateSelectionFilter;
 import org.opentcs.strategies.basic.dispatching.selection.vehicles.CompositeParkVehicleSelectionFilter;
 import org.slf4j.Logger;
@@ -40,7 +43,8 @@ public class ParkIdleVehiclesPhase
       TransportOrderUtil transportOrderUtil,
       DefaultDispatcherConfiguration configuration,
       CompositeParkVehicleSelectionFilter vehicleSelectionFilter,
-      DriveOrderRouteAssigner driveOrderRouteAssigner
+      DriveOrderRouteAssigner driveOrderRouteAssigner,
+      TargetedPointsSupplier targetedPointsSupplier
   ) {
     super(
         orderService,
@@ -48,7 +52,8 @@ public class ParkIdleVehiclesPhase
         assignmentCandidateSelectionFilter,
         transportOrderUtil,
         configuration,
-        driveOrderRouteAssigner
+        driveOrderRouteAssigner,
+        targetedPointsSupplier
     );
     this.vehicleSelectionFilter = requireNonNull(vehicleSelectionFilter, "vehicleSelectionFilter");
   }
@@ -61,8 +66,9 @@ public class ParkIdleVehiclesPhase
 
     LOG.debug("Looking for vehicles to send to parking positions...");
 
+    Set<Point> targetedPoints = fetchTargetedPoints();
     getOrderService().fetch(Vehicle.class).stream()
         .filter(vehicle -> vehicleSelectionFilter.apply(vehicle).isEmpty())
-        .forEach(vehicle -> createParkingOrder(vehicle));
+        .forEach(vehicle -> createParkingOrder(vehicle, targetedPoints));
   }
 }
@@ -4,6 +4,7 @@ package org.opentcs.strategies.basic.dispatching.phase.parking;
 
 import jakarta.annotation.Nonnull;
 import java.util.Optional;
+import java.util.Set;
 import org.opentcs.components.Lifecycle;
 import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
@@ -27,4 +28,29 @@ public interface ParkingPositionSupplier
       @Nonnull
       Vehicle vehicle
   );
+
+  /**
+   * Returns a suitable parking position for the given vehicle, considering the given points as
+   * targeted by vehicles.
+   * <p>
+   * This allows callers looking for parking positions for a number of vehicles to determine the
+   * targeted points only once.
+   * The default implementation ignores the given points and delegates to
+   * {@link #findParkingPosition(Vehicle)}.
+   * </p>
+   *
+   * @param vehicle The vehicle to find a parking position for.
+   * @param targetedPoints The points currently targeted by vehicles.
+   * @return A parking position for the given vehicle, or an empty Optional, if no suitable parking
+   * position is available.
+   */
+  @Nonnull
+  default Optional<Point> findParkingPosition(
+      @Nonnull
+      Vehicle vehicle,
+      @Nonnull
+      Set<Point> targetedPoints
+  ) {
+    return findParkingPosition(vehicle);
+  }
 }
@@ -65,15 +65,16 @@ public class PrioritizedParkingPositionSupplier
   }
 
   @Override
-  public Optional<Point> findParkingPosition(final Vehicle vehicle) {
+  public Optional<Point> findParkingPosition(final Vehicle vehicle, Set<Point> targetedPoints) {
     requireNonNull(vehicle, "vehicle");
+    requireNonNull(targetedPoints, "targetedPoints");
 
     if (vehicle.getCurrentPosition() == null) {
       return Optional.empty();
     }
 
     int currentPriority = priorityOfCurrentPosition(vehicle);
-    Set<Point> parkingPosCandidates = findUsableParkingPositions(vehicle).stream()
+    Set<Point> parkingPosCandidates = findUsableParkingPositions(vehicle, targetedPoints).stream()
         .filter(point -> hasHigherPriorityThan(point, currentPriority))
         .collect(Collectors.toSet());
 
@@ -5,12 +5,14 @@ package org.opentcs.strategies.basic.dispatching.phase.parking;
 import static java.util.Objects.requireNonNull;
 
 import jakarta.inject.Inject;
+import java.util.Set;
 import org.opentcs.components.kernel.services.InternalTransportOrderService;
 import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
 import org.opentcs.strategies.basic.dispatching.DriveOrderRouteAssigner;
 import org.opentcs.strategies.basic.dispatching.TransportOrderUtil;
+import org.opentcs.strategies.basic.dispatching.phase.TargetedPointsSupplier;
 import org.opentcs.strategies.basic.dispatching.selection.candidates.CompositeAssignmentCandidateSelectionFilter;
 import org.opentcs.strategies.basic.dispatching.selection.vehicles.CompositeReparkVehicleSelectionFilter;
 import org.slf4j.Logger;
@@ -41,7 +43,8 @@ public class PrioritizedReparkPhase
       DefaultDispatcherConfiguration configuration,
       CompositeReparkVehicleSelectionFilter vehicleSelectionFilter,
       ParkingPositionPriorityComparator priorityComparator,
-      DriveOrderRouteAssigner driveOrderRouteAssigner
+      DriveOrderRouteAssigner driveOrderRouteAssigner,
+      TargetedPointsSupplier targetedPointsSupplier
   ) {
     super(
         orderService,
@@ -49,7 +52,8 @@ public class PrioritizedReparkPhase
         assignmentCandidateSelectionFilter,
         transportOrderUtil,
         configuration,
-        driveOrderRouteAssigner
+        driveOrderRouteAssigner,
+        targetedPointsSupplier
     );
     this.vehicleSelectionFilter = requireNonNull(vehicleSelectionFilter, "vehicleSelectionFilter");
     this.priorityComparator = requireNonNull(priorityComparator, "priorityComparator");
@@ -65,6 +69,7 @@ public class PrioritizedReparkPhase
 
     LOG.debug("Looking for parking vehicles to send to higher prioritized parking positions...");
 
+    Set<Point> targetedPoints = fetchTargetedPoints();
     getOrderService().fetch(Vehicle.class).stream()
         .filter(vehicle -> vehicleSelectionFilter.apply(vehicle).isEmpty())
         .sorted((vehicle1, vehicle2) -> {
@@ -75,6 +80,6 @@ public class PrioritizedReparkPhase
               = getOrderService().fetch(Point.class, vehicle2.getCurrentPosition()).orElseThrow();
           return priorityComparator.compare(point1, point2);
         })
-        .forEach(vehicle -> createParkingOrder(vehicle));
+        .forEach(vehicle -> createParkingOrder(vehicle, targetedPoints));
   }
 }
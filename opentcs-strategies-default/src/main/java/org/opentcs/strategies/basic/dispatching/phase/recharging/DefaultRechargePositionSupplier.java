@@ -23,6 +23,7 @@ import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.DriveOrder;
 import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
+import org.opentcs.strategies.basic.dispatching.SelectedRouteCosts;
 import org.opentcs.strategies.basic.dispatching.phase.TargetedPointsSupplier;
 
 /**
@@ -36,22 +37,14 @@ public class DefaultRechargePositionSupplier
    * The plant model service.
    */
   private final InternalPlantModelService plantModelService;
-  /**
-   * Our router.
-   */
-  private final Router router;
   /**
    * Finds all points which are currently targeted by vehicles.
    */
   private final TargetedPointsSupplier targetedPointsSupplier;
   /**
-   * The dispatcher configuration.
-   */
-  private final DefaultDispatcherConfiguration configuration;
-  /**
-   * Selects a route from a set of routes.
+   * Determines the costs of the routes to recharge locations' access points.
    */
-  private final RouteSelector routeSelector;
+  private final SelectedRouteCosts selectedRouteCosts;
   /**
    * Indicates whether this component is enabled.
    */
@@ -75,10 +68,8 @@ public class DefaultRechargePositionSupplier
       RouteSelector routeSelector
   ) {
     this.plantModelService = requireNonNull(plantModelService, "plantModelService");
-    this.router = requireNonNull(router, "router");
     this.targetedPointsSupplier = requireNonNull(targetedPointsSupplier, "targetedPointsSupplier");
-    this.configuration = requireNonNull(configuration, "configuration");
-    this.routeSelector = requireNonNull(routeSelector, "routeSelector");
+    this.selectedRouteCosts = new SelectedRouteCosts(router, routeSelector, configuration);
   }
 
   @Override
@@ -108,16 +99,23 @@ public class DefaultRechargePositionSupplier
   public List<DriveOrder.Destination> findRechargeSequence(Vehicle vehicle) {
     requireNonNull(vehicle, "vehicle");
 
+    return findRechargeSequence(vehicle, targetedPointsSupplier.getTargetedPoints());
+  }
+
+  @Override
+  public List<DriveOrder.Destination> findRechargeSequence(
+      Vehicle vehicle,
+      Set<Point> targetedPoints
+  ) {
+    requireNonNull(vehicle, "vehicle");
+    requireNonNull(targetedPoints, "targetedPoints");
+
     if (vehicle.getCurrentPosition() == null) {
       return List.of();
     }
 
     Map<Location, Set<Point>> rechargeLocations
-        = findLocationsForOperation(
-            vehicle.getRechargeOperation(),
-            vehicle,
-            targetedPointsSupplier.getTargetedPoints()
-        );
+        = findLocationsForOperation(vehicle.getRechargeOperation(), vehicle, targetedPoints);
 
     String assignedRechargeLocationName = vehicle.getProperty(PROPKEY_ASSIGNED_RECHARGE_LOCATION);
     if (assignedRechargeLocationName != null) {
@@ -144,8 +142,16 @@ public class DefaultRechargePositionSupplier
   private Location findCheapestLocation(Map<Location, Set<Point>> locations, Vehicle vehicle) {
     Point curPos = plantModelService.fetch(Point.class, vehicle.getCurrentPosition()).orElseThrow();
 
+    Map<Point, Long> accessPointCosts = selectedRouteCosts.getCosts(
+        vehicle,
+        curPos,
+        locations.values().stream()
+            .flatMap(accessPoints -> accessPoints.stream())
+            .collect(Collectors.toSet())
+    );
+
     return locations.entrySet().stream()
-        .map(entry -> bestAccessPointCandidate(vehicle, curPos, entry.getKey(), entry.getValue()))
+        .map(entry -> bestAccessPointCandidate(entry.getKey(), entry.getValue(), accessPointCosts))
         .filter(candidate -> candidate.isPresent())
         .map(candidate -> candidate.get())
         .min(Comparator.comparingLong(candidate -> candidate.costs))
@@ -234,27 +240,15 @@ public class DefaultRechargePositionSupplier
   }
 
   private Optional<LocationCandidate> bestAccessPointCandidate(
-      Vehicle vehicle,
-      Point srcPosition,
       Location location,
-      Set<Point> destPositions
+      Set<Point> destPositions,
+      Map<Point, Long> costsByDestPosition
   ) {
     return destPositions.stream()
         .map(
             point -> new LocationCandidate(
                 location,
-                routeSelector
-                    .select(
-                        router.getRoutes(
-                            vehicle,
-                            srcPosition,
-                            point,
-                            Set.of(),
-                            configuration.maxRoutesToConsider()
-                        )
-                    )
-                    .map(route -> route.getCosts())
-                    .orElse(Long.MAX_VALUE)
+                costsByDestPosition.getOrDefault(point, Long.MAX_VALUE)
             )
         )
         .min(Comparator.comparingLong(candidate -> candidate.costs));
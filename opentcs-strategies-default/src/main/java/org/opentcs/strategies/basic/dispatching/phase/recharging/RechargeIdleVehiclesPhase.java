@@ -6,8 +6,10 @@ import static java.util.Objects.requireNonNull;
 
 import jakarta.inject.Inject;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.opentcs.access.to.order.DestinationCreationTO;
 import org.opentcs.access.to.order.TransportOrderCreationTO;
 import org.opentcs.components.kernel.services.InternalTransportOrderService;
@@ -21,6 +23,7 @@ import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
 import org.opentcs.strategies.basic.dispatching.DriveOrderRouteAssigner;
 import org.opentcs.strategies.basic.dispatching.Phase;
 import org.opentcs.strategies.basic.dispatching.TransportOrderUtil;
+import org.opentcs.strategies.basic.dispatching.phase.TargetedPointsSupplier;
 import org.opentcs.strategies.basic.dispatching.selection.candidates.CompositeAssignmentCandidateSelectionFilter;
 import org.opentcs.strategies.basic.dispatching.selection.vehicles.CompositeRechargeVehicleSelectionFilter;
 import org.slf4j.Logger;
@@ -61,6 +64,10 @@ public class RechargeIdleVehiclesPhase
    * Assigns routes to drive orders.
    */
   private final DriveOrderRouteAssigner driveOrderRouteAssigner;
+  /**
+   * Finds all points which are currently targeted by vehicles.
+   */
+  private final TargetedPointsSupplier targetedPointsSupplier;
   /**
    * Indicates whether this component is initialized.
    */
@@ -74,7 +81,8 @@ public class RechargeIdleVehiclesPhase
       CompositeRechargeVehicleSelectionFilter vehicleSelectionFilter,
       TransportOrderUtil transportOrderUtil,
       DefaultDispatcherConfiguration configuration,
-      DriveOrderRouteAssigner driveOrderRouteAssigner
+      DriveOrderRouteAssigner driveOrderRouteAssigner,
+      TargetedPointsSupplier targetedPointsSupplier
   ) {
     this.orderService = requireNonNull(orderService, "orderService");
     this.rechargePosSupplier = requireNonNull(rechargePosSupplier, "rechargePosSupplier");
@@ -89,6 +97,7 @@ public class RechargeIdleVehiclesPhase
         driveOrderRouteAssigner,
         "driveOrderRouteAssigner"
     );
+    this.targetedPointsSupplier = requireNonNull(targetedPointsSupplier, "targetedPointsSupplier");
   }
 
   @Override
@@ -124,13 +133,16 @@ public class RechargeIdleVehiclesPhase
       return;
     }
 
+    // Determine the targeted points only once, and keep them up to date with the orders assigned.
+    Set<Point> targetedPoints = new HashSet<>(targetedPointsSupplier.getTargetedPoints());
     orderService.fetch(Vehicle.class).stream()
         .filter(vehicle -> vehicleSelectionFilter.apply(vehicle).isEmpty())
-        .forEach(vehicle -> createRechargeOrder(vehicle));
+        .forEach(vehicle -> createRechargeOrder(vehicle, targetedPoints));
   }
 
-  private void createRechargeOrder(Vehicle vehicle) {
-    List<DriveOrder.Destination> rechargeDests = rechargePosSupplier.findRechargeSequence(vehicle);
+  private void createRechargeOrder(Vehicle vehicle, Set<Point> targetedPoints) {
+    List<DriveOrder.Destination> rechargeDests
+        = rechargePosSupplier.findRechargeSequence(vehicle, targetedPoints);
     LOG.debug("Recharge sequence for {}: {}", vehicle, rechargeDests);
 
     if (rechargeDests.isEmpty()) {
@@ -168,6 +180,9 @@ public class RechargeIdleVehiclesPhase
           candidate.get().getTransportOrder(),
           candidate.get().getDriveOrders()
       );
+      targetedPoints.add(
+          candidate.get().getDriveOrders().getLast().getRoute().getFinalDestinationPoint()
+      );
     }
     else {
       // Mark the order as failed, since the vehicle cannot execute it.
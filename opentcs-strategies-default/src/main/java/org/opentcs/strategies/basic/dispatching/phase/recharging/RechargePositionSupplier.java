@@ -4,7 +4,9 @@ package org.opentcs.strategies.basic.dispatching.phase.recharging;
 
 import jakarta.annotation.Nonnull;
 import java.util.List;
+import java.util.Set;
 import org.opentcs.components.Lifecycle;
+import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.DriveOrder;
 
@@ -30,4 +32,29 @@ public interface RechargePositionSupplier
       @Nonnull
       Vehicle vehicle
   );
+
+  /**
+   * Returns a sequence of destinations for recharging the given vehicle, considering the given
+   * points as targeted by vehicles.
+   * <p>
+   * This allows callers looking for recharge sequences for a number of vehicles to determine the
+   * targeted points only once.
+   * The default implementation ignores the given points and delegates to
+   * {@link #findRechargeSequence(Vehicle)}.
+   * </p>
+   *
+   * @param vehicle The vehicle to be recharged.
+   * @param targetedPoints The points currently targeted by vehicles.
+   * @return A sequence of destinations including operations for recharging the given vehicle. If
+   * no suitable sequence was found, the returned sequence will be empty.
+   */
+  @Nonnull
+  default List<DriveOrder.Destination> findRechargeSequence(
+      @Nonnull
+      Vehicle vehicle,
+      @Nonnull
+      Set<Point> targetedPoints
+  ) {
+    return findRechargeSequence(vehicle);
+  }
 }
@@ -5,10 +5,12 @@ package org.opentcs.strategies.basic.dispatching.selection.candidates;
 import static java.util.Objects.requireNonNull;
 
 import jakarta.inject.Inject;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 import org.opentcs.strategies.basic.dispatching.AssignmentCandidate;
+import org.opentcs.strategies.basic.dispatching.DispatcherMetrics;
 import org.opentcs.strategies.basic.dispatching.selection.AssignmentCandidateSelectionFilter;
 
 /**
@@ -22,18 +24,30 @@ public class CompositeAssignmentCandidateSelectionFilter
    * The {@link AssignmentCandidateSelectionFilter}s.
    */
   private final Set<AssignmentCandidateSelectionFilter> filters;
+  /**
+   * The dispatcher's metrics.
+   */
+  private final DispatcherMetrics metrics;
 
   @Inject
   public CompositeAssignmentCandidateSelectionFilter(
-      Set<AssignmentCandidateSelectionFilter> filters
+      Set<AssignmentCandidateSelectionFilter> filters,
+      DispatcherMetrics metrics
   ) {
     this.filters = requireNonNull(filters, "filters");
+    this.metrics = requireNonNull(metrics, "metrics");
   }
 
   @Override
   public Collection<String> apply(AssignmentCandidate candidate) {
-    return filters.stream()
-        .flatMap(filter -> filter.apply(candidate).stream())
-        .collect(Collectors.toList());
+    List<String> reasons = new ArrayList<>();
+    for (AssignmentCandidateSelectionFilter filter : filters) {
+      Collection<String> filterReasons = filter.apply(candidate);
+      if (!filterReasons.isEmpty()) {
+        metrics.filtered("candidate", filter);
+        reasons.addAll(filterReasons);
+      }
+    }
+    return reasons;
   }
 }
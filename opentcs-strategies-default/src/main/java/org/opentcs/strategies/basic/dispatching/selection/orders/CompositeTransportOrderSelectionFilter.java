@@ -5,10 +5,12 @@ package org.opentcs.strategies.basic.dispatching.selection.orders;
 import static java.util.Objects.requireNonNull;
 
 import jakarta.inject.Inject;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 import org.opentcs.data.order.TransportOrder;
+import org.opentcs.strategies.basic.dispatching.DispatcherMetrics;
 import org.opentcs.strategies.basic.dispatching.selection.TransportOrderSelectionFilter;
 
 /**
@@ -22,16 +24,30 @@ public class CompositeTransportOrderSelectionFilter
    * The {@link TransportOrderSelectionFilter}s.
    */
   private final Set<TransportOrderSelectionFilter> filters;
+  /**
+   * The dispatcher's metrics.
+   */
+  private final DispatcherMetrics metrics;
 
   @Inject
-  public CompositeTransportOrderSelectionFilter(Set<TransportOrderSelectionFilter> filters) {
+  public CompositeTransportOrderSelectionFilter(
+      Set<TransportOrderSelectionFilter> filters,
+      DispatcherMetrics metrics
+  ) {
     this.filters = requireNonNull(filters, "filters");
+    this.metrics = requireNonNull(metrics, "metrics");
   }
 
   @Override
   public Collection<String> apply(TransportOrder order) {
-    return filters.stream()
-        .flatMap(filter -> filter.apply(order).stream())
-        .collect(Collectors.toList());
+    List<String> reasons = new ArrayList<>();
+    for (TransportOrderSelectionFilter filter : filters) {
+      Collection<String> filterReasons = filter.apply(order);
+      if (!filterReasons.isEmpty()) {
+        metrics.filtered("transport_order", filter);
+        reasons.addAll(filterReasons);
+      }
+    }
+    return reasons;
   }
 }
@@ -5,10 +5,12 @@ package org.opentcs.strategies.basic.dispatching.selection.vehicles;
 import static java.util.Objects.requireNonNull;
 
 import jakarta.inject.Inject;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 import org.opentcs.data.model.Vehicle;
+import org.opentcs.strategies.basic.dispatching.DispatcherMetrics;
 import org.opentcs.strategies.basic.dispatching.selection.ReparkVehicleSelectionFilter;
 
 /**
@@ -22,16 +24,30 @@ public class CompositeReparkVehicleSelectionFilter
    * The {@link ParkVehicleSelectionFilter}s.
    */
   private final Set<ReparkVehicleSelectionFilter> filters;
+  /**
+   * The dispatcher's metrics.
+   */
+  private final DispatcherMetrics metrics;
 
   @Inject
-  public CompositeReparkVehicleSelectionFilter(Set<ReparkVehicleSelectionFilter> filters) {
+  public CompositeReparkVehicleSelectionFilter(
+      Set<ReparkVehicleSelectionFilter> filters,
+      DispatcherMetrics metrics
+  ) {
     this.filters = requireNonNull(filters, "filters");
+    this.metrics = requireNonNull(metrics, "metrics");
   }
 
   @Override
   public Collection<String> apply(Vehicle vehicle) {
-    return filters.stream()
-        .flatMap(filter -> filter.apply(vehicle).stream())
-        .collect(Collectors.toList());
+    List<String> reasons = new ArrayList<>();
+    for (ReparkVehicleSelectionFilter filter : filters) {
+      Collection<String> filterReasons = filter.apply(vehicle);
+      if (!filterReasons.isEmpty()) {
+        metrics.filtered("repark_vehicle", filter);
+        reasons.addAll(filterReasons);
+      }
+    }
+    return reasons;
   }
 }
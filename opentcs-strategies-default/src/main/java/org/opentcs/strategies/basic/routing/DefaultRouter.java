@@ -8,14 +8,18 @@ import static org.opentcs.util.Assertions.checkArgument;
 
 import jakarta.inject.Inject;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import org.opentcs.components.kernel.Router;
 import org.opentcs.components.kernel.routing.GroupMapper;
@@ -65,6 +69,11 @@ public class DefaultRouter
    * The routes selected for each vehicle.
    */
   private final Map<Vehicle, List<DriveOrder>> routesByVehicle = new ConcurrentHashMap<>();
+  /**
+   * The number of route computations currently done with point routers outside of this instance's
+   * lock.
+   */
+  private final AtomicInteger unsynchronizedComputations = new AtomicInteger();
   /**
    * Indicates whether this component is enabled.
    */
@@ -127,7 +136,10 @@ public class DefaultRouter
     requireNonNull(paths, "paths");
 
     synchronized (this) {
-      pointRouterProvider.updateRoutingTopology(paths);
+      // Routing graphs may only be modified in place if no point router is still in use. Since new
+      // unsynchronized computations can only start while holding this lock, it suffices to check
+      // for ones that are still in progress.
+      pointRouterProvider.updateRoutingTopology(paths, unsynchronizedComputations.get() == 0);
     }
   }
 
@@ -143,11 +155,13 @@ public class DefaultRouter
 
       for (Map.Entry<String, PointRouter> curEntry : pointRouterProvider
           .getPointRoutersByVehicleGroup().entrySet()) {
+        OrderRouteParameterStruct params
+            = new OrderRouteParameterStruct(driveOrders, curEntry.getValue());
         // Get all points at the first location at which a vehicle of the current
         // type can execute the desired operation and check if an acceptable route
         // originating in one of them exists.
         for (Point curStartPoint : getDestinationPoints(driveOrders[0])) {
-          if (isRoutable(curStartPoint, driveOrders, 1, curEntry.getValue())) {
+          if (isRoutable(curStartPoint, params, 1)) {
             result.addAll(getVehiclesByRoutingGroup(curEntry.getKey()));
             break;
           }
@@ -167,9 +181,11 @@ public class DefaultRouter
           = driveOrderList.toArray(new DriveOrder[driveOrderList.size()]);
 
       PointRouter generalPointRouter = pointRouterProvider.getGeneralPointRouter(order);
+      OrderRouteParameterStruct params
+          = new OrderRouteParameterStruct(driveOrders, generalPointRouter);
 
       for (Point curStartPoint : getDestinationPoints(driveOrders[0])) {
-        if (!isRoutable(curStartPoint, driveOrders, 1, generalPointRouter)) {
+        if (!isRoutable(curStartPoint, params, 1)) {
           return false;
         }
       }
@@ -235,21 +251,30 @@ public class DefaultRouter
     requireNonNull(transportOrder, "transportOrder");
     checkArgument(maxRouteCount > 0, "maxRouteCount must be greater than zero");
 
+    PointRouter pointRouter;
     synchronized (this) {
-      // TODO: Once maxRouteCount is actually used, ensure to cap it at
-      //       DefaultRouterConfiguration.routeComputationLimit() using Math.min().
+      pointRouter = pointRouterProvider.getPointRouterForVehicle(vehicle, transportOrder);
+      unsynchronizedComputations.incrementAndGet();
+    }
+
+    // Point routers are not modified after their creation, and routing graphs are not modified in
+    // place while computations are in progress, so the actual route computation does not need to
+    // be synchronized. This way, routes for different transport orders/vehicles may be computed in
+    // parallel.
+    try {
       List<DriveOrder> driveOrderList = transportOrder.getFutureDriveOrders();
       DriveOrder[] driveOrders = driveOrderList.toArray(new DriveOrder[driveOrderList.size()]);
-      PointRouter pointRouter = pointRouterProvider.getPointRouterForVehicle(
-          vehicle,
-          transportOrder
-      );
       OrderRouteParameterStruct params = new OrderRouteParameterStruct(driveOrders, pointRouter);
-      OrderRouteResultStruct resultStruct = new OrderRouteResultStruct(driveOrderList.size());
-      computeCheapestOrderRoute(sourcePoint, params, 0, resultStruct);
-      return (resultStruct.bestCosts == Long.MAX_VALUE)
-          ? Set.of()
-          : Set.of(List.of(resultStruct.bestRoute));
+      int routeCount = Math.max(1, Math.min(maxRouteCount, configuration.routeComputationLimit()));
+
+      Set<List<Route>> result = new LinkedHashSet<>();
+      for (HopCandidate candidate : computeCheapestOrderRoutes(sourcePoint, params, routeCount)) {
+        result.add(toRoutes(sourcePoint, candidate.getDestinationPoints(), params));
+      }
+      return Collections.unmodifiableSet(result);
+    }
+    finally {
+      unsynchronizedComputations.decrementAndGet();
     }
   }
 
@@ -292,6 +317,31 @@ public class DefaultRouter
     }
   }
 
+  @Override
+  public Map<Point, Long> getRouteCosts(
+      Vehicle vehicle,
+      Point sourcePoint,
+      Set<Point> destinationPoints,
+      Set<TCSResourceReference<?>> resourcesToAvoid
+  ) {
+    requireNonNull(vehicle, "vehicle");
+    requireNonNull(sourcePoint, "sourcePoint");
+    requireNonNull(destinationPoints, "destinationPoints");
+    requireNonNull(resourcesToAvoid, "resourcesToAvoid");
+
+    synchronized (this) {
+      SingleSourceRoutes routes = pointRouterProvider
+          .getPointRouterForVehicle(vehicle, resourcesToAvoid)
+          .getRoutesFrom(sourcePoint);
+
+      Map<Point, Long> result = new HashMap<>();
+      for (Point destinationPoint : destinationPoints) {
+        result.put(destinationPoint, routes.getCosts(destinationPoint));
+      }
+      return result;
+    }
+  }
+
   @Deprecated
   @Override
   public long getCosts(
@@ -354,112 +404,167 @@ public class DefaultRouter
    * vehicle to process a given list of drive orders.
    *
    * @param startPoint The point at which the route is supposed to start.
-   * @param driveOrders The list of drive orders, in the order they are to be
-   * processed.
+   * @param params A struct describing parameters for the route to be checked.
    * @param nextHopIndex The index of the next drive order in the list.
-   * @param pointRouter The point router to use.
    * @return <code>true</code> if, and only if, at least one route exists which
    * would allow a vehicle of the given type to process the whole list of drive
    * orders.
    */
   private boolean isRoutable(
       Point startPoint,
-      DriveOrder[] driveOrders,
-      int nextHopIndex,
-      PointRouter pointRouter
+      OrderRouteParameterStruct params,
+      int nextHopIndex
   ) {
     assert startPoint != null;
-    assert driveOrders != null;
-    assert pointRouter != null;
-
-    if (nextHopIndex < driveOrders.length) {
-      for (Point curPoint : getDestinationPoints(driveOrders[nextHopIndex])) {
-        // Check if there is a route from the starting point to the current
-        // point and if the rest of the orders are routable from there, too.
-        if (pointRouter.getCosts(startPoint, curPoint) != INFINITE_COSTS
-            && isRoutable(curPoint, driveOrders, nextHopIndex + 1, pointRouter)) {
-          // If it was possible to reach the end of the order list from here,
-          // propagate the result back to the caller.
-          return true;
+    assert params != null;
+
+    // Determine the points reachable after each hop, considering each point only once per hop.
+    Set<Point> reachablePoints = Set.of(startPoint);
+    for (int hopIndex = nextHopIndex; hopIndex < params.driveOrders.length; hopIndex++) {
+      Set<Point> destPoints = getDestinationPoints(params.driveOrders[hopIndex]);
+      Set<Point> nextReachablePoints = new HashSet<>();
+      for (Point curPoint : reachablePoints) {
+        SingleSourceRoutes routes = params.getRoutesFrom(curPoint);
+        for (Point curDestPoint : destPoints) {
+          if (!nextReachablePoints.contains(curDestPoint)
+              && routes.getCosts(curDestPoint) != INFINITE_COSTS) {
+            nextReachablePoints.add(curDestPoint);
+          }
         }
       }
-      // If we haven't found an acceptable route, return false.
-      return false;
+      // If no destination point of the current hop is reachable, there is no acceptable route.
+      if (nextReachablePoints.isEmpty()) {
+        return false;
+      }
+      reachablePoints = nextReachablePoints;
     }
     // If we have reached the end of the list, it seems we have found a route.
-    else {
-      return true;
-    }
+    return true;
   }
 
   /**
-   * Compute the cheapest route along a list of drive orders/checkpoints.
+   * Computes the cheapest routes along a list of drive orders/checkpoints.
+   * <p>
+   * The routes are computed hop by hop (i.e. drive order by drive order). For every destination
+   * point of a hop, only the cheapest (partial) routes reaching it are kept and extended in the
+   * next hop. As the costs of a route are the sum of the costs of its hops, this yields the same
+   * results as examining every combination of destination points, while the effort only grows
+   * linearly with the number of drive orders.
+   * </p>
    *
-   * @param startPoint The current checkpoint which to start at.
-   * @param params A struct describing parameters for the route to be computed.
-   * @param hopIndex The current index in the list of drive orders/checkpoints.
-   * @param result A struct for keeping the (partial) result in.
+   * @param startPoint The point at which the routes start.
+   * @param params A struct describing parameters for the routes to be computed.
+   * @param routeCount The maximum number of routes to compute.
+   * @return The final hops of the cheapest routes, sorted by their costs. If no route exists, the
+   * returned list is empty.
    */
-  private void computeCheapestOrderRoute(
+  private List<HopCandidate> computeCheapestOrderRoutes(
       Point startPoint,
       OrderRouteParameterStruct params,
-      int hopIndex,
-      OrderRouteResultStruct result
+      int routeCount
   ) {
     assert startPoint != null;
     assert params != null;
-    assert result != null;
-    // If we haven't reached the final drive order in the list, yet...
-    if (hopIndex < params.driveOrders.length) {
-      // ...try every possible destination point of the current drive order as
-      // the next checkpoint and recursively route from there.
-      final long currentRouteCosts = result.currentCosts;
-      Set<Point> destPoints = getDestinationPoints(params.driveOrders[hopIndex]);
-      // If the set of destination points contains the starting point, keep only
-      // that one. This is just a shortcut - it is the cheapest way to go.
-      if (!configuration.routeToCurrentPosition() && destPoints.contains(startPoint)) {
-        LOG.debug("Shortcutting route to {}", startPoint);
-        destPoints.clear();
-        destPoints.add(startPoint);
-      }
-      boolean routable = false;
-      for (Point curDestPoint : destPoints) {
-        final long hopCosts = params.pointRouter.getCosts(startPoint, curDestPoint);
-        if (hopCosts == INFINITE_COSTS) {
-          continue;
+
+    List<HopCandidate> candidates = List.of(new HopCandidate(startPoint, 0, null));
+    for (DriveOrder driveOrder : params.driveOrders) {
+      Set<Point> destPoints = getDestinationPoints(driveOrder);
+      Map<Point, List<HopCandidate>> candidatesByDestPoint = new HashMap<>();
+      for (HopCandidate candidate : candidates) {
+        // If the set of destination points contains the current point, keep only
+        // that one. This is just a shortcut - it is the cheapest way to go.
+        Set<Point> candidateDestPoints = destPoints;
+        if (!configuration.routeToCurrentPosition() && destPoints.contains(candidate.point)) {
+          LOG.debug("Shortcutting route to {}", candidate.point);
+          candidateDestPoints = Set.of(candidate.point);
         }
-        // Get the list of steps for the route of the current drive order.
-        List<Route.Step> steps = params.pointRouter.getRouteSteps(startPoint, curDestPoint);
-        if (steps.isEmpty()) {
-          // If the list of steps returned is empty, we're already at the
-          // destination point of the drive order - create a single step
-          // without a path.
-          steps = new ArrayList<>(1);
-          steps.add(new Route.Step(null, null, startPoint, Vehicle.Orientation.UNDEFINED, 0, 0));
+
+        SingleSourceRoutes routes = params.getRoutesFrom(candidate.point);
+        for (Point curDestPoint : candidateDestPoints) {
+          final long hopCosts = routes.getCosts(curDestPoint);
+          if (hopCosts == INFINITE_COSTS) {
+            continue;
+          }
+          addIfCheaper(
+              candidatesByDestPoint.computeIfAbsent(curDestPoint, point -> new ArrayList<>()),
+              new HopCandidate(curDestPoint, candidate.costs + hopCosts, candidate),
+              routeCount
+          );
         }
-        // Create a route from the list of steps gathered.
-        Route hopRoute = new Route(steps);
-        // Place the computed route in the result struct.
-        result.currentRoute[hopIndex] = hopRoute;
-        // Calculate the costs for the route so far, too.
-        result.currentCosts = currentRouteCosts + hopRoute.getCosts();
-        computeCheapestOrderRoute(curDestPoint, params, hopIndex + 1, result);
-        // Remember that we did find at least one route that works.
-        routable = true;
       }
-      if (!routable) {
-        // Setting currentCosts is not strictly necessary for this algorithm,
-        // but might help with debugging.
-        result.currentCosts = Long.MAX_VALUE;
+
+      candidates = candidatesByDestPoint.values().stream()
+          .flatMap(List::stream)
+          .collect(Collectors.toList());
+      if (candidates.isEmpty()) {
+        return List.of();
       }
     }
-    // If we have reached the final drive order, ...
-    else // If the route computed is cheaper than the best route found so far,
-      // replace the latter.
-      if (result.currentCosts < result.bestCosts) {
-        System.arraycopy(result.currentRoute, 0, result.bestRoute, 0, result.currentRoute.length);
-        result.bestCosts = result.currentCosts;
+
+    return candidates.stream()
+        .sorted(Comparator.comparingLong(candidate -> candidate.costs))
+        .limit(routeCount)
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Adds the given candidate to the given list of candidates, if it is among the cheapest ones.
+   *
+   * @param candidates The list of candidates, sorted by their costs.
+   * @param candidate The candidate to be added.
+   * @param maxCandidates The maximum number of candidates to be kept in the list.
+   */
+  private void addIfCheaper(
+      List<HopCandidate> candidates,
+      HopCandidate candidate,
+      int maxCandidates
+  ) {
+    // Bound: A candidate that is not cheaper than all of the ones kept so far cannot be part of
+    // any of the cheapest routes.
+    if (candidates.size() >= maxCandidates
+        && candidate.costs >= candidates.get(candidates.size() - 1).costs) {
+      return;
+    }
+
+    int index = 0;
+    while (index < candidates.size() && candidates.get(index).costs <= candidate.costs) {
+      index++;
+    }
+    candidates.add(index, candidate);
+    if (candidates.size() > maxCandidates) {
+      candidates.remove(candidates.size() - 1);
+    }
+  }
+
+  /**
+   * Creates the routes for a sequence of hops.
+   *
+   * @param sourcePoint The point at which the first hop starts.
+   * @param destinationPoints The destination points of the hops.
+   * @param params A struct describing parameters for the routes to be created.
+   * @return The routes for the hops.
+   */
+  private List<Route> toRoutes(
+      Point sourcePoint,
+      Point[] destinationPoints,
+      OrderRouteParameterStruct params
+  ) {
+    List<Route> result = new ArrayList<>(destinationPoints.length);
+    Point hopSourcePoint = sourcePoint;
+    for (Point hopDestinationPoint : destinationPoints) {
+      List<Route.Step> steps
+          = params.getRoutesFrom(hopSourcePoint).getRouteSteps(hopDestinationPoint);
+      if (steps.isEmpty()) {
+        // If the list of steps returned is empty, we're already at the
+        // destination point of the drive order - create a single step
+        // without a path.
+        steps = new ArrayList<>(1);
+        steps.add(new Route.Step(null, null, hopSourcePoint, Vehicle.Orientation.UNDEFINED, 0, 0));
       }
+      result.add(new Route(steps));
+      hopSourcePoint = hopDestinationPoint;
+    }
+    return result;
   }
 
   /**
@@ -547,6 +652,10 @@ public class DefaultRouter
      * The point router for the vehicle type.
      */
     private final PointRouter pointRouter;
+    /**
+     * The routes from source points already looked at, mapped by their source points.
+     */
+    private final Map<Point, SingleSourceRoutes> routesBySourcePoint = new HashMap<>();
 
     /**
      * Creates a new OrderRouteParameterStruct.
@@ -562,42 +671,63 @@ public class DefaultRouter
       this.driveOrders = requireNonNull(driveOrders, "driveOrders");
       this.pointRouter = requireNonNull(pointRouter, "pointRouter");
     }
+
+    /**
+     * Returns the routes from the given source point.
+     * Within the scope of a single request, the routes from any source point are looked up only
+     * once, so the results can be reused for all destination points.
+     *
+     * @param sourcePoint The source point.
+     * @return The routes from the given source point.
+     */
+    SingleSourceRoutes getRoutesFrom(Point sourcePoint) {
+      return routesBySourcePoint.computeIfAbsent(sourcePoint, pointRouter::getRoutesFrom);
+    }
   }
 
   /**
-   * A struct supporting cheapest route calculation.
+   * A (partial) route to a destination point of a hop.
    */
-  private static final class OrderRouteResultStruct {
+  private static final class HopCandidate {
 
     /**
-     * The (possibly partial) route currently being examined.
+     * The hop's destination point.
      */
-    private Route[] currentRoute;
+    private final Point point;
     /**
-     * The costs of the route currently being examined.
+     * The costs of the (partial) route up to and including this hop.
      */
-    private long currentCosts;
+    private final long costs;
     /**
-     * The best route found so far.
+     * The previous hop, or {@code null}, if this is the route's starting point.
      */
-    private Route[] bestRoute;
+    private final HopCandidate predecessor;
+
     /**
-     * The costs of the best route found so far.
+     * Creates a new instance.
+     *
+     * @param point The hop's destination point.
+     * @param costs The costs of the (partial) route up to and including this hop.
+     * @param predecessor The previous hop, or {@code null}, if this is the route's starting point.
      */
-    private long bestCosts;
+    HopCandidate(Point point, long costs, HopCandidate predecessor) {
+      this.point = requireNonNull(point, "point");
+      this.costs = costs;
+      this.predecessor = predecessor;
+    }
 
     /**
-     * Creates a new OrderRouteResultStruct.
+     * Returns the destination points of all hops of the route leading to (and including) this one.
      *
-     * @param driveOrderCount The number of <code>DriveOrder</code>s in the
-     * <code>TransportOrder</code> for which this struct is to store the
-     * routing result.
+     * @return The destination points, in the order in which they are to be travelled.
      */
-    OrderRouteResultStruct(int driveOrderCount) {
-      currentRoute = new Route[driveOrderCount];
-      currentCosts = 0;
-      bestRoute = new Route[driveOrderCount];
-      bestCosts = Long.MAX_VALUE;
+    Point[] getDestinationPoints() {
+      List<Point> result = new ArrayList<>();
+      for (HopCandidate hop = this; hop.predecessor != null; hop = hop.predecessor) {
+        result.add(hop.point);
+      }
+      Collections.reverse(result);
+      return result.toArray(new Point[result.size()]);
     }
   }
 }
@@ -30,4 +30,26 @@ public interface DefaultRouterConfiguration {
       changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY
   )
   boolean routeToCurrentPosition();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+          "The maximum number of point routers for transport orders with resources to be avoided "
+              + "that are cached and reused for transport orders avoiding the same resources.",
+          "Least recently used point routers are discarded first. 0 disables caching."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START
+  )
+  int derivedPointRouterCacheSize();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+          "The maximum number of routing graphs for transport orders with resources to be avoided "
+              + "that are cached and reused for transport orders avoiding the same resources.",
+          "Least recently used routing graphs are discarded first. 0 disables caching."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START
+  )
+  int derivedGraphCacheSize();
 }
@@ -61,4 +61,38 @@ public interface PointRouter {
 
     return getCosts(srcPoint.getReference(), destPoint.getReference());
   }
+
+  /**
+   * Returns the cheapest routes from the given source point to any destination points.
+   * <p>
+   * Callers that need the costs and/or steps of routes from the same source point to a number of
+   * destination points should prefer this method over repeated calls to
+   * {@link #getCosts(Point, Point)} and {@link #getRouteSteps(Point, Point)}, as implementations
+   * may compute all of these routes with a single search.
+   * The default implementation simply delegates to these methods.
+   * </p>
+   *
+   * @param srcPoint The source point.
+   * @return The cheapest routes from the given source point.
+   */
+  default SingleSourceRoutes getRoutesFrom(Point srcPoint) {
+    requireNonNull(srcPoint, "srcPoint");
+
+    return new SingleSourceRoutes() {
+      @Override
+      public Point getSourcePoint() {
+        return srcPoint;
+      }
+
+      @Override
+      public long getCosts(Point destPoint) {
+        return PointRouter.this.getCosts(srcPoint, destPoint);
+      }
+
+      @Override
+      public List<Route.Step> getRouteSteps(Point destPoint) {
+        return PointRouter.this.getRouteSteps(srcPoint, destPoint);
+      }
+    };
+  }
 }
@@ -0,0 +1,59 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.List;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.order.Route;
+
+/**
+ * Provides the cheapest routes from a single source point to any destination points.
+ * <p>
+ * Implementations are expected to compute the routes with as few searches as possible and to
+ * materialize route steps only when they are actually requested, so callers can cheaply compare
+ * the costs for a number of destination points and retrieve the route steps for only the
+ * cheapest one.
+ * </p>
+ */
+public interface SingleSourceRoutes {
+
+  /**
+   * Returns the source point of the routes.
+   *
+   * @return The source point.
+   */
+  @Nonnull
+  Point getSourcePoint();
+
+  /**
+   * Returns the costs for travelling the shortest route from the source point to the given
+   * destination point.
+   *
+   * @param destPoint The destination point.
+   * @return The costs for travelling the shortest route from the source point to the destination
+   * point.
+   * If no route exists, {@link PointRouter#INFINITE_COSTS INFINITE_COSTS} will be returned.
+   */
+  long getCosts(
+      @Nonnull
+      Point destPoint
+  );
+
+  /**
+   * Returns a list of route steps to travel from the source point to the given destination point.
+   *
+   * @param destPoint The destination point.
+   * @return A list of steps in the order they are to be travelled from the source point to the
+   * destination point.
+   * The returned list does not include a step for the source point.
+   * If source point and destination point are identical, the returned list will be empty.
+   * If no route exists, <code>null</code> will be returned.
+   */
+  @Nullable
+  List<Route.Step> getRouteSteps(
+      @Nonnull
+      Point destPoint
+  );
+}
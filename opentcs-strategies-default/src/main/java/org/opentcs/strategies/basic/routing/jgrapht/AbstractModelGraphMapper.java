@@ -7,6 +7,7 @@ import static java.util.Objects.requireNonNull;
 import jakarta.annotation.Nonnull;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -150,4 +151,68 @@ public abstract class AbstractModelGraphMapper
 
     return updatedGraph;
   }
+
+  @Override
+  public boolean updateGraphInPlace(
+      Collection<Path> paths,
+      Vehicle vehicle,
+      Graph<Vertex, Edge> graph
+  ) {
+    requireNonNull(paths, "paths");
+    requireNonNull(vehicle, "vehicle");
+    requireNonNull(graph, "graph");
+
+    LOG.debug("Updating graph for {} in place...", vehicle.getName());
+    long timeStampBefore = System.currentTimeMillis();
+
+    // First, remove the edges of all paths that have changed. Vertices are looked up by the points
+    // they represent, so only the edges between the paths' end points need to be looked at.
+    int removedEdgeCount = 0;
+    for (Path path : paths) {
+      Vertex sourceVertex = new Vertex(path.getSourcePoint());
+      Vertex destinationVertex = new Vertex(path.getDestinationPoint());
+      if (!graph.containsVertex(sourceVertex) || !graph.containsVertex(destinationVertex)) {
+        continue;
+      }
+
+      Set<Edge> edgesToRemove = new HashSet<>();
+      edgesToRemove.addAll(graph.getAllEdges(sourceVertex, destinationVertex));
+      edgesToRemove.addAll(graph.getAllEdges(destinationVertex, sourceVertex));
+      edgesToRemove.removeIf(edge -> !edge.getPath().getName().equals(path.getName()));
+      graph.removeAllEdges(edgesToRemove);
+      removedEdgeCount += edgesToRemove.size();
+    }
+
+    // Then, map all paths that have changed and add the corresponding edges.
+    Map<Edge, Double> changedEdges = pathEdgeMapper.translatePaths(paths, vehicle);
+    int addedEdgeCount = 0;
+    for (Map.Entry<Edge, Double> edgeEntry : changedEdges.entrySet()) {
+      Edge edge = edgeEntry.getKey();
+      Vertex pathSourceVertex = new Vertex(edge.getPath().getSourcePoint());
+      Vertex pathDestinationVertex = new Vertex(edge.getPath().getDestinationPoint());
+      if (!graph.containsVertex(pathSourceVertex)
+          || !graph.containsVertex(pathDestinationVertex)) {
+        continue;
+      }
+
+      if (edge.isTravellingReverse()) {
+        graph.addEdge(pathDestinationVertex, pathSourceVertex, edge);
+      }
+      else {
+        graph.addEdge(pathSourceVertex, pathDestinationVertex, edge);
+      }
+      graph.setEdgeWeight(edgeEntry.getKey(), edgeEntry.getValue());
+      addedEdgeCount++;
+    }
+
+    LOG.debug(
+        "Updated graph for {} in place in {} milliseconds ({} edges removed, {} edges added).",
+        vehicle.getName(),
+        System.currentTimeMillis() - timeStampBefore,
+        removedEdgeCount,
+        addedEdgeCount
+    );
+
+    return removedEdgeCount > 0 || addedEdgeCount > 0;
+  }
 }
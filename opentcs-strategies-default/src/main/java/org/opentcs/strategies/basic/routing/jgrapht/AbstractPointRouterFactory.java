@@ -127,11 +127,17 @@ public abstract class AbstractPointRouterFactory
     );
     // Make a single request for a route from one point to a different one to make sure the
     // point router is primed. (Some implementations are initialized lazily.)
-    if (points.size() >= 2) {
+    // Point routers for derived graphs are usually created for single transport orders, so priming
+    // them would only add the costs of a shortest path query that is not needed.
+    if (points.size() >= 2 && !isDerived(graphResult)) {
       Iterator<Point> pointIter = points.iterator();
       router.getRouteSteps(pointIter.next(), pointIter.next());
     }
 
     return router;
   }
+
+  private boolean isDerived(GraphResult graphResult) {
+    return !graphResult.getExcludedPoints().isEmpty() || !graphResult.getExcludedPaths().isEmpty();
+  }
 }
@@ -0,0 +1,835 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import org.jgrapht.Graph;
+import org.opentcs.components.kernel.routing.Edge;
+import org.opentcs.strategies.basic.routing.PointRouter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A table of the costs of the cheapest routes between all pairs of points in a routing graph.
+ * <p>
+ * Points and edges of the routing graph are mapped to dense indices. The costs and the
+ * predecessor edges of the shortest path trees for all source points are kept in primitive arrays
+ * indexed by source and destination point, so the costs of a route can be looked up in constant
+ * time and the edges of a route can be collected in time proportional to their number.
+ * The costs are stored as {@code int} values if the edge weights of the routing graph allow it, and
+ * as {@code long} values otherwise.
+ * </p>
+ * <p>
+ * Instances are immutable and may be used by multiple threads concurrently.
+ * </p>
+ */
+public class CostTable {
+
+  /**
+   * The maximum number of points in a routing graph that a cost table can be created for.
+   */
+  public static final int MAX_POINT_COUNT = 46340;
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(CostTable.class);
+  /**
+   * Marks infinite costs in tables with {@code int} costs.
+   */
+  private static final int INT_INFINITE_COSTS = Integer.MAX_VALUE;
+  /**
+   * Marks the absence of a predecessor edge.
+   */
+  private static final int NO_EDGE = -1;
+  /**
+   * Identifies cost table files.
+   */
+  private static final int FILE_MAGIC = 0x4f435454;
+  /**
+   * The version of the cost table file format.
+   */
+  private static final int FILE_VERSION = 1;
+  /**
+   * The size of a cost table file's header, in bytes.
+   */
+  private static final int FILE_HEADER_SIZE = 5 * Integer.BYTES;
+  /**
+   * The indexed routing graph.
+   */
+  private final Topology topology;
+  /**
+   * The costs by source and destination point, if stored as {@code int} values.
+   */
+  @Nullable
+  private final IntBuffer intCosts;
+  /**
+   * The costs by source and destination point, if stored as {@code long} values.
+   */
+  @Nullable
+  private final LongBuffer longCosts;
+  /**
+   * The indices of the last edges on the routes by source and destination point.
+   */
+  private final IntBuffer predecessors;
+
+  private CostTable(
+      Topology topology,
+      @Nullable
+      IntBuffer intCosts,
+      @Nullable
+      LongBuffer longCosts,
+      IntBuffer predecessors
+  ) {
+    this.topology = requireNonNull(topology, "topology");
+    checkArgument(
+        (intCosts == null) != (longCosts == null),
+        "Exactly one of intCosts and longCosts must be given"
+    );
+    this.intCosts = intCosts;
+    this.longCosts = longCosts;
+    this.predecessors = requireNonNull(predecessors, "predecessors");
+  }
+
+  /**
+   * Creates a cost table for the given routing graph.
+   * <p>
+   * If a cache directory is given and it contains a file with a table for an identical routing
+   * graph, that file is memory-mapped instead of computing the table. Otherwise, the computed table
+   * is written to the cache directory.
+   * </p>
+   *
+   * @param graph The routing graph.
+   * @param cacheDirectory The directory to cache tables in, or {@code null}, if tables are not to
+   * be cached.
+   * @return The cost table.
+   * @throws IllegalArgumentException If the routing graph contains more than
+   * {@link #MAX_POINT_COUNT} points.
+   */
+  @Nonnull
+  public static CostTable create(
+      @Nonnull
+      Graph<Vertex, Edge> graph,
+      @Nullable
+      File cacheDirectory
+  )
+      throws IllegalArgumentException {
+    requireNonNull(graph, "graph");
+
+    Topology topology = Topology.of(graph);
+
+    if (cacheDirectory == null) {
+      return compute(topology);
+    }
+
+    File cacheFile = new File(cacheDirectory, "costtable-" + topology.hash() + ".bin");
+    Optional<CostTable> cachedTable = load(cacheFile, topology);
+    if (cachedTable.isPresent()) {
+      LOG.debug("Mapped cost table from {}.", cacheFile);
+      return cachedTable.get();
+    }
+
+    CostTable table = compute(topology);
+    table.write(cacheFile);
+    return table;
+  }
+
+  /**
+   * Returns a cost table for the given routing graph, derived from this table.
+   * <p>
+   * The given routing graph is expected to contain the same points as the one this table was
+   * created for, with only some of its edges being removed, added or changed (e.g. after paths
+   * were locked or unlocked). It may also be the very graph this table was created for, modified in
+   * place since. Only the shortest path trees that are affected by the changes are recomputed.
+   * </p>
+   *
+   * @param graph The routing graph.
+   * @return The cost table for the given routing graph, or an empty Optional, if it cannot be
+   * derived from this table and needs to be created from scratch.
+   */
+  @Nonnull
+  public Optional<CostTable> repair(
+      @Nonnull
+      Graph<Vertex, Edge> graph
+  ) {
+    requireNonNull(graph, "graph");
+
+    Topology newTopology = Topology.of(graph);
+    if (!Arrays.equals(topology.pointNames, newTopology.pointNames)
+        || (intCosts != null && !newTopology.intCostsSufficient)) {
+      return Optional.empty();
+    }
+
+    int pointCount = topology.getPointCount();
+
+    // Map the old edges to the new ones and determine the edges that could make routes cheaper.
+    Map<String, Integer> newEdgeIndices = new HashMap<>();
+    for (int edge = 0; edge < newTopology.getEdgeCount(); edge++) {
+      newEdgeIndices.put(newTopology.edgeKey(edge), edge);
+    }
+    int[] newEdgesByOldEdge = new int[topology.getEdgeCount()];
+    boolean[] edgesWithIncreasedCosts = new boolean[topology.getEdgeCount()];
+    boolean[] edgesWithDecreasedCosts = new boolean[newTopology.getEdgeCount()];
+    Arrays.fill(edgesWithDecreasedCosts, true);
+    for (int edge = 0; edge < topology.getEdgeCount(); edge++) {
+      Integer newEdge = newEdgeIndices.get(topology.edgeKey(edge));
+      if (newEdge == null
+          || topology.edgeSources[edge] != newTopology.edgeSources[newEdge]
+          || topology.edgeTargets[edge] != newTopology.edgeTargets[newEdge]) {
+        newEdgesByOldEdge[edge] = NO_EDGE;
+        edgesWithIncreasedCosts[edge] = true;
+        continue;
+      }
+      newEdgesByOldEdge[edge] = newEdge;
+      edgesWithIncreasedCosts[edge]
+          = newTopology.edgeWeights[newEdge] > topology.edgeWeights[edge];
+      edgesWithDecreasedCosts[newEdge]
+          = newTopology.edgeWeights[newEdge] < topology.edgeWeights[edge];
+    }
+
+    int[] cheaperEdges = IntStream.range(0, newTopology.getEdgeCount())
+        .filter(edge -> edgesWithDecreasedCosts[edge])
+        .toArray();
+
+    int[] newPredecessors = new int[pointCount * pointCount];
+    int[] newIntCosts = intCosts != null ? new int[pointCount * pointCount] : null;
+    long[] newLongCosts = longCosts != null ? new long[pointCount * pointCount] : null;
+    if (newIntCosts != null) {
+      intCosts.get(0, newIntCosts);
+    }
+    else {
+      longCosts.get(0, newLongCosts);
+    }
+
+    // A shortest path tree has to be recomputed if it contains an edge that has become more
+    // expensive, or if an edge that has become cheaper provides a cheaper route to its target.
+    boolean[] dirtySources = new boolean[pointCount];
+    for (int source = 0; source < pointCount; source++) {
+      int offset = source * pointCount;
+      for (int dest = 0; dest < pointCount; dest++) {
+        int edge = predecessors.get(offset + dest);
+        if (edge == NO_EDGE) {
+          newPredecessors[offset + dest] = NO_EDGE;
+          continue;
+        }
+        dirtySources[source] |= edgesWithIncreasedCosts[edge];
+        newPredecessors[offset + dest] = newEdgesByOldEdge[edge];
+      }
+
+      for (int i = 0; i < cheaperEdges.length && !dirtySources[source]; i++) {
+        dirtySources[source] = providesCheaperRoute(source, cheaperEdges[i], newTopology);
+      }
+    }
+
+    int[] sources = IntStream.range(0, pointCount).filter(i -> dirtySources[i]).toArray();
+    LOG.debug(
+        "Repairing {} out of {} shortest path trees in cost table.",
+        sources.length,
+        pointCount
+    );
+    computeShortestPathTrees(newTopology, sources, newPredecessors, newIntCosts, newLongCosts);
+
+    return Optional.of(
+        new CostTable(
+            newTopology,
+            newIntCosts != null ? IntBuffer.wrap(newIntCosts) : null,
+            newLongCosts != null ? LongBuffer.wrap(newLongCosts) : null,
+            IntBuffer.wrap(newPredecessors)
+        )
+    );
+  }
+
+  /**
+   * Returns the number of points in the table.
+   *
+   * @return The number of points in the table.
+   */
+  public int getPointCount() {
+    return topology.getPointCount();
+  }
+
+  /**
+   * Returns the index of the point with the given name.
+   *
+   * @param pointName The name of the point.
+   * @return The index of the point, or -1, if the table does not contain a point with the given
+   * name.
+   */
+  public int getPointIndex(
+      @Nonnull
+      String pointName
+  ) {
+    requireNonNull(pointName, "pointName");
+
+    return topology.pointIndices.getOrDefault(pointName, -1);
+  }
+
+  /**
+   * Returns the name of the point with the given index.
+   *
+   * @param pointIndex The index of the point.
+   * @return The name of the point.
+   */
+  @Nonnull
+  public String getPointName(int pointIndex) {
+    return topology.pointNames[pointIndex];
+  }
+
+  /**
+   * Returns the costs for travelling the shortest route from one point to another.
+   *
+   * @param sourceIndex The index of the source point.
+   * @param destIndex The index of the destination point.
+   * @return The costs for travelling the shortest route from the source point to the destination
+   * point, or {@link PointRouter#INFINITE_COSTS INFINITE_COSTS}, if no route exists.
+   */
+  public long getCosts(int sourceIndex, int destIndex) {
+    int index = sourceIndex * topology.getPointCount() + destIndex;
+    if (intCosts != null) {
+      int costs = intCosts.get(index);
+      return costs == INT_INFINITE_COSTS ? PointRouter.INFINITE_COSTS : costs;
+    }
+    return longCosts.get(index);
+  }
+
+  /**
+   * Returns the indices of the edges of the shortest route from one point to another.
+   *
+   * @param sourceIndex The index of the source point.
+   * @param destIndex The index of the destination point.
+   * @return The indices of the edges in the order they are to be travelled, or {@code null}, if no
+   * route exists. If source point and destination point are identical, the returned array will be
+   * empty.
+   */
+  @Nullable
+  public int[] getRouteEdges(int sourceIndex, int destIndex) {
+    if (sourceIndex == destIndex) {
+      return new int[0];
+    }
+    if (getCosts(sourceIndex, destIndex) == PointRouter.INFINITE_COSTS) {
+      return null;
+    }
+
+    int offset = sourceIndex * topology.getPointCount();
+    int edgeCount = 0;
+    int point = destIndex;
+    while (point != sourceIndex) {
+      point = topology.edgeSources[predecessors.get(offset + point)];
+      edgeCount++;
+    }
+
+    int[] result = new int[edgeCount];
+    point = destIndex;
+    for (int i = edgeCount - 1; i >= 0; i--) {
+      result[i] = predecessors.get(offset + point);
+      point = topology.edgeSources[result[i]];
+    }
+    return result;
+  }
+
+  /**
+   * Returns the edge with the given index.
+   *
+   * @param edgeIndex The index of the edge.
+   * @return The edge.
+   */
+  @Nonnull
+  public Edge getEdge(int edgeIndex) {
+    return topology.edges[edgeIndex];
+  }
+
+  /**
+   * Returns the index of the given edge's source point.
+   *
+   * @param edgeIndex The index of the edge.
+   * @return The index of the edge's source point.
+   */
+  public int getEdgeSource(int edgeIndex) {
+    return topology.edgeSources[edgeIndex];
+  }
+
+  /**
+   * Returns the index of the given edge's target point.
+   *
+   * @param edgeIndex The index of the edge.
+   * @return The index of the edge's target point.
+   */
+  public int getEdgeTarget(int edgeIndex) {
+    return topology.edgeTargets[edgeIndex];
+  }
+
+  /**
+   * Returns the weight of the given edge.
+   *
+   * @param edgeIndex The index of the edge.
+   * @return The weight of the edge.
+   */
+  public double getEdgeWeight(int edgeIndex) {
+    return topology.edgeWeights[edgeIndex];
+  }
+
+  private boolean providesCheaperRoute(int source, int newEdge, Topology newTopology) {
+    long costsToEdgeSource = getCosts(source, newTopology.edgeSources[newEdge]);
+    if (costsToEdgeSource == PointRouter.INFINITE_COSTS
+        || newTopology.edgeWeights[newEdge] == Double.POSITIVE_INFINITY) {
+      return false;
+    }
+    long costsToEdgeTarget = getCosts(source, newTopology.edgeTargets[newEdge]);
+    if (costsToEdgeTarget == PointRouter.INFINITE_COSTS) {
+      return true;
+    }
+    // Stored costs are truncated, so allow for the fractional part that may have been cut off.
+    return (double) costsToEdgeSource + newTopology.edgeWeights[newEdge]
+        < (double) costsToEdgeTarget + 1;
+  }
+
+  private static CostTable compute(Topology topology) {
+    long timeStampBefore = System.currentTimeMillis();
+
+    int pointCount = topology.getPointCount();
+    int[] predecessors = new int[pointCount * pointCount];
+    int[] intCosts = topology.intCostsSufficient ? new int[pointCount * pointCount] : null;
+    long[] longCosts = topology.intCostsSufficient ? null : new long[pointCount * pointCount];
+
+    computeShortestPathTrees(
+        topology,
+        IntStream.range(0, pointCount).toArray(),
+        predecessors,
+        intCosts,
+        longCosts
+    );
+
+    LOG.debug(
+        "Computed cost table for {} points and {} edges in {} milliseconds.",
+        pointCount,
+        topology.getEdgeCount(),
+        System.currentTimeMillis() - timeStampBefore
+    );
+
+    return new CostTable(
+        topology,
+        intCosts != null ? IntBuffer.wrap(intCosts) : null,
+        longCosts != null ? LongBuffer.wrap(longCosts) : null,
+        IntBuffer.wrap(predecessors)
+    );
+  }
+
+  /**
+   * Computes the shortest path trees for the given source points, distributing the work over the
+   * common fork-join pool.
+   */
+  private static void computeShortestPathTrees(
+      Topology topology,
+      int[] sources,
+      int[] predecessors,
+      @Nullable
+      int[] intCosts,
+      @Nullable
+      long[] longCosts
+  ) {
+    if (sources.length == 0) {
+      return;
+    }
+
+    int chunkCount = Math.min(sources.length, Runtime.getRuntime().availableProcessors() * 4);
+    IntStream.range(0, chunkCount).parallel().forEach(chunk -> {
+      ShortestPathTreeSearch search = new ShortestPathTreeSearch(topology);
+      for (int i = chunk; i < sources.length; i += chunkCount) {
+        search.computeTree(sources[i], predecessors, intCosts, longCosts);
+      }
+    });
+  }
+
+  private static Optional<CostTable> load(File file, Topology topology) {
+    if (!file.isFile()) {
+      return Optional.empty();
+    }
+
+    try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      int pointCount = topology.getPointCount();
+      if (buffer.capacity() < FILE_HEADER_SIZE
+          || buffer.getInt(0) != FILE_MAGIC
+          || buffer.getInt(4) != FILE_VERSION
+          || buffer.getInt(8) != pointCount
+          || buffer.getInt(12) != topology.getEdgeCount()) {
+        LOG.warn("Ignoring incompatible cost table file {}.", file);
+        return Optional.empty();
+      }
+      int costBytes = buffer.getInt(16);
+      int costsSize = pointCount * pointCount * costBytes;
+      int predecessorsSize = pointCount * pointCount * Integer.BYTES;
+      if ((costBytes != Integer.BYTES && costBytes != Long.BYTES)
+          || buffer.capacity() != FILE_HEADER_SIZE + (long) costsSize + predecessorsSize) {
+        LOG.warn("Ignoring incompatible cost table file {}.", file);
+        return Optional.empty();
+      }
+
+      ByteBuffer costs = buffer.slice(FILE_HEADER_SIZE, costsSize);
+      return Optional.of(
+          new CostTable(
+              topology,
+              costBytes == Integer.BYTES ? costs.asIntBuffer() : null,
+              costBytes == Long.BYTES ? costs.asLongBuffer() : null,
+              buffer.slice(FILE_HEADER_SIZE + costsSize, predecessorsSize).asIntBuffer()
+          )
+      );
+    }
+    catch (IOException exc) {
+      LOG.warn("Could not map cost table file {}.", file, exc);
+      return Optional.empty();
+    }
+  }
+
+  private void write(File file) {
+    int pointCount = topology.getPointCount();
+    int costBytes = intCosts != null ? Integer.BYTES : Long.BYTES;
+    long costsSize = (long) pointCount * pointCount * costBytes;
+    long predecessorsSize = (long) pointCount * pointCount * Integer.BYTES;
+    if (FILE_HEADER_SIZE + costsSize + predecessorsSize > Integer.MAX_VALUE) {
+      LOG.info("Not caching cost table for {} points as it is too large.", pointCount);
+      return;
+    }
+
+    Path tempFile = null;
+    try {
+      Path directory = Files.createDirectories(file.getParentFile().toPath());
+      // Use a unique temporary file, as multiple kernels may share the cache directory.
+      tempFile = Files.createTempFile(directory, file.getName(), ".tmp");
+      try (FileChannel channel = FileChannel.open(
+          tempFile,
+          StandardOpenOption.READ,
+          StandardOpenOption.WRITE
+      )) {
+        MappedByteBuffer buffer = channel.map(
+            FileChannel.MapMode.READ_WRITE,
+            0,
+            FILE_HEADER_SIZE + costsSize + predecessorsSize
+        );
+        buffer.putInt(FILE_MAGIC)
+            .putInt(FILE_VERSION)
+            .putInt(pointCount)
+            .putInt(topology.getEdgeCount())
+            .putInt(costBytes);
+        ByteBuffer costs = buffer.slice(FILE_HEADER_SIZE, (int) costsSize);
+        if (intCosts != null) {
+          costs.asIntBuffer().put(intCosts.duplicate().clear());
+        }
+        else {
+          costs.asLongBuffer().put(longCosts.duplicate().clear());
+        }
+        buffer.slice(FILE_HEADER_SIZE + (int) costsSize, (int) predecessorsSize)
+            .asIntBuffer()
+            .put(predecessors.duplicate().clear());
+        buffer.force();
+      }
+      Files.move(
+          tempFile,
+          file.toPath(),
+          StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE
+      );
+      LOG.debug("Wrote cost table to {}.", file);
+    }
+    catch (IOException exc) {
+      LOG.warn("Could not write cost table file {}.", file, exc);
+      deleteQuietly(tempFile);
+    }
+  }
+
+  private static void deleteQuietly(
+      @Nullable
+      Path file
+  ) {
+    if (file == null) {
+      return;
+    }
+
+    try {
+      Files.deleteIfExists(file);
+    }
+    catch (IOException exc) {
+      LOG.warn("Could not delete temporary file {}.", file, exc);
+    }
+  }
+
+  /**
+   * A routing graph with its points and edges mapped to dense indices.
+   * <p>
+   * Points are indexed in the order of their names, edges in the order of their source points,
+   * target points and path names, so that identical routing graphs result in identical indices.
+   * The outgoing edges of each point are adjacent to each other.
+   * </p>
+   */
+  private static final class Topology {
+
+    private final String[] pointNames;
+    private final Map<String, Integer> pointIndices;
+    private final Edge[] edges;
+    private final int[] edgeSources;
+    private final int[] edgeTargets;
+    private final double[] edgeWeights;
+    /**
+     * The index of each point's first outgoing edge, followed by the total number of edges.
+     */
+    private final int[] outgoingEdgesStart;
+    /**
+     * Whether the costs of all routes can be stored as {@code int} values.
+     */
+    private final boolean intCostsSufficient;
+
+    private Topology(Graph<Vertex, Edge> graph) {
+      pointNames = graph.vertexSet().stream()
+          .map(vertex -> vertex.getPoint().getName())
+          .sorted()
+          .toArray(String[]::new);
+      checkArgument(
+          pointNames.length <= MAX_POINT_COUNT,
+          "Too many points for a cost table: %s",
+          pointNames.length
+      );
+      pointIndices = new HashMap<>();
+      for (int i = 0; i < pointNames.length; i++) {
+        pointIndices.put(pointNames[i], i);
+      }
+
+      edges = graph.edgeSet().stream()
+          .sorted(
+              Comparator.<Edge>comparingInt(edge -> pointIndex(graph.getEdgeSource(edge)))
+                  .thenComparingInt(edge -> pointIndex(graph.getEdgeTarget(edge)))
+                  .thenComparing(edge -> edge.getPath().getName())
+                  .thenComparing(edge -> edge.isTravellingReverse())
+          )
+          .toArray(Edge[]::new);
+      edgeSources = new int[edges.length];
+      edgeTargets = new int[edges.length];
+      edgeWeights = new double[edges.length];
+      outgoingEdgesStart = new int[pointNames.length + 1];
+      double maxEdgeWeight = 0;
+      for (int i = 0; i < edges.length; i++) {
+        edgeSources[i] = pointIndex(graph.getEdgeSource(edges[i]));
+        edgeTargets[i] = pointIndex(graph.getEdgeTarget(edges[i]));
+        edgeWeights[i] = graph.getEdgeWeight(edges[i]);
+        outgoingEdgesStart[edgeSources[i] + 1]++;
+        if (edgeWeights[i] != Double.POSITIVE_INFINITY) {
+          maxEdgeWeight = Math.max(maxEdgeWeight, edgeWeights[i]);
+        }
+      }
+      for (int i = 0; i < pointNames.length; i++) {
+        outgoingEdgesStart[i + 1] += outgoingEdgesStart[i];
+      }
+      // Shortest routes do not visit any point twice, so their costs are bounded accordingly.
+      intCostsSufficient
+          = maxEdgeWeight * Math.max(pointNames.length - 1, 1) < INT_INFINITE_COSTS;
+    }
+
+    static Topology of(Graph<Vertex, Edge> graph) {
+      return new Topology(graph);
+    }
+
+    int getPointCount() {
+      return pointNames.length;
+    }
+
+    int getEdgeCount() {
+      return edges.length;
+    }
+
+    /**
+     * Returns a key identifying the given edge independently of its index and weight.
+     */
+    String edgeKey(int edge) {
+      return edges[edge].getPath().getName() + (edges[edge].isTravellingReverse() ? "<" : ">");
+    }
+
+    /**
+     * Returns a hash of the points, edges and edge weights, identifying the routing graph.
+     */
+    String hash() {
+      try {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        ByteBuffer numbers = ByteBuffer.allocate(2 * Integer.BYTES + Long.BYTES + 1);
+        for (String pointName : pointNames) {
+          digest.update(pointName.getBytes(StandardCharsets.UTF_8));
+          digest.update((byte) 0);
+        }
+        for (int i = 0; i < edges.length; i++) {
+          digest.update(edges[i].getPath().getName().getBytes(StandardCharsets.UTF_8));
+          numbers.clear()
+              .putInt(edgeSources[i])
+              .putInt(edgeTargets[i])
+              .putLong(Double.doubleToLongBits(edgeWeights[i]))
+              .put((byte) (edges[i].isTravellingReverse() ? 1 : 0));
+          digest.update(numbers.flip());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+      }
+      catch (NoSuchAlgorithmException exc) {
+        throw new IllegalStateException("SHA-256 not available", exc);
+      }
+    }
+
+    private int pointIndex(Vertex vertex) {
+      return pointIndices.get(vertex.getPoint().getName());
+    }
+  }
+
+  /**
+   * Computes shortest path trees with Dijkstra's algorithm, using an indexed binary heap.
+   * <p>
+   * Instances keep their working memory between searches and must not be shared between threads.
+   * </p>
+   */
+  private static final class ShortestPathTreeSearch {
+
+    private static final int NOT_QUEUED = -1;
+    private static final int SETTLED = -2;
+    private final Topology topology;
+    private final double[] distances;
+    private final int[] heap;
+    private final int[] heapPositions;
+    private int heapSize;
+
+    ShortestPathTreeSearch(Topology topology) {
+      this.topology = topology;
+      distances = new double[topology.getPointCount()];
+      heap = new int[topology.getPointCount()];
+      heapPositions = new int[topology.getPointCount()];
+    }
+
+    void computeTree(
+        int source,
+        int[] predecessors,
+        @Nullable
+        int[] intCosts,
+        @Nullable
+        long[] longCosts
+    ) {
+      int pointCount = topology.getPointCount();
+      int offset = source * pointCount;
+      Arrays.fill(distances, Double.POSITIVE_INFINITY);
+      Arrays.fill(heapPositions, NOT_QUEUED);
+      Arrays.fill(predecessors, offset, offset + pointCount, NO_EDGE);
+      heapSize = 0;
+
+      distances[source] = 0;
+      enqueue(source);
+      while (heapSize > 0) {
+        int point = dequeue();
+        for (int edge = topology.outgoingEdgesStart[point];
+            edge < topology.outgoingEdgesStart[point + 1];
+            edge++) {
+          int target = topology.edgeTargets[edge];
+          double distance = distances[point] + topology.edgeWeights[edge];
+          if (heapPositions[target] == SETTLED
+              || distance == Double.POSITIVE_INFINITY
+              || distance >= distances[target]) {
+            continue;
+          }
+          distances[target] = distance;
+          predecessors[offset + target] = edge;
+          if (heapPositions[target] == NOT_QUEUED) {
+            enqueue(target);
+          }
+          else {
+            siftUp(heapPositions[target]);
+          }
+        }
+      }
+
+      for (int dest = 0; dest < pointCount; dest++) {
+        boolean reachable = distances[dest] != Double.POSITIVE_INFINITY;
+        if (intCosts != null) {
+          intCosts[offset + dest] = reachable ? (int) distances[dest] : INT_INFINITE_COSTS;
+        }
+        else {
+          longCosts[offset + dest] = reachable
+              ? (long) distances[dest]
+              : PointRouter.INFINITE_COSTS;
+        }
+      }
+    }
+
+    private void enqueue(int point) {
+      heap[heapSize] = point;
+      heapPositions[point] = heapSize;
+      heapSize++;
+      siftUp(heapSize - 1);
+    }
+
+    private int dequeue() {
+      int result = heap[0];
+      heapPositions[result] = SETTLED;
+      heapSize--;
+      if (heapSize > 0) {
+        heap[0] = heap[heapSize];
+        heapPositions[heap[0]] = 0;
+        siftDown(0);
+      }
+      return result;
+    }
+
+    private void siftUp(int position) {
+      int point = heap[position];
+      while (position > 0) {
+        int parentPosition = (position - 1) / 2;
+        int parent = heap[parentPosition];
+        if (distances[parent] <= distances[point]) {
+          break;
+        }
+        heap[position] = parent;
+        heapPositions[parent] = position;
+        position = parentPosition;
+      }
+      heap[position] = point;
+      heapPositions[point] = position;
+    }
+
+    private void siftDown(int position) {
+      int point = heap[position];
+      while (true) {
+        int childPosition = 2 * position + 1;
+        if (childPosition >= heapSize) {
+          break;
+        }
+        if (childPosition + 1 < heapSize
+            && distances[heap[childPosition + 1]] < distances[heap[childPosition]]) {
+          childPosition++;
+        }
+        int child = heap[childPosition];
+        if (distances[point] <= distances[child]) {
+          break;
+        }
+        heap[position] = child;
+        heapPositions[child] = position;
+        position = childPosition;
+      }
+      heap[position] = point;
+      heapPositions[point] = position;
+    }
+  }
+}
@@ -0,0 +1,131 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import org.opentcs.components.kernel.routing.Edge;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.Route;
+import org.opentcs.strategies.basic.routing.PointRouter;
+
+/**
+ * Computes routes between points by looking them up in a precomputed {@link CostTable}.
+ * <p>
+ * <em>Note that this implementation does not integrate static routes.</em>
+ * </p>
+ */
+public class CostTablePointRouter
+    implements
+      PointRouter {
+
+  private final CostTable costTable;
+  /**
+   * The points, indexed like in the cost table.
+   */
+  private final Point[] points;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param costTable The cost table to look up routes in.
+   * @param points The points to route between.
+   */
+  public CostTablePointRouter(
+      @Nonnull
+      CostTable costTable,
+      @Nonnull
+      Collection<Point> points
+  ) {
+    this.costTable = requireNonNull(costTable, "costTable");
+    requireNonNull(points, "points");
+
+    this.points = new Point[costTable.getPointCount()];
+    for (Point point : points) {
+      int index = costTable.getPointIndex(point.getName());
+      if (index >= 0) {
+        this.points[index] = point;
+      }
+    }
+  }
+
+  @Override
+  public List<Route.Step> getRouteSteps(Point srcPoint, Point destPoint) {
+    requireNonNull(srcPoint, "srcPoint");
+    requireNonNull(destPoint, "destPoint");
+
+    if (Objects.equals(srcPoint.getName(), destPoint.getName())) {
+      return new ArrayList<>();
+    }
+
+    int srcIndex = pointIndex(srcPoint.getName());
+    int destIndex = pointIndex(destPoint.getName());
+    if (srcIndex < 0 || destIndex < 0) {
+      return null;
+    }
+
+    int[] edges = costTable.getRouteEdges(srcIndex, destIndex);
+    if (edges == null) {
+      return null;
+    }
+
+    List<Route.Step> result = new ArrayList<>(edges.length);
+    for (int routeIndex = 0; routeIndex < edges.length; routeIndex++) {
+      int edgeIndex = edges[routeIndex];
+      Edge edge = costTable.getEdge(edgeIndex);
+      Point sourcePoint = points[costTable.getEdgeSource(edgeIndex)];
+
+      result.add(
+          new Route.Step(
+              edge.getPath(),
+              sourcePoint,
+              points[costTable.getEdgeTarget(edgeIndex)],
+              orientation(edge, sourcePoint),
+              routeIndex,
+              (long) costTable.getEdgeWeight(edgeIndex)
+          )
+      );
+    }
+
+    return result;
+  }
+
+  @Override
+  public long getCosts(
+      TCSObjectReference<Point> srcPointRef,
+      TCSObjectReference<Point> destPointRef
+  ) {
+    requireNonNull(srcPointRef, "srcPointRef");
+    requireNonNull(destPointRef, "destPointRef");
+
+    if (Objects.equals(srcPointRef.getName(), destPointRef.getName())) {
+      return 0;
+    }
+
+    int srcIndex = pointIndex(srcPointRef.getName());
+    int destIndex = pointIndex(destPointRef.getName());
+    if (srcIndex < 0 || destIndex < 0) {
+      return INFINITE_COSTS;
+    }
+
+    return costTable.getCosts(srcIndex, destIndex);
+  }
+
+  private int pointIndex(String pointName) {
+    int index = costTable.getPointIndex(pointName);
+    return index >= 0 && points[index] != null ? index : -1;
+  }
+
+  private Vehicle.Orientation orientation(Edge edge, Point graphSourcePoint) {
+    return Objects.equals(edge.getPath().getSourcePoint(), graphSourcePoint.getReference())
+        ? Vehicle.Orientation.FORWARD
+        : Vehicle.Orientation.BACKWARD;
+  }
+}
@@ -0,0 +1,221 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.inject.Inject;
+import java.io.File;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import org.jgrapht.Graph;
+import org.opentcs.components.kernel.routing.Edge;
+import org.opentcs.components.kernel.routing.GroupMapper;
+import org.opentcs.customizations.ApplicationHome;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.strategies.basic.routing.PointRouter;
+import org.opentcs.strategies.basic.routing.PointRouterFactory;
+import org.opentcs.strategies.basic.routing.jgrapht.GraphProvider.GraphResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Creates {@link PointRouter} instances that look up routes in precomputed {@link CostTable}s.
+ * <p>
+ * A cost table is kept for the routing graph of every routing group and for the general routing
+ * graph. When a routing graph is updated (e.g. because paths were locked or unlocked), the
+ * respective cost table is repaired instead of being recomputed from scratch, if possible.
+ * Point routers for routing graphs that exclude points or paths are usually created for single
+ * transport orders only and are therefore created using Dijkstra's algorithm.
+ * </p>
+ */
+public class CostTablePointRouterFactory
+    implements
+      PointRouterFactory {
+
+  private static final Logger LOG = LoggerFactory.getLogger(CostTablePointRouterFactory.class);
+  private final GraphProvider graphProvider;
+  private final GroupMapper routingGroupMapper;
+  /**
+   * The directory to cache cost tables in, or {@code null}, if tables are not to be cached.
+   */
+  @Nullable
+  private final File cacheDirectory;
+  /**
+   * The maximum number of points in a routing graph that a cost table is created for.
+   */
+  private final int maxPointCount;
+  /**
+   * Creates point routers for routing graphs that cost tables are not used for.
+   */
+  private final PointRouterFactory fallbackFactory;
+  /**
+   * The cost tables for the routing groups' graphs, mapped by routing group.
+   */
+  private final Map<String, GraphCostTable> costTablesByRoutingGroup = new HashMap<>();
+  /**
+   * The cost table for the general routing graph.
+   */
+  private GraphCostTable generalCostTable;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param graphProvider Provides routing graphs for vehicles.
+   * @param routingGroupMapper Used to map vehicles to their routing groups.
+   * @param configuration The configuration.
+   * @param applicationHome The application's home directory.
+   */
+  @Inject
+  public CostTablePointRouterFactory(
+      @Nonnull
+      GraphProvider graphProvider,
+      @Nonnull
+      GroupMapper routingGroupMapper,
+      @Nonnull
+      ShortestPathConfiguration configuration,
+      @Nonnull
+      @ApplicationHome
+      File applicationHome
+  ) {
+    this.graphProvider = requireNonNull(graphProvider, "graphProvider");
+    this.routingGroupMapper = requireNonNull(routingGroupMapper, "routingGroupMapper");
+    requireNonNull(configuration, "configuration");
+    requireNonNull(applicationHome, "applicationHome");
+    this.cacheDirectory = toCacheDirectory(
+        configuration.costTableCacheDirectory(),
+        applicationHome
+    );
+    this.maxPointCount = Math.min(configuration.costTableMaxPointCount(), CostTable.MAX_POINT_COUNT);
+    this.fallbackFactory = new DijkstraPointRouterFactory(graphProvider);
+  }
+
+  @Override
+  public synchronized PointRouter createPointRouter(
+      @Nonnull
+      Vehicle vehicle,
+      @Nonnull
+      Set<Point> pointsToExclude,
+      @Nonnull
+      Set<Path> pathsToExclude
+  ) {
+    requireNonNull(vehicle, "vehicle");
+    requireNonNull(pointsToExclude, "pointsToExclude");
+    requireNonNull(pathsToExclude, "pathsToExclude");
+
+    GraphResult graphResult = graphProvider.getGraphResult(vehicle);
+    if (!pointsToExclude.isEmpty()
+        || !pathsToExclude.isEmpty()
+        || !isCostTableApplicable(graphResult.getGraph())) {
+      return fallbackFactory.createPointRouter(vehicle, pointsToExclude, pathsToExclude);
+    }
+
+    long timeStampBefore = System.currentTimeMillis();
+
+    GraphCostTable costTable = costTablesByRoutingGroup.compute(
+        routingGroupMapper.apply(vehicle),
+        (routingGroup, currentTable) -> updatedCostTable(currentTable, graphResult)
+    );
+    PointRouter router = createPointRouter(costTable.costTable(), graphResult);
+
+    LOG.debug(
+        "Created point router for {} in {} milliseconds.",
+        vehicle.getName(),
+        System.currentTimeMillis() - timeStampBefore
+    );
+
+    return router;
+  }
+
+  @Override
+  public synchronized PointRouter createGeneralPointRouter(
+      @Nonnull
+      Set<Point> pointsToExclude,
+      @Nonnull
+      Set<Path> pathsToExclude
+  ) {
+    requireNonNull(pointsToExclude, "pointsToExclude");
+    requireNonNull(pathsToExclude, "pathsToExclude");
+
+    GraphResult graphResult = graphProvider.getGeneralGraphResult();
+    if (!pointsToExclude.isEmpty()
+        || !pathsToExclude.isEmpty()
+        || !isCostTableApplicable(graphResult.getGraph())) {
+      return fallbackFactory.createGeneralPointRouter(pointsToExclude, pathsToExclude);
+    }
+
+    long timeStampBefore = System.currentTimeMillis();
+
+    generalCostTable = updatedCostTable(generalCostTable, graphResult);
+    PointRouter router = createPointRouter(generalCostTable.costTable(), graphResult);
+
+    LOG.debug(
+        "Created a general point router in {} milliseconds.",
+        System.currentTimeMillis() - timeStampBefore
+    );
+
+    return router;
+  }
+
+  private GraphCostTable updatedCostTable(
+      @Nullable
+      GraphCostTable currentTable,
+      GraphResult graphResult
+  ) {
+    // Graphs may be modified in place, with a new graph result being created for each version.
+    if (currentTable != null && currentTable.graphResult() == graphResult) {
+      return currentTable;
+    }
+
+    Graph<Vertex, Edge> graph = graphResult.getGraph();
+    CostTable costTable = currentTable == null
+        ? CostTable.create(graph, cacheDirectory)
+        : currentTable.costTable().repair(graph)
+            .orElseGet(() -> CostTable.create(graph, cacheDirectory));
+    return new GraphCostTable(graphResult, costTable);
+  }
+
+  private PointRouter createPointRouter(CostTable costTable, GraphResult graphResult) {
+    Set<Point> points = new HashSet<>(graphResult.getPointBase());
+    points.removeAll(graphResult.getExcludedPoints());
+
+    return new CostTablePointRouter(costTable, points);
+  }
+
+  private boolean isCostTableApplicable(Graph<Vertex, Edge> graph) {
+    if (graph.vertexSet().size() > maxPointCount) {
+      LOG.debug(
+          "Not using a cost table for a routing graph with {} points (maximum: {}).",
+          graph.vertexSet().size(),
+          maxPointCount
+      );
+      return false;
+    }
+    return true;
+  }
+
+  @Nullable
+  private static File toCacheDirectory(String configuredDirectory, File applicationHome) {
+    if (configuredDirectory.isBlank()) {
+      return null;
+    }
+
+    File directory = new File(configuredDirectory);
+    return directory.isAbsolute() ? directory : new File(applicationHome, configuredDirectory);
+  }
+
+  /**
+   * A cost table and the graph result it was created for.
+   *
+   * @param graphResult The graph result.
+   * @param costTable The cost table.
+   */
+  private record GraphCostTable(GraphResult graphResult, CostTable costTable) {
+  }
+}
@@ -0,0 +1,62 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+
+/**
+ * Identifies a routing graph (or a point router working on it) that is derived from a routing
+ * group's graph by excluding points and paths.
+ * <p>
+ * Keys only refer to the names of the excluded resources. Derived graphs and point routers cached
+ * using such keys must therefore be discarded whenever the routing group's graph changes.
+ * </p>
+ *
+ * @param routingGroup The routing group.
+ * @param excludedPoints The names of the excluded points.
+ * @param excludedPaths The names of the excluded paths.
+ */
+record DerivedGraphKey(String routingGroup, Set<String> excludedPoints, Set<String> excludedPaths) {
+
+  /**
+   * Creates a new instance.
+   *
+   * @param routingGroup The routing group.
+   * @param excludedPoints The names of the excluded points.
+   * @param excludedPaths The names of the excluded paths.
+   */
+  DerivedGraphKey {
+    requireNonNull(routingGroup, "routingGroup");
+    excludedPoints = Set.copyOf(requireNonNull(excludedPoints, "excludedPoints"));
+    excludedPaths = Set.copyOf(requireNonNull(excludedPaths, "excludedPaths"));
+  }
+
+  /**
+   * Creates a key for the given routing group and sets of resources to exclude.
+   *
+   * @param routingGroup The routing group.
+   * @param pointsToExclude The points to exclude.
+   * @param pathsToExclude The paths to exclude.
+   * @return The key.
+   */
+  static DerivedGraphKey of(
+      @Nonnull
+      String routingGroup,
+      @Nonnull
+      Set<Point> pointsToExclude,
+      @Nonnull
+      Set<Path> pathsToExclude
+  ) {
+    return new DerivedGraphKey(
+        routingGroup,
+        pointsToExclude.stream().map(Point::getName).collect(Collectors.toSet()),
+        pathsToExclude.stream().map(Path::getName).collect(Collectors.toSet())
+    );
+  }
+}
@@ -34,7 +34,11 @@ public class FloydWarshallPointRouterFactory
   protected ShortestPathAlgorithm<Vertex, Edge> createShortestPathAlgorithm(
       Graph<Vertex, Edge> graph
   ) {
-    return new FloydWarshallShortestPaths<>(graph);
+    FloydWarshallShortestPaths<Vertex, Edge> algo = new FloydWarshallShortestPaths<>(graph);
+    // The algorithm computes its matrices lazily and without any synchronization. Have them
+    // computed right away so point routers may be used by multiple threads concurrently.
+    algo.getShortestPathsCount();
+    return algo;
   }
 
 }
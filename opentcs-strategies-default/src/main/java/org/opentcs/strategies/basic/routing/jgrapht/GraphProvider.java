@@ -9,10 +9,10 @@ import jakarta.inject.Inject;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.WeakHashMap;
 import org.jgrapht.Graph;
 import org.opentcs.components.kernel.routing.Edge;
 import org.opentcs.components.kernel.routing.GroupMapper;
@@ -20,6 +20,7 @@ import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.model.Path;
 import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
+import org.opentcs.strategies.basic.routing.DefaultRouterConfiguration;
 
 /**
  * Provides routing graphs for vehicles.
@@ -41,7 +42,7 @@ public class GraphProvider {
   /**
    * A cache for derived {@link GraphResult}s.
    */
-  private final Map<String, GraphResult> derivedGraphResults = new WeakHashMap<>();
+  private final LruCache<DerivedGraphKey, GraphResult> derivedGraphResults;
   /**
    * The set of points that is currently used for computing routing graphs.
    */
@@ -65,6 +66,7 @@ public class GraphProvider {
    * @param generalModelGraphMapper Maps the points and paths to a graph.
    * @param routingGroupMapper Used to map vehicles to their routing groups.
    * @param graphMutator Provides methods for mutating {@link GraphResult}s.
+   * @param configuration The router's configuration.
    */
   @Inject
   public GraphProvider(
@@ -77,7 +79,9 @@ public class GraphProvider {
       @Nonnull
       GroupMapper routingGroupMapper,
       @Nonnull
-      GraphMutator graphMutator
+      GraphMutator graphMutator,
+      @Nonnull
+      DefaultRouterConfiguration configuration
   ) {
     this.objectService = requireNonNull(objectService, "objectService");
     this.defaultModelGraphMapper = requireNonNull(
@@ -90,6 +94,9 @@ public class GraphProvider {
     );
     this.routingGroupMapper = requireNonNull(routingGroupMapper, "routingGroupMapper");
     this.graphMutator = requireNonNull(graphMutator, "graphMutator");
+    this.derivedGraphResults = new LruCache<>(
+        requireNonNull(configuration, "configuration").derivedGraphCacheSize()
+    );
   }
 
   /**
@@ -174,7 +181,7 @@ public class GraphProvider {
     requireNonNull(pathsToExclude, "pathsToExclude");
 
     return derivedGraphResults.computeIfAbsent(
-        derivedGraphResultCacheKey(vehicle, pointsToExclude, pathsToExclude),
+        DerivedGraphKey.of(routingGroupMapper.apply(vehicle), pointsToExclude, pathsToExclude),
         key -> graphMutator.deriveGraph(pointsToExclude, pathsToExclude, getGraphResult(vehicle))
     );
   }
@@ -220,6 +227,8 @@ public class GraphProvider {
 
     // Ensure the path base is up-to-date.
     getCurrentPathBase().updateResources(paths);
+    // Derived graph results are views on the graph results that are about to be replaced.
+    derivedGraphResults.clear();
 
     for (Map.Entry<String, GraphResult> entry : Set.copyOf(graphResultsByRoutingGroup.entrySet())) {
       graphResultsByRoutingGroup.put(
@@ -240,21 +249,66 @@ public class GraphProvider {
     }
   }
 
-  private String derivedGraphResultCacheKey(
-      Vehicle vehicle,
-      Set<Point> pointsToExclude,
-      Set<Path> pathsToExclude
+  /**
+   * Updates any {@link GraphResult}s that have already been calculated using the given paths,
+   * modifying their graphs in place instead of copying them.
+   * <p>
+   * Only the edges of the given paths are touched. For every routing group whose graph was
+   * modified, a new {@link GraphResult} is created for the modified graph and cached derived
+   * graph results are discarded. Graph results of other routing groups are left untouched.
+   * The general graph result will not be updated as it does not consider locked paths
+   * and therefore always stays the same.
+   * </p>
+   * <p>
+   * Callers must ensure that none of the graphs are accessed concurrently, e.g. by point routers
+   * that are still in use.
+   * </p>
+   *
+   * @param paths The paths to use for the update.
+   * @return The routing groups whose graphs were modified.
+   */
+  @Nonnull
+  public Set<String> updateGraphResultsInPlace(
+      @Nonnull
+      Collection<Path> paths
   ) {
-    // Concat the different hash code values (e.g. instead of simply calculating the sum) to
-    // minimize risk of hash collisions.
-    return String.format(
-        "routingGroup(%s)_pointBase(%s)_pathBase(%s)_excludedPoints(%s)_excludedPaths(%s)",
-        routingGroupMapper.apply(vehicle).hashCode(),
-        getCurrentPointBase().getHash(),
-        getCurrentPathBase().getHash(),
-        pointsHashCode(pointsToExclude),
-        pathsHashCode(pathsToExclude)
-    );
+    requireNonNull(paths, "paths");
+
+    if (paths.isEmpty()) {
+      return Set.of();
+    }
+
+    // Ensure the path base is up-to-date.
+    getCurrentPathBase().updateResources(paths);
+
+    Set<String> modifiedRoutingGroups = new HashSet<>();
+    for (Map.Entry<String, GraphResult> entry : Set.copyOf(graphResultsByRoutingGroup.entrySet())) {
+      GraphResult graphResult = entry.getValue();
+      if (!defaultModelGraphMapper.updateGraphInPlace(
+          paths,
+          graphResult.getVehicle(),
+          graphResult.getGraph()
+      )) {
+        continue;
+      }
+
+      modifiedRoutingGroups.add(entry.getKey());
+      graphResultsByRoutingGroup.put(
+          entry.getKey(),
+          new GraphResult(
+              graphResult.getVehicle(),
+              graphResult.getPointBase(),
+              getCurrentPathBase().getResources(),
+              Set.of(),
+              Set.of(),
+              graphResult.getGraph()
+          )
+      );
+    }
+    // Derived graph results are views on the graphs that were just modified.
+    derivedGraphResults.removeIf(key -> modifiedRoutingGroups.contains(key.routingGroup()));
+
+    return modifiedRoutingGroups;
   }
 
   private HashedResourceSet<Point> getCurrentPointBase() {
@@ -289,6 +343,10 @@ public class GraphProvider {
 
   /**
    * Contains the result of a graph computation.
+   * <p>
+   * When a graph is modified in place, a new instance is created for it, so that instances can be
+   * used to tell different versions of the same graph apart.
+   * </p>
    */
   public static class GraphResult {
 
@@ -0,0 +1,100 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
+
+import jakarta.annotation.Nonnull;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A thread-safe cache with a bounded capacity that evicts the least recently used entry when the
+ * capacity is exceeded.
+ *
+ * @param <K> The type of the keys.
+ * @param <V> The type of the values.
+ */
+class LruCache<K, V> {
+
+  /**
+   * The cached values, in access order.
+   */
+  private final Map<K, V> entries;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param capacity The maximum number of entries in this cache. A capacity of zero disables
+   * caching.
+   */
+  @SuppressWarnings("serial")
+  LruCache(int capacity) {
+    checkArgument(capacity >= 0, "capacity < 0: %s", capacity);
+
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+        return size() > capacity;
+      }
+    };
+  }
+
+  /**
+   * Returns the value cached for the given key, computing and caching it first if there is none.
+   *
+   * @param key The key.
+   * @param mappingFunction Computes the value if there is none cached for the given key.
+   * @return The value.
+   */
+  @Nonnull
+  synchronized V computeIfAbsent(
+      @Nonnull
+      K key,
+      @Nonnull
+      Function<? super K, ? extends V> mappingFunction
+  ) {
+    requireNonNull(key, "key");
+    requireNonNull(mappingFunction, "mappingFunction");
+
+    V value = entries.get(key);
+    if (value == null) {
+      value = requireNonNull(mappingFunction.apply(key), "value");
+      entries.put(key, value);
+    }
+    return value;
+  }
+
+  /**
+   * Returns the number of entries in this cache.
+   *
+   * @return The number of entries in this cache.
+   */
+  synchronized int size() {
+    return entries.size();
+  }
+
+  /**
+   * Removes all entries whose keys satisfy the given predicate from this cache.
+   *
+   * @param predicate The predicate.
+   */
+  synchronized void removeIf(
+      @Nonnull
+      Predicate<? super K> predicate
+  ) {
+    requireNonNull(predicate, "predicate");
+
+    entries.keySet().removeIf(predicate);
+  }
+
+  /**
+   * Removes all entries from this cache.
+   */
+  synchronized void clear() {
+    entries.clear();
+  }
+}
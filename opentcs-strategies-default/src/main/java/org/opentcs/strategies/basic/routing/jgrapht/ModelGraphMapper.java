@@ -45,4 +45,24 @@ public interface ModelGraphMapper {
       Vehicle vehicle,
       Graph<Vertex, Edge> graph
   );
+
+  /**
+   * Re-translates the given paths and replaces corresponding edges in the provided graph itself.
+   * <p>
+   * Unlike {@link #updateGraph(Collection, Vehicle, Graph)}, this method modifies the provided
+   * graph and only touches the edges of the given paths. Callers must ensure that the graph is not
+   * accessed concurrently.
+   * </p>
+   *
+   * @param paths The paths to re-translate.
+   * @param vehicle The vehicle for which to update the graph.
+   * @param graph The graph to update.
+   * @return {@code true} if, and only if, the graph was modified, i.e. if it contained edges for
+   * any of the given paths or if edges for any of them were added to it.
+   */
+  boolean updateGraphInPlace(
+      Collection<Path> paths,
+      Vehicle vehicle,
+      Graph<Vertex, Edge> graph
+  );
 }
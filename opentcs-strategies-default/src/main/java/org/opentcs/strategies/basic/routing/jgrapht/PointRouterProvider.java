@@ -18,6 +18,7 @@ import org.opentcs.data.model.Path;
 import org.opentcs.data.model.TCSResourceReference;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.TransportOrder;
+import org.opentcs.strategies.basic.routing.DefaultRouterConfiguration;
 import org.opentcs.strategies.basic.routing.PointRouter;
 import org.opentcs.strategies.basic.routing.PointRouterFactory;
 import org.opentcs.strategies.basic.routing.ResourceAvoidanceExtractor;
@@ -27,6 +28,8 @@ import org.opentcs.strategies.basic.routing.ResourceAvoidanceExtractor.Resources
  * Provides point routers for vehicles (more specifically for routing groups of vehicles).
  * <p>
  * This provider caches constructed point routers until it is {@link #invalidate() invalidated}.
+ * Point routers for sets of resources to be avoided are cached, too, with the least recently used
+ * ones being discarded when the configured cache size is exceeded.
  * </p>
  */
 public class PointRouterProvider {
@@ -40,6 +43,10 @@ public class PointRouterProvider {
    * The point routers by vehicle routing group.
    */
   private final Map<String, PointRouter> pointRoutersByVehicleGroup = new ConcurrentHashMap<>();
+  /**
+   * The point routers for sets of resources to be avoided.
+   */
+  private final LruCache<DerivedGraphKey, PointRouter> derivedPointRouters;
 
   /**
    * Creates a new instance.
@@ -49,6 +56,7 @@ public class PointRouterProvider {
    * @param routingGroupMapper Used to map vehicles to their routing groups.
    * @param pointRouterFactory A builder for constructing point routers (i.e., the routing tables).
    * @param graphProvider Provides routing graphs for vehicles.
+   * @param configuration The router's configuration.
    */
   @Inject
   public PointRouterProvider(
@@ -56,7 +64,8 @@ public class PointRouterProvider {
       ResourceAvoidanceExtractor resourceAvoidanceExtractor,
       GroupMapper routingGroupMapper,
       PointRouterFactory pointRouterFactory,
-      GraphProvider graphProvider
+      GraphProvider graphProvider,
+      DefaultRouterConfiguration configuration
   ) {
     this.objectService = requireNonNull(objectService, "objectService");
     this.resourceAvoidanceExtractor = requireNonNull(
@@ -66,6 +75,9 @@ public class PointRouterProvider {
     this.routingGroupMapper = requireNonNull(routingGroupMapper, "routingGroupMapper");
     this.pointRouterFactory = requireNonNull(pointRouterFactory, "pointRouterFactory");
     this.graphProvider = requireNonNull(graphProvider, "graphProvider");
+    this.derivedPointRouters = new LruCache<>(
+        requireNonNull(configuration, "configuration").derivedPointRouterCacheSize()
+    );
   }
 
   /**
@@ -73,6 +85,7 @@ public class PointRouterProvider {
    */
   public void invalidate() {
     pointRoutersByVehicleGroup.clear();
+    derivedPointRouters.clear();
     graphProvider.invalidate();
   }
 
@@ -86,14 +99,42 @@ public class PointRouterProvider {
       @Nonnull
       Set<Path> paths
   ) {
-    requireNonNull(paths, "paths");
+    updateRoutingTopology(paths, false);
+  }
 
-    pointRoutersByVehicleGroup.clear();
+  /**
+   * Updates the routing topology with respect to the given paths.
+   * <p>
+   * If the update may be done in place, the routing graphs are modified instead of being copied,
+   * and only the point routers for routing groups whose graphs were actually modified are
+   * invalidated.
+   * </p>
+   *
+   * @param paths The paths to update in the routing topology. An empty set of paths results in any
+   * constructed point routers to be invalidated.
+   * @param updateInPlace Whether the routing graphs may be modified in place. This is only safe if
+   * no point router provided before is still in use.
+   */
+  public void updateRoutingTopology(
+      @Nonnull
+      Set<Path> paths,
+      boolean updateInPlace
+  ) {
+    requireNonNull(paths, "paths");
 
     if (paths.isEmpty()) {
+      pointRoutersByVehicleGroup.clear();
+      derivedPointRouters.clear();
       graphProvider.invalidate();
     }
+    else if (updateInPlace) {
+      Set<String> modifiedRoutingGroups = graphProvider.updateGraphResultsInPlace(paths);
+      pointRoutersByVehicleGroup.keySet().removeAll(modifiedRoutingGroups);
+      derivedPointRouters.removeIf(key -> modifiedRoutingGroups.contains(key.routingGroup()));
+    }
     else {
+      pointRoutersByVehicleGroup.clear();
+      derivedPointRouters.clear();
       graphProvider.updateGraphResults(paths);
     }
   }
@@ -190,10 +231,17 @@ public class PointRouterProvider {
 
   private PointRouter getPointRouterForVehicle(Vehicle vehicle, ResourcesToAvoid resourcesToAvoid) {
     if (!resourcesToAvoid.isEmpty()) {
-      return pointRouterFactory.createPointRouter(
-          vehicle,
-          resourcesToAvoid.getPoints(),
-          resourcesToAvoid.getPaths()
+      return derivedPointRouters.computeIfAbsent(
+          DerivedGraphKey.of(
+              routingGroupMapper.apply(vehicle),
+              resourcesToAvoid.getPoints(),
+              resourcesToAvoid.getPaths()
+          ),
+          key -> pointRouterFactory.createPointRouter(
+              vehicle,
+              resourcesToAvoid.getPoints(),
+              resourcesToAvoid.getPaths()
+          )
       );
     }
 
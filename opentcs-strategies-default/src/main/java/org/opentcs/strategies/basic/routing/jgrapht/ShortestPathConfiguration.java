@@ -23,7 +23,10 @@ public interface ShortestPathConfiguration {
           "The routing algorithm to be used. Valid values:",
           "'DIJKSTRA': Routes are computed using Dijkstra's algorithm.",
           "'BELLMAN_FORD': Routes are computed using the Bellman-Ford algorithm.",
-          "'FLOYD_WARSHALL': Routes are computed using the Floyd-Warshall algorithm."},
+          "'FLOYD_WARSHALL': Routes are computed using the Floyd-Warshall algorithm.",
+          "'COST_TABLE': Routes are looked up in tables of the costs between all pairs of points, "
+              + "which are precomputed for every routing group and repaired when paths are locked "
+              + "or unlocked."},
       changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START
   )
   Algorithm algorithm();
@@ -46,6 +49,30 @@ public interface ShortestPathConfiguration {
   )
   List<String> edgeEvaluators();
 
+  @ConfigurationEntry(
+      type = "String",
+      description = {
+          "The directory in which cost tables for the 'COST_TABLE' algorithm are cached, so they "
+              + "do not have to be recomputed after a restart with an unchanged plant model.",
+          "Relative paths are resolved against the kernel's home directory.",
+          "If empty, cost tables are not cached."},
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START
+  )
+  String costTableCacheDirectory();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+          "The maximum number of points in a routing graph that a cost table is created for with "
+              + "the 'COST_TABLE' algorithm.",
+          "A cost table requires up to 12 bytes per pair of points, and up to twice as much while "
+              + "being repaired after paths were locked or unlocked.",
+          "Routes in larger routing graphs are computed using Dijkstra's algorithm.",
+          "Values greater than 46340 are treated as 46340."},
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START
+  )
+  int costTableMaxPointCount();
+
   /**
    * The available algorithms.
    */
@@ -61,7 +88,11 @@ public interface ShortestPathConfiguration {
     /**
      * The Floyd-Warshall algorithm.
      */
-    FLOYD_WARSHALL(false);
+    FLOYD_WARSHALL(false),
+    /**
+     * Dijkstra's algorithm, with the costs between all pairs of points being precomputed.
+     */
+    COST_TABLE(false);
 
     private final boolean handlingNegativeCosts;
 
@@ -10,14 +10,17 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import org.jgrapht.GraphPath;
 import org.jgrapht.alg.interfaces.ShortestPathAlgorithm;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.SingleSourcePaths;
 import org.opentcs.components.kernel.routing.Edge;
 import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.Route;
 import org.opentcs.strategies.basic.routing.PointRouter;
+import org.opentcs.strategies.basic.routing.SingleSourceRoutes;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -113,6 +116,13 @@ public class ShortestPathPointRouter
     return (long) graphPath.getWeight();
   }
 
+  @Override
+  public SingleSourceRoutes getRoutesFrom(Point srcPoint) {
+    requireNonNull(srcPoint, "srcPoint");
+
+    return new LazySingleSourceRoutes(srcPoint);
+  }
+
   private List<Route.Step> translateToSteps(GraphPath<Vertex, Edge> graphPath) {
     List<Edge> edges = graphPath.getEdgeList();
     List<Route.Step> result = new ArrayList<>(edges.size());
@@ -143,4 +153,90 @@ public class ShortestPathPointRouter
         ? Vehicle.Orientation.FORWARD
         : Vehicle.Orientation.BACKWARD;
   }
+
+  /**
+   * Provides the cheapest routes from a single source point, looking up each route only once.
+   * <p>
+   * The first route is looked up with a search for only that route. As soon as routes to more
+   * than one destination point are requested, the shortest paths to all points are computed with
+   * a single search. Route steps are only created when they are requested.
+   * </p>
+   */
+  private class LazySingleSourceRoutes
+      implements
+        SingleSourceRoutes {
+
+    /**
+     * The source point.
+     */
+    private final Point srcPoint;
+    /**
+     * The paths already looked up, mapped by the names of their destination points.
+     * An empty value indicates that no path exists.
+     */
+    private final Map<String, Optional<GraphPath<Vertex, Edge>>> pathsByDestination
+        = new HashMap<>();
+    /**
+     * The shortest paths from the source point to all other points, or {@code null}, if they have
+     * not been computed, yet.
+     */
+    private SingleSourcePaths<Vertex, Edge> allPaths;
+
+    LazySingleSourceRoutes(Point srcPoint) {
+      this.srcPoint = requireNonNull(srcPoint, "srcPoint");
+    }
+
+    @Override
+    public Point getSourcePoint() {
+      return srcPoint;
+    }
+
+    @Override
+    public long getCosts(Point destPoint) {
+      requireNonNull(destPoint, "destPoint");
+
+      if (Objects.equals(srcPoint.getName(), destPoint.getName())) {
+        return 0;
+      }
+
+      return lookupPath(destPoint)
+          .map(graphPath -> (long) graphPath.getWeight())
+          .orElse(INFINITE_COSTS);
+    }
+
+    @Override
+    public List<Route.Step> getRouteSteps(Point destPoint) {
+      requireNonNull(destPoint, "destPoint");
+
+      if (Objects.equals(srcPoint.getName(), destPoint.getName())) {
+        return new ArrayList<>();
+      }
+
+      return lookupPath(destPoint)
+          .map(graphPath -> translateToSteps(graphPath))
+          .orElse(null);
+    }
+
+    private Optional<GraphPath<Vertex, Edge>> lookupPath(Point destPoint) {
+      Optional<GraphPath<Vertex, Edge>> result = pathsByDestination.get(destPoint.getName());
+      if (result != null) {
+        return result;
+      }
+
+      Vertex srcVertex = pointVertexMap.get(srcPoint.getName());
+      Vertex destVertex = pointVertexMap.get(destPoint.getName());
+      if (pathsByDestination.isEmpty()) {
+        result = Optional.ofNullable(algo.getPath(srcVertex, destVertex));
+      }
+      else {
+        if (allPaths == null) {
+          allPaths = algo.getPaths(srcVertex);
+        }
+        result = Optional.ofNullable(allPaths.getPath(destVertex));
+      }
+
+      pathsByDestination.put(destPoint.getName(), result);
+      return result;
+    }
+  }
 }
@@ -5,11 +5,16 @@ package org.opentcs.strategies.basic.routing.jgrapht;
 import static java.util.Objects.requireNonNull;
 
 import jakarta.annotation.Nonnull;
+import java.util.Objects;
 import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Point;
 
 /**
  * A wrapper for {@link Point}s that can be used to build routing graphs.
+ * <p>
+ * Vertices are considered equal if they represent the same point, so a graph's vertex for a given
+ * point can be looked up with a new instance.
+ * </p>
  */
 public class Vertex {
 
@@ -39,6 +44,22 @@ public class Vertex {
     return point;
   }
 
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof Vertex other)) {
+      return false;
+    }
+    return Objects.equals(point, other.point);
+  }
+
+  @Override
+  public int hashCode() {
+    return point.hashCode();
+  }
+
   @Override
   public String toString() {
     return "Vertex{"
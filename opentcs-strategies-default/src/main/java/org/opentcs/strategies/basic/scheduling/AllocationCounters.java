@@ -0,0 +1,129 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.scheduling;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.inject.Inject;
+import org.opentcs.common.metrics.Counter;
+import org.opentcs.common.metrics.MetricsRegistry;
+
+/**
+ * Counts events related to the processing of resource allocations by the {@link DefaultScheduler}.
+ * <p>
+ * The counters are kept in the application's {@link MetricsRegistry}, which provides them along
+ * with all other metrics, and are thus only updated while it is enabled.
+ * Instances of this class are thread-safe.
+ * </p>
+ */
+public class AllocationCounters {
+
+  /**
+   * The number of allocations that were deferred because they could not be granted immediately.
+   */
+  private final Counter deferredAllocations;
+  /**
+   * The number of times waiting allocations were woken up.
+   */
+  private final Counter wakeups;
+  /**
+   * The number of attempts to grant previously deferred allocations.
+   */
+  private final Counter retryAttempts;
+  /**
+   * The number of allocations that were granted.
+   */
+  private final Counter successfulAllocations;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param registry The registry keeping the counters.
+   */
+  @Inject
+  public AllocationCounters(MetricsRegistry registry) {
+    requireNonNull(registry, "registry");
+
+    deferredAllocations = registry.counter(
+        "scheduler_allocations_total",
+        "The number of resource allocations, by whether they were deferred or granted.",
+        "outcome",
+        "deferred"
+    );
+    successfulAllocations = registry.counter(
+        "scheduler_allocations_total",
+        "The number of resource allocations, by whether they were deferred or granted.",
+        "outcome",
+        "granted"
+    );
+    wakeups = registry.counter(
+        "scheduler_allocation_wakeups_total",
+        "The number of times deferred resource allocations were woken up to be retried."
+    );
+    retryAttempts = registry.counter(
+        "scheduler_allocation_retries_total",
+        "The number of attempts to grant previously deferred resource allocations."
+    );
+  }
+
+  /**
+   * Returns the number of allocations that were deferred because they could not be granted
+   * immediately.
+   *
+   * @return The number of deferred allocations.
+   */
+  public long getDeferredAllocations() {
+    return deferredAllocations.getCount();
+  }
+
+  /**
+   * Returns the number of times waiting allocations were woken up, i.e. the number of released
+   * resource sets or reschedule requests that led to at least one waiting allocation being retried.
+   *
+   * @return The number of wakeups.
+   */
+  public long getWakeups() {
+    return wakeups.getCount();
+  }
+
+  /**
+   * Returns the number of attempts to grant previously deferred allocations.
+   *
+   * @return The number of retry attempts.
+   */
+  public long getRetryAttempts() {
+    return retryAttempts.getCount();
+  }
+
+  /**
+   * Returns the number of allocations that were granted.
+   *
+   * @return The number of successful allocations.
+   */
+  public long getSuccessfulAllocations() {
+    return successfulAllocations.getCount();
+  }
+
+  @Override
+  public String toString() {
+    return "AllocationCounters{"
+        + "deferredAllocations=" + deferredAllocations.getCount()
+        + ", wakeups=" + wakeups.getCount()
+        + ", retryAttempts=" + retryAttempts.getCount()
+        + ", successfulAllocations=" + successfulAllocations.getCount()
+        + '}';
+  }
+
+  void allocationDeferred() {
+    deferredAllocations.increment();
+  }
+
+  void allocationsWokenUp(int count) {
+    wakeups.increment();
+    retryAttempts.increment(count);
+  }
+
+  void allocationSuccessful() {
+    successfulAllocations.increment();
+  }
+}
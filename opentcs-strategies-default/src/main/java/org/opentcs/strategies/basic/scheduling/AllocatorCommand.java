@@ -4,6 +4,7 @@ package org.opentcs.strategies.basic.scheduling;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Optional;
 import java.util.Set;
 import org.opentcs.components.kernel.Scheduler.Client;
 import org.opentcs.data.model.TCSResource;
@@ -118,18 +119,48 @@ abstract class AllocatorCommand
         AllocatorCommand {
 
     /**
-     * Creates a new instance.
+     * The resources that have been released, or {@code null}, if all deferred allocations should be
+     * retried.
+     */
+    private final Set<TCSResource<?>> releasedResources;
+
+    /**
+     * Creates a new instance for retrying all deferred allocations.
      *
      * @param client The scheduler client this command is associated with.
      */
     RetryAllocates(Client client) {
       super(3, client);
+      this.releasedResources = null;
+    }
+
+    /**
+     * Creates a new instance for retrying only deferred allocations that may be granted after the
+     * given resources have been released.
+     *
+     * @param client The scheduler client this command is associated with.
+     * @param releasedResources The resources that have been released.
+     */
+    RetryAllocates(Client client, Set<TCSResource<?>> releasedResources) {
+      super(3, client);
+      this.releasedResources = requireNonNull(releasedResources, "releasedResources");
+    }
+
+    /**
+     * Returns the resources that have been released.
+     *
+     * @return The resources that have been released, or an empty {@code Optional}, if all
+     * deferred allocations should be retried.
+     */
+    public Optional<Set<TCSResource<?>>> getReleasedResources() {
+      return Optional.ofNullable(releasedResources);
     }
 
     @Override
     public String toString() {
       return "RetryAllocates{"
           + "client=" + getClient()
+          + ", releasedResources=" + releasedResources
           + '}';
     }
   }
@@ -5,9 +5,10 @@ package org.opentcs.strategies.basic.scheduling;
 import static java.util.Objects.requireNonNull;
 
 import jakarta.annotation.Nonnull;
-import java.util.Queue;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.stream.Collectors;
 import org.opentcs.components.kernel.Scheduler;
 import org.opentcs.components.kernel.Scheduler.Client;
 import org.opentcs.customizations.kernel.GlobalSyncObject;
@@ -35,9 +36,9 @@ class AllocatorTask
    */
   private final Scheduler.Module allocationAdvisor;
   /**
-   * Allocations deferred because they couldn't be granted, yet.
+   * Counts allocation-related events.
    */
-  private final Queue<AllocatorCommand.Allocate> deferredAllocations;
+  private final AllocationCounters allocationCounters;
   /**
    * Executes tasks.
    */
@@ -58,7 +59,7 @@ class AllocatorTask
       @Nonnull
       ReservationPool reservationPool,
       @Nonnull
-      Queue<AllocatorCommand.Allocate> deferredAllocations,
+      AllocationCounters allocationCounters,
       @Nonnull
       Scheduler.Module allocationAdvisor,
       @Nonnull
@@ -70,7 +71,7 @@ class AllocatorTask
       AllocatorCommand command
   ) {
     this.reservationPool = requireNonNull(reservationPool, "reservationPool");
-    this.deferredAllocations = requireNonNull(deferredAllocations, "deferredAllocations");
+    this.allocationCounters = requireNonNull(allocationCounters, "allocationCounters");
     this.allocationAdvisor = requireNonNull(allocationAdvisor, "allocationAdvisor");
     this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
     this.globalSyncObject = requireNonNull(globalSyncObject, "globalSyncObject");
@@ -85,7 +86,7 @@ class AllocatorTask
       processAllocate((AllocatorCommand.Allocate) command);
     }
     else if (command instanceof AllocatorCommand.RetryAllocates) {
-      scheduleRetryWaitingAllocations();
+      retryAllocates((AllocatorCommand.RetryAllocates) command);
     }
     else if (command instanceof AllocatorCommand.CheckAllocationsPrepared) {
       checkAllocationsPrepared((AllocatorCommand.CheckAllocationsPrepared) command);
@@ -99,11 +100,23 @@ class AllocatorTask
   }
 
   private void processAllocate(AllocatorCommand.Allocate command) {
-    if (!tryAllocate(command)) {
-      LOG.debug("{}: Resources unavailable, deferring allocation...", command.getClient().getId());
-      deferredAllocations.add(command);
-      return;
+    synchronized (globalSyncObject) {
+      if (!tryAllocate(command)) {
+        // Remember the resources blocking this allocation, so it is retried only when one of them
+        // is released. If no resources are blocking it, the allocation was refused by a module.
+        Set<TCSResource<?>> blockingResources
+            = reservationPool.unavailableResources(command.getResources(), command.getClient());
+        LOG.debug(
+            "{}: Resources unavailable, deferring allocation until release of {}...",
+            command.getClient().getId(),
+            blockingResources
+        );
+        reservationPool.addWaitingAllocation(command, blockingResources);
+        allocationCounters.allocationDeferred();
+        return;
+      }
     }
+    allocationCounters.allocationSuccessful();
 
     checkAllocationsPrepared(command.getClient(), command.getResources());
   }
@@ -133,9 +146,9 @@ class AllocatorTask
           client.getId(),
           resources
       );
-      undoAllocate(client, resources);
+      Set<TCSResource<?>> releasedResources = undoAllocate(client, resources);
       // See if others want the resources this one didn't, then.
-      scheduleRetryWaitingAllocations();
+      scheduleRetryWaitingAllocations(releasedResources);
     }
     // Notify modules about the changes in claimed/allocated resources for this client.
     allocationAdvisor.setAllocationState(
@@ -203,23 +216,65 @@ class AllocatorTask
    * Note that this does <em>not</em> return any previously claimed resources to the client!
    * </p>
    *
-   * @param command Describes the allocated resources.
+   * @param client The client that allocated the resources.
+   * @param resources The allocated resources.
+   * @return The resources that are completely free after unallocating.
    */
-  private void undoAllocate(Client client, Set<TCSResource<?>> resources) {
+  private Set<TCSResource<?>> undoAllocate(Client client, Set<TCSResource<?>> resources) {
     synchronized (globalSyncObject) {
       reservationPool.free(client, resources);
+      return resources.stream()
+          .filter(resource -> reservationPool.getReservationEntry(resource).isFree())
+          .collect(Collectors.toSet());
+    }
+  }
+
+  private void retryAllocates(AllocatorCommand.RetryAllocates command) {
+    if (command.getReleasedResources().isPresent()) {
+      scheduleRetryWaitingAllocations(command.getReleasedResources().get());
+    }
+    else {
+      scheduleRetryAllWaitingAllocations();
     }
   }
 
+  /**
+   * Moves the waiting allocations that may be granted after the release of the given resources
+   * back into the incoming queue so they can be rechecked.
+   *
+   * @param releasedResources The released resources.
+   */
+  private void scheduleRetryWaitingAllocations(Set<TCSResource<?>> releasedResources) {
+    List<AllocatorCommand.Allocate> wokenAllocations;
+    synchronized (globalSyncObject) {
+      wokenAllocations = reservationPool.removeWaitingAllocations(releasedResources);
+    }
+    scheduleRetry(wokenAllocations);
+  }
+
   /**
    * Moves all waiting allocations back into the incoming queue so they can be rechecked.
    */
-  private void scheduleRetryWaitingAllocations() {
-    for (AllocatorCommand.Allocate allocate : deferredAllocations) {
+  private void scheduleRetryAllWaitingAllocations() {
+    List<AllocatorCommand.Allocate> wokenAllocations;
+    synchronized (globalSyncObject) {
+      wokenAllocations = reservationPool.removeAllWaitingAllocations();
+    }
+    scheduleRetry(wokenAllocations);
+  }
+
+  private void scheduleRetry(List<AllocatorCommand.Allocate> wokenAllocations) {
+    if (wokenAllocations.isEmpty()) {
+      return;
+    }
+
+    allocationCounters.allocationsWokenUp(wokenAllocations.size());
+    LOG.debug("Retrying {} waiting allocations: {}", wokenAllocations.size(), allocationCounters);
+    for (AllocatorCommand.Allocate allocate : wokenAllocations) {
       kernelExecutor.submit(
           new AllocatorTask(
               reservationPool,
-              deferredAllocations,
+              allocationCounters,
               allocationAdvisor,
               kernelExecutor,
               globalSyncObject,
@@ -227,6 +282,5 @@ class AllocatorTask
           )
       );
     }
-    deferredAllocations.clear();
   }
 }
@@ -12,10 +12,8 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.Future;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.stream.Collectors;
 import org.opentcs.components.kernel.ResourceAllocationException;
@@ -58,9 +56,9 @@ public class DefaultScheduler
    */
   private final ReservationPool reservationPool;
   /**
-   * Allocations deferred because they couldn't be granted, yet.
+   * Counts allocation-related events.
    */
-  private final Queue<AllocatorCommand.Allocate> deferredAllocations = new LinkedBlockingQueue<>();
+  private final AllocationCounters allocationCounters;
   /**
    * Executes scheduling tasks.
    */
@@ -87,6 +85,7 @@ public class DefaultScheduler
    *
    * @param allocationAdvisor Takes care of modules.
    * @param reservationPool The reservation pool to be used.
+   * @param allocationCounters Counts allocation-related events.
    * @param kernelExecutor Executes scheduling tasks.
    * @param eventBus The kernel's event bus.
    * @param globalSyncObject The kernel threads' global synchronization object.
@@ -95,6 +94,7 @@ public class DefaultScheduler
   public DefaultScheduler(
       AllocationAdvisor allocationAdvisor,
       ReservationPool reservationPool,
+      AllocationCounters allocationCounters,
       @KernelExecutor
       ScheduledExecutorService kernelExecutor,
       @ApplicationEventBus
@@ -104,6 +104,7 @@ public class DefaultScheduler
   ) {
     this.allocationAdvisor = requireNonNull(allocationAdvisor, "allocationAdvisor");
     this.reservationPool = requireNonNull(reservationPool, "reservationPool");
+    this.allocationCounters = requireNonNull(allocationCounters, "allocationCounters");
     this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
     this.eventBus = requireNonNull(eventBus, "eventBus");
     this.globalSyncObject = requireNonNull(globalSyncObject, "globalSyncObject");
@@ -172,7 +173,7 @@ public class DefaultScheduler
       Future<?> allocateFuture = kernelExecutor.submit(
           new AllocatorTask(
               reservationPool,
-              deferredAllocations,
+              allocationCounters,
               allocationAdvisor,
               kernelExecutor,
               globalSyncObject,
@@ -230,17 +231,18 @@ public class DefaultScheduler
     requireNonNull(client, "client");
     requireNonNull(resources, "resources");
 
+    Set<TCSResource<?>> completelyFreeResources;
     synchronized (globalSyncObject) {
       LOG.debug("{}: Releasing resources: {}", client.getId(), resources);
       reservationPool.free(client, resources);
 
       // Check which resources are now completely free
-      Set<TCSResource<?>> completelyFreeResources = resources.stream()
+      completelyFreeResources = resources.stream()
           .filter(resource -> reservationPool.getReservationEntry(resource).isFree())
           .collect(Collectors.toCollection(HashSet::new));
       new AllocatorTask(
           reservationPool,
-          deferredAllocations,
+          allocationCounters,
           allocationAdvisor,
           kernelExecutor,
           globalSyncObject,
@@ -250,11 +252,11 @@ public class DefaultScheduler
     kernelExecutor.submit(
         new AllocatorTask(
             reservationPool,
-            deferredAllocations,
+            allocationCounters,
             allocationAdvisor,
             kernelExecutor,
             globalSyncObject,
-            new RetryAllocates(client)
+            new RetryAllocates(client, completelyFreeResources)
         )
     );
   }
@@ -263,8 +265,9 @@ public class DefaultScheduler
   public void freeAll(Client client) {
     requireNonNull(client, "client");
 
+    Set<TCSResource<?>> freedResources;
     synchronized (globalSyncObject) {
-      Set<TCSResource<?>> freedResources = reservationPool.allocatedResources(client);
+      freedResources = reservationPool.allocatedResources(client);
 
       LOG.debug("{}: Releasing all resources...", client.getId());
       reservationPool.freeAll(client);
@@ -272,7 +275,7 @@ public class DefaultScheduler
 
       new AllocatorTask(
           reservationPool,
-          deferredAllocations,
+          allocationCounters,
           allocationAdvisor,
           kernelExecutor,
           globalSyncObject,
@@ -282,11 +285,11 @@ public class DefaultScheduler
     kernelExecutor.submit(
         new AllocatorTask(
             reservationPool,
-            deferredAllocations,
+            allocationCounters,
             allocationAdvisor,
             kernelExecutor,
             globalSyncObject,
-            new RetryAllocates(client)
+            new RetryAllocates(client, freedResources)
         )
     );
   }
@@ -296,7 +299,7 @@ public class DefaultScheduler
     requireNonNull(client, "client");
     synchronized (globalSyncObject) {
       LOG.debug("{}: Clearing pending allocation requests...", client.getId());
-      deferredAllocations.removeIf(allocate -> client.equals(allocate.getClient()));
+      reservationPool.removeWaitingAllocations(client);
       cancelPendingAllocateFutures(client);
     }
   }
@@ -305,7 +308,7 @@ public class DefaultScheduler
   public void reschedule() {
     new AllocatorTask(
         reservationPool,
-        deferredAllocations,
+        allocationCounters,
         allocationAdvisor,
         kernelExecutor,
         globalSyncObject,
@@ -335,7 +338,7 @@ public class DefaultScheduler
 
     new AllocatorTask(
         reservationPool,
-        deferredAllocations,
+        allocationCounters,
         allocationAdvisor,
         kernelExecutor,
         globalSyncObject,
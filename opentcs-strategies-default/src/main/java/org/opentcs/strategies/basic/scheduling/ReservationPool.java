@@ -7,8 +7,10 @@ import static java.util.Objects.requireNonNull;
 import jakarta.annotation.Nonnull;
 import jakarta.inject.Inject;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -37,6 +39,25 @@ public class ReservationPool {
    * <code>ReservationEntry</code> instances for each <code>TCSResource</code>.
    */
   private final Map<TCSResource<?>, ReservationEntry> reservations = new HashMap<>();
+  /**
+   * Allocations deferred because they couldn't be granted, yet, mapped to the resources they are
+   * waiting for.
+   * An allocation mapped to an empty set was refused for reasons not related to any specific
+   * resource (e.g. by a scheduler module).
+   */
+  private final Map<AllocatorCommand.Allocate, Set<TCSResource<?>>> waitingAllocations
+      = new LinkedHashMap<>();
+  /**
+   * Allocations deferred because they couldn't be granted, yet, grouped by the resources they are
+   * waiting for.
+   */
+  private final Map<TCSResource<?>, Set<AllocatorCommand.Allocate>> waitingAllocationsByResource
+      = new HashMap<>();
+  /**
+   * Allocations deferred because they couldn't be granted, yet, not waiting for any specific
+   * resource.
+   */
+  private final Set<AllocatorCommand.Allocate> waitingAllocationsWithoutResource = new HashSet<>();
 
   /**
    * Creates a new instance.
@@ -215,6 +236,32 @@ public class ReservationPool {
     return true;
   }
 
+  /**
+   * Returns the resources in the given set of resources that are not available for the given
+   * client, i.e. that are allocated by other clients.
+   *
+   * @param resources The set of resources to be checked.
+   * @param client The client for which to check.
+   * @return The resources in the given set that are not available for the given client.
+   */
+  @Nonnull
+  public Set<TCSResource<?>> unavailableResources(
+      @Nonnull
+      Set<TCSResource<?>> resources,
+      @Nonnull
+      Scheduler.Client client
+  ) {
+    requireNonNull(resources, "resources");
+    requireNonNull(client, "client");
+
+    return resources.stream()
+        .filter(resource -> {
+          ReservationEntry entry = getReservationEntry(resource);
+          return !entry.isFree() && !entry.isAllocatedBy(client);
+        })
+        .collect(Collectors.toSet());
+  }
+
   public void free(
       @Nonnull
       Scheduler.Client client,
@@ -262,6 +309,120 @@ public class ReservationPool {
   public void clear() {
     claimsByClient.clear();
     reservations.clear();
+    waitingAllocations.clear();
+    waitingAllocationsByResource.clear();
+    waitingAllocationsWithoutResource.clear();
+  }
+
+  /**
+   * Adds an allocation that could not be granted, yet, to the set of waiting allocations.
+   *
+   * @param allocate The allocation.
+   * @param blockingResources The resources the allocation is waiting for. If empty, the allocation
+   * was refused for reasons not related to any specific resource and will be woken up whenever any
+   * resource is released.
+   */
+  void addWaitingAllocation(
+      @Nonnull
+      AllocatorCommand.Allocate allocate,
+      @Nonnull
+      Set<TCSResource<?>> blockingResources
+  ) {
+    requireNonNull(allocate, "allocate");
+    requireNonNull(blockingResources, "blockingResources");
+
+    waitingAllocations.put(allocate, blockingResources);
+    if (blockingResources.isEmpty()) {
+      waitingAllocationsWithoutResource.add(allocate);
+    }
+    for (TCSResource<?> resource : blockingResources) {
+      waitingAllocationsByResource.computeIfAbsent(resource, res -> new HashSet<>()).add(allocate);
+    }
+  }
+
+  /**
+   * Removes and returns all waiting allocations that may be granted after the given resources have
+   * been released.
+   * These are the allocations waiting for at least one of the given resources and all allocations
+   * not waiting for any specific resource.
+   *
+   * @param releasedResources The resources that have been released.
+   * @return The waiting allocations that may be granted now, ordered by their creation time.
+   */
+  @Nonnull
+  List<AllocatorCommand.Allocate> removeWaitingAllocations(
+      @Nonnull
+      Set<TCSResource<?>> releasedResources
+  ) {
+    requireNonNull(releasedResources, "releasedResources");
+
+    Set<AllocatorCommand.Allocate> wokenAllocations
+        = new HashSet<>(waitingAllocationsWithoutResource);
+    for (TCSResource<?> resource : releasedResources) {
+      wokenAllocations.addAll(waitingAllocationsByResource.getOrDefault(resource, Set.of()));
+    }
+
+    List<AllocatorCommand.Allocate> result = new ArrayList<>(wokenAllocations);
+    result.sort(null);
+    result.forEach(this::removeWaitingAllocation);
+    return result;
+  }
+
+  /**
+   * Removes and returns all waiting allocations.
+   *
+   * @return All waiting allocations, in the order in which they were deferred.
+   */
+  @Nonnull
+  List<AllocatorCommand.Allocate> removeAllWaitingAllocations() {
+    List<AllocatorCommand.Allocate> result = new ArrayList<>(waitingAllocations.keySet());
+    waitingAllocations.clear();
+    waitingAllocationsByResource.clear();
+    waitingAllocationsWithoutResource.clear();
+    return result;
+  }
+
+  /**
+   * Removes all waiting allocations of the given client.
+   *
+   * @param client The client.
+   */
+  void removeWaitingAllocations(
+      @Nonnull
+      Scheduler.Client client
+  ) {
+    requireNonNull(client, "client");
+
+    waitingAllocations.keySet().stream()
+        .filter(allocate -> client.equals(allocate.getClient()))
+        .collect(Collectors.toList())
+        .forEach(this::removeWaitingAllocation);
+  }
+
+  /**
+   * Returns the number of waiting allocations.
+   *
+   * @return The number of waiting allocations.
+   */
+  int getWaitingAllocationCount() {
+    return waitingAllocations.size();
+  }
+
+  private void removeWaitingAllocation(AllocatorCommand.Allocate allocate) {
+    Set<TCSResource<?>> blockingResources = waitingAllocations.remove(allocate);
+    if (blockingResources == null) {
+      return;
+    }
+    waitingAllocationsWithoutResource.remove(allocate);
+    for (TCSResource<?> resource : blockingResources) {
+      Set<AllocatorCommand.Allocate> waiters = waitingAllocationsByResource.get(resource);
+      if (waiters != null) {
+        waiters.remove(allocate);
+        if (waiters.isEmpty()) {
+          waitingAllocationsByResource.remove(resource);
+        }
+      }
+    }
   }
 
   /**
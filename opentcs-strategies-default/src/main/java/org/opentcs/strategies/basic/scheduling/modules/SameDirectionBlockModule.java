@@ -199,13 +199,9 @@ public class SameDirectionBlockModule
       Block.Type type
   ) {
     Set<Block> result = new HashSet<>();
-    Set<Block> blocks = plantModelService.fetch(
-        Block.class,
-        block -> block.getType() == type
-    );
     for (TCSResource<?> resource : resources) {
-      for (Block block : blocks) {
-        if (block.getMembers().contains(resource.getReference())) {
+      for (Block block : plantModelService.fetchBlocksContaining(resource.getReference())) {
+        if (block.getType() == type) {
           result.add(block);
         }
       }
@@ -3,23 +3,40 @@
 package org.opentcs.strategies.basic.scheduling.modules.areaAllocation;
 
 import jakarta.inject.Inject;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Predicate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryCollection;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+import org.locationtech.jts.index.quadtree.Quadtree;
 import org.opentcs.components.Lifecycle;
 import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Vehicle;
 
 /**
  * A container for keeping track of areas allocated by vehicles.
+ * <p>
+ * The single areas allocated by all vehicles are kept in a spatial index, so that only areas whose
+ * bounding boxes intersect with the bounding box of a requested area need to be checked for actual
+ * intersections.
+ * </p>
  */
 public class AreaAllocations
     implements
       Lifecycle {
 
-  private final Map<TCSObjectReference<Vehicle>, GeometryCollection> allocatedAreasByVehicles
+  private final Map<TCSObjectReference<Vehicle>, List<AllocatedArea>> allocatedAreasByVehicles
       = new HashMap<>();
+  /**
+   * A spatial index of the areas allocated by all vehicles.
+   */
+  private Quadtree allocatedAreasIndex = new Quadtree();
   private boolean initialized = false;
 
   @Inject
@@ -56,6 +73,7 @@ public class AreaAllocations
    */
   public void clearAreaAllocations() {
     allocatedAreasByVehicles.clear();
+    allocatedAreasIndex = new Quadtree();
   }
 
   /**
@@ -69,7 +87,19 @@ public class AreaAllocations
       TCSObjectReference<Vehicle> vehicleRef,
       GeometryCollection allocatedAreas
   ) {
-    allocatedAreasByVehicles.put(vehicleRef, allocatedAreas);
+    clearAreaAllocation(vehicleRef);
+
+    List<AllocatedArea> areas = new ArrayList<>(allocatedAreas.getNumGeometries());
+    for (int i = 0; i < allocatedAreas.getNumGeometries(); i++) {
+      Geometry geometry = allocatedAreas.getGeometryN(i);
+      if (geometry.isEmpty()) {
+        continue;
+      }
+      AllocatedArea area = new AllocatedArea(vehicleRef, geometry);
+      allocatedAreasIndex.insert(geometry.getEnvelopeInternal(), area);
+      areas.add(area);
+    }
+    allocatedAreasByVehicles.put(vehicleRef, areas);
   }
 
   /**
@@ -78,11 +108,17 @@ public class AreaAllocations
    * @param vehicleRef The vehicle reference.
    */
   public void clearAreaAllocation(TCSObjectReference<Vehicle> vehicleRef) {
-    allocatedAreasByVehicles.remove(vehicleRef);
+    List<AllocatedArea> areas = allocatedAreasByVehicles.remove(vehicleRef);
+    if (areas == null) {
+      return;
+    }
+    for (AllocatedArea area : areas) {
+      allocatedAreasIndex.remove(area.geometry().getEnvelopeInternal(), area);
+    }
   }
 
   /**
-   * Checks if the given vehicle is allowed to allocate the given ares.
+   * Checks if the given vehicle is allowed to allocate the given areas.
    *
    * @param vehicleRef The vehicle reference.
    * @param requestedAreas The requested areas (to be allocated).
@@ -94,9 +130,72 @@ public class AreaAllocations
       TCSObjectReference<Vehicle> vehicleRef,
       GeometryCollection requestedAreas
   ) {
-    return allocatedAreasByVehicles.entrySet().stream()
-        // Only check areas allocated by vehicles other than the given vehicle.
-        .filter(entry -> !Objects.equals(entry.getKey(), vehicleRef))
-        .noneMatch(entry -> entry.getValue().intersects(requestedAreas));
+    for (int i = 0; i < requestedAreas.getNumGeometries(); i++) {
+      Geometry requestedArea = requestedAreas.getGeometryN(i);
+      if (intersectsAreaOfOtherVehicle(
+          vehicleRef,
+          requestedArea.getEnvelopeInternal(),
+          requestedArea::intersects
+      )) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Checks if the given vehicle is allowed to allocate the given areas.
+   *
+   * @param vehicleRef The vehicle reference.
+   * @param requestedAreas The requested areas (to be allocated).
+   * @return {@code true}, if the vehicle is allowed to allocate the given areas, otherwise
+   * {@code false} (i.e. in case some of the requested areas are already allocated by other
+   * vehicles).
+   */
+  public boolean isAreaAllocationAllowed(
+      TCSObjectReference<Vehicle> vehicleRef,
+      Collection<PreparedGeometry> requestedAreas
+  ) {
+    for (PreparedGeometry requestedArea : requestedAreas) {
+      if (intersectsAreaOfOtherVehicle(
+          vehicleRef,
+          requestedArea.getGeometry().getEnvelopeInternal(),
+          requestedArea::intersects
+      )) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean intersectsAreaOfOtherVehicle(
+      TCSObjectReference<Vehicle> vehicleRef,
+      Envelope requestedEnvelope,
+      Predicate<Geometry> intersectsRequestedArea
+  ) {
+    if (requestedEnvelope.isNull()) {
+      return false;
+    }
+
+    // The index may return areas whose bounding boxes do not intersect with the requested one.
+    for (Object item : allocatedAreasIndex.query(requestedEnvelope)) {
+      AllocatedArea allocatedArea = (AllocatedArea) item;
+      // Only check areas allocated by vehicles other than the given vehicle.
+      if (!Objects.equals(allocatedArea.vehicleRef(), vehicleRef)
+          && allocatedArea.geometry().getEnvelopeInternal().intersects(requestedEnvelope)
+          && intersectsRequestedArea.test(allocatedArea.geometry())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * A single area allocated by a vehicle.
+   *
+   * @param vehicleRef The vehicle reference.
+   * @param geometry The area's geometry.
+   */
+  private record AllocatedArea(TCSObjectReference<Vehicle> vehicleRef, Geometry geometry) {
   }
 }
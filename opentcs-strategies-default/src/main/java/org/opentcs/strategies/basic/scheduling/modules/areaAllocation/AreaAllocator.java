@@ -102,7 +102,7 @@ public class AreaAllocator
 
     return areaAllocations.isAreaAllocationAllowed(
         vehicleRef,
-        areaProvider.getAreas(envelopeKey, resources)
+        areaProvider.getPreparedAreas(envelopeKey, resources)
     ) && blockAreaAllocations.isAreaAllocationAllowed(vehicleRef, envelopeKey, resources);
   }
 
@@ -3,8 +3,12 @@
 package org.opentcs.strategies.basic.scheduling.modules.areaAllocation;
 
 import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 import org.locationtech.jts.geom.GeometryCollection;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
 import org.opentcs.components.Lifecycle;
 import org.opentcs.data.model.TCSResource;
 
@@ -29,4 +33,31 @@ public interface AreaProvider
       @Nonnull
       Set<TCSResource<?>> resources
   );
+
+  /**
+   * Provides the areas related to the given envelope key and the given set of resources as
+   * {@link PreparedGeometry}s, which allow for efficient repeated intersection tests.
+   * <p>
+   * This default implementation prepares the geometries provided by
+   * {@link #getAreas(String, Set)} anew with every call. Implementations caching areas should
+   * override it and cache the prepared geometries, too.
+   * </p>
+   *
+   * @param envelopeKey The envelope key.
+   * @param resources The set of resources.
+   * @return The areas related to the given envelope key and the given set of resources.
+   */
+  default List<PreparedGeometry> getPreparedAreas(
+      @Nonnull
+      String envelopeKey,
+      @Nonnull
+      Set<TCSResource<?>> resources
+  ) {
+    GeometryCollection areas = getAreas(envelopeKey, resources);
+    List<PreparedGeometry> result = new ArrayList<>(areas.getNumGeometries());
+    for (int i = 0; i < areas.getNumGeometries(); i++) {
+      result.add(PreparedGeometryFactory.prepare(areas.getGeometryN(i)));
+    }
+    return result;
+  }
 }
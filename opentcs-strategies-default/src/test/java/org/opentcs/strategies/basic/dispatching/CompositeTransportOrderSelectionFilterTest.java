@@ -13,6 +13,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.opentcs.common.metrics.MetricsRegistry;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.strategies.basic.dispatching.selection.TransportOrderSelectionFilter;
 import org.opentcs.strategies.basic.dispatching.selection.orders.CompositeTransportOrderSelectionFilter;
@@ -34,11 +35,14 @@ class CompositeTransportOrderSelectionFilterTest {
 
   private List<TransportOrder> transportOrders;
 
+  private DispatcherMetrics metrics;
+
   CompositeTransportOrderSelectionFilterTest() {
   }
 
   @BeforeEach
   void setUp() {
+    metrics = new DispatcherMetrics(new MetricsRegistry(false));
     transportOrders = new ArrayList<>();
     transportOrders.add(createTransportOrder(NAME_TRANSPORT));
     transportOrders.add(createTransportOrder(NAME_ORDER));
@@ -56,7 +60,7 @@ class CompositeTransportOrderSelectionFilterTest {
                 new FilterIfTransportOrderNameContainsOrder()
             )
         );
-    transportOrderSelectionFilter = new CompositeTransportOrderSelectionFilter(filters);
+    transportOrderSelectionFilter = new CompositeTransportOrderSelectionFilter(filters, metrics);
 
     long remainingTransportOrders = transportOrders.stream()
         .filter(order -> transportOrderSelectionFilter.apply(order).isEmpty())
@@ -69,7 +73,7 @@ class CompositeTransportOrderSelectionFilterTest {
   void shouldFilterTransportOrdersContainingTransport() {
     Set<TransportOrderSelectionFilter> filters
         = new HashSet<>(Arrays.asList(new FilterIfTransportOrderNameContainsTransport()));
-    transportOrderSelectionFilter = new CompositeTransportOrderSelectionFilter(filters);
+    transportOrderSelectionFilter = new CompositeTransportOrderSelectionFilter(filters, metrics);
 
     long remainingTransportOrders = transportOrders.stream()
         .filter(order -> transportOrderSelectionFilter.apply(order).isEmpty())
@@ -82,7 +86,7 @@ class CompositeTransportOrderSelectionFilterTest {
   void shouldFilterTransportOrdersContainingOrder() {
     Set<TransportOrderSelectionFilter> filters
         = new HashSet<>(Arrays.asList(new FilterIfTransportOrderNameContainsOrder()));
-    transportOrderSelectionFilter = new CompositeTransportOrderSelectionFilter(filters);
+    transportOrderSelectionFilter = new CompositeTransportOrderSelectionFilter(filters, metrics);
 
     long remainingTransportOrders = transportOrders.stream()
         .filter(order -> transportOrderSelectionFilter.apply(order).isEmpty())
@@ -100,7 +104,7 @@ class CompositeTransportOrderSelectionFilterTest {
                 new FilterIfTransportOrderNameContainsOrder()
             )
         );
-    transportOrderSelectionFilter = new CompositeTransportOrderSelectionFilter(filters);
+    transportOrderSelectionFilter = new CompositeTransportOrderSelectionFilter(filters, metrics);
 
     List<TransportOrder> remainingTransportOrders = transportOrders.stream()
         .filter(order -> !transportOrderSelectionFilter.apply(order).isEmpty())
@@ -109,6 +113,39 @@ class CompositeTransportOrderSelectionFilterTest {
     assertEquals(3, remainingTransportOrders.size());
   }
 
+  @Test
+  void shouldCountFilteredTransportOrdersPerFilter() {
+    MetricsRegistry registry = new MetricsRegistry(true);
+    Set<TransportOrderSelectionFilter> filters
+        = new HashSet<>(
+            Arrays.asList(
+                new FilterIfTransportOrderNameContainsTransport(),
+                new FilterIfTransportOrderNameContainsOrder()
+            )
+        );
+    transportOrderSelectionFilter = new CompositeTransportOrderSelectionFilter(
+        filters,
+        new DispatcherMetrics(registry)
+    );
+
+    transportOrders.forEach(order -> transportOrderSelectionFilter.apply(order));
+
+    assertEquals(
+        2.0,
+        registry.getSamples().get(
+            "dispatcher_filtered_total{kind=\"transport_order\","
+                + "filter=\"FilterIfTransportOrderNameContainsTransport\"}"
+        )
+    );
+    assertEquals(
+        2.0,
+        registry.getSamples().get(
+            "dispatcher_filtered_total{kind=\"transport_order\","
+                + "filter=\"FilterIfTransportOrderNameContainsOrder\"}"
+        )
+    );
+  }
+
   private TransportOrder createTransportOrder(String name) {
     return new TransportOrder(name, new ArrayList<>());
   }
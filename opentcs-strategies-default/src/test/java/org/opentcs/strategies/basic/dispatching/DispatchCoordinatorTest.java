@@ -0,0 +1,154 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.dispatching;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.common.metrics.MetricsRegistry;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.util.event.EventSource;
+
+/**
+ * Unit tests for {@link DispatchCoordinator}.
+ */
+class DispatchCoordinatorTest {
+
+  private DefaultDispatcherConfiguration configuration;
+  private DispatcherMetrics metrics;
+  private DispatchCoordinator coordinator;
+  private Vehicle vehicle;
+  private Vehicle otherVehicle;
+  private TransportOrder order;
+
+  @BeforeEach
+  void setUp() {
+    configuration = mock();
+    when(configuration.incrementalDispatching()).thenReturn(true);
+    metrics = new DispatcherMetrics(new MetricsRegistry(true));
+    coordinator = new DispatchCoordinator(mock(EventSource.class), configuration, metrics);
+    coordinator.initialize();
+
+    vehicle = new Vehicle("vehicle")
+        .withProcState(Vehicle.ProcState.PROCESSING_ORDER);
+    otherVehicle = new Vehicle("other-vehicle");
+    order = new TransportOrder("order", List.of());
+
+    // The first run after initialization is always a full one.
+    coordinator.beginRun();
+    coordinator.endRun();
+  }
+
+  @Test
+  void considerEverythingInFullRuns() {
+    when(configuration.incrementalDispatching()).thenReturn(false);
+
+    coordinator.beginRun();
+
+    assertThat(coordinator.isIncrementalRun(), is(false));
+    assertThat(coordinator.isInScope(vehicle), is(true));
+    assertThat(coordinator.isInScope(order), is(true));
+    assertThat(metrics.getFullRuns(), is(2L));
+  }
+
+  @Test
+  void considerOnlyChangedObjectsInIncrementalRuns() {
+    modifyVehicle(vehicle, vehicle.withProcState(Vehicle.ProcState.AWAITING_ORDER));
+    modifyVehicle(otherVehicle, otherVehicle.withNextPosition(new Point("point").getReference()));
+    coordinator.onEvent(new TCSObjectEvent(order, null, TCSObjectEvent.Type.OBJECT_CREATED));
+
+    coordinator.beginRun();
+
+    assertThat(coordinator.isIncrementalRun(), is(true));
+    assertThat(coordinator.isInScope(vehicle), is(true));
+    assertThat(coordinator.isInScope(otherVehicle), is(false));
+    assertThat(coordinator.isInScope(order), is(true));
+    assertThat(metrics.getIncrementalRuns(), is(1L));
+
+    coordinator.endRun();
+    coordinator.beginRun();
+
+    assertThat(coordinator.isInScope(vehicle), is(false));
+    assertThat(coordinator.isInScope(order), is(false));
+  }
+
+  @Test
+  void considerObjectsChangedDuringIncrementalRun() {
+    coordinator.beginRun();
+    assertThat(coordinator.isInScope(vehicle), is(false));
+
+    modifyVehicle(vehicle, vehicle.withProcState(Vehicle.ProcState.IDLE));
+
+    assertThat(coordinator.isInScope(vehicle), is(true));
+  }
+
+  @Test
+  void executeFullRunWhenRequested() {
+    coordinator.requestFullRun();
+
+    coordinator.beginRun();
+
+    assertThat(coordinator.isIncrementalRun(), is(false));
+    assertThat(coordinator.isInScope(otherVehicle), is(true));
+  }
+
+  @Test
+  void executeFullRunAfterPathWasLocked() {
+    Path path = new Path("path", new Point("A").getReference(), new Point("B").getReference());
+    coordinator.onEvent(
+        new TCSObjectEvent(path.withLocked(true), path, TCSObjectEvent.Type.OBJECT_MODIFIED)
+    );
+
+    coordinator.beginRun();
+
+    assertThat(coordinator.isIncrementalRun(), is(false));
+    assertThat(coordinator.isInScope(otherVehicle), is(true));
+    assertThat(coordinator.isInScope(order), is(true));
+  }
+
+  @Test
+  void considerEverythingAfterPathWasLockedDuringIncrementalRun() {
+    coordinator.beginRun();
+    assertThat(coordinator.isInScope(otherVehicle), is(false));
+
+    Path path = new Path("path", new Point("A").getReference(), new Point("B").getReference());
+    coordinator.onEvent(
+        new TCSObjectEvent(path.withLocked(true), path, TCSObjectEvent.Type.OBJECT_MODIFIED)
+    );
+
+    assertThat(coordinator.isInScope(otherVehicle), is(true));
+    assertThat(coordinator.isInScope(order), is(true));
+  }
+
+  @Test
+  void ignorePointOccupancyChanges() {
+    Point point = new Point("point");
+    coordinator.onEvent(
+        new TCSObjectEvent(
+            point.withOccupyingVehicle(vehicle.getReference()),
+            point,
+            TCSObjectEvent.Type.OBJECT_MODIFIED
+        )
+    );
+
+    coordinator.beginRun();
+
+    assertThat(coordinator.isIncrementalRun(), is(true));
+    assertThat(coordinator.isInScope(otherVehicle), is(false));
+  }
+
+  private void modifyVehicle(Vehicle oldState, Vehicle newState) {
+    coordinator.onEvent(
+        new TCSObjectEvent(newState, oldState, TCSObjectEvent.Type.OBJECT_MODIFIED)
+    );
+  }
+}
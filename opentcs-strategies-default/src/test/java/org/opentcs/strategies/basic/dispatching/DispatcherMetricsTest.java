@@ -0,0 +1,88 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.dispatching;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.common.metrics.MetricsRegistry;
+import org.opentcs.strategies.basic.dispatching.phase.AssignReservedOrdersPhase;
+import org.opentcs.strategies.basic.dispatching.phase.AssignSequenceSuccessorsPhase;
+import org.opentcs.strategies.basic.dispatching.phase.CheckNewOrdersPhase;
+import org.opentcs.strategies.basic.dispatching.phase.FinishWithdrawalsPhase;
+import org.opentcs.strategies.basic.dispatching.phase.assignment.AssignFreeOrdersPhase;
+import org.opentcs.strategies.basic.dispatching.phase.assignment.AssignNextDriveOrdersPhase;
+import org.opentcs.strategies.basic.dispatching.phase.parking.ParkIdleVehiclesPhase;
+import org.opentcs.strategies.basic.dispatching.phase.parking.PrioritizedParkingPhase;
+import org.opentcs.strategies.basic.dispatching.phase.parking.PrioritizedReparkPhase;
+import org.opentcs.strategies.basic.dispatching.phase.recharging.RechargeIdleVehiclesPhase;
+
+/**
+ * Tests for {@link DispatcherMetrics}.
+ */
+class DispatcherMetricsTest {
+
+  private MetricsRegistry registry;
+  private DispatcherMetrics metrics;
+
+  @BeforeEach
+  void setUp() {
+    registry = new MetricsRegistry(true);
+    metrics = new DispatcherMetrics(registry);
+  }
+
+  @Test
+  void returnSameTimerForSamePhase() {
+    Phase phase = mock();
+
+    assertThat(metrics.getPhaseDuration(phase), is(sameInstance(metrics.getPhaseDuration(phase))));
+  }
+
+  @Test
+  void countFilteredObjectsByKindAndFilter() {
+    Object filter = new Object();
+
+    metrics.filtered("vehicle", filter);
+    metrics.filtered("vehicle", filter);
+    metrics.filtered("candidate", filter);
+
+    assertThat(
+        registry.getSamples(),
+        hasEntry("dispatcher_filtered_total{kind=\"vehicle\",filter=\"Object\"}", 2.0)
+    );
+    assertThat(
+        registry.getSamples(),
+        hasEntry("dispatcher_filtered_total{kind=\"candidate\",filter=\"Object\"}", 1.0)
+    );
+  }
+
+  @Test
+  void recordDurationOfFailedDispatchRun() {
+    CheckNewOrdersPhase checkNewOrdersPhase = mock();
+    doThrow(new IllegalStateException()).when(checkNewOrdersPhase).run();
+    FullDispatchTask task = new FullDispatchTask(
+        checkNewOrdersPhase,
+        mock(FinishWithdrawalsPhase.class),
+        mock(AssignNextDriveOrdersPhase.class),
+        mock(AssignReservedOrdersPhase.class),
+        mock(AssignSequenceSuccessorsPhase.class),
+        mock(AssignFreeOrdersPhase.class),
+        mock(RechargeIdleVehiclesPhase.class),
+        mock(PrioritizedReparkPhase.class),
+        mock(PrioritizedParkingPhase.class),
+        mock(ParkIdleVehiclesPhase.class),
+        metrics
+    );
+
+    assertThrows(IllegalStateException.class, task::run);
+
+    assertThat(metrics.getRunDuration().getHistogram().getCount(), is(1L));
+  }
+}
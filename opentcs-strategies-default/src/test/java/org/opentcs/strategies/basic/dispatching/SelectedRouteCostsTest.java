@@ -0,0 +1,107 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.dispatching;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.components.kernel.RouteSelector;
+import org.opentcs.components.kernel.Router;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.Route;
+
+/**
+ * Tests for {@link SelectedRouteCosts}.
+ */
+class SelectedRouteCostsTest {
+
+  private Router router;
+  private DefaultDispatcherConfiguration configuration;
+  private Vehicle vehicle;
+  private Point sourcePoint;
+  private Point destinationPoint1;
+  private Point destinationPoint2;
+
+  @BeforeEach
+  void setUp() {
+    router = mock();
+    configuration = mock();
+    when(configuration.maxRoutesToConsider()).thenReturn(3);
+    vehicle = new Vehicle("some-vehicle");
+    sourcePoint = new Point("source-point");
+    destinationPoint1 = new Point("destination-point-1");
+    destinationPoint2 = new Point("destination-point-2");
+  }
+
+  @Test
+  void computeCostsAtOnceForLowestCostRouteSelector() {
+    when(
+        router.getRouteCosts(
+            vehicle,
+            sourcePoint,
+            Set.of(destinationPoint1, destinationPoint2),
+            Set.of()
+        )
+    )
+        .thenReturn(Map.of(destinationPoint1, 10L, destinationPoint2, Long.MAX_VALUE));
+    SelectedRouteCosts selectedRouteCosts
+        = new SelectedRouteCosts(router, new LowestCostRouteSelector(), configuration);
+
+    Map<Point, Long> result = selectedRouteCosts.getCosts(
+        vehicle,
+        sourcePoint,
+        Set.of(destinationPoint1, destinationPoint2)
+    );
+
+    assertThat(result, is(Map.of(destinationPoint1, 10L, destinationPoint2, Long.MAX_VALUE)));
+    verify(router, never()).getRoutes(any(), any(), any(), any(), anyInt());
+  }
+
+  @Test
+  void selectRoutesToEachDestinationForOtherRouteSelectors() {
+    Route route1 = new Route(List.of(step(destinationPoint1)), 10);
+    Route route2 = new Route(List.of(step(destinationPoint1)), 20);
+    when(router.getRoutes(vehicle, sourcePoint, destinationPoint1, Set.of(), 3))
+        .thenReturn(Set.of(route1, route2));
+    when(router.getRoutes(vehicle, sourcePoint, destinationPoint2, Set.of(), 3))
+        .thenReturn(Set.of());
+    RouteSelector routeSelector = mock();
+    when(routeSelector.select(Set.of(route1, route2))).thenReturn(Optional.of(route2));
+    when(routeSelector.select(Set.of())).thenReturn(Optional.empty());
+    SelectedRouteCosts selectedRouteCosts
+        = new SelectedRouteCosts(router, routeSelector, configuration);
+
+    Map<Point, Long> result = selectedRouteCosts.getCosts(
+        vehicle,
+        sourcePoint,
+        Set.of(destinationPoint1, destinationPoint2)
+    );
+
+    assertThat(result, is(Map.of(destinationPoint1, 20L, destinationPoint2, Long.MAX_VALUE)));
+    verify(router, never()).getRouteCosts(any(), any(), any(), any());
+  }
+
+  private Route.Step step(Point destinationPoint) {
+    return new Route.Step(
+        null,
+        sourcePoint,
+        destinationPoint,
+        Vehicle.Orientation.UNDEFINED,
+        0,
+        1
+    );
+  }
+}
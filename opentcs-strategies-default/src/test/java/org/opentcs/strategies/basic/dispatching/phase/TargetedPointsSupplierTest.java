@@ -5,13 +5,11 @@ package org.opentcs.strategies.basic.dispatching.phase;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.hasSize;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.opentcs.components.kernel.services.InternalTCSObjectService;
@@ -91,8 +89,8 @@ public class TargetedPointsSupplierTest {
         )
     ).withState(TransportOrder.State.BEING_PROCESSED);
 
-    when(objectService.stream(eq(TransportOrder.class)))
-        .thenReturn(Stream.of(order1, order2));
+    when(objectService.fetchTransportOrders(TransportOrder.State.BEING_PROCESSED))
+        .thenReturn(Set.of(order1, order2));
 
     Set<Point> targetedPoints = targetedPointsSupplier.getTargetedPoints();
     assertThat(targetedPoints, hasSize(2));
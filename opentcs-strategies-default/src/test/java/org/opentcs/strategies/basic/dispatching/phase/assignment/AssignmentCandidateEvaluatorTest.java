@@ -0,0 +1,96 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.dispatching.phase.assignment;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.components.kernel.services.InternalTCSObjectService;
+import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
+
+/**
+ * Tests for {@link AssignmentCandidateEvaluator}.
+ */
+class AssignmentCandidateEvaluatorTest {
+
+  private InternalTCSObjectService objectService;
+  private DefaultDispatcherConfiguration configuration;
+  private AssignmentCandidateEvaluator evaluator;
+
+  @BeforeEach
+  void setUp() {
+    objectService = mock();
+    configuration = mock();
+    evaluator = new AssignmentCandidateEvaluator(objectService, configuration);
+  }
+
+  @AfterEach
+  void tearDown() {
+    evaluator.terminate();
+  }
+
+  @Test
+  void evaluateSequentiallyOnCallingThread() {
+    when(configuration.assignmentCandidateParallelism()).thenReturn(1);
+    evaluator.initialize();
+
+    List<String> threadNames = evaluator.evaluate(
+        List.of(1, 2, 3),
+        input -> Thread.currentThread().getName()
+    );
+
+    assertFalse(evaluator.isParallel());
+    assertThat(threadNames, everyItem(is(Thread.currentThread().getName())));
+    verify(objectService, never()).publishSnapshot();
+  }
+
+  @Test
+  void evaluateInParallelOnDedicatedThreads() {
+    when(configuration.assignmentCandidateParallelism()).thenReturn(4);
+    evaluator.initialize();
+
+    List<String> threadNames = evaluator.evaluate(
+        List.of(1, 2, 3),
+        input -> Thread.currentThread().getName()
+    );
+
+    assertTrue(evaluator.isParallel());
+    assertThat(threadNames, everyItem(startsWith("assignmentCandidateEvaluator-")));
+    verify(objectService).publishSnapshot();
+  }
+
+  @Test
+  void keepOrderOfInputsInResults() {
+    when(configuration.assignmentCandidateParallelism()).thenReturn(4);
+    evaluator.initialize();
+
+    List<Integer> results = evaluator.evaluate(List.of(1, 2, 3, 4, 5), input -> input * 10);
+
+    assertThat(results, contains(10, 20, 30, 40, 50));
+  }
+
+  @Test
+  void evaluateSequentiallyAfterTermination() {
+    when(configuration.assignmentCandidateParallelism()).thenReturn(4);
+    evaluator.initialize();
+    evaluator.terminate();
+
+    List<Integer> results = evaluator.evaluate(List.of(1, 2), input -> input * 10);
+
+    assertFalse(evaluator.isParallel());
+    assertThat(results, contains(10, 20));
+  }
+}
@@ -0,0 +1,229 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.dispatching.phase.assignment;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.opentcs.strategies.basic.dispatching.phase.assignment.MinimumCostAssignment.INFEASIBLE;
+import static org.opentcs.strategies.basic.dispatching.phase.assignment.MinimumCostAssignment.UNASSIGNED;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link MinimumCostAssignment}.
+ */
+class MinimumCostAssignmentTest {
+
+  @Test
+  void assignRowsToColumnsWithMinimumTotalCosts() {
+    long[][] costs = {
+        {4, 1, 3},
+        {2, 0, 5},
+        {3, 2, 2}
+    };
+
+    assertThat(boxed(MinimumCostAssignment.solve(costs)), arrayContaining(1, 0, 2));
+  }
+
+  @Test
+  void preferMinimumTotalCostsOverGreedySelection() {
+    // Greedily assigning the cheapest column to the first row would leave the second row with
+    // high costs.
+    long[][] costs = {
+        {1, 2},
+        {2, 100}
+    };
+
+    assertThat(boxed(MinimumCostAssignment.solve(costs)), arrayContaining(1, 0));
+  }
+
+  @Test
+  void leaveSurplusRowsUnassigned() {
+    long[][] costs = {
+        {5},
+        {1},
+        {3}
+    };
+
+    assertThat(
+        boxed(MinimumCostAssignment.solve(costs)),
+        arrayContaining(UNASSIGNED, 0, UNASSIGNED)
+    );
+  }
+
+  @Test
+  void assignAsManyRowsAsPossibleDespiteHigherCosts() {
+    long[][] costs = {
+        {1, 1000},
+        {1, INFEASIBLE}
+    };
+
+    assertThat(boxed(MinimumCostAssignment.solve(costs)), arrayContaining(1, 0));
+  }
+
+  @Test
+  void neverAssignInfeasibleEntries() {
+    long[][] costs = {
+        {INFEASIBLE, INFEASIBLE},
+        {INFEASIBLE, 7}
+    };
+
+    assertThat(boxed(MinimumCostAssignment.solve(costs)), arrayContaining(UNASSIGNED, 1));
+  }
+
+  @Test
+  void handleEmptyMatrix() {
+    assertThat(MinimumCostAssignment.solve(new long[0][0]).length, is(0));
+    assertThat(boxed(MinimumCostAssignment.solve(new long[2][0])), arrayContaining(-1, -1));
+  }
+
+  @Test
+  void rejectNegativeCosts() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> MinimumCostAssignment.solve(new long[][]{{1, -1}})
+    );
+  }
+
+  @Test
+  void rejectCostsTooHighToBeProcessed() {
+    assertThrows(
+        ArithmeticException.class,
+        () -> MinimumCostAssignment.solve(new long[][]{{Long.MAX_VALUE / 2, 1}, {1, 1}})
+    );
+  }
+
+  @Test
+  void matchBruteForceResultsForRandomMatrices() {
+    Random random = new Random(42);
+    for (int i = 0; i < 500; i++) {
+      long[][] costs = randomCosts(random, 1 + random.nextInt(6), 1 + random.nextInt(6), true);
+
+      int[] result = MinimumCostAssignment.solve(costs);
+
+      BruteForceResult expected = new BruteForceResult();
+      bruteForce(costs, 0, new boolean[costs[0].length], 0, 0, expected);
+      assertThat(assignmentCount(result), is(expected.assignmentCount));
+      assertThat(totalCosts(costs, result), is(expected.totalCosts));
+    }
+  }
+
+  @Test
+  void neverExceedGreedyTotalCosts() {
+    Random random = new Random(4711);
+    for (int i = 0; i < 100; i++) {
+      long[][] costs = randomCosts(random, 20, 30, false);
+
+      int[] result = MinimumCostAssignment.solve(costs);
+      int[] greedyResult = greedy(costs);
+
+      assertThat(assignmentCount(result), is(20));
+      assertThat(totalCosts(costs, result), is(lessThanOrEqualTo(totalCosts(costs, greedyResult))));
+    }
+  }
+
+  private static long[][] randomCosts(
+      Random random,
+      int rowCount,
+      int columnCount,
+      boolean withInfeasibleEntries
+  ) {
+    long[][] costs = new long[rowCount][columnCount];
+    for (long[] row : costs) {
+      for (int column = 0; column < columnCount; column++) {
+        row[column] = withInfeasibleEntries && random.nextInt(5) == 0
+            ? INFEASIBLE
+            : random.nextInt(10000);
+      }
+    }
+    return costs;
+  }
+
+  private static int[] greedy(long[][] costs) {
+    int[] result = new int[costs.length];
+    Arrays.fill(result, UNASSIGNED);
+    Set<Integer> usedColumns = new HashSet<>();
+    for (int row = 0; row < costs.length; row++) {
+      for (int column = 0; column < costs[row].length; column++) {
+        if (costs[row][column] != INFEASIBLE
+            && !usedColumns.contains(column)
+            && (result[row] == UNASSIGNED || costs[row][column] < costs[row][result[row]])) {
+          result[row] = column;
+        }
+      }
+      if (result[row] != UNASSIGNED) {
+        usedColumns.add(result[row]);
+      }
+    }
+    return result;
+  }
+
+  private static void bruteForce(
+      long[][] costs,
+      int row,
+      boolean[] usedColumns,
+      int assignmentCount,
+      long totalCosts,
+      BruteForceResult bestResult
+  ) {
+    if (row == costs.length) {
+      if (assignmentCount > bestResult.assignmentCount
+          || (assignmentCount == bestResult.assignmentCount
+              && totalCosts < bestResult.totalCosts)) {
+        bestResult.assignmentCount = assignmentCount;
+        bestResult.totalCosts = totalCosts;
+      }
+      return;
+    }
+
+    bruteForce(costs, row + 1, usedColumns, assignmentCount, totalCosts, bestResult);
+    for (int column = 0; column < usedColumns.length; column++) {
+      if (!usedColumns[column] && costs[row][column] != INFEASIBLE) {
+        usedColumns[column] = true;
+        bruteForce(
+            costs,
+            row + 1,
+            usedColumns,
+            assignmentCount + 1,
+            totalCosts + costs[row][column],
+            bestResult
+        );
+        usedColumns[column] = false;
+      }
+    }
+  }
+
+  private static int assignmentCount(int[] result) {
+    return (int) Arrays.stream(result).filter(column -> column != UNASSIGNED).count();
+  }
+
+  private static long totalCosts(long[][] costs, int[] result) {
+    long totalCosts = 0;
+    for (int row = 0; row < result.length; row++) {
+      if (result[row] != UNASSIGNED) {
+        totalCosts += costs[row][result[row]];
+      }
+    }
+    return totalCosts;
+  }
+
+  private static Integer[] boxed(int[] values) {
+    return Arrays.stream(values).boxed().toArray(Integer[]::new);
+  }
+
+  private static class BruteForceResult {
+
+    private int assignmentCount = -1;
+    private long totalCosts = Long.MAX_VALUE;
+
+    BruteForceResult() {
+    }
+  }
+}
@@ -7,6 +7,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
@@ -26,6 +28,7 @@ import org.opentcs.data.model.Point;
 import org.opentcs.data.model.TCSResource;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
+import org.opentcs.strategies.basic.dispatching.LowestCostRouteSelector;
 import org.opentcs.strategies.basic.dispatching.phase.TargetedPointsSupplier;
 
 /**
@@ -37,8 +40,6 @@ class AbstractParkingPositionSupplierTest {
   private Router router;
   private AbstractParkingPositionSupplierImpl supplier;
   private TargetedPointsSupplier targetedPointsSupplier;
-  private DefaultDispatcherConfiguration configuration;
-  private RouteSelector routeSelector;
 
   AbstractParkingPositionSupplierTest() {
   }
@@ -48,10 +49,12 @@ class AbstractParkingPositionSupplierTest {
     plantModelService = mock(InternalPlantModelService.class);
     router = mock(Router.class);
     targetedPointsSupplier = mock(TargetedPointsSupplier.class);
-    configuration = mock(DefaultDispatcherConfiguration.class);
-    routeSelector = mock(RouteSelector.class);
     supplier = new AbstractParkingPositionSupplierImpl(
-        plantModelService, router, targetedPointsSupplier, configuration, routeSelector
+        plantModelService,
+        router,
+        targetedPointsSupplier,
+        mock(DefaultDispatcherConfiguration.class),
+        new LowestCostRouteSelector()
     );
     when(targetedPointsSupplier.getTargetedPoints()).thenReturn(Set.of());
 
@@ -109,6 +112,7 @@ class AbstractParkingPositionSupplierTest {
     Set<Point> result = supplier.findUsableParkingPositions(vehicle);
     assertFalse(result.isEmpty());
     assertEquals(setOf(point2, point3), result);
+    verify(targetedPointsSupplier, times(1)).getTargetedPoints();
   }
 
   @Test
@@ -158,7 +162,7 @@ class AbstractParkingPositionSupplierTest {
     }
 
     @Override
-    public Optional<Point> findParkingPosition(Vehicle vehicle) {
+    public Optional<Point> findParkingPosition(Vehicle vehicle, Set<Point> targetedPoints) {
       throw new UnsupportedOperationException("Outside of this test's scope.");
     }
   }
@@ -6,13 +6,17 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -21,6 +25,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentMatchers;
 import org.opentcs.components.kernel.Dispatcher;
+import org.opentcs.components.kernel.RouteSelector;
 import org.opentcs.components.kernel.Router;
 import org.opentcs.components.kernel.services.InternalPlantModelService;
 import org.opentcs.data.model.Block;
@@ -41,25 +46,23 @@ class DefaultParkingPositionSupplierTest {
   private Vehicle vehicle;
   private DefaultParkingPositionSupplier supplier;
   private TargetedPointsSupplier targetedPointsSupplier;
-  private DefaultDispatcherConfiguration configuration;
 
   @BeforeEach
   void setUp() {
     plantModelService = mock(InternalPlantModelService.class);
     router = mock(Router.class);
     targetedPointsSupplier = mock(TargetedPointsSupplier.class);
-    configuration = mock(DefaultDispatcherConfiguration.class);
 
     vehicle = new Vehicle("vehicle");
     supplier = new DefaultParkingPositionSupplier(
         plantModelService,
         router,
         targetedPointsSupplier,
-        configuration,
+        mock(DefaultDispatcherConfiguration.class),
         new LowestCostRouteSelector()
     );
     when(targetedPointsSupplier.getTargetedPoints()).thenReturn(Set.of());
-    when(configuration.maxRoutesToConsider()).thenReturn(1);
+    when(router.getRouteCosts(any(), any(), any(), any())).thenCallRealMethod();
   }
 
   @AfterEach
@@ -130,6 +133,75 @@ class DefaultParkingPositionSupplierTest {
     assertEquals(point3, result.get());
   }
 
+  @Test
+  void returnsClosestParkingPositionNotTargetedByOtherVehicles() {
+    Point point1 = new Point("vehicle's current position");
+    Point point2 = new Point("parking position")
+        .withType(Point.Type.PARK_POSITION);
+    Point point3 = new Point("another parking position closer to the vehicle")
+        .withType(Point.Type.PARK_POSITION);
+    vehicle = new Vehicle("vehicle").withCurrentPosition(point1.getReference());
+    when(router.getRouteCosts(vehicle, point1, Set.of(point2), Set.of()))
+        .thenReturn(Map.of(point2, 30L));
+    when(plantModelService.fetch(Point.class, point1.getReference()))
+        .thenReturn(Optional.of(point1));
+    when(
+        plantModelService.fetch(eq(Point.class), ArgumentMatchers.<Predicate<? super Point>>any())
+    ).thenReturn(setOf(point2, point3));
+    when(plantModelService.expandResources(Set.of(point2.getReference())))
+        .thenReturn(Set.of(point2));
+    when(plantModelService.expandResources(Set.of(point3.getReference())))
+        .thenReturn(Set.of(point3));
+
+    Optional<Point> result = supplier.findParkingPosition(vehicle, Set.of(point3));
+    assertTrue(result.isPresent());
+    assertEquals(point2, result.get());
+    verify(targetedPointsSupplier, never()).getTargetedPoints();
+  }
+
+  @Test
+  void usesBoundRouteSelectorForCosts() {
+    DefaultDispatcherConfiguration configuration = mock(DefaultDispatcherConfiguration.class);
+    when(configuration.maxRoutesToConsider()).thenReturn(2);
+    RouteSelector routeSelector = mock(RouteSelector.class);
+    supplier = new DefaultParkingPositionSupplier(
+        plantModelService,
+        router,
+        targetedPointsSupplier,
+        configuration,
+        routeSelector
+    );
+
+    Point point1 = new Point("vehicle's current position");
+    Point point2 = new Point("parking position")
+        .withType(Point.Type.PARK_POSITION);
+    Point point3 = new Point("another parking position closer to the vehicle")
+        .withType(Point.Type.PARK_POSITION);
+    vehicle = new Vehicle("vehicle").withCurrentPosition(point1.getReference());
+    Set<Route> routesToPoint2 = Set.of(
+        new Route(List.of(new Step(null, point1, point2, Vehicle.Orientation.FORWARD, 0, 30)))
+    );
+    Set<Route> routesToPoint3 = Set.of(
+        new Route(List.of(new Step(null, point1, point3, Vehicle.Orientation.FORWARD, 0, 10)))
+    );
+    when(router.getRoutes(vehicle, point1, point2, Set.of(), 2)).thenReturn(routesToPoint2);
+    when(router.getRoutes(vehicle, point1, point3, Set.of(), 2)).thenReturn(routesToPoint3);
+    // The custom route selector does not accept any of the routes to the closer parking position.
+    when(routeSelector.select(routesToPoint2)).thenReturn(routesToPoint2.stream().findAny());
+    when(routeSelector.select(routesToPoint3)).thenReturn(Optional.empty());
+    when(plantModelService.fetch(Point.class, point1.getReference()))
+        .thenReturn(Optional.of(point1));
+    when(
+        plantModelService.fetch(eq(Point.class), ArgumentMatchers.<Predicate<? super Point>>any())
+    ).thenReturn(setOf(point2, point3));
+
+    supplier.initialize();
+    Optional<Point> result = supplier.findParkingPosition(vehicle);
+    assertTrue(result.isPresent());
+    assertEquals(point2, result.get());
+    verify(router, never()).getRouteCosts(any(), any(), any(), any());
+  }
+
   @SuppressWarnings("unchecked")
   private <T> Set<T> setOf(T... resources) {
     return new HashSet<>(Arrays.asList(resources));
@@ -5,6 +5,7 @@ package org.opentcs.strategies.basic.dispatching.phase.parking;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -38,7 +39,6 @@ class PrioritizedParkingPositionSupplierTest {
   private Router router;
   private ParkingPositionToPriorityFunction priorityFunction;
   private TargetedPointsSupplier targetedPointsSupplier;
-  private DefaultDispatcherConfiguration configuration;
 
   @BeforeEach
   void setUp() {
@@ -46,17 +46,16 @@ class PrioritizedParkingPositionSupplierTest {
     router = mock(Router.class);
     priorityFunction = new ParkingPositionToPriorityFunction();
     targetedPointsSupplier = mock(TargetedPointsSupplier.class);
-    configuration = mock(DefaultDispatcherConfiguration.class);
     supplier = new PrioritizedParkingPositionSupplier(
         plantModelService,
         router,
         priorityFunction,
         targetedPointsSupplier,
-        configuration,
+        mock(DefaultDispatcherConfiguration.class),
         new LowestCostRouteSelector()
     );
     when(targetedPointsSupplier.getTargetedPoints()).thenReturn(Set.of());
-    when(configuration.maxRoutesToConsider()).thenReturn(1);
+    when(router.getRouteCosts(any(), any(), any(), any())).thenCallRealMethod();
   }
 
   @Test
@@ -8,16 +8,18 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.oneOf;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.opentcs.components.kernel.Dispatcher;
-import org.opentcs.components.kernel.RouteSelector;
 import org.opentcs.components.kernel.Router;
 import org.opentcs.components.kernel.services.InternalPlantModelService;
 import org.opentcs.data.model.Location;
@@ -25,8 +27,8 @@ import org.opentcs.data.model.LocationType;
 import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.DriveOrder.Destination;
-import org.opentcs.data.order.Route;
 import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
+import org.opentcs.strategies.basic.dispatching.LowestCostRouteSelector;
 import org.opentcs.strategies.basic.dispatching.phase.TargetedPointsSupplier;
 
 /**
@@ -45,7 +47,6 @@ class DefaultRechargePositionSupplierTest {
   private InternalPlantModelService plantModelService;
   private Router router;
   private TargetedPointsSupplier targetedPointsSupplier;
-  private DefaultDispatcherConfiguration configuration;
   private DefaultRechargePositionSupplier rechargePosSupplier;
 
   @BeforeEach
@@ -80,14 +81,13 @@ class DefaultRechargePositionSupplierTest {
     plantModelService = mock(InternalPlantModelService.class);
     router = mock(Router.class);
     targetedPointsSupplier = mock(TargetedPointsSupplier.class);
-    configuration = mock(DefaultDispatcherConfiguration.class);
 
     rechargePosSupplier = new DefaultRechargePositionSupplier(
         plantModelService,
         router,
         targetedPointsSupplier,
-        configuration,
-        mock(RouteSelector.class)
+        mock(DefaultDispatcherConfiguration.class),
+        new LowestCostRouteSelector()
     );
 
     when(plantModelService.fetch(Point.class, currentPosition.getReference()))
@@ -100,24 +100,8 @@ class DefaultRechargePositionSupplierTest {
         .thenReturn(Set.of(rechargeLoc1, rechargeLoc2, rechargeLoc3));
     when(plantModelService.expandResources(Set.of(locationAccessPoint.getReference())))
         .thenReturn(Set.of(locationAccessPoint));
-    when(configuration.maxRoutesToConsider()).thenReturn(1);
-    when(router.getRoutes(vehicle, currentPosition, locationAccessPoint, Set.of(), 1))
-        .thenReturn(
-            Set.of(
-                new Route(
-                    List.of(
-                        new Route.Step(
-                            null,
-                            currentPosition,
-                            locationAccessPoint,
-                            Vehicle.Orientation.FORWARD,
-                            0,
-                            10
-                        )
-                    )
-                )
-            )
-        );
+    when(router.getRouteCosts(vehicle, currentPosition, Set.of(locationAccessPoint), Set.of()))
+        .thenReturn(Map.of(locationAccessPoint, 10L));
 
     rechargePosSupplier.initialize();
   }
@@ -197,6 +181,15 @@ class DefaultRechargePositionSupplierTest {
     );
   }
 
+  @Test
+  void returnEmptyListIfAccessPointsAreTargetedByOtherVehicles() {
+    assertThat(
+        rechargePosSupplier.findRechargeSequence(vehicle, Set.of(locationAccessPoint)),
+        is(empty())
+    );
+    verify(targetedPointsSupplier, never()).getTargetedPoints();
+  }
+
   @Test
   void returnAssignedRechargeLocationIfSet() {
     List<Destination> result;
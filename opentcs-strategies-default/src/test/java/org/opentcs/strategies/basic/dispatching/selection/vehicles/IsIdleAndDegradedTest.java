@@ -8,6 +8,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -19,7 +20,9 @@ import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.OrderConstants;
 import org.opentcs.data.order.OrderSequence;
 import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
+import org.opentcs.util.DiscreteEventScheduler;
 import org.opentcs.util.TimeProvider;
+import org.opentcs.util.VirtualTimeProvider;
 
 /**
  * Test for {@link IsIdleAndDegraded}.
@@ -135,4 +138,22 @@ class IsIdleAndDegradedTest {
         .willReturn(idleAndDegradedVehicle.getProcStateTimestamp().plusMillis(30000));
     assertThat(isIdleAndDegraded.apply(idleAndDegradedVehicle), hasSize(1));
   }
+
+  @Test
+  void checkVehicleIsIdleLongEnoughInVirtualTime() {
+    DiscreteEventScheduler scheduler = new DiscreteEventScheduler(0);
+    TimeProvider virtualTimeProvider = new VirtualTimeProvider(scheduler);
+    isIdleAndDegraded = new IsIdleAndDegraded(configuration, virtualTimeProvider);
+    Vehicle vehicle = idleAndDegradedVehicle
+        .withProcState(Vehicle.ProcState.IDLE, virtualTimeProvider.getCurrentTimeInstant());
+
+    assertThat(isIdleAndDegraded.apply(vehicle), hasSize(1));
+
+    // Let the virtual time advance beyond the configured delay.
+    scheduler.schedule(() -> {
+    }, 60001, TimeUnit.MILLISECONDS);
+    scheduler.processNextEvents();
+
+    assertThat(isIdleAndDegraded.apply(vehicle), hasSize(0));
+  }
 }
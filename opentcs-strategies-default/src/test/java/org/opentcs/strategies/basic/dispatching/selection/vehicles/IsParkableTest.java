@@ -9,6 +9,7 @@ import static org.mockito.Mockito.mock;
 
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -21,7 +22,9 @@ import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.OrderConstants;
 import org.opentcs.data.order.OrderSequence;
 import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
+import org.opentcs.util.DiscreteEventScheduler;
 import org.opentcs.util.TimeProvider;
+import org.opentcs.util.VirtualTimeProvider;
 
 /**
  * Test for {@link IsParkable}.
@@ -140,4 +143,22 @@ class IsParkableTest {
         .willReturn(parkableVehicle.getProcStateTimestamp().plusMillis(30000));
     assertThat(isParkable.apply(parkableVehicle), hasSize(1));
   }
+
+  @Test
+  void checkVehicleIsIdleLongEnoughInVirtualTime() {
+    DiscreteEventScheduler scheduler = new DiscreteEventScheduler(0);
+    TimeProvider virtualTimeProvider = new VirtualTimeProvider(scheduler);
+    isParkable = new IsParkable(objectService, configuration, virtualTimeProvider);
+    Vehicle vehicle = parkableVehicle
+        .withProcState(Vehicle.ProcState.IDLE, virtualTimeProvider.getCurrentTimeInstant());
+
+    assertThat(isParkable.apply(vehicle), hasSize(1));
+
+    // Let the virtual time advance beyond the configured delay.
+    scheduler.schedule(() -> {
+    }, 60001, TimeUnit.MILLISECONDS);
+    scheduler.processNextEvents();
+
+    assertThat(isParkable.apply(vehicle), hasSize(0));
+  }
 }
@@ -9,6 +9,9 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opentcs.strategies.basic.routing.PointRouter.INFINITE_COSTS;
 
@@ -23,6 +26,7 @@ import org.opentcs.components.kernel.services.InternalTCSObjectService;
 import org.opentcs.data.model.Location;
 import org.opentcs.data.model.Location.Link;
 import org.opentcs.data.model.LocationType;
+import org.opentcs.data.model.Path;
 import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.DriveOrder;
@@ -58,6 +62,7 @@ class DefaultRouterTest {
     );
 
     pointRouter = mock();
+    when(pointRouter.getRoutesFrom(any(Point.class))).thenCallRealMethod();
     Point point1 = new Point("P1").withType(Point.Type.HALT_POSITION);
     Point point2 = new Point("P2").withType(Point.Type.HALT_POSITION);
     order = new TransportOrder(
@@ -117,6 +122,30 @@ class DefaultRouterTest {
     assertThat(defaultRouter.checkGeneralRoutability(order), is(true));
   }
 
+  @Test
+  void updateRoutingTopologyInPlaceOnlyIfNoRouteComputationIsInProgress() {
+    Vehicle vehicle = new Vehicle("V1");
+    Point sourcePoint = new Point("P0");
+    Set<Path> paths = Set.of(
+        new Path("P0 --- P1", sourcePoint.getReference(), new Point("P1").getReference())
+    );
+    when(pointRouterProvider.getPointRouterForVehicle(vehicle, order)).thenReturn(pointRouter);
+    // Update the routing topology while a route is being computed.
+    when(pointRouter.getCosts(any(Point.class), any(Point.class))).thenAnswer(invocation -> {
+      defaultRouter.updateRoutingTopology(paths);
+      return INFINITE_COSTS;
+    });
+
+    defaultRouter.updateRoutingTopology(paths);
+    verify(pointRouterProvider).updateRoutingTopology(paths, true);
+
+    defaultRouter.getRoutes(vehicle, sourcePoint, order, 1);
+    verify(pointRouterProvider).updateRoutingTopology(paths, false);
+
+    defaultRouter.updateRoutingTopology(paths);
+    verify(pointRouterProvider, times(2)).updateRoutingTopology(paths, true);
+  }
+
   @Test
   void provideRouteSequenceForTransportOrder() {
     Vehicle vehicle = new Vehicle("V1");
@@ -146,6 +175,10 @@ class DefaultRouterTest {
 
     when(pointRouterProvider.getPointRouterForVehicle(vehicle, transportOrder))
         .thenReturn(pointRouter);
+    when(pointRouter.getCosts(any(Point.class), any(Point.class)))
+        .thenAnswer(
+            invocation -> Long.parseLong(invocation.<Point>getArgument(1).getProperty("cost"))
+        );
     when(pointRouter.getRouteSteps(any(Point.class), any(Point.class)))
         .thenAnswer(
             invocation -> {
@@ -176,4 +209,158 @@ class DefaultRouterTest {
     assertThat(orderRoutes.stream().findFirst().get().get(0).getCosts(), is(11L));
     assertThat(orderRoutes.stream().findFirst().get().get(1).getCosts(), is(13L));
   }
+
+  @Test
+  void computeRouteStepsForCheapestRouteOnly() {
+    Vehicle vehicle = new Vehicle("V1");
+    Point pointA = new Point("A");
+    Point pointB = new Point("B").withProperty("cost", "11");
+    Point pointC = new Point("C").withProperty("cost", "12");
+    LocationType type1 = new LocationType("some-type");
+    Location locationBC = new Location("L1", type1.getReference());
+    locationBC = locationBC.withAttachedLinks(
+        Set.of(
+            new Link(locationBC.getReference(), pointB.getReference()),
+            new Link(locationBC.getReference(), pointC.getReference())
+        )
+    );
+    TransportOrder transportOrder = new TransportOrder(
+        "T-1",
+        List.of(new DriveOrder("o1", new Destination(locationBC.getReference())))
+    );
+
+    when(pointRouterProvider.getPointRouterForVehicle(vehicle, transportOrder))
+        .thenReturn(pointRouter);
+    when(pointRouter.getCosts(any(Point.class), any(Point.class)))
+        .thenAnswer(
+            invocation -> Long.parseLong(invocation.<Point>getArgument(1).getProperty("cost"))
+        );
+    when(pointRouter.getRouteSteps(any(Point.class), any(Point.class)))
+        .thenAnswer(
+            invocation -> List.of(
+                new Route.Step(
+                    null,
+                    null,
+                    invocation.getArgument(1),
+                    Vehicle.Orientation.UNDEFINED,
+                    0,
+                    11
+                )
+            )
+        );
+    when(objectService.fetch(Point.class, pointB.getReference())).thenReturn(Optional.of(pointB));
+    when(objectService.fetch(Point.class, pointC.getReference())).thenReturn(Optional.of(pointC));
+    when(objectService.fetch(Location.class, "L1")).thenReturn(Optional.of(locationBC));
+    when(objectService.fetch(LocationType.class, type1.getReference()))
+        .thenReturn(Optional.of(type1));
+
+    defaultRouter.getRoutes(vehicle, pointA, transportOrder, 1);
+
+    verify(pointRouter).getRoutesFrom(pointA);
+    verify(pointRouter).getRouteSteps(pointA, pointB);
+    verify(pointRouter, never()).getRouteSteps(pointA, pointC);
+  }
+
+  @Test
+  void provideRouteCostsFromSingleSourcePoint() {
+    Vehicle vehicle = new Vehicle("V1");
+    Point pointA = new Point("A");
+    Point pointB = new Point("B").withProperty("cost", "11");
+    Point pointC = new Point("C").withProperty("cost", "12");
+    Point pointD = new Point("D");
+
+    when(pointRouterProvider.getPointRouterForVehicle(vehicle, Set.of())).thenReturn(pointRouter);
+    when(pointRouter.getCosts(any(Point.class), any(Point.class)))
+        .thenAnswer(
+            invocation -> Optional.ofNullable(invocation.<Point>getArgument(1).getProperty("cost"))
+                .map(Long::parseLong)
+                .orElse(INFINITE_COSTS)
+        );
+
+    Map<Point, Long> costs
+        = defaultRouter.getRouteCosts(vehicle, pointA, Set.of(pointB, pointC, pointD), Set.of());
+
+    assertThat(costs, is(Map.of(pointB, 11L, pointC, 12L, pointD, Long.MAX_VALUE)));
+    verify(pointRouter).getRoutesFrom(pointA);
+    verify(pointRouter, never()).getRouteSteps(any(Point.class), any(Point.class));
+  }
+
+  @Test
+  void provideMultipleRouteSequencesUpToRouteComputationLimit() {
+    Vehicle vehicle = new Vehicle("V1");
+    Point pointA = new Point("A");
+    Point pointB = new Point("B").withProperty("cost", "11");
+    Point pointC = new Point("C").withProperty("cost", "12");
+    Point pointD = new Point("D").withProperty("cost", "13");
+    Point pointE = new Point("E").withProperty("cost", "14");
+    LocationType type1 = new LocationType("some-type");
+    Location locationBC = new Location("L1", type1.getReference());
+    locationBC = locationBC.withAttachedLinks(
+        Set.of(
+            new Link(locationBC.getReference(), pointB.getReference()),
+            new Link(locationBC.getReference(), pointC.getReference())
+        )
+    );
+    Location locationDE = new Location("L2", type1.getReference());
+    locationDE = locationDE.withAttachedLinks(
+        Set.of(
+            new Link(locationDE.getReference(), pointD.getReference()),
+            new Link(locationDE.getReference(), pointE.getReference())
+        )
+    );
+    TransportOrder transportOrder = new TransportOrder(
+        "T-1",
+        List.of(
+            new DriveOrder("o1", new Destination(locationBC.getReference())),
+            new DriveOrder("o2", new Destination(locationDE.getReference()))
+        )
+    );
+
+    when(configuration.routeComputationLimit()).thenReturn(3);
+    when(pointRouterProvider.getPointRouterForVehicle(vehicle, transportOrder))
+        .thenReturn(pointRouter);
+    when(pointRouter.getCosts(any(Point.class), any(Point.class)))
+        .thenAnswer(
+            invocation -> Long.parseLong(invocation.<Point>getArgument(1).getProperty("cost"))
+        );
+    when(pointRouter.getRouteSteps(any(Point.class), any(Point.class)))
+        .thenAnswer(
+            invocation -> {
+              Point dest = invocation.getArgument(1);
+              return List.of(
+                  new Route.Step(
+                      null,
+                      null,
+                      dest,
+                      Vehicle.Orientation.UNDEFINED,
+                      0,
+                      Long.parseLong(dest.getProperty("cost"))
+                  )
+              );
+            }
+        );
+    when(objectService.fetch(Point.class, pointB.getReference())).thenReturn(Optional.of(pointB));
+    when(objectService.fetch(Point.class, pointC.getReference())).thenReturn(Optional.of(pointC));
+    when(objectService.fetch(Point.class, pointD.getReference())).thenReturn(Optional.of(pointD));
+    when(objectService.fetch(Point.class, pointE.getReference())).thenReturn(Optional.of(pointE));
+    when(objectService.fetch(Location.class, "L1")).thenReturn(Optional.of(locationBC));
+    when(objectService.fetch(Location.class, "L2")).thenReturn(Optional.of(locationDE));
+    when(objectService.fetch(LocationType.class, type1.getReference()))
+        .thenReturn(Optional.of(type1));
+
+    // Requesting more routes than the route computation limit allows yields only as many routes
+    // as allowed by the limit, the cheapest one first.
+    Set<List<Route>> orderRoutes = defaultRouter.getRoutes(vehicle, pointA, transportOrder, 10);
+
+    assertThat(orderRoutes, hasSize(3));
+    List<Route> cheapestRoutes = orderRoutes.stream().findFirst().get();
+    assertThat(cheapestRoutes.get(0).getFinalDestinationPoint(), is(pointB));
+    assertThat(cheapestRoutes.get(1).getFinalDestinationPoint(), is(pointD));
+
+    // Requesting a single route yields only the cheapest one.
+    orderRoutes = defaultRouter.getRoutes(vehicle, pointA, transportOrder, 1);
+
+    assertThat(orderRoutes, hasSize(1));
+    assertThat(orderRoutes.stream().findFirst().get(), is(cheapestRoutes));
+  }
 }
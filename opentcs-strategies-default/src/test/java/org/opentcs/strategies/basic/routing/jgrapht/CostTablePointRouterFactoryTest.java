@@ -0,0 +1,90 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.util.Set;
+import org.jgrapht.Graph;
+import org.jgrapht.graph.DirectedWeightedMultigraph;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.components.kernel.routing.Edge;
+import org.opentcs.components.kernel.routing.GroupMapper;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.strategies.basic.routing.PointRouter;
+
+/**
+ * Unit tests for {@link CostTablePointRouterFactory}.
+ */
+class CostTablePointRouterFactoryTest {
+
+  private GraphProvider graphProvider;
+  private ShortestPathConfiguration configuration;
+
+  @BeforeEach
+  void setUp() {
+    Point pointA = new Point("A");
+    Point pointB = new Point("B");
+    Path pathAB = new Path("A-->B", pointA.getReference(), pointB.getReference());
+
+    Vertex vertexA = new Vertex(pointA.getReference());
+    Vertex vertexB = new Vertex(pointB.getReference());
+    Edge edgeAB = new Edge(pathAB, false);
+    Graph<Vertex, Edge> graph = new DirectedWeightedMultigraph<>(Edge.class);
+    graph.addVertex(vertexA);
+    graph.addVertex(vertexB);
+    graph.addEdge(vertexA, vertexB, edgeAB);
+    graph.setEdgeWeight(edgeAB, 1000);
+
+    graphProvider = mock(GraphProvider.class);
+    when(graphProvider.getGeneralGraphResult()).thenReturn(
+        new GraphProvider.GraphResult(
+            new Vehicle("Dummy"),
+            Set.of(pointA, pointB),
+            Set.of(pathAB),
+            Set.of(),
+            Set.of(),
+            graph
+        )
+    );
+
+    configuration = mock(ShortestPathConfiguration.class);
+    when(configuration.costTableCacheDirectory()).thenReturn("");
+  }
+
+  @Test
+  void useCostTableForGraphWithinPointLimit() {
+    when(configuration.costTableMaxPointCount()).thenReturn(2);
+
+    PointRouter router = createFactory().createGeneralPointRouter(Set.of(), Set.of());
+
+    assertThat(router, is(instanceOf(CostTablePointRouter.class)));
+  }
+
+  @Test
+  void fallBackForGraphExceedingPointLimit() {
+    when(configuration.costTableMaxPointCount()).thenReturn(1);
+
+    PointRouter router = createFactory().createGeneralPointRouter(Set.of(), Set.of());
+
+    assertThat(router, is(not(instanceOf(CostTablePointRouter.class))));
+  }
+
+  private CostTablePointRouterFactory createFactory() {
+    return new CostTablePointRouterFactory(
+        graphProvider,
+        mock(GroupMapper.class),
+        configuration,
+        new File("")
+    );
+  }
+}
@@ -0,0 +1,246 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.File;
+import java.util.List;
+import java.util.Set;
+import org.jgrapht.Graph;
+import org.jgrapht.graph.DirectedWeightedMultigraph;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.opentcs.components.kernel.routing.Edge;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.Route.Step;
+import org.opentcs.strategies.basic.routing.PointRouter;
+
+/**
+ * Unit tests for {@link CostTablePointRouter} and {@link CostTable}.
+ */
+class CostTablePointRouterTest {
+
+  private Point pointA;
+  private Point pointB;
+  private Point pointC;
+  private Point pointD;
+
+  private Vertex vertexA;
+  private Vertex vertexB;
+  private Vertex vertexC;
+  private Vertex vertexD;
+
+  private Path pathAB;
+  private Path pathBC;
+  private Path pathAC;
+
+  private Set<Point> points;
+
+  @BeforeEach
+  void setUp() {
+    pointA = new Point("A");
+    pointB = new Point("B");
+    pointC = new Point("C");
+    pointD = new Point("D");
+    points = Set.of(pointA, pointB, pointC, pointD);
+
+    vertexA = new Vertex(pointA.getReference());
+    vertexB = new Vertex(pointB.getReference());
+    vertexC = new Vertex(pointC.getReference());
+    vertexD = new Vertex(pointD.getReference());
+
+    pathAB = new Path("A-->B", pointA.getReference(), pointB.getReference());
+    pathBC = new Path("B-->C", pointB.getReference(), pointC.getReference());
+    pathAC = new Path("A-->C", pointA.getReference(), pointC.getReference());
+  }
+
+  @Test
+  void returnZeroCostsIfDestinationIsSource() {
+    PointRouter pointRouter = createPointRouter(createGraph(1000, 1000, 5000));
+
+    assertEquals(0, pointRouter.getCosts(pointA.getReference(), pointA.getReference()));
+  }
+
+  @Test
+  void returnEmptyRouteIfDestinationIsSource() {
+    PointRouter pointRouter = createPointRouter(createGraph(1000, 1000, 5000));
+
+    List<Step> steps = pointRouter.getRouteSteps(pointA, pointA);
+    assertNotNull(steps);
+    assertThat(steps, is(empty()));
+  }
+
+  @Test
+  void returnInfiniteCostsIfNoRouteExists() {
+    PointRouter pointRouter = createPointRouter(createGraph(1000, 1000, 5000));
+
+    assertEquals(
+        PointRouter.INFINITE_COSTS,
+        pointRouter.getCosts(pointA.getReference(), pointD.getReference())
+    );
+    assertNull(pointRouter.getRouteSteps(pointA, pointD));
+  }
+
+  @Test
+  void returnCostsAndStepsOfCheapestRoute() {
+    PointRouter pointRouter = createPointRouter(createGraph(1000, 1000, 5000));
+
+    assertEquals(2000, pointRouter.getCosts(pointA.getReference(), pointC.getReference()));
+
+    List<Step> steps = pointRouter.getRouteSteps(pointA, pointC);
+    assertNotNull(steps);
+    assertThat(steps.stream().map(Step::getPath).toList(), contains(pathAB, pathBC));
+    assertThat(steps.get(0).getSourcePoint(), is(pointA));
+    assertThat(steps.get(0).getDestinationPoint(), is(pointB));
+    assertThat(steps.get(0).getVehicleOrientation(), is(Vehicle.Orientation.FORWARD));
+    assertThat(steps.get(0).getRouteIndex(), is(0));
+    assertThat(steps.get(0).getCosts(), is(1000L));
+    assertThat(steps.get(1).getRouteIndex(), is(1));
+  }
+
+  @Test
+  void storeCostsExceedingIntRange() {
+    long costs = 3L * Integer.MAX_VALUE;
+    PointRouter pointRouter = createPointRouter(createGraph(costs, costs, 5 * costs));
+
+    assertEquals(2 * costs, pointRouter.getCosts(pointA.getReference(), pointC.getReference()));
+  }
+
+  @Test
+  void repairTableAfterPathBecameMoreExpensive() {
+    CostTable costTable = CostTable.create(createGraph(1000, 1000, 5000), null);
+
+    Graph<Vertex, Edge> updatedGraph = createGraph(1000, 10000, 5000);
+    CostTable repairedTable = costTable.repair(updatedGraph).orElseThrow();
+
+    assertTablesEqual(repairedTable, CostTable.create(updatedGraph, null));
+    List<Step> steps
+        = new CostTablePointRouter(repairedTable, points).getRouteSteps(pointA, pointC);
+    assertNotNull(steps);
+    assertThat(steps.stream().map(Step::getPath).toList(), contains(pathAC));
+  }
+
+  @Test
+  void repairTableAfterPathBecameCheaper() {
+    CostTable costTable = CostTable.create(createGraph(1000, 1000, 5000), null);
+
+    Graph<Vertex, Edge> updatedGraph = createGraph(1000, 1000, 500);
+    CostTable repairedTable = costTable.repair(updatedGraph).orElseThrow();
+
+    assertTablesEqual(repairedTable, CostTable.create(updatedGraph, null));
+    assertEquals(
+        500,
+        repairedTable.getCosts(index(repairedTable, pointA), index(repairedTable, pointC))
+    );
+  }
+
+  @Test
+  void repairTableAfterPathWasRemovedAndAddedAgain() {
+    CostTable costTable = CostTable.create(createGraph(1000, 1000, 5000), null);
+
+    Graph<Vertex, Edge> graphWithoutPath = createGraph(1000, 1000, 5000);
+    graphWithoutPath.removeEdge(graphWithoutPath.getEdge(vertexB, vertexC));
+    CostTable tableWithoutPath = costTable.repair(graphWithoutPath).orElseThrow();
+    assertTablesEqual(tableWithoutPath, CostTable.create(graphWithoutPath, null));
+
+    Graph<Vertex, Edge> graphWithPath = createGraph(1000, 1000, 5000);
+    CostTable tableWithPath = tableWithoutPath.repair(graphWithPath).orElseThrow();
+    assertTablesEqual(tableWithPath, costTable);
+  }
+
+  @Test
+  void repairTableAfterGraphWasModifiedInPlace() {
+    Graph<Vertex, Edge> graph = createGraph(1000, 1000, 5000);
+    CostTable costTable = CostTable.create(graph, null);
+
+    graph.removeEdge(graph.getEdge(vertexA, vertexB));
+    CostTable repairedTable = costTable.repair(graph).orElseThrow();
+
+    assertTablesEqual(repairedTable, CostTable.create(graph, null));
+    assertEquals(
+        5000,
+        repairedTable.getCosts(index(repairedTable, pointA), index(repairedTable, pointC))
+    );
+  }
+
+  @Test
+  void doNotRepairTableForDifferentPoints() {
+    CostTable costTable = CostTable.create(createGraph(1000, 1000, 5000), null);
+
+    Graph<Vertex, Edge> updatedGraph = createGraph(1000, 1000, 5000);
+    updatedGraph.removeVertex(vertexD);
+
+    assertThat(costTable.repair(updatedGraph).isPresent(), is(false));
+  }
+
+  @Test
+  void reuseCachedTableForIdenticalGraph(
+      @TempDir
+      File cacheDirectory
+  ) {
+    CostTable computedTable = CostTable.create(createGraph(1000, 1000, 5000), cacheDirectory);
+    assertThat(cacheDirectory.listFiles().length, is(1));
+
+    CostTable cachedTable = CostTable.create(createGraph(1000, 1000, 5000), cacheDirectory);
+    assertTablesEqual(cachedTable, computedTable);
+
+    CostTable.create(createGraph(1000, 2000, 5000), cacheDirectory);
+    assertThat(cacheDirectory.listFiles().length, is(2));
+  }
+
+  private Graph<Vertex, Edge> createGraph(long costsAB, long costsBC, long costsAC) {
+    Graph<Vertex, Edge> graph = new DirectedWeightedMultigraph<>(Edge.class);
+
+    graph.addVertex(vertexA);
+    graph.addVertex(vertexB);
+    graph.addVertex(vertexC);
+    graph.addVertex(vertexD);
+
+    addEdge(graph, vertexA, vertexB, new Edge(pathAB, false), costsAB);
+    addEdge(graph, vertexB, vertexC, new Edge(pathBC, false), costsBC);
+    addEdge(graph, vertexA, vertexC, new Edge(pathAC, false), costsAC);
+
+    return graph;
+  }
+
+  private void addEdge(
+      Graph<Vertex, Edge> graph,
+      Vertex source,
+      Vertex target,
+      Edge edge,
+      long weight
+  ) {
+    graph.addEdge(source, target, edge);
+    graph.setEdgeWeight(edge, weight);
+  }
+
+  private PointRouter createPointRouter(Graph<Vertex, Edge> graph) {
+    return new CostTablePointRouter(CostTable.create(graph, null), points);
+  }
+
+  private int index(CostTable costTable, Point point) {
+    return costTable.getPointIndex(point.getName());
+  }
+
+  private void assertTablesEqual(CostTable actual, CostTable expected) {
+    assertEquals(expected.getPointCount(), actual.getPointCount());
+    for (Point source : points) {
+      for (Point dest : points) {
+        assertEquals(
+            expected.getCosts(index(expected, source), index(expected, dest)),
+            actual.getCosts(index(actual, source), index(actual, dest))
+        );
+      }
+    }
+  }
+}
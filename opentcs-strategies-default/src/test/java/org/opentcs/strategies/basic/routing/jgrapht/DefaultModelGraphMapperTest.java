@@ -127,4 +127,65 @@ class DefaultModelGraphMapperTest {
     assertThat(result.getEdgeWeight(edgeBC)).isEqualTo(29.0);
     verify(pathEdgeMapper).translatePaths(changedPaths, vehicle);
   }
+
+  @Test
+  void updateGraphInPlaceWithChangedPaths() {
+    Graph<Vertex, Edge> graph = new DirectedWeightedMultigraph<>(Edge.class);
+    Vertex a = new Vertex(new Point("A").getReference());
+    Vertex b = new Vertex(new Point("B").getReference());
+    Vertex c = new Vertex(new Point("C").getReference());
+    graph.addVertex(a);
+    graph.addVertex(b);
+    graph.addVertex(c);
+    Edge edgeAB = new Edge(pathAB, false);
+    graph.addEdge(a, b, edgeAB);
+    graph.setEdgeWeight(edgeAB, 42.0);
+    Edge edgeBC = new Edge(pathBC, false);
+    graph.addEdge(b, c, edgeBC);
+    graph.setEdgeWeight(edgeBC, 29.0);
+
+    // The path from A to B is now also navigable in reverse, with different costs.
+    Edge updatedEdgeAB = new Edge(pathAB, false);
+    Edge updatedEdgeBA = new Edge(pathAB, true);
+    when(pathEdgeMapper.translatePaths(any(), any()))
+        .thenReturn(Map.of(updatedEdgeAB, 79.0, updatedEdgeBA, 80.0));
+    Set<Path> changedPaths = Set.of(pathAB);
+
+    boolean modified = mapper.updateGraphInPlace(changedPaths, vehicle, graph);
+
+    assertThat(modified).isTrue();
+    assertThat(graph.vertexSet())
+        .hasSize(3)
+        .contains(a, b, c);
+    assertThat(graph.edgeSet())
+        .hasSize(3)
+        .contains(updatedEdgeAB, updatedEdgeBA, edgeBC);
+    assertThat(graph.getEdgeSource(updatedEdgeBA)).isEqualTo(b);
+    assertThat(graph.getEdgeTarget(updatedEdgeBA)).isEqualTo(a);
+    assertThat(graph.getEdgeWeight(updatedEdgeAB)).isEqualTo(79.0);
+    assertThat(graph.getEdgeWeight(updatedEdgeBA)).isEqualTo(80.0);
+    assertThat(graph.getEdgeWeight(edgeBC)).isEqualTo(29.0);
+    verify(pathEdgeMapper).translatePaths(changedPaths, vehicle);
+  }
+
+  @Test
+  void reportGraphUnmodifiedIfChangedPathsHaveNoEdges() {
+    Graph<Vertex, Edge> graph = new DirectedWeightedMultigraph<>(Edge.class);
+    Vertex a = new Vertex(new Point("A").getReference());
+    Vertex b = new Vertex(new Point("B").getReference());
+    Vertex c = new Vertex(new Point("C").getReference());
+    graph.addVertex(a);
+    graph.addVertex(b);
+    graph.addVertex(c);
+    Edge edgeAB = new Edge(pathAB, false);
+    graph.addEdge(a, b, edgeAB);
+    graph.setEdgeWeight(edgeAB, 42.0);
+
+    when(pathEdgeMapper.translatePaths(any(), any())).thenReturn(Map.of());
+
+    boolean modified = mapper.updateGraphInPlace(Set.of(pathBC), vehicle, graph);
+
+    assertThat(modified).isFalse();
+    assertThat(graph.edgeSet()).containsExactly(edgeAB);
+  }
 }
@@ -0,0 +1,102 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+
+import java.util.Set;
+import org.jgrapht.Graph;
+import org.jgrapht.graph.DirectedWeightedMultigraph;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.components.kernel.routing.Edge;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.strategies.basic.routing.jgrapht.GraphProvider.GraphResult;
+
+/**
+ * Tests for {@link GraphMutator}.
+ */
+class GraphMutatorTest {
+
+  private Point pointA;
+  private Point pointB;
+  private Point pointC;
+  private Vertex vertexA;
+  private Vertex vertexB;
+  private Vertex vertexC;
+  private Edge edgeAB;
+  private Edge edgeBC;
+  private Edge edgeAC;
+  private GraphResult baseGraph;
+  private GraphMutator graphMutator;
+
+  @BeforeEach
+  void setUp() {
+    pointA = new Point("A");
+    pointB = new Point("B");
+    pointC = new Point("C");
+    Path pathAB = new Path("A --- B", pointA.getReference(), pointB.getReference());
+    Path pathBC = new Path("B --- C", pointB.getReference(), pointC.getReference());
+    Path pathAC = new Path("A --- C", pointA.getReference(), pointC.getReference());
+
+    vertexA = new Vertex(pointA.getReference());
+    vertexB = new Vertex(pointB.getReference());
+    vertexC = new Vertex(pointC.getReference());
+    edgeAB = new Edge(pathAB, false);
+    edgeBC = new Edge(pathBC, false);
+    edgeAC = new Edge(pathAC, false);
+
+    Graph<Vertex, Edge> graph = new DirectedWeightedMultigraph<>(Edge.class);
+    graph.addVertex(vertexA);
+    graph.addVertex(vertexB);
+    graph.addVertex(vertexC);
+    graph.addEdge(vertexA, vertexB, edgeAB);
+    graph.addEdge(vertexB, vertexC, edgeBC);
+    graph.addEdge(vertexA, vertexC, edgeAC);
+    graph.setEdgeWeight(edgeAC, 42);
+
+    baseGraph = new GraphResult(
+        new Vehicle("some-vehicle"),
+        Set.of(pointA, pointB, pointC),
+        Set.of(pathAB, pathBC, pathAC),
+        Set.of(),
+        Set.of(),
+        graph
+    );
+    graphMutator = new GraphMutator();
+  }
+
+  @Test
+  void excludePoints() {
+    GraphResult result = graphMutator.deriveGraph(Set.of(pointB), Set.of(), baseGraph);
+
+    assertThat(result.getGraph().vertexSet(), containsInAnyOrder(vertexA, vertexC));
+    assertThat(result.getGraph().edgeSet(), containsInAnyOrder(edgeAC));
+    assertThat(result.getGraph().getEdgeWeight(edgeAC), is(42.0));
+    assertThat(result.getExcludedPoints(), containsInAnyOrder(pointB));
+  }
+
+  @Test
+  void excludePaths() {
+    GraphResult result = graphMutator.deriveGraph(
+        Set.of(),
+        Set.of(edgeAC.getPath()),
+        baseGraph
+    );
+
+    assertThat(result.getGraph().vertexSet(), containsInAnyOrder(vertexA, vertexB, vertexC));
+    assertThat(result.getGraph().edgeSet(), containsInAnyOrder(edgeAB, edgeBC));
+  }
+
+  @Test
+  void keepBaseGraphUnmodified() {
+    graphMutator.deriveGraph(Set.of(pointB), Set.of(edgeAC.getPath()), baseGraph);
+
+    assertThat(baseGraph.getGraph().vertexSet(), containsInAnyOrder(vertexA, vertexB, vertexC));
+    assertThat(baseGraph.getGraph().edgeSet(), containsInAnyOrder(edgeAB, edgeBC, edgeAC));
+  }
+}
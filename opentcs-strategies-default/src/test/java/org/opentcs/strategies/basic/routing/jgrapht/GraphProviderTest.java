@@ -2,24 +2,33 @@
 // SPDX-License-Identifier: MIT
 package org.opentcs.strategies.basic.routing.jgrapht;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.Set;
+import org.jgrapht.Graph;
 import org.jgrapht.graph.DirectedWeightedMultigraph;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.opentcs.components.kernel.routing.Edge;
 import org.opentcs.components.kernel.routing.GroupMapper;
 import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
+import org.opentcs.strategies.basic.routing.DefaultRouterConfiguration;
 import org.opentcs.strategies.basic.routing.jgrapht.GraphProvider.GraphResult;
 
 /**
@@ -37,12 +46,15 @@ class GraphProviderTest {
     defaultModelGraphMapper = mock();
     groupMapper = mock();
     graphMutator = mock();
+    DefaultRouterConfiguration configuration = mock();
+    when(configuration.derivedGraphCacheSize()).thenReturn(100);
     graphProvider = new GraphProvider(
         mock(TCSObjectService.class),
         mock(GeneralModelGraphMapper.class),
         defaultModelGraphMapper,
         groupMapper,
-        graphMutator
+        graphMutator,
+        configuration
     );
   }
 
@@ -94,4 +106,36 @@ class GraphProviderTest {
     graphProvider.getDerivedGraphResult(vehicle, Set.of(), Set.of());
     verify(graphMutator, times(2)).deriveGraph(anySet(), anySet(), any(GraphResult.class));
   }
+
+  @Test
+  void replaceGraphResultsOnlyForRoutingGroupsModifiedInPlace() {
+    Vehicle vehicle1 = new Vehicle("vehicle-1");
+    Vehicle vehicle2 = new Vehicle("vehicle-2");
+    when(groupMapper.apply(vehicle1)).thenReturn("group-1");
+    when(groupMapper.apply(vehicle2)).thenReturn("group-2");
+    Graph<Vertex, Edge> graph1 = new DirectedWeightedMultigraph<>(Edge.class);
+    Graph<Vertex, Edge> graph2 = new DirectedWeightedMultigraph<>(Edge.class);
+    when(defaultModelGraphMapper.translateModel(anyCollection(), anyCollection(), eq(vehicle1)))
+        .thenReturn(graph1);
+    when(defaultModelGraphMapper.translateModel(anyCollection(), anyCollection(), eq(vehicle2)))
+        .thenReturn(graph2);
+    when(defaultModelGraphMapper.updateGraphInPlace(anyCollection(), eq(vehicle1), eq(graph1)))
+        .thenReturn(true);
+    when(defaultModelGraphMapper.updateGraphInPlace(anyCollection(), eq(vehicle2), eq(graph2)))
+        .thenReturn(false);
+    GraphResult graphResult1 = graphProvider.getGraphResult(vehicle1);
+    GraphResult graphResult2 = graphProvider.getGraphResult(vehicle2);
+    Point point1 = new Point("point-1");
+    Point point2 = new Point("point-2");
+
+    Set<String> modifiedRoutingGroups = graphProvider.updateGraphResultsInPlace(
+        Set.of(new Path("path-1", point1.getReference(), point2.getReference()))
+    );
+
+    assertThat(modifiedRoutingGroups, is(Set.of("group-1")));
+    assertThat(graphProvider.getGraphResult(vehicle1), is(not(sameInstance(graphResult1))));
+    assertThat(graphProvider.getGraphResult(vehicle1).getGraph(), is(sameInstance(graph1)));
+    assertThat(graphProvider.getGraphResult(vehicle2), is(sameInstance(graphResult2)));
+    verify(defaultModelGraphMapper, never()).updateGraph(anyCollection(), any(), any());
+  }
 }
@@ -3,11 +3,13 @@
 package org.opentcs.strategies.basic.routing.jgrapht;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.nullable;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -21,8 +23,11 @@ import org.opentcs.components.kernel.Router;
 import org.opentcs.components.kernel.routing.GroupMapper;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.TCSObject;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.TransportOrder;
+import org.opentcs.strategies.basic.routing.DefaultRouterConfiguration;
 import org.opentcs.strategies.basic.routing.DefaultRoutingGroupMapper;
 import org.opentcs.strategies.basic.routing.PointRouter;
 import org.opentcs.strategies.basic.routing.PointRouterFactory;
@@ -66,13 +71,16 @@ public class PointRouterProviderTest {
     when(pointRouterFactory.createPointRouter(any(Vehicle.class), anySet(), anySet()))
         .thenReturn(mock(PointRouter.class));
     graphProvider = mock();
+    DefaultRouterConfiguration configuration = mock();
+    when(configuration.derivedPointRouterCacheSize()).thenReturn(2);
 
     pointRouterProvider = new PointRouterProvider(
         objectService,
         resourceAvoidanceExtractor,
         routingGroupMapper,
         pointRouterFactory,
-        graphProvider
+        graphProvider,
+        configuration
     );
   }
 
@@ -153,6 +161,86 @@ public class PointRouterProviderTest {
     verify(pointRouterFactory, times(15)).createPointRouter(any(Vehicle.class), anySet(), anySet());
   }
 
+  @Test
+  void shouldReusePointRouterForSameResourcesToAvoid() {
+    Set<Point> pointsToAvoid = Set.of(new Point("point-1"));
+    ResourcesToAvoid resourcesToAvoid = createResourcesToAvoid(pointsToAvoid);
+    when(resourceAvoidanceExtractor.extractResourcesToAvoid(anySet())).thenReturn(resourcesToAvoid);
+
+    pointRouterProvider.getPointRouterForVehicle(createVehicle("Vehicle-000", -1), Set.of());
+    pointRouterProvider.getPointRouterForVehicle(createVehicle("Vehicle-001", -1), Set.of());
+
+    verify(pointRouterFactory, times(1))
+        .createPointRouter(any(Vehicle.class), eq(pointsToAvoid), anySet());
+  }
+
+  @Test
+  void shouldCreatePointRouterForResourcesToAvoidAgainAfterTopologyUpdate() {
+    Point point1 = new Point("point-1");
+    Point point2 = new Point("point-2");
+    Set<Point> pointsToAvoid = Set.of(point1);
+    ResourcesToAvoid resourcesToAvoid = createResourcesToAvoid(pointsToAvoid);
+    when(resourceAvoidanceExtractor.extractResourcesToAvoid(anySet())).thenReturn(resourcesToAvoid);
+    Vehicle vehicle = createVehicle("Vehicle-000", -1);
+
+    pointRouterProvider.getPointRouterForVehicle(vehicle, Set.of());
+    pointRouterProvider.updateRoutingTopology(
+        Set.of(new Path("path-1", point1.getReference(), point2.getReference()))
+    );
+    pointRouterProvider.getPointRouterForVehicle(vehicle, Set.of());
+
+    verify(pointRouterFactory, times(2))
+        .createPointRouter(any(Vehicle.class), eq(pointsToAvoid), anySet());
+  }
+
+  @Test
+  void shouldOnlyRecreatePointRoutersOfModifiedRoutingGroupsAfterInPlaceUpdate() {
+    Point point1 = new Point("point-1");
+    Point point2 = new Point("point-2");
+    Set<Path> paths = Set.of(new Path("path-1", point1.getReference(), point2.getReference()));
+    when(graphProvider.updateGraphResultsInPlace(paths)).thenReturn(Set.of("1"));
+    Vehicle vehicle1 = createVehicle("Vehicle-001", 1);
+    Vehicle vehicle2 = createVehicle("Vehicle-002", 2);
+
+    pointRouterProvider.getPointRouterForVehicle(vehicle1, (TransportOrder) null);
+    pointRouterProvider.getPointRouterForVehicle(vehicle2, (TransportOrder) null);
+    pointRouterProvider.updateRoutingTopology(paths, true);
+    pointRouterProvider.getPointRouterForVehicle(vehicle1, (TransportOrder) null);
+    pointRouterProvider.getPointRouterForVehicle(vehicle2, (TransportOrder) null);
+
+    verify(graphProvider).updateGraphResultsInPlace(paths);
+    verify(graphProvider, never()).updateGraphResults(anyCollection());
+    verify(pointRouterFactory, times(2)).createPointRouter(eq(vehicle1), anySet(), anySet());
+    verify(pointRouterFactory, times(1)).createPointRouter(eq(vehicle2), anySet(), anySet());
+  }
+
+  @Test
+  void shouldDiscardLeastRecentlyUsedPointRouterForResourcesToAvoid() {
+    Set<Point> pointsToAvoid = Set.of(new Point("point-1"));
+    ResourcesToAvoid avoidPoint1 = createResourcesToAvoid(pointsToAvoid);
+    ResourcesToAvoid avoidPoint2 = createResourcesToAvoid(Set.of(new Point("point-2")));
+    ResourcesToAvoid avoidPoint3 = createResourcesToAvoid(Set.of(new Point("point-3")));
+    when(resourceAvoidanceExtractor.extractResourcesToAvoid(anySet()))
+        .thenReturn(avoidPoint1, avoidPoint2, avoidPoint3, avoidPoint1);
+    Vehicle vehicle = createVehicle("Vehicle-000", -1);
+
+    // The configured cache size is 2, so the point router avoiding point-1 is discarded.
+    for (int i = 0; i < 4; i++) {
+      pointRouterProvider.getPointRouterForVehicle(vehicle, Set.of());
+    }
+
+    verify(pointRouterFactory, times(2))
+        .createPointRouter(any(Vehicle.class), eq(pointsToAvoid), anySet());
+  }
+
+  private ResourcesToAvoid createResourcesToAvoid(Set<Point> pointsToAvoid) {
+    ResourcesToAvoid resourcesToAvoid = mock();
+    when(resourcesToAvoid.isEmpty()).thenReturn(false);
+    when(resourcesToAvoid.getPoints()).thenReturn(pointsToAvoid);
+    when(resourcesToAvoid.getPaths()).thenReturn(Set.of());
+    return resourcesToAvoid;
+  }
+
   /**
    * Creates a vehicle with a unique id, the given name and the given routing group.
    * If the routing group is negative no property will be added.
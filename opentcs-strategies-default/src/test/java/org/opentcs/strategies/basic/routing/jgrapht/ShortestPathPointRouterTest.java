@@ -23,6 +23,7 @@ import org.opentcs.data.model.Path;
 import org.opentcs.data.model.Point;
 import org.opentcs.data.order.Route.Step;
 import org.opentcs.strategies.basic.routing.PointRouter;
+import org.opentcs.strategies.basic.routing.SingleSourceRoutes;
 
 /**
  */
@@ -108,4 +109,18 @@ class ShortestPathPointRouterTest {
     assertThat(steps, is(not(empty())));
   }
 
+  @Test
+  void provideRoutesFromSingleSource() {
+    SingleSourceRoutes routes = pointRouter.getRoutesFrom(pointA);
+
+    assertEquals(0, routes.getCosts(pointA));
+    assertThat(routes.getRouteSteps(pointA), is(empty()));
+    assertEquals(PointRouter.INFINITE_COSTS, routes.getCosts(pointB));
+    assertNull(routes.getRouteSteps(pointB));
+    assertEquals(1234, routes.getCosts(pointC));
+    List<Step> steps = routes.getRouteSteps(pointC);
+    assertNotNull(steps);
+    assertThat(steps.size(), is(1));
+    assertEquals(pathAC, steps.get(0).getPath());
+  }
 }
@@ -5,6 +5,8 @@ package org.opentcs.strategies.basic.scheduling;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.aMapWithSize;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.hasSize;
@@ -123,6 +125,88 @@ class ReservationPoolTest {
     assertThat(reservationPool.getAllocations(), is(anEmptyMap()));
   }
 
+  @Test
+  void reportResourcesAllocatedByOtherClients() {
+    Scheduler.Client otherClient = new TestClient("otherClient");
+    reservationPool.getReservationEntry(new Point("point1")).allocate(client);
+    reservationPool.getReservationEntry(new Point("point2")).allocate(otherClient);
+
+    assertThat(
+        reservationPool.unavailableResources(
+            Set.of(new Point("point1"), new Point("point2"), new Point("point3")),
+            client
+        ),
+        contains(new Point("point2"))
+    );
+  }
+
+  @Test
+  void wakeOnlyAllocationsWaitingForReleasedResources() {
+    AllocatorCommand.Allocate waitingForPoint1
+        = new AllocatorCommand.Allocate(client, Set.of(new Point("point1")));
+    AllocatorCommand.Allocate waitingForPoint2
+        = new AllocatorCommand.Allocate(client, Set.of(new Point("point2")));
+    reservationPool.addWaitingAllocation(waitingForPoint1, Set.of(new Point("point1")));
+    reservationPool.addWaitingAllocation(waitingForPoint2, Set.of(new Point("point2")));
+
+    assertThat(
+        reservationPool.removeWaitingAllocations(Set.of(new Point("point1"))),
+        contains(waitingForPoint1)
+    );
+    assertThat(reservationPool.getWaitingAllocationCount(), is(1));
+    assertThat(reservationPool.removeWaitingAllocations(Set.of(new Point("point1"))), is(empty()));
+  }
+
+  @Test
+  void alwaysWakeAllocationsNotWaitingForSpecificResources() {
+    AllocatorCommand.Allocate waitingForPoint1
+        = new AllocatorCommand.Allocate(client, Set.of(new Point("point1")));
+    AllocatorCommand.Allocate refusedByModule
+        = new AllocatorCommand.Allocate(client, Set.of(new Point("point2")));
+    reservationPool.addWaitingAllocation(waitingForPoint1, Set.of(new Point("point1")));
+    reservationPool.addWaitingAllocation(refusedByModule, Set.of());
+
+    assertThat(
+        reservationPool.removeWaitingAllocations(Set.of(new Point("point3"))),
+        contains(refusedByModule)
+    );
+    assertThat(reservationPool.getWaitingAllocationCount(), is(1));
+  }
+
+  @Test
+  void removeAllWaitingAllocations() {
+    AllocatorCommand.Allocate waitingForPoint1
+        = new AllocatorCommand.Allocate(client, Set.of(new Point("point1")));
+    AllocatorCommand.Allocate refusedByModule
+        = new AllocatorCommand.Allocate(client, Set.of(new Point("point2")));
+    reservationPool.addWaitingAllocation(waitingForPoint1, Set.of(new Point("point1")));
+    reservationPool.addWaitingAllocation(refusedByModule, Set.of());
+
+    assertThat(
+        reservationPool.removeAllWaitingAllocations(),
+        containsInAnyOrder(waitingForPoint1, refusedByModule)
+    );
+    assertThat(reservationPool.getWaitingAllocationCount(), is(0));
+  }
+
+  @Test
+  void removeWaitingAllocationsOfClient() {
+    Scheduler.Client otherClient = new TestClient("otherClient");
+    AllocatorCommand.Allocate allocate
+        = new AllocatorCommand.Allocate(client, Set.of(new Point("point1")));
+    AllocatorCommand.Allocate otherAllocate
+        = new AllocatorCommand.Allocate(otherClient, Set.of(new Point("point1")));
+    reservationPool.addWaitingAllocation(allocate, Set.of(new Point("point1")));
+    reservationPool.addWaitingAllocation(otherAllocate, Set.of(new Point("point1")));
+
+    reservationPool.removeWaitingAllocations(client);
+
+    assertThat(
+        reservationPool.removeWaitingAllocations(Set.of(new Point("point1"))),
+        contains(otherAllocate)
+    );
+  }
+
   /**
    * A dummy client for cases in which we need to provide a client but do not have a real one.
    */
@@ -130,9 +214,19 @@ class ReservationPoolTest {
       implements
         Scheduler.Client {
 
+    private final String id;
+
+    TestClient() {
+      this(TestClient.class.getName());
+    }
+
+    TestClient(String id) {
+      this.id = id;
+    }
+
     @Override
     public String getId() {
-      return getClass().getName();
+      return id;
     }
 
     @Override
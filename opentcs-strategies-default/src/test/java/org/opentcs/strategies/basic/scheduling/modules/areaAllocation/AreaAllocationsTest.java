@@ -5,12 +5,14 @@ package org.opentcs.strategies.basic.scheduling.modules.areaAllocation;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryCollection;
 import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
 import org.opentcs.data.model.Vehicle;
 
 /**
@@ -106,6 +108,113 @@ class AreaAllocationsTest {
     assertTrue(areaAllocations.isAreaAllocationAllowed(vehicle.getReference(), requestedArea));
   }
 
+  @Test
+  void allowAreaAllocationWhenAreaIsOnlyIntersectingBoundingBoxOfAreaAllocatedByAnotherVehicle() {
+    // Arrange: An L-shaped area and a requested area in the bounding box's free corner.
+    GeometryCollection allocatedArea = createCollectionWithOneGeometry(
+        new Coordinate(0, 0),
+        new Coordinate(0, 20),
+        new Coordinate(5, 20),
+        new Coordinate(5, 5),
+        new Coordinate(20, 5),
+        new Coordinate(20, 0),
+        new Coordinate(0, 0)
+    );
+    GeometryCollection requestedArea = createCollectionWithOneGeometry(
+        new Coordinate(10, 10),
+        new Coordinate(10, 20),
+        new Coordinate(20, 20),
+        new Coordinate(20, 10),
+        new Coordinate(10, 10)
+    );
+    Vehicle vehicle2 = new Vehicle("some-other-vehicle");
+    areaAllocations.setAreaAllocation(vehicle2.getReference(), allocatedArea);
+
+    // Act & Assert
+    assertTrue(areaAllocations.isAreaAllocationAllowed(vehicle.getReference(), requestedArea));
+  }
+
+  @Test
+  void allowAreaAllocationWhenOtherVehicleAllocatedDifferentArea() {
+    // Arrange
+    GeometryCollection previouslyAllocatedArea = createCollectionWithOneGeometry(
+        new Coordinate(0, 0),
+        new Coordinate(0, 10),
+        new Coordinate(10, 10),
+        new Coordinate(10, 0),
+        new Coordinate(0, 0)
+    );
+    GeometryCollection allocatedArea = createCollectionWithOneGeometry(
+        new Coordinate(20, 0),
+        new Coordinate(20, 10),
+        new Coordinate(30, 10),
+        new Coordinate(30, 0),
+        new Coordinate(20, 0)
+    );
+    Vehicle vehicle2 = new Vehicle("some-other-vehicle");
+    areaAllocations.setAreaAllocation(vehicle2.getReference(), previouslyAllocatedArea);
+    areaAllocations.setAreaAllocation(vehicle2.getReference(), allocatedArea);
+
+    // Act & Assert
+    assertTrue(
+        areaAllocations.isAreaAllocationAllowed(vehicle.getReference(), previouslyAllocatedArea)
+    );
+    assertFalse(areaAllocations.isAreaAllocationAllowed(vehicle.getReference(), allocatedArea));
+  }
+
+  @Test
+  void allowAreaAllocationWhenOtherVehicleClearedAreaAllocation() {
+    // Arrange
+    GeometryCollection area = createCollectionWithOneGeometry(
+        new Coordinate(0, 0),
+        new Coordinate(0, 10),
+        new Coordinate(10, 10),
+        new Coordinate(10, 0),
+        new Coordinate(0, 0)
+    );
+    Vehicle vehicle2 = new Vehicle("some-other-vehicle");
+    areaAllocations.setAreaAllocation(vehicle2.getReference(), area);
+    areaAllocations.clearAreaAllocation(vehicle2.getReference());
+
+    // Act & Assert
+    assertTrue(areaAllocations.isAreaAllocationAllowed(vehicle.getReference(), area));
+  }
+
+  @Test
+  void prohibitAreaAllocationOfPreparedAreaIntersectingAreaAllocatedByAnotherVehicle() {
+    // Arrange
+    GeometryCollection allocatedArea = createCollectionWithOneGeometry(
+        new Coordinate(0, 0),
+        new Coordinate(0, 10),
+        new Coordinate(10, 10),
+        new Coordinate(10, 0),
+        new Coordinate(0, 0)
+    );
+    GeometryCollection requestedArea = createCollectionWithOneGeometry(
+        new Coordinate(5, 0),
+        new Coordinate(5, 10),
+        new Coordinate(15, 10),
+        new Coordinate(15, 0),
+        new Coordinate(5, 0)
+    );
+    Vehicle vehicle2 = new Vehicle("some-other-vehicle");
+    areaAllocations.setAreaAllocation(vehicle2.getReference(), allocatedArea);
+
+    // Act & Assert
+    assertFalse(
+        areaAllocations.isAreaAllocationAllowed(
+            vehicle.getReference(),
+            List.of(PreparedGeometryFactory.prepare(requestedArea.getGeometryN(0)))
+        )
+    );
+    assertTrue(
+        areaAllocations.isAreaAllocationAllowed(
+            vehicle2.getReference(),
+            List.of(PreparedGeometryFactory.prepare(requestedArea.getGeometryN(0)))
+        )
+    );
+  }
+
   private GeometryCollection createCollectionWithOneGeometry(Coordinate... coordinates) {
     GeometryFactory geometryFactory = new GeometryFactory();
     return geometryFactory.createGeometryCollection(
@@ -3,6 +3,7 @@
 package org.opentcs.strategies.basic.scheduling.modules.areaAllocation;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.eq;
@@ -126,6 +127,12 @@ class CachingAreaProviderTest {
         "some-envelope-key", Set.of(point3, path2)
     );
     assertThat(result.getNumGeometries(), is(1));
+
+    // Act & Assert: Prepared areas for three resources with envelopes
+    assertThat(
+        areaProvider.getPreparedAreas("some-envelope-key", Set.of(point2, path1, point3, path2)),
+        hasSize(3)
+    );
   }
 
   @Test